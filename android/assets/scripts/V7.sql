@@ -0,0 +1,2 @@
+ALTER TABLE 'StoredGame' ADD COLUMN 'DiceSeed' INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE 'StoredGame' ADD COLUMN 'DiceGamma' INTEGER NOT NULL DEFAULT 0;
\ No newline at end of file
@@ -28,10 +28,12 @@ import android.database.sqlite.SQLiteStatement;
 
 import com.pberna.adventure.persistence.AdventureDatabase;
 import com.pberna.engine.persistence.Result;
+import com.pberna.engine.persistence.SqlStatement;
 
 public class DatabaseAndroid extends AdventureDatabase {
     protected SQLiteOpenHelper db_connection;
     protected SQLiteDatabase stmt;
+    private SQLiteStatement changesStatement;
 
     public DatabaseAndroid(Context context) {
         super();
@@ -47,17 +49,63 @@ public class DatabaseAndroid extends AdventureDatabase {
     @Override
     public int executeUpdate(String sql){
         stmt.execSQL(sql);
-        SQLiteStatement tmp = stmt.compileStatement("SELECT CHANGES()");
-        return (int) tmp.simpleQueryForLong();
+        return getChanges();
     }
 
     @Override
     public Result query(String sql) {
-        return new ResultAndroid(stmt.rawQuery(sql, null));
+        return rawQuery(sql, null);
+    }
+
+    @Override
+    protected SqlStatement compileStatement(String sql) {
+        return new StatementAndroid(this, stmt, sql);
+    }
+
+    //SQLiteSession reads any sql starting with ROL as the abort of the whole transaction, ROLLBACK TO SAVEPOINT
+    //included, so nested transactions join the outer one instead
+    @Override
+    protected boolean supportsSavepoints() {
+        return false;
+    }
+
+    @Override
+    protected void beginTransaction() {
+        stmt.beginTransaction();
+    }
+
+    @Override
+    protected void commitTransaction() {
+        try {
+            stmt.setTransactionSuccessful();
+        } finally {
+            stmt.endTransaction();
+        }
+    }
+
+    @Override
+    protected void rollbackTransaction() {
+        stmt.endTransaction();
+    }
+
+    Result rawQuery(String sql, String[] arguments) {
+        return new ResultAndroid(stmt.rawQuery(sql, arguments));
+    }
+
+    //Rows changed by the last statement
+    int getChanges() {
+        if(changesStatement == null) {
+            changesStatement = stmt.compileStatement("SELECT CHANGES()");
+        }
+        return (int) changesStatement.simpleQueryForLong();
     }
 
     @Override
     public void dispose() {
+        clearStatements();
+        if(changesStatement != null) {
+            changesStatement.close();
+        }
         if(stmt != null) {
             stmt.close();
         }
@@ -36,6 +36,11 @@ public class ResultAndroid implements Result {
         return cursor.getCount() == 0;
     }
 
+    @Override
+    public void close() {
+        cursor.close();
+    }
+
     @Override
     public boolean moveToNext() {
         return cursor.moveToNext();
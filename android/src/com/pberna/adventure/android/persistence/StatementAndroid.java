@@ -0,0 +1,158 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.android.persistence;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import com.pberna.engine.persistence.Result;
+import com.pberna.engine.persistence.SqlStatement;
+
+//Statements that change the database are compiled as SQLiteStatement. Queries need a cursor, so they keep their
+//values as strings for rawQuery, whose sql is compiled once by the statement cache of the connection
+public class StatementAndroid implements SqlStatement {
+    private final DatabaseAndroid database;
+    private final String sql;
+    private final SQLiteStatement statement;
+    private final String[] queryArguments;
+
+    public StatementAndroid(DatabaseAndroid database, SQLiteDatabase connection, String sql) {
+        this.database = database;
+        this.sql = sql;
+        if(isQuery(sql)) {
+            statement = null;
+            queryArguments = new String[countParameters(sql)];
+        } else {
+            statement = connection.compileStatement(sql);
+            queryArguments = null;
+        }
+    }
+
+    @Override
+    public SqlStatement bindInt(int index, int value) {
+        return bindLong(index, value);
+    }
+
+    @Override
+    public SqlStatement bindLong(int index, long value) {
+        if(statement != null) {
+            statement.bindLong(index, value);
+        } else {
+            queryArguments[index - 1] = String.valueOf(value);
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindFloat(int index, float value) {
+        if(statement != null) {
+            statement.bindDouble(index, value);
+        } else {
+            queryArguments[index - 1] = String.valueOf(value);
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindString(int index, String value) {
+        if(value == null) {
+            return bindNull(index);
+        }
+        if(statement != null) {
+            statement.bindString(index, value);
+        } else {
+            queryArguments[index - 1] = value;
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindNull(int index) {
+        if(statement != null) {
+            statement.bindNull(index);
+        } else {
+            queryArguments[index - 1] = null;
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement clearBindings() {
+        if(statement != null) {
+            statement.clearBindings();
+        } else {
+            for(int i = 0; i < queryArguments.length; i++) {
+                queryArguments[i] = null;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void execute() {
+        if(statement != null) {
+            statement.execute();
+        } else {
+            query();
+        }
+    }
+
+    @Override
+    public int executeUpdate() {
+        if(statement == null) {
+            return 0;
+        }
+        statement.execute();
+        return database.getChanges();
+    }
+
+    @Override
+    public long executeInsert() {
+        return statement != null ? statement.executeInsert() : -1;
+    }
+
+    @Override
+    public Result query() {
+        return database.rawQuery(sql, queryArguments);
+    }
+
+    @Override
+    public void dispose() {
+        if(statement != null) {
+            statement.close();
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String trimmedSql = sql.trim();
+        return trimmedSql.regionMatches(true, 0, "SELECT", 0, 6) || trimmedSql.regionMatches(true, 0, "PRAGMA", 0, 6);
+    }
+
+    private static int countParameters(String sql) {
+        int count = 0;
+        for(int i = 0; i < sql.length(); i++) {
+            if(sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -21,13 +21,18 @@
 package com.pberna.adventure;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Timer;
+import com.pberna.adventure.adventure.AdventureManager;
+import com.pberna.adventure.adventure.PlacePrefetcher;
 import com.pberna.adventure.controllers.ITransitionCallback;
 import com.pberna.adventure.controllers.MainController;
 import com.pberna.adventure.controllers.MainControllerEvents;
 import com.pberna.adventure.dependencies.DependenciesContainer;
 import com.pberna.adventure.dependencies.Settings;
+import com.pberna.adventure.items.manager.ItemDefinitionReader;
+import com.pberna.adventure.pj.EnemyTemplateReader;
 import com.pberna.adventure.store.PurchaseManager;
 import com.pberna.adventure.store.PurchaseManagerEventsListener;
 import com.pberna.engine.achievements.achievement.AchievementManager;
@@ -37,11 +42,14 @@ import com.pberna.engine.assets.AssetRepository;
 import com.pberna.engine.audio.AudioManager;
 import com.pberna.engine.localization.Localization;
 import com.pberna.engine.persistence.Database;
+import com.pberna.engine.persistence.PersistenceCallback;
+import com.pberna.engine.persistence.PersistenceExecutor;
 import com.pberna.engine.screens.load.LoadScreenInitGame;
 import com.pberna.engine.screens.load.LoadScreenListener;
 import com.pberna.engine.utils2D.graphics.ContinuosRenderingManager;
 import com.pberna.engine.utils2D.graphics.PixmapHelper;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -88,10 +96,18 @@ public class AdventureGame extends Game {
 				assetLoadFinished();
 			}
 		});	
+		loadPersistentCaches();
 		
 		Localization.getInstance().readLocalizationDefinitionFromXml("data/i18N.xml");
 		Localization.getInstance().setLocale(Localization.getInstance().getLocale());
 		Localization.getInstance().loadAllBundles();
+
+		try {
+			ItemDefinitionReader.load(Gdx.files.internal("data/items.xml"));
+			EnemyTemplateReader.load(Gdx.files.internal("data/enemies.xml"));
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
     	
 		AssetRepository.getInstance().readAssetsDefinitionFromXml("data/assets.xml");
 	    
@@ -99,6 +115,7 @@ public class AdventureGame extends Game {
 	}
 
 	private void disposeSingletons() {
+		disposeIfNotNull(PlacePrefetcher.getInstance());
 		disposeIfNotNull(AssetRepository.getInstance());
 		disposeIfNotNull(Localization.getInstance());
 		disposeIfNotNull(PixmapHelper.getInstance());
@@ -108,9 +125,35 @@ public class AdventureGame extends Game {
 		disposeIfNotNull(ContinuosRenderingManager.getInstance());
 		disposeIfNotNull(AdventureScoreManager.getInstance());
 		disposeIfNotNull(PlayerActionManager.getInstance());
+		disposeIfNotNull(AdventureManager.getInstance());
 		disposeTimer();
 	}
 
+	//The achievements are read out of the render thread while the assets are loaded
+	private void loadPersistentCaches() {
+		if(Database.getInstance() == null) {
+			return;
+		}
+
+		PersistenceCallback<Void> callback = new PersistenceCallback<Void>() {
+			@Override
+			public void completed(Void result) {
+				loadScreenInitGame.pendingLoadFinished();
+			}
+
+			@Override
+			public void failed(Exception exception) {
+				loadScreenInitGame.pendingLoadFinished();
+			}
+		};
+		loadScreenInitGame.addPendingLoad();
+		PlayerActionManager.getInstance().refreshCache(callback);
+		loadScreenInitGame.addPendingLoad();
+		AchievementActionManager.getInstance().refreshCache(callback);
+		loadScreenInitGame.addPendingLoad();
+		AchievementManager.getInstance().refreshCache(callback);
+	}
+
 	private void disposeTimer() {
 		try {
 			Field threadField = Timer.class.getDeclaredField("thread");
@@ -197,15 +240,27 @@ public class AdventureGame extends Game {
 		}
 	}
 
+	//The game may be killed while paused, so the queued writes are made now
+	@Override
+	public void pause() {
+		super.pause();
+		PersistenceExecutor persistenceExecutor = PersistenceExecutor.getCreatedInstance();
+		if(persistenceExecutor != null) {
+			persistenceExecutor.flush();
+		}
+	}
+
 	@Override
 	public void dispose() {
 		super.dispose();
 
 		disposeIfNotNull(loadScreenInitGame);
 		disposeIfNotNull(mainController);
+		disposeIfNotNull(PlacePrefetcher.getInstance());
 		disposeIfNotNull(AssetRepository.getInstance());
 		disposeIfNotNull(Localization.getInstance());
 		disposeIfNotNull(PixmapHelper.getInstance());
+		disposeIfNotNull(PersistenceExecutor.getCreatedInstance());
 		disposeIfNotNull(Database.getInstance());
 		disposeIfNotNull(GlobalStoreManager.getInstance());
 		disposeIfNotNull(PurchaseManager.getInstance());
@@ -214,6 +269,7 @@ public class AdventureGame extends Game {
 		disposeIfNotNull(ContinuosRenderingManager.getInstance());
 		disposeIfNotNull(AdventureScoreManager.getInstance());
 		disposeIfNotNull(PlayerActionManager.getInstance());
+		disposeIfNotNull(AdventureManager.getInstance());
     }
 
 	private void disposeIfNotNull(Disposable disposable) {
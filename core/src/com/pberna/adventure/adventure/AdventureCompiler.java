@@ -0,0 +1,260 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.adventure;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader;
+import com.pberna.adventure.places.PlaceType;
+
+public class AdventureCompiler {
+	private static final int MaximumCount = 0xFF;
+	private static final int MaximumOptionsCount = 0xFFFF;
+
+	private static ArrayList<PlaceType> listPlaceTypes = PlaceType.getAllPlaceTypes();
+
+	private AdventureCompiler() {
+
+	}
+
+	public static int getSourceChecksum(FileHandle source) {
+		CRC32 crc = new CRC32();
+		crc.update(source.readBytes());
+		return (int) crc.getValue();
+	}
+
+	public static byte[] compile(FileHandle source) throws IOException {
+		return compile(source, getSourceChecksum(source));
+	}
+
+	public static byte[] compile(FileHandle source, int sourceChecksum) throws IOException {
+		XmlReader.Element root = new XmlReader().parse(source);
+		if(!root.getName().equals("adventure")) {
+			throw new IOException("Not an adventure file: " + source.path());
+		}
+
+		HashMap<Integer, byte[]> compiledPlaces = new HashMap<Integer, byte[]>();
+		int maximumIdPlace = 0;
+		for (XmlReader.Element placeNode : root.getChildrenByName("place")) {
+			int idPlace = placeNode.getIntAttribute("id");
+			if(idPlace <= 0 || compiledPlaces.containsKey(idPlace)) {
+				throw new IOException("Wrong or duplicated place id " + idPlace + " in " + source.path());
+			}
+			compiledPlaces.put(idPlace, compilePlace(placeNode));
+			maximumIdPlace = Math.max(maximumIdPlace, idPlace);
+		}
+
+		int placeTableLength = maximumIdPlace + 1;
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(byteStream);
+		output.writeInt(PlaceStore.Magic);
+		output.writeInt(PlaceStore.FormatVersion);
+		output.writeInt(sourceChecksum);
+		output.writeInt(root.getIntAttribute("id"));
+		output.writeInt(root.getIntAttribute("startPlace"));
+		output.writeInt(root.getIntAttribute("defaultPlace", 0));
+		output.writeInt(placeTableLength);
+
+		int offset = PlaceStore.HeaderSize + placeTableLength * 4;
+		for (int idPlace = 0; idPlace < placeTableLength; idPlace++) {
+			byte[] compiledPlace = compiledPlaces.get(idPlace);
+			if(compiledPlace != null) {
+				output.writeInt(offset);
+				offset += compiledPlace.length;
+			} else {
+				output.writeInt(0);
+			}
+		}
+		for (int idPlace = 0; idPlace < placeTableLength; idPlace++) {
+			byte[] compiledPlace = compiledPlaces.get(idPlace);
+			if(compiledPlace != null) {
+				output.write(compiledPlace);
+			}
+		}
+		output.close();
+
+		return byteStream.toByteArray();
+	}
+
+	private static byte[] compilePlace(XmlReader.Element placeNode) throws IOException {
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(byteStream);
+		int idPlaceType = getIdPlaceType(placeNode.getAttribute("type"));
+
+		output.writeInt(placeNode.getIntAttribute("id"));
+		output.writeByte(idPlaceType);
+		writeTexts(output, placeNode);
+
+		Array<XmlReader.Element> itemNodes = placeNode.getChildrenByName("item");
+		writeCount(output, itemNodes.size, "items");
+		for (XmlReader.Element itemNode : itemNodes) {
+			output.writeInt(itemNode.getIntAttribute("id"));
+		}
+
+		Array<XmlReader.Element> actionNodes = placeNode.getChildrenByName("action");
+		writeCount(output, actionNodes.size, "actions");
+		for (XmlReader.Element actionNode : actionNodes) {
+			writeString(output, actionNode.getText());
+		}
+
+		switch (idPlaceType) {
+			case PlaceType.IdOptionChoosePlace:
+				writeOptions(output, placeNode.getChildrenByName("option"));
+				break;
+			case PlaceType.IdCombatPlace:
+				output.writeInt(placeNode.getIntAttribute("enemy"));
+				output.writeInt(placeNode.getIntAttribute("win"));
+				output.writeInt(placeNode.getIntAttribute("lose"));
+				output.writeInt(placeNode.getIntAttribute("runAway", 0));
+				break;
+			case PlaceType.IdSkillCheckPlace:
+				output.writeInt(placeNode.getIntAttribute("skill"));
+				writeCheck(output, placeNode);
+				break;
+			case PlaceType.IdAttributeCheckPlace:
+				output.writeInt(placeNode.getIntAttribute("attribute"));
+				writeCheck(output, placeNode);
+				break;
+			case PlaceType.IdItemUsePlace:
+				Array<XmlReader.Element> itemUseNodes = placeNode.getChildrenByName("itemUse");
+				output.writeInt(placeNode.getIntAttribute("noItem"));
+				writeCount(output, itemUseNodes.size, "item uses");
+				for (XmlReader.Element itemUseNode : itemUseNodes) {
+					output.writeInt(itemUseNode.getIntAttribute("item"));
+					output.writeInt(itemUseNode.getIntAttribute("place"));
+					output.writeBoolean(itemUseNode.getBooleanAttribute("spent", false));
+				}
+				break;
+			case PlaceType.IdSpellUsePlace:
+				Array<XmlReader.Element> spellUseNodes = placeNode.getChildrenByName("spellUse");
+				output.writeInt(placeNode.getIntAttribute("noSpell"));
+				writeCount(output, spellUseNodes.size, "spell uses");
+				for (XmlReader.Element spellUseNode : spellUseNodes) {
+					output.writeInt(spellUseNode.getIntAttribute("spell"));
+					output.writeInt(spellUseNode.getIntAttribute("place"));
+				}
+				break;
+			case PlaceType.IdEndAdventurePlace:
+				output.writeBoolean(placeNode.getBooleanAttribute("playerDead", true));
+				output.writeBoolean(placeNode.getBooleanAttribute("completeVictory", false));
+				break;
+			case PlaceType.IdEffectPlace:
+				writeOptions(output, placeNode.getChildrenByName("option"));
+				Array<XmlReader.Element> effectNodes = placeNode.getChildrenByName("effect");
+				writeCount(output, effectNodes.size, "effects");
+				for (XmlReader.Element effectNode : effectNodes) {
+					output.writeInt(effectNode.getIntAttribute("life", 0));
+					output.writeInt(effectNode.getIntAttribute("power", 0));
+					output.writeInt(effectNode.getIntAttribute("luck", 0));
+				}
+				XmlReader.Element dieOptionNode = placeNode.getChildByName("dieOption");
+				output.writeBoolean(dieOptionNode != null);
+				if(dieOptionNode != null) {
+					writeOption(output, dieOptionNode);
+				}
+				break;
+		}
+		output.close();
+
+		return byteStream.toByteArray();
+	}
+
+	private static int getIdPlaceType(String placeTypeName) throws IOException {
+		for (PlaceType placeType : listPlaceTypes) {
+			if(placeType.getName().equals(placeTypeName)) {
+				return placeType.getId();
+			}
+		}
+		throw new IOException("Unknown place type " + placeTypeName);
+	}
+
+	private static void writeCheck(DataOutputStream output, XmlReader.Element placeNode) throws IOException {
+		output.writeInt(placeNode.getIntAttribute("difficulty"));
+		output.writeInt(placeNode.getIntAttribute("pass"));
+		output.writeInt(placeNode.getIntAttribute("fail"));
+	}
+
+	private static void writeOptions(DataOutputStream output, Array<XmlReader.Element> optionNodes) throws IOException {
+		//Options are counted in two bytes, read back as unsigned
+		if(optionNodes.size > MaximumOptionsCount) {
+			throw new IOException("Too many options in a place: " + optionNodes.size + ", the maximum is "
+					+ MaximumOptionsCount);
+		}
+		output.writeShort(optionNodes.size);
+		for (XmlReader.Element optionNode : optionNodes) {
+			writeOption(output, optionNode);
+		}
+	}
+
+	private static void writeOption(DataOutputStream output, XmlReader.Element optionNode) throws IOException {
+		output.writeInt(optionNode.getIntAttribute("place"));
+		writeTexts(output, optionNode);
+	}
+
+	private static void writeTexts(DataOutputStream output, XmlReader.Element node) throws IOException {
+		String baseText = null;
+		ArrayList<XmlReader.Element> translationNodes = new ArrayList<XmlReader.Element>();
+		for (XmlReader.Element textNode : node.getChildrenByName("text")) {
+			if(textNode.getAttribute("lang", null) == null) {
+				baseText = getText(textNode);
+			} else {
+				translationNodes.add(textNode);
+			}
+		}
+
+		writeString(output, baseText);
+		writeCount(output, translationNodes.size(), "translations");
+		for (XmlReader.Element translationNode : translationNodes) {
+			writeString(output, translationNode.getAttribute("lang"));
+			writeString(output, getText(translationNode));
+		}
+	}
+
+	//Counts are stored in one byte, read back as unsigned
+	private static void writeCount(DataOutputStream output, int count, String name) throws IOException {
+		if(count > MaximumCount) {
+			throw new IOException("Too many " + name + " in a place: " + count + ", the maximum is " + MaximumCount);
+		}
+		output.writeByte(count);
+	}
+
+	private static String getText(XmlReader.Element textNode) {
+		String text = textNode.getText();
+		return text != null ? text.replace("\r\n", "\n") : "";
+	}
+
+	private static void writeString(DataOutputStream output, String text) throws IOException {
+		if(text == null) {
+			output.writeInt(-1);
+		} else {
+			byte[] bytes = text.getBytes(PlaceStore.Encoding);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.adventure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.pberna.adventure.places.AttributeCheckPlace;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.EffectPlace;
+import com.pberna.adventure.places.EndAdventurePlace;
+import com.pberna.adventure.places.ItemUsePlace;
+import com.pberna.adventure.places.ItemUsePlaceToGo;
+import com.pberna.adventure.places.OptionChoosePlace;
+import com.pberna.adventure.places.OptionChoosePlaceCanGo;
+import com.pberna.adventure.places.Place;
+import com.pberna.adventure.places.SkillCheckPlace;
+import com.pberna.adventure.places.SpellUsePlace;
+import com.pberna.adventure.places.SpellUsePlaceToGo;
+
+//Places and the places reachable from each one, indexed by place id. Reachability from the start place and
+//the distance to the closest ending are computed once, so the progress of a place is an array lookup.
+//Endings where the player survives are preferred; if an adventure has none, every ending counts
+public class AdventureGraph {
+	public static final int Unreachable = -1;
+
+	private static final int[] NoPlaces = new int[0];
+
+	private final int idStartPlace;
+	private final int[][] placesToGo;
+	private final int[] distanceFromStart;
+	private final int[] distanceToEnding;
+	private final float[] progressPercentages;
+
+	public AdventureGraph(PlaceStore placeStore) {
+		int placesLength = placeStore.getMaximumIdPlace() + 1;
+		idStartPlace = placeStore.getIdStartPlace();
+		placesToGo = new int[placesLength][];
+		boolean[] isEnding = new boolean[placesLength];
+		boolean[] isSurvivalEnding = new boolean[placesLength];
+		boolean hasSurvivalEndings = false;
+
+		for(int idPlace = 0; idPlace < placesLength; idPlace++) {
+			Place place = placeStore.getPlace(idPlace);
+			if(place == null) {
+				placesToGo[idPlace] = NoPlaces;
+				continue;
+			}
+
+			ArrayList<Integer> idPlacesToGo = new ArrayList<Integer>();
+			addPlacesToGo(place, idPlacesToGo);
+			placesToGo[idPlace] = new int[idPlacesToGo.size()];
+			for(int i = 0; i < idPlacesToGo.size(); i++) {
+				int idPlaceToGo = idPlacesToGo.get(i);
+				placesToGo[idPlace][i] = placeStore.containsPlace(idPlaceToGo) ? idPlaceToGo :
+						placeStore.getIdDefaultPlace();
+			}
+
+			if(place instanceof EndAdventurePlace) {
+				isEnding[idPlace] = true;
+				isSurvivalEnding[idPlace] = !((EndAdventurePlace) place).isPlayerDead();
+				hasSurvivalEndings |= isSurvivalEnding[idPlace];
+			}
+		}
+
+		distanceFromStart = computeDistanceFromStart(placesLength);
+		distanceToEnding = computeDistanceToEnding(placesLength, hasSurvivalEndings ? isSurvivalEnding : isEnding);
+		progressPercentages = computeProgressPercentages(placesLength);
+	}
+
+	public int getIdStartPlace() {
+		return idStartPlace;
+	}
+
+	public int[] getPlacesToGo(int idPlace) {
+		return isValidPlace(idPlace) ? placesToGo[idPlace] : NoPlaces;
+	}
+
+	public boolean isReachable(int idPlace) {
+		return isValidPlace(idPlace) && distanceFromStart[idPlace] != Unreachable;
+	}
+
+	public int getDistanceFromStart(int idPlace) {
+		return isValidPlace(idPlace) ? distanceFromStart[idPlace] : Unreachable;
+	}
+
+	public int getDistanceToEnding(int idPlace) {
+		return isValidPlace(idPlace) ? distanceToEnding[idPlace] : Unreachable;
+	}
+
+	public float getProgressPercentage(int idPlace) {
+		return isValidPlace(idPlace) ? progressPercentages[idPlace] : 0f;
+	}
+
+	private boolean isValidPlace(int idPlace) {
+		return idPlace >= 0 && idPlace < placesToGo.length;
+	}
+
+	private static void addPlacesToGo(Place place, ArrayList<Integer> idPlacesToGo) {
+		if(place instanceof OptionChoosePlace) {
+			for(OptionChoosePlaceCanGo placeToGo: ((OptionChoosePlace) place).getPlacesToGo()) {
+				idPlacesToGo.add(placeToGo.getIdPlaceToGo());
+			}
+			if(place instanceof EffectPlace && ((EffectPlace) place).getPlaceToGoIfDie() != null) {
+				idPlacesToGo.add(((EffectPlace) place).getPlaceToGoIfDie().getIdPlaceToGo());
+			}
+		} else if(place instanceof CombatPlace) {
+			CombatPlace combatPlace = (CombatPlace) place;
+			idPlacesToGo.add(combatPlace.getIdPlaceToGoIfWin());
+			idPlacesToGo.add(combatPlace.getIdPlaceToGoIfLose());
+			if(combatPlace.canRunAway()) {
+				idPlacesToGo.add(combatPlace.getIdPlaceToGoIfRunAway());
+			}
+		} else if(place instanceof SkillCheckPlace) {
+			idPlacesToGo.add(((SkillCheckPlace) place).getIdPlaceToGoIfPass());
+			idPlacesToGo.add(((SkillCheckPlace) place).getIdPlaceToGoIfFail());
+		} else if(place instanceof AttributeCheckPlace) {
+			idPlacesToGo.add(((AttributeCheckPlace) place).getIdPlaceToGoIfPass());
+			idPlacesToGo.add(((AttributeCheckPlace) place).getIdPlaceToGoIfFail());
+		} else if(place instanceof ItemUsePlace) {
+			for(ItemUsePlaceToGo placeToGo: ((ItemUsePlace) place).getPlacesToGo()) {
+				idPlacesToGo.add(placeToGo.getIdPlaceToGo());
+			}
+			idPlacesToGo.add(((ItemUsePlace) place).getIdPlaceToGoIfNoItem());
+		} else if(place instanceof SpellUsePlace) {
+			for(SpellUsePlaceToGo placeToGo: ((SpellUsePlace) place).getPlacesToGo()) {
+				idPlacesToGo.add(placeToGo.getIdPlaceToGo());
+			}
+			idPlacesToGo.add(((SpellUsePlace) place).getIdPlaceToGoIfNoSpell());
+		}
+	}
+
+	private int[] computeDistanceFromStart(int placesLength) {
+		int[] distances = createDistances(placesLength);
+		if(!isValidPlace(idStartPlace)) {
+			return distances;
+		}
+
+		int[] queue = new int[placesLength];
+		int head = 0;
+		int tail = 0;
+		distances[idStartPlace] = 0;
+		queue[tail++] = idStartPlace;
+		while(head < tail) {
+			int idPlace = queue[head++];
+			for(int idPlaceToGo: placesToGo[idPlace]) {
+				if(distances[idPlaceToGo] == Unreachable) {
+					distances[idPlaceToGo] = distances[idPlace] + 1;
+					queue[tail++] = idPlaceToGo;
+				}
+			}
+		}
+		return distances;
+	}
+
+	private int[] computeDistanceToEnding(int placesLength, boolean[] isEnding) {
+		//Breadth first search from every ending at once over the reversed edges
+		int[] predecessorsCount = new int[placesLength];
+		for(int[] idPlacesToGo: placesToGo) {
+			for(int idPlaceToGo: idPlacesToGo) {
+				predecessorsCount[idPlaceToGo]++;
+			}
+		}
+		int[][] predecessors = new int[placesLength][];
+		for(int idPlace = 0; idPlace < placesLength; idPlace++) {
+			predecessors[idPlace] = new int[predecessorsCount[idPlace]];
+			predecessorsCount[idPlace] = 0;
+		}
+		for(int idPlace = 0; idPlace < placesLength; idPlace++) {
+			for(int idPlaceToGo: placesToGo[idPlace]) {
+				predecessors[idPlaceToGo][predecessorsCount[idPlaceToGo]++] = idPlace;
+			}
+		}
+
+		int[] distances = createDistances(placesLength);
+		int[] queue = new int[placesLength];
+		int head = 0;
+		int tail = 0;
+		for(int idPlace = 0; idPlace < placesLength; idPlace++) {
+			if(isEnding[idPlace]) {
+				distances[idPlace] = 0;
+				queue[tail++] = idPlace;
+			}
+		}
+		while(head < tail) {
+			int idPlace = queue[head++];
+			for(int idPredecessor: predecessors[idPlace]) {
+				if(distances[idPredecessor] == Unreachable) {
+					distances[idPredecessor] = distances[idPlace] + 1;
+					queue[tail++] = idPredecessor;
+				}
+			}
+		}
+		return distances;
+	}
+
+	private float[] computeProgressPercentages(int placesLength) {
+		float[] percentages = new float[placesLength];
+		for(int idPlace = 0; idPlace < placesLength; idPlace++) {
+			int fromStart = distanceFromStart[idPlace];
+			int toEnding = distanceToEnding[idPlace];
+			if(fromStart == Unreachable || toEnding == Unreachable) {
+				percentages[idPlace] = 0f;
+			} else if(toEnding == 0) {
+				percentages[idPlace] = 100f;
+			} else {
+				percentages[idPlace] = 100f * fromStart / (fromStart + toEnding);
+			}
+		}
+		return percentages;
+	}
+
+	private static int[] createDistances(int placesLength) {
+		int[] distances = new int[placesLength];
+		Arrays.fill(distances, Unreachable);
+		return distances;
+	}
+}
@@ -1,4 +1,3 @@
-package com.pberna.adventure.adventure;
 /*
  *   Adventure Game, a digital gamebook written in java with Libgdx.
  *   Copyright (C) 2018 Pedro Berná
@@ -19,99 +18,165 @@ package com.pberna.adventure.adventure;
  *   Email contact: lomodastudios@gmail.com
  */
 
-import com.pberna.adventure.AdventureBetaHelper;
+package com.pberna.adventure.adventure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.XmlReader;
 import com.pberna.adventure.places.Place;
+import com.pberna.engine.localization.Localization;
+
+public class AdventureManager implements Disposable {
+	private static final String AdventuresListPath = "data/adventures.xml";
+	private static final String CompiledAdventuresFolder = "adventures/";
+	private static final int MaximumCachedPlaces = 64;
+	private static AdventureManager instance = null;
+
+	private HashMap<Integer, String> adventureSourcePaths;
+	private HashMap<Integer, PlaceStore> placeStores;
+	private HashMap<Integer, AdventureGraph> adventureGraphs;
+	private LinkedHashMap<Long, Place> cachedPlaces;
+	private Locale cachedPlacesLocale;
 
-public class AdventureManager {
-	private static final AdventureManager instance  = new AdventureManager();
-	
 	private AdventureManager() {
-		
+		adventureSourcePaths = new HashMap<Integer, String>();
+		placeStores = new HashMap<Integer, PlaceStore>();
+		adventureGraphs = new HashMap<Integer, AdventureGraph>();
+		cachedPlaces = new LinkedHashMap<Long, Place>(MaximumCachedPlaces, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Place> eldest) {
+				return size() > MaximumCachedPlaces;
+			}
+		};
+		cachedPlacesLocale = null;
+		loadAdventuresList();
 	}
 	
 	public static AdventureManager getInstance() {
+		if(instance == null) {
+			instance = new AdventureManager();
+		}
 		return instance;
 	}
-	
+
+	@Override
+	public void dispose() {
+		cachedPlaces.clear();
+		adventureGraphs.clear();
+		placeStores.clear();
+		instance = null;
+	}
+
+	//Places are shared between visits and must be treated as read only: per visit state (enemy life
+	//points, items given to the character) is copied by the combat window and the in game controller
 	public Place getStartPlace(int idAventure) {
-		return AdventureBetaHelper.getStartPlace();
+		PlaceStore placeStore = getPlaceStore(idAventure);
+		return placeStore != null ? getPlace(idAventure, placeStore.getIdStartPlace()) : null;
 	}
 	
-	public Place getPlace(int idAventure, int idPlace) {
-		switch(idPlace){
-			case 1:
-				return AdventureBetaHelper.getStartPlace();
-			case 2:
-				return AdventureBetaHelper.getPlace2();
-			case 3:
-				return AdventureBetaHelper.getPlace3();
-			case 4:
-				return AdventureBetaHelper.getPlace4();
-			case 5:
-				return AdventureBetaHelper.getPlace5();
-			case 6:
-				return AdventureBetaHelper.getPlace6();
-			case 7:
-				return AdventureBetaHelper.getPlace7();
-			case 8:
-				return AdventureBetaHelper.getPlace8();
-			case 9:
-				return AdventureBetaHelper.getPlace9();
-			case 10:
-				return AdventureBetaHelper.getPlace10();
-			case 11:
-				return AdventureBetaHelper.getPlace11();
-			case 12:
-				return AdventureBetaHelper.getPlace12();
-			case 13:
-				return AdventureBetaHelper.getPlace13();
-			case 14:
-				return AdventureBetaHelper.getPlace14();
-			case 15:
-				return AdventureBetaHelper.getPlace15();
-			case 16:
-				return AdventureBetaHelper.getPlace16();
-			case 17:
-				return AdventureBetaHelper.getPlace17();
-			case 18:
-				return AdventureBetaHelper.getPlace18();
-			case 19:
-				return AdventureBetaHelper.getPlace19();
-			case 20:
-				return AdventureBetaHelper.getPlace20();
-			case 21:
-				return AdventureBetaHelper.getPlace21();
-			case 22:
-				return AdventureBetaHelper.getPlace22();
-			case 23:
-				return AdventureBetaHelper.getPlace23();
-			case 24:
-				return AdventureBetaHelper.getPlace24();
-			case 25:
-				return AdventureBetaHelper.getPlace25();
-			case 26:
-				return AdventureBetaHelper.getPlace26();
-			case 27:
-				return AdventureBetaHelper.getPlace27();
-			case 28:
-				return AdventureBetaHelper.getPlace28();
-			case 29:
-				return AdventureBetaHelper.getPlace29();
-			case 30:
-				return AdventureBetaHelper.getPlace30();
-			case 31:
-				return AdventureBetaHelper.getPlace31();
-			case 32:
-				return AdventureBetaHelper.getPlace32();
-			case 33:
-				return AdventureBetaHelper.getPlace33();
-			case 34:
-				return AdventureBetaHelper.getPlace34();
-			case 35:
-				return AdventureBetaHelper.getPlace35();
-
-			default:
-				return AdventureBetaHelper.getPlace32();
+	public synchronized Place getPlace(int idAventure, int idPlace) {
+		PlaceStore placeStore = getPlaceStore(idAventure);
+		if(placeStore == null) {
+			return null;
+		}
+		if(!placeStore.containsPlace(idPlace)) {
+			idPlace = placeStore.getIdDefaultPlace();
+		}
+
+		Locale locale = Localization.getInstance().getLocale();
+		if(cachedPlacesLocale == null || !cachedPlacesLocale.equals(locale)) {
+			cachedPlaces.clear();
+			cachedPlacesLocale = locale;
+		}
+
+		Long placeKey = ((long) placeStore.getIdAdventure() << 32) | idPlace;
+		Place place = cachedPlaces.get(placeKey);
+		if(place == null) {
+			place = placeStore.getPlace(idPlace);
+			if(place != null) {
+				cachedPlaces.put(placeKey, place);
+			}
+		}
+		return place;
+	}
+
+	public synchronized AdventureGraph getAdventureGraph(int idAventure) {
+		PlaceStore placeStore = getPlaceStore(idAventure);
+		if(placeStore == null) {
+			return null;
+		}
+
+		AdventureGraph adventureGraph = adventureGraphs.get(placeStore.getIdAdventure());
+		if(adventureGraph == null) {
+			adventureGraph = new AdventureGraph(placeStore);
+			adventureGraphs.put(placeStore.getIdAdventure(), adventureGraph);
+		}
+		return adventureGraph;
+	}
+
+	public float getProgressPercentage(int idAventure, int idPlace) {
+		AdventureGraph adventureGraph = getAdventureGraph(idAventure);
+		return adventureGraph != null ? adventureGraph.getProgressPercentage(idPlace) : 0f;
+	}
+
+	public synchronized PlaceStore getPlaceStore(int idAventure) {
+		if(!adventureSourcePaths.containsKey(idAventure)) {
+			return null;
+		}
+
+		PlaceStore placeStore = placeStores.get(idAventure);
+		if(placeStore == null) {
+			placeStore = loadPlaceStore(idAventure, Gdx.files.internal(adventureSourcePaths.get(idAventure)));
+			if(placeStore != null) {
+				placeStores.put(idAventure, placeStore);
+			}
+		}
+		return placeStore;
+	}
+
+	private PlaceStore loadPlaceStore(int idAventure, FileHandle source) {
+		try {
+			int sourceChecksum = AdventureCompiler.getSourceChecksum(source);
+			if(Gdx.files.isLocalStorageAvailable()) {
+				FileHandle compiledFile = Gdx.files.local(CompiledAdventuresFolder + "adventure" + idAventure + ".bin");
+				if(!PlaceStore.isCompiledFrom(compiledFile, sourceChecksum)) {
+					compiledFile.writeBytes(AdventureCompiler.compile(source, sourceChecksum), false);
+				}
+				return PlaceStore.open(compiledFile);
+			}
+			return new PlaceStore(ByteBuffer.wrap(AdventureCompiler.compile(source, sourceChecksum)));
+		} catch (IOException e) {
+			e.printStackTrace();
+		} catch (GdxRuntimeException e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	private void loadAdventuresList() {
+		XmlReader xmlReader = new XmlReader();
+		try
+		{
+			XmlReader.Element root = xmlReader.parse(Gdx.files.internal(AdventuresListPath));
+			if(root.getName().equals("adventures")) {
+				for (XmlReader.Element childNode : root.getChildrenByName("adventure")) {
+					int idAdventure = childNode.getIntAttribute("id");
+					adventureSourcePaths.put(idAdventure, childNode.getText());
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
 		}
 	}
 }
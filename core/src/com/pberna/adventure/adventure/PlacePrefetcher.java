@@ -0,0 +1,126 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.adventure;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.EffectPlace;
+import com.pberna.adventure.places.ItemUsePlace;
+import com.pberna.adventure.places.ItemUsePlaceToGo;
+import com.pberna.adventure.places.OptionChoosePlace;
+import com.pberna.adventure.places.OptionChoosePlaceCanGo;
+import com.pberna.adventure.places.Place;
+import com.pberna.engine.assets.AssetRepository;
+
+//Resolves the places the player can go to from the active place while the player is reading it:
+//decodes them, loads their texts in the current language and looks up their enemy and item images.
+//Only the last request matters, a new one makes the pending one stop at the next place
+public class PlacePrefetcher implements Disposable {
+	private static PlacePrefetcher instance = null;
+
+	private AsyncExecutor executor;
+	private final AtomicInteger lastRequest;
+
+	private PlacePrefetcher() {
+		executor = null;
+		lastRequest = new AtomicInteger(0);
+	}
+
+	public static PlacePrefetcher getInstance() {
+		if(instance == null) {
+			instance = new PlacePrefetcher();
+		}
+		return instance;
+	}
+
+	@Override
+	public void dispose() {
+		lastRequest.incrementAndGet();
+		if(executor != null) {
+			executor.dispose();
+			executor = null;
+		}
+		instance = null;
+	}
+
+	public void prefetchPlacesToGo(final int idAdventure, final int idPlace) {
+		if(executor == null) {
+			executor = new AsyncExecutor(1);
+		}
+
+		final int request = lastRequest.incrementAndGet();
+		executor.submit(new AsyncTask<Void>() {
+			@Override
+			public Void call() throws Exception {
+				AdventureGraph adventureGraph = AdventureManager.getInstance().getAdventureGraph(idAdventure);
+				if(adventureGraph == null) {
+					return null;
+				}
+				for(int idPlaceToGo: adventureGraph.getPlacesToGo(idPlace)) {
+					if(request != lastRequest.get()) {
+						return null;
+					}
+					prefetchPlace(AdventureManager.getInstance().getPlace(idAdventure, idPlaceToGo));
+				}
+				return null;
+			}
+		});
+	}
+
+	private static void prefetchPlace(Place place) {
+		if(place == null) {
+			return;
+		}
+
+		place.getTranslatedText();
+		for(Item item: place.getItemsCharacterGets()) {
+			prefetchItemImage(item);
+		}
+
+		if(place instanceof OptionChoosePlace) {
+			for(OptionChoosePlaceCanGo placeToGo: ((OptionChoosePlace) place).getPlacesToGo()) {
+				placeToGo.getTranslatedText();
+			}
+			if(place instanceof EffectPlace && ((EffectPlace) place).getPlaceToGoIfDie() != null) {
+				((EffectPlace) place).getPlaceToGoIfDie().getTranslatedText();
+			}
+		} else if(place instanceof CombatPlace) {
+			if(((CombatPlace) place).getEnemyTemplate() != null) {
+				AssetRepository.getInstance().getTextureRegion("enemies", ((CombatPlace) place).getEnemyTemplate().getImageName());
+			}
+		} else if(place instanceof ItemUsePlace) {
+			for(ItemUsePlaceToGo placeToGo: ((ItemUsePlace) place).getPlacesToGo()) {
+				prefetchItemImage(placeToGo.getItem());
+			}
+		}
+	}
+
+	private static void prefetchItemImage(Item item) {
+		if(item != null) {
+			AssetRepository.getInstance().getTextureRegion("items", item.getImageName());
+		}
+	}
+}
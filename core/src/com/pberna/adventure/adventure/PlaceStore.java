@@ -0,0 +1,414 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.adventure;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.pberna.adventure.items.manager.ItemManager;
+import com.pberna.adventure.pj.Attribute;
+import com.pberna.adventure.pj.Difficulty;
+import com.pberna.adventure.pj.EnemyManager;
+import com.pberna.adventure.pj.Skill;
+import com.pberna.adventure.pj.effects.PermanentEffect;
+import com.pberna.adventure.places.AttributeCheckPlace;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.EffectPlace;
+import com.pberna.adventure.places.EndAdventurePlace;
+import com.pberna.adventure.places.IPlaceTextSource;
+import com.pberna.adventure.places.ItemUsePlace;
+import com.pberna.adventure.places.ItemUsePlaceToGo;
+import com.pberna.adventure.places.OptionChoosePlace;
+import com.pberna.adventure.places.OptionChoosePlaceCanGo;
+import com.pberna.adventure.places.Place;
+import com.pberna.adventure.places.PlaceType;
+import com.pberna.adventure.places.SkillCheckPlace;
+import com.pberna.adventure.places.SpellUsePlace;
+import com.pberna.adventure.places.SpellUsePlaceToGo;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.localization.ExtendedLocale;
+
+//Compiled adventure: a fixed header, an offset table indexed by place id and the encoded places.
+//Only the requested place is decoded, the rest of the file stays in the (mapped) buffer.
+//Texts are decoded on demand and only for one language: the position of a text in the buffer is its id
+public class PlaceStore implements IPlaceTextSource {
+	static final int Magic = 0x41445650;
+	static final int FormatVersion = 1;
+	static final int HeaderSize = 7 * 4;
+	static final String Encoding = "UTF-8";
+
+	private static final int PositionSourceChecksum = 8;
+	private static final int PositionIdAdventure = 12;
+	private static final int PositionIdStartPlace = 16;
+	private static final int PositionIdDefaultPlace = 20;
+	private static final int PositionPlaceTableLength = 24;
+	private static final int MaximumResidentTexts = 32;
+
+
+	private final ByteBuffer buffer;
+	private final int placeTableLength;
+	private final LinkedHashMap<Integer, String> residentTexts;
+	private String residentTextsLanguage;
+
+	public PlaceStore(ByteBuffer buffer) throws IOException {
+		if(buffer.getInt(0) != Magic || buffer.getInt(4) != FormatVersion) {
+			throw new IOException("Not a compiled adventure or wrong format version");
+		}
+		this.buffer = buffer;
+		this.placeTableLength = buffer.getInt(PositionPlaceTableLength);
+		this.residentTexts = new LinkedHashMap<Integer, String>(MaximumResidentTexts, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+				return size() > MaximumResidentTexts;
+			}
+		};
+		this.residentTextsLanguage = null;
+	}
+
+	public static PlaceStore open(FileHandle compiledFile) throws IOException {
+		ByteBuffer buffer;
+		try {
+			buffer = compiledFile.map();
+		} catch (GdxRuntimeException e) {
+			//internal and classpath files can not be mapped on every backend
+			buffer = ByteBuffer.wrap(compiledFile.readBytes());
+		}
+		return new PlaceStore(buffer);
+	}
+
+	public static boolean isCompiledFrom(FileHandle compiledFile, int sourceChecksum) {
+		if(!compiledFile.exists()) {
+			return false;
+		}
+
+		DataInputStream input = null;
+		try {
+			input = new DataInputStream(compiledFile.read());
+			return input.readInt() == Magic && input.readInt() == FormatVersion && input.readInt() == sourceChecksum;
+		} catch (IOException e) {
+			return false;
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	public int getSourceChecksum() {
+		return buffer.getInt(PositionSourceChecksum);
+	}
+
+	public int getIdAdventure() {
+		return buffer.getInt(PositionIdAdventure);
+	}
+
+	public int getIdStartPlace() {
+		return buffer.getInt(PositionIdStartPlace);
+	}
+
+	public int getIdDefaultPlace() {
+		return buffer.getInt(PositionIdDefaultPlace);
+	}
+
+	public int getMaximumIdPlace() {
+		return placeTableLength - 1;
+	}
+
+	public boolean containsPlace(int idPlace) {
+		return getPlaceOffset(idPlace) > 0;
+	}
+
+	public Place getPlace(int idPlace) {
+		int offset = getPlaceOffset(idPlace);
+		if(offset <= 0) {
+			return null;
+		}
+
+		ByteBuffer placeBuffer = buffer.duplicate();
+		placeBuffer.position(offset);
+		return readPlace(placeBuffer);
+	}
+
+	private int getPlaceOffset(int idPlace) {
+		if(idPlace <= 0 || idPlace >= placeTableLength) {
+			return 0;
+		}
+		return buffer.getInt(HeaderSize + idPlace * 4);
+	}
+
+	private Place readPlace(ByteBuffer input) {
+		int idPlace = input.getInt();
+		int idPlaceType = input.get() & 0xFF;
+		Place place = createPlace(idPlaceType);
+
+		place.setId(idPlace);
+		place.setPlaceType(PlaceType.getPlaceType(idPlaceType));
+		place.setTextSource(this, input.position());
+		skipTexts(input);
+
+		int countItems = input.get() & 0xFF;
+		for (int i = 0; i < countItems; i++) {
+			place.getItemsCharacterGets().add(ItemManager.getInstance().getItem(input.getInt()));
+		}
+
+		int countActions = input.get() & 0xFF;
+		for (int i = 0; i < countActions; i++) {
+			place.addPlayerAction(readString(input));
+		}
+
+		switch (idPlaceType) {
+			case PlaceType.IdOptionChoosePlace:
+				readOptions(input, (OptionChoosePlace) place);
+				break;
+			case PlaceType.IdCombatPlace:
+				readCombatPlace(input, (CombatPlace) place);
+				break;
+			case PlaceType.IdSkillCheckPlace:
+				readSkillCheckPlace(input, (SkillCheckPlace) place);
+				break;
+			case PlaceType.IdAttributeCheckPlace:
+				readAttributeCheckPlace(input, (AttributeCheckPlace) place);
+				break;
+			case PlaceType.IdItemUsePlace:
+				readItemUsePlace(input, (ItemUsePlace) place);
+				break;
+			case PlaceType.IdSpellUsePlace:
+				readSpellUsePlace(input, (SpellUsePlace) place);
+				break;
+			case PlaceType.IdEndAdventurePlace:
+				((EndAdventurePlace) place).setPlayerDead(input.get() != 0);
+				((EndAdventurePlace) place).setCompleteVictory(input.get() != 0);
+				break;
+			case PlaceType.IdEffectPlace:
+				readEffectPlace(input, (EffectPlace) place);
+				break;
+		}
+
+		return place;
+	}
+
+	private static Place createPlace(int idPlaceType) {
+		switch (idPlaceType) {
+			case PlaceType.IdCombatPlace:
+				return new CombatPlace();
+			case PlaceType.IdSkillCheckPlace:
+				return new SkillCheckPlace();
+			case PlaceType.IdAttributeCheckPlace:
+				return new AttributeCheckPlace();
+			case PlaceType.IdItemUsePlace:
+				return new ItemUsePlace();
+			case PlaceType.IdSpellUsePlace:
+				return new SpellUsePlace();
+			case PlaceType.IdEndAdventurePlace:
+				return new EndAdventurePlace();
+			case PlaceType.IdEffectPlace:
+				return new EffectPlace();
+			default:
+				return new OptionChoosePlace();
+		}
+	}
+
+	private static void readCombatPlace(ByteBuffer input, CombatPlace place) {
+		place.setEnemyTemplate(EnemyManager.getInstance().getById(input.getInt()));
+		place.setIdPlaceToGoIfWin(input.getInt());
+		place.setIdPlaceToGoIfLose(input.getInt());
+		int idPlaceToGoIfRunAway = input.getInt();
+		if(idPlaceToGoIfRunAway > 0) {
+			place.setIdPlaceToGoIfRunAway(idPlaceToGoIfRunAway);
+		}
+	}
+
+	private static void readSkillCheckPlace(ByteBuffer input, SkillCheckPlace place) {
+		place.setSkill(Skill.getSkillDefinition(input.getInt()));
+		place.setDifficulty(Difficulty.getDifficulty(input.getInt(), false));
+		place.setIdPlaceToGoIfPass(input.getInt());
+		place.setIdPlaceToGoIfFail(input.getInt());
+	}
+
+	private static void readAttributeCheckPlace(ByteBuffer input, AttributeCheckPlace place) {
+		place.setAttribute(Attribute.getAttributeDefinition(input.getInt()));
+		place.setDifficulty(Difficulty.getDifficulty(input.getInt(), false));
+		place.setIdPlaceToGoIfPass(input.getInt());
+		place.setIdPlaceToGoIfFail(input.getInt());
+	}
+
+	private static void readItemUsePlace(ByteBuffer input, ItemUsePlace place) {
+		place.setIdPlaceToGoIfNoItem(input.getInt());
+		int countPlacesToGo = input.get() & 0xFF;
+		for (int i = 0; i < countPlacesToGo; i++) {
+			int idItem = input.getInt();
+			int idPlaceToGo = input.getInt();
+			boolean itemSpent = input.get() != 0;
+			place.getPlacesToGo().add(new ItemUsePlaceToGo(ItemManager.getInstance().getItem(idItem), idPlaceToGo, itemSpent));
+		}
+	}
+
+	private static void readSpellUsePlace(ByteBuffer input, SpellUsePlace place) {
+		place.setIdPlaceToGoIfNoSpell(input.getInt());
+		int countPlacesToGo = input.get() & 0xFF;
+		for (int i = 0; i < countPlacesToGo; i++) {
+			Spell spell = Spell.getSpell(input.getInt());
+			place.getPlacesToGo().add(new SpellUsePlaceToGo(spell, input.getInt()));
+		}
+	}
+
+	private void readEffectPlace(ByteBuffer input, EffectPlace place) {
+		readOptions(input, place);
+		int countEffects = input.get() & 0xFF;
+		for (int i = 0; i < countEffects; i++) {
+			place.addEffect(new PermanentEffect(input.getInt(), input.getInt(), input.getInt()));
+		}
+		if(input.get() != 0) {
+			place.setPlaceToGoIfDie(readOption(input));
+		}
+	}
+
+	private void readOptions(ByteBuffer input, OptionChoosePlace place) {
+		int countOptions = input.getShort() & 0xFFFF;
+		for (int i = 0; i < countOptions; i++) {
+			place.getPlacesToGo().add(readOption(input));
+		}
+	}
+
+	private OptionChoosePlaceCanGo readOption(ByteBuffer input) {
+		OptionChoosePlaceCanGo option = new OptionChoosePlaceCanGo();
+		option.setIdPlaceToGo(input.getInt());
+		option.setTextSource(this, input.position());
+		skipTexts(input);
+		return option;
+	}
+
+	@Override
+	public String getText(int idText) {
+		ByteBuffer input = getTextsBuffer(idText);
+		return readString(input);
+	}
+
+	@Override
+	public synchronized String getTranslatedText(int idText, String language) {
+		if(residentTextsLanguage == null || !residentTextsLanguage.equals(language)) {
+			residentTexts.clear();
+			residentTextsLanguage = language;
+		}
+
+		String text = residentTexts.get(idText);
+		if(text == null) {
+			text = readTranslatedText(idText, language);
+			residentTexts.put(idText, text);
+		}
+		return text;
+	}
+
+	@Override
+	public ArrayList<String> getTranslationLanguages(int idText) {
+		ArrayList<String> languages = new ArrayList<String>();
+		ByteBuffer input = getTextsBuffer(idText);
+		skipString(input);
+		int countTranslations = input.get() & 0xFF;
+		for (int i = 0; i < countTranslations; i++) {
+			languages.add(readString(input));
+			skipString(input);
+		}
+		return languages;
+	}
+
+	@Override
+	public String getTranslation(int idText, String translationLanguage) {
+		ByteBuffer input = getTextsBuffer(idText);
+		skipString(input);
+		int countTranslations = input.get() & 0xFF;
+		for (int i = 0; i < countTranslations; i++) {
+			if(readString(input).equals(translationLanguage)) {
+				return readString(input);
+			}
+			skipString(input);
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized void releaseText(int idText) {
+		residentTexts.remove(idText);
+	}
+
+	public synchronized int getResidentTextsCount() {
+		return residentTexts.size();
+	}
+
+	private String readTranslatedText(int idText, String language) {
+		ByteBuffer input = getTextsBuffer(idText);
+		int positionBaseText = input.position();
+		skipString(input);
+		int countTranslations = input.get() & 0xFF;
+		for (int i = 0; i < countTranslations; i++) {
+			if(ExtendedLocale.isTranslationCompatible(readString(input), language)) {
+				return readString(input);
+			}
+			skipString(input);
+		}
+		input.position(positionBaseText);
+		return readString(input);
+	}
+
+	private ByteBuffer getTextsBuffer(int idText) {
+		ByteBuffer input = buffer.duplicate();
+		input.position(idText);
+		return input;
+	}
+
+	private static void skipTexts(ByteBuffer input) {
+		skipString(input);
+		int countTranslations = input.get() & 0xFF;
+		for (int i = 0; i < countTranslations; i++) {
+			skipString(input);
+			skipString(input);
+		}
+	}
+
+	private static void skipString(ByteBuffer input) {
+		int length = input.getInt();
+		if(length > 0) {
+			input.position(input.position() + length);
+		}
+	}
+
+	private static String readString(ByteBuffer input) {
+		int length = input.getInt();
+		if(length < 0) {
+			return null;
+		}
+
+		byte[] bytes = new byte[length];
+		input.get(bytes);
+		try {
+			return new String(bytes, Encoding);
+		} catch (UnsupportedEncodingException e) {
+			e.printStackTrace();
+			return "";
+		}
+	}
+}
@@ -21,6 +21,7 @@
 package com.pberna.adventure.controllers;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Locale;
 
 import com.badlogic.gdx.Game;
@@ -29,14 +30,16 @@ import com.pberna.adventure.AchievementsHelper;
 import com.pberna.adventure.AdventureScoreManager;
 import com.pberna.adventure.adventure.Adventure;
 import com.pberna.adventure.adventure.AdventureManager;
+import com.pberna.adventure.adventure.PlacePrefetcher;
 import com.pberna.adventure.combat.Combat;
 import com.pberna.adventure.combat.CombatWinner;
 import com.pberna.adventure.games.StoredGame;
 import com.pberna.adventure.games.StoredGameManager;
 import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.manager.ItemManager;
 import com.pberna.adventure.pj.Character;
-import com.pberna.adventure.pj.Skill;
 import com.pberna.adventure.pj.effects.Effect;
+import com.pberna.adventure.pj.effects.EffectEngine;
 import com.pberna.adventure.places.CombatPlace;
 import com.pberna.adventure.places.EffectPlace;
 import com.pberna.adventure.places.EndAdventurePlace;
@@ -69,6 +72,7 @@ import com.pberna.adventure.screens.ingame.SpellsScreenListener;
 import com.pberna.adventure.screens.ingame.StartAdventureScreen;
 import com.pberna.engine.localization.Localization;
 import com.pberna.engine.logging.Logger;
+import com.pberna.engine.persistence.PersistenceCallback;
 
 public class InGameController extends BaseController {
 
@@ -100,6 +104,7 @@ public class InGameController extends BaseController {
 
 	public void setAdventure(Adventure adventure) {
 		this.adventure = adventure;
+		mainInGameScreen.setIdAdventure(adventure.getId());
 	}
 
 	public InGameController(final Game game, BaseController parentController) {
@@ -170,17 +175,21 @@ public class InGameController extends BaseController {
 				try
 				{
 					StoredGameManager.getInstance().createStoredGame(character, adventure, activePlace.getId(),
-							mainInGameScreen.getPendingItemsCount(), AdventureScoreManager.getInstance().getScore());
-					mainInGameScreen.showOkNotification(Localization.getInstance().getTranslation("InGame", "gameSavedOkMessage"));
-					mainInGameScreen.setConfirmExit(false);
-
-					for(InGameControllerEvents listener: listeners) {
-						listener.showInterstitialAdvertising(null);
-					}
-
+							mainInGameScreen.getPendingItemsCount(), AdventureScoreManager.getInstance().getScore(),
+							new PersistenceCallback<StoredGame>() {
+								@Override
+								public void completed(StoredGame result) {
+									gameSaved();
+								}
+
+								@Override
+								public void failed(Exception exception) {
+									gameNotSaved();
+								}
+							});
 				} catch(Exception ex)
 				{
-					mainInGameScreen.showErrorNotification(Localization.getInstance().getTranslation("InGame", "gameSavedErrorMessage"));
+					gameNotSaved();
 				}
 			}
 
@@ -191,7 +200,7 @@ public class InGameController extends BaseController {
 
 			@Override
 			public void loadGame() {
-				loadGameScreen.showLoadGames(StoredGameManager.getInstance().getAllStoredGames());
+				showStoredGames();
 				transitionBetweenScreens(game.getScreen(), loadGameScreen, null);
 			}
 
@@ -306,7 +315,7 @@ public class InGameController extends BaseController {
 			@Override
 			public void deleteGame(StoredGame storedGame) {
 				StoredGameManager.getInstance().deleteStoredGame(storedGame);
-				loadGameScreen.showLoadGames(StoredGameManager.getInstance().getAllStoredGames());
+				showStoredGames();
 			}
 		});
 		listLocalizables.add(loadGameScreen);
@@ -363,6 +372,19 @@ public class InGameController extends BaseController {
 		transitionBetweenScreens(game.getScreen(), mainInGameScreen, null);
 	}
 
+	private void gameSaved() {
+		mainInGameScreen.showOkNotification(Localization.getInstance().getTranslation("InGame", "gameSavedOkMessage"));
+		mainInGameScreen.setConfirmExit(false);
+
+		for(InGameControllerEvents listener: listeners) {
+			listener.showInterstitialAdvertising(null);
+		}
+	}
+
+	private void gameNotSaved() {
+		mainInGameScreen.showErrorNotification(Localization.getInstance().getTranslation("InGame", "gameSavedErrorMessage"));
+	}
+
 	private void transitionBetweenPlaces(Place placeFrom, Place placeTo, Item item) {
 		transitionBetweenPlaces(placeFrom, placeTo, item, null);
 	}
@@ -372,7 +394,7 @@ public class InGameController extends BaseController {
 	}
 
 	private void transitionBetweenPlaces(Place placeFrom, Place placeTo, Item item, Spell spell) {
-		removeEffectsFromCharacter(placeFrom);
+		advanceEffectClocks(placeFrom);
 		removeSpentItemsFromCharacter(placeFrom, placeTo, item);
 		giveObjectsToCharacter(placeTo);
 
@@ -386,31 +408,33 @@ public class InGameController extends BaseController {
 			EffectPlace effectPlace = (EffectPlace) placeTo;
 			applyEffectsToCharacter(effectPlace);
 		}
-		for (String action: placeTo.getPlayerActions()) {
-			PlayerActionManager.getInstance().registerAction(action);
-		}
+		ArrayList<String> actions = new ArrayList<String>(placeTo.getPlayerActions());
 		if(spell != null) {
-			PlayerActionManager.getInstance().registerAction(AchievementsHelper.CastSpell1Prefix + String.valueOf(spell.getId()));
+			actions.add(AchievementsHelper.CastSpell1Prefix + String.valueOf(spell.getId()));
+		}
+		if(actions.size() > 0) {
+			PlayerActionManager.getInstance().registerActions(actions);
 		}
 
+		if(placeFrom != null && placeFrom != placeTo) {
+			placeFrom.releaseTexts();
+		}
 		activePlace = placeTo;		
+		PlacePrefetcher.getInstance().prefetchPlacesToGo(adventure.getId(), placeTo.getId());
 	}
 
-	private void removeEffectsFromCharacter(Place placeFrom) {
+	//Ticks the clocks of the effects of the character, the ones that are due wear off
+	private void advanceEffectClocks(Place placeFrom) {
 		if(placeFrom != null) {
+			EffectEngine effectEngine = character.getEffectEngine();
 			if(placeFrom instanceof CombatPlace) {
-				//remove Might, Shield and Magic Ritual spells
-				character.removeActiveSpell(Spell.IdMight);
-				character.removeActiveSpell(Spell.IdShield);
-				character.removeActiveSpell(Spell.IdMagicRitual);
+				effectEngine.combatEnded();
 			}
 			if(placeFrom instanceof SkillCheckPlace) {
-				if(((SkillCheckPlace)placeFrom).getSkill().getId() == Skill.IdStealth) {
-					//remove expertise spell
-					character.removeActiveSpell(Spell.IdExpertise);
-				}
+				effectEngine.skillCheckEnded(((SkillCheckPlace)placeFrom).getSkill().getId());
 			}
-		}		
+			effectEngine.placeLeft();
+		}
 	}
 
 	private void removeSpentItemsFromCharacter(Place placeFrom, Place placeTo, Item item) {
@@ -433,7 +457,8 @@ public class InGameController extends BaseController {
 	private void giveObjectsToCharacter(Place placeTo) {
 		if(placeTo != null) {
 			for(Item item: placeTo.getItemsCharacterGets()) {
-				character.getBackpack().addItem(item);
+				//places are cached, so the character gets its own copy of the item
+				character.getBackpack().addItem(ItemManager.getInstance().getItem(item.getId()));
 			}
 			int pendingItemsCountIncrease = placeTo.getItemsCharacterGets().size();
 			if(pendingItemsCountIncrease > 0) {
@@ -445,7 +470,7 @@ public class InGameController extends BaseController {
 	private void applyEffectsToCharacter(EffectPlace effectPlace) {
 		if(effectPlace != null) {
 			for (Effect effect : effectPlace.getEffects()) {
-				effect.applyTo(character);
+				character.getEffectEngine().apply(effect);
 			}
 		}
 	}
@@ -494,6 +519,7 @@ public class InGameController extends BaseController {
 		AudioManager.getInstance().setCurrentMusic(AssetRepository.getInstance().getMusic("in_game"));
 		AudioManager.getInstance().playMusic();
 		activePlace = AdventureManager.getInstance().getPlace(adventure.getId(), placeId);
+		PlacePrefetcher.getInstance().prefetchPlacesToGo(adventure.getId(), activePlace.getId());
 		mainInGameScreen.setCharacter(character);
 		mainInGameScreen.resetPendingItemsCount();
 		mainInGameScreen.increasePendingItemsCount(pendingItemsCount);
@@ -502,6 +528,21 @@ public class InGameController extends BaseController {
 		transitionBetweenScreens(game.getScreen(), mainInGameScreen, callback);
 	}
 
+	//The list is filled when the games are read, out of the render thread
+	private void showStoredGames() {
+		StoredGameManager.getInstance().getAllStoredGames(new PersistenceCallback<Collection<StoredGame>>() {
+			@Override
+			public void completed(Collection<StoredGame> result) {
+				loadGameScreen.showLoadGames(result);
+			}
+
+			@Override
+			public void failed(Exception exception) {
+				loadGameScreen.showLoadGames(new ArrayList<StoredGame>());
+			}
+		});
+	}
+
 	public void addListener(InGameControllerEvents listener) {
 		listeners.add(listener);
 	}
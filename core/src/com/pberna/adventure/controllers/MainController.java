@@ -29,6 +29,7 @@ import com.pberna.adventure.TestingHelper;
 import com.pberna.adventure.adventure.Adventure;
 import com.pberna.adventure.dependencies.Settings;
 import com.pberna.adventure.games.StoredGame;
+import com.pberna.adventure.games.StoredGameManager;
 import com.pberna.adventure.pj.Character;
 import com.pberna.adventure.store.StoreItem;
 
@@ -119,9 +120,10 @@ public class MainController extends BaseController {
 	}
 
 	private void loadStoredGame(StoredGame storedGame) {
-		activeCharacter = Character.getCharacterFromJson(storedGame.getCharacterJson());
+		activeCharacter = StoredGameManager.getInstance().getCharacter(storedGame);
 		activeCharacter.refreshLocalizableItems();
 		GlobalStoreManager.getInstance().setCharacter(activeCharacter);
+		StoredGameManager.getInstance().restoreDice(storedGame);
 
 		inGameController.setCharacter(activeCharacter);
 		activeAdventure = AdventureBetaHelper.createTestingAdventure();
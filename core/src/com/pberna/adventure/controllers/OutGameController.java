@@ -34,10 +34,12 @@ import com.pberna.adventure.screens.outgame.StoreScreen;
 import com.pberna.engine.assets.AssetRepository;
 import com.pberna.engine.audio.AudioManager;
 import com.pberna.engine.localization.ILocalizable;
+import com.pberna.engine.persistence.PersistenceCallback;
 import com.pberna.adventure.screens.outgame.MainMenuScreen;
 import com.pberna.adventure.screens.outgame.MainMenuScreenEvents;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Locale;
 
 public class OutGameController extends BaseController {
@@ -72,7 +74,7 @@ public class OutGameController extends BaseController {
                 transitionBetweenScreens(game.getScreen(), loadGameScreen, new ITransitionCallback() {
                     @Override
                     public void callback() {
-                        loadGameScreen.showLoadGames(StoredGameManager.getInstance().getAllStoredGames());
+                        showStoredGames();
                     }
                 });
             }
@@ -142,7 +144,7 @@ public class OutGameController extends BaseController {
             @Override
             public void deleteGame(StoredGame storedGame) {
                 StoredGameManager.getInstance().deleteStoredGame(storedGame);
-                loadGameScreen.showLoadGames(StoredGameManager.getInstance().getAllStoredGames());
+                showStoredGames();
             }
         });
         listLocalizables.add(loadGameScreen);
@@ -251,6 +253,21 @@ public class OutGameController extends BaseController {
         }
     }
 
+    //The list is filled when the games are read, out of the render thread
+    private void showStoredGames() {
+        StoredGameManager.getInstance().getAllStoredGames(new PersistenceCallback<Collection<StoredGame>>() {
+            @Override
+            public void completed(Collection<StoredGame> result) {
+                loadGameScreen.showLoadGames(result);
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                loadGameScreen.showLoadGames(new ArrayList<StoredGame>());
+            }
+        });
+    }
+
     public void addListener(OutGameControllerEvents listener) {
         listeners.add(listener);
     }
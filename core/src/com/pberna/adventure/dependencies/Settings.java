@@ -20,6 +20,8 @@
 
 package com.pberna.adventure.dependencies;
 
+import com.pberna.engine.persistence.StorageProfile;
+
 import java.util.ArrayList;
 
 public class Settings {
@@ -30,6 +32,7 @@ public class Settings {
     private boolean gplayAchievementsAvailable;
     private String versionName;
     private boolean leadeboardAvailable;
+    private StorageProfile storageProfile;
 
     public Settings() {
         storeAvailable = true;
@@ -37,6 +40,7 @@ public class Settings {
         gplayAchievementsAvailable = false;
         versionName = "1.0";
         leadeboardAvailable = false;
+        storageProfile = StorageProfile.Default;
     }
 
     public static Settings getInstance() {
@@ -94,4 +98,12 @@ public class Settings {
     public void setLeadeboardAvailable(boolean leadeboardAvailable) {
         this.leadeboardAvailable = leadeboardAvailable;
     }
+
+    public StorageProfile getStorageProfile() {
+        return storageProfile;
+    }
+
+    public void setStorageProfile(StorageProfile storageProfile) {
+        this.storageProfile = storageProfile;
+    }
 }
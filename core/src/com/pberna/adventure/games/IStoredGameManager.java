@@ -22,11 +22,15 @@ package com.pberna.adventure.games;
 
 import com.pberna.adventure.adventure.Adventure;
 import com.pberna.adventure.pj.Character;
+import com.pberna.engine.persistence.PersistenceCallback;
 
 import java.util.Collection;
 
 public interface IStoredGameManager {
-    StoredGame createStoredGame(Character character, Adventure adventure, int placeId, int pendingInventoryItemsCount, int score);
-    Collection<StoredGame> getAllStoredGames();
+    void createStoredGame(Character character, Adventure adventure, int placeId, int pendingInventoryItemsCount, int score,
+                          PersistenceCallback<StoredGame> callback);
+    Character getCharacter(StoredGame storedGame);
+    void restoreDice(StoredGame storedGame);
+    void getAllStoredGames(PersistenceCallback<Collection<StoredGame>> callback);
     void deleteStoredGame(StoredGame storedGame);
 }
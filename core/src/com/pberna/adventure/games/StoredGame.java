@@ -36,6 +36,7 @@ public class StoredGame {
     private int id;
     @DatabaseField(columnName = "PlaceId")
     private int placeId;
+    //binary character text since schema version 1 of CharacterBinarySerializer, json in older games
     @DatabaseField(columnName = "CharacterJson")
     private String characterJson;
     @DatabaseField(columnName = CreationDataColumnName)
@@ -64,6 +65,10 @@ public class StoredGame {
     private int maximumLuckPoints;
     @DatabaseField(columnName = "Score")
     private int score;
+    @DatabaseField(columnName = "DiceSeed")
+    private long diceSeed;
+    @DatabaseField(columnName = "DiceGamma")
+    private long diceGamma;
 
     public int getId() {
         return id;
@@ -192,4 +197,20 @@ public class StoredGame {
     public void setScore(int score) {
         this.score = score;
     }
+
+    public long getDiceSeed() {
+        return diceSeed;
+    }
+
+    public void setDiceSeed(long diceSeed) {
+        this.diceSeed = diceSeed;
+    }
+
+    public long getDiceGamma() {
+        return diceGamma;
+    }
+
+    public void setDiceGamma(long diceGamma) {
+        this.diceGamma = diceGamma;
+    }
 }
@@ -22,8 +22,15 @@ package com.pberna.adventure.games;
 
 import com.badlogic.gdx.utils.TimeUtils;
 import com.pberna.adventure.adventure.Adventure;
+import com.pberna.adventure.adventure.AdventureManager;
+import com.pberna.adventure.dices.Dice;
 import com.pberna.adventure.persistence.StoredGameRepository;
 import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.CharacterBinarySerializer;
+import com.pberna.adventure.pj.ICharacterSerializer;
+import com.pberna.engine.persistence.PersistenceCallback;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceTask;
 
 import java.util.Collection;
 import java.util.Date;
@@ -31,6 +38,7 @@ import java.util.Date;
 public class StoredGameManager implements IStoredGameManager{
     private static StoredGameManager ourInstance = new StoredGameManager();
     private StoredGameRepository repository;
+    private ICharacterSerializer characterSerializer;
 
     public static StoredGameManager getInstance() {
         return ourInstance;
@@ -38,16 +46,18 @@ public class StoredGameManager implements IStoredGameManager{
 
     private StoredGameManager() {
         repository = new StoredGameRepository();
+        characterSerializer = new CharacterBinarySerializer(new CharacterJsonSerializer());
     }
 
+    //The game is taken from the character now and written in the background, the callback is told when it is stored
     @Override
-    public StoredGame createStoredGame(Character character, Adventure adventure, int placeId,
-                                       int pendingInventoryItemsCount, int score) {
-        StoredGame storedGame = new StoredGame();
+    public void createStoredGame(Character character, Adventure adventure, int placeId,
+                                 int pendingInventoryItemsCount, int score, PersistenceCallback<StoredGame> callback) {
+        final StoredGame storedGame = new StoredGame();
         storedGame.setPlaceId(placeId);
-        storedGame.setCharacterJson(Character.getJsonFromCharacter(character));
+        storedGame.setCharacterJson(characterSerializer.serialize(character));
         storedGame.setCreationDate(new Date(TimeUtils.millis()));
-        storedGame.setProgressPercentage(0);
+        storedGame.setProgressPercentage(AdventureManager.getInstance().getProgressPercentage(adventure.getId(), placeId));
         storedGame.setCharacterName(character.getName());
         storedGame.setCurrentLifePoints(character.getCurrentLifePoints());
         storedGame.setMaximumLifePoints(character.getMaximumLifePoints());
@@ -59,19 +69,51 @@ public class StoredGameManager implements IStoredGameManager{
         storedGame.setCurrentLuckPoints(character.getCurrentLuckPoints());
         storedGame.setMaximumLuckPoints(character.getMaximumLuckPoints());
         storedGame.setScore(score);
+        storedGame.setDiceSeed(Dice.getInstance().getSeed());
+        storedGame.setDiceGamma(Dice.getInstance().getGamma());
 
-        return repository.add(storedGame);
+        PersistenceExecutor.getInstance().write(new PersistenceTask<StoredGame>() {
+            @Override
+            public StoredGame run() {
+                return repository.add(storedGame);
+            }
+        }, callback);
     }
 
     @Override
-    public Collection<StoredGame> getAllStoredGames(){
-        return repository.findAll();
+    public Character getCharacter(StoredGame storedGame) {
+        return characterSerializer.deserialize(storedGame.getCharacterJson());
     }
 
     @Override
-    public void deleteStoredGame(StoredGame storedGame) {
+    public void restoreDice(StoredGame storedGame) {
+        //games saved before the dice were stored go on with the current rolls
+        if(storedGame.getDiceGamma() != 0) {
+            Dice.getInstance().setState(storedGame.getDiceSeed(), storedGame.getDiceGamma());
+        }
+    }
+
+    //The games are read behind the pending writes, so a game just saved or deleted is already in the list
+    @Override
+    public void getAllStoredGames(PersistenceCallback<Collection<StoredGame>> callback){
+        PersistenceExecutor.getInstance().read(new PersistenceTask<Collection<StoredGame>>() {
+            @Override
+            public Collection<StoredGame> run() {
+                return repository.findAll();
+            }
+        }, callback);
+    }
+
+    @Override
+    public void deleteStoredGame(final StoredGame storedGame) {
         if(storedGame != null) {
-            repository.delete(storedGame);
+            PersistenceExecutor.getInstance().write(new PersistenceTask<Void>() {
+                @Override
+                public Void run() {
+                    repository.delete(storedGame);
+                    return null;
+                }
+            });
         }
     }
 
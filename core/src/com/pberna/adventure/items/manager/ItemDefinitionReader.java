@@ -0,0 +1,145 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.items.manager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.XmlReader;
+import com.pberna.adventure.items.Armor;
+import com.pberna.adventure.items.Boots;
+import com.pberna.adventure.items.Helmet;
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+import com.pberna.adventure.items.ItemUsable;
+import com.pberna.adventure.items.RecoveryItem;
+import com.pberna.adventure.items.Ring;
+import com.pberna.adventure.items.Shield;
+import com.pberna.adventure.items.Weapon1Hand;
+
+//Reads the item definitions of the items data file into the ItemManager
+public class ItemDefinitionReader {
+	private static final String ItemsBundleName = "Items";
+	private static final String FullRecovery = "full";
+
+	private ItemDefinitionReader() {
+
+	}
+
+	public static void load(FileHandle source) throws IOException {
+		ItemManager.getInstance().setItemDefinitions(read(source));
+	}
+
+	public static ArrayList<Item> read(FileHandle source) throws IOException {
+		XmlReader.Element root = new XmlReader().parse(source);
+		if(!root.getName().equals("items")) {
+			throw new IOException("Not an items file: " + source.path());
+		}
+
+		ArrayList<Item> definitions = new ArrayList<Item>();
+		ArrayList<Integer> ids = new ArrayList<Integer>();
+		for (XmlReader.Element itemNode : root.getChildrenByName("item")) {
+			Item definition = readItem(itemNode);
+			if(definition.getId() <= 0 || ids.contains(definition.getId())) {
+				throw new IOException("Wrong or duplicated item id " + definition.getId() + " in " + source.path());
+			}
+			ids.add(definition.getId());
+			definitions.add(definition);
+		}
+		return definitions;
+	}
+
+	private static Item readItem(XmlReader.Element itemNode) throws IOException {
+		Item item = createItem(itemNode.getAttribute("type"));
+		item.setId(itemNode.getIntAttribute("id"));
+		item.setNameText(ItemsBundleName, itemNode.getAttribute("name"));
+		item.setDescriptionText(ItemsBundleName, itemNode.getAttribute("description"));
+		item.setImageName(itemNode.getAttribute("image"));
+
+		if(item instanceof ItemUsable) {
+			((ItemUsable) item).setEffectDescriptionText(ItemsBundleName, itemNode.getAttribute("effectDescription"));
+		}
+		if(item instanceof RecoveryItem) {
+			readRecoveries(itemNode, (RecoveryItem) item);
+		}
+		if(item instanceof ItemEquipable) {
+			readModifiers(itemNode, (ItemEquipable) item);
+		}
+		return item;
+	}
+
+	private static Item createItem(String type) throws IOException {
+		if(type.equals("Item")) {
+			return new Item();
+		} else if(type.equals("RecoveryItem")) {
+			return new RecoveryItem();
+		} else if(type.equals("Armor")) {
+			return new Armor();
+		} else if(type.equals("Boots")) {
+			return new Boots();
+		} else if(type.equals("Helmet")) {
+			return new Helmet();
+		} else if(type.equals("Ring")) {
+			return new Ring();
+		} else if(type.equals("Shield")) {
+			return new Shield();
+		} else if(type.equals("Weapon1Hand")) {
+			return new Weapon1Hand();
+		}
+		throw new IOException("Unknown item type " + type);
+	}
+
+	private static void readRecoveries(XmlReader.Element itemNode, RecoveryItem item) {
+		String life = itemNode.getAttribute("life", "0");
+		if(life.equals(FullRecovery)) {
+			item.setLifePointsRecoveryFull();
+		} else {
+			item.setLifePointsRecovery(Integer.parseInt(life));
+		}
+
+		String power = itemNode.getAttribute("power", "0");
+		if(power.equals(FullRecovery)) {
+			item.setPowerPointsRecoveryFull();
+		} else {
+			item.setPowerPointsRecovery(Integer.parseInt(power));
+		}
+
+		String luck = itemNode.getAttribute("luck", "0");
+		if(luck.equals(FullRecovery)) {
+			item.setLuckPointsRecoveryFull();
+		} else {
+			item.setLuckPointsRecovery(Integer.parseInt(luck));
+		}
+	}
+
+	private static void readModifiers(XmlReader.Element itemNode, ItemEquipable item) {
+		item.setAttackModifier(itemNode.getIntAttribute("attack", 0));
+		item.setDefenseModifier(itemNode.getIntAttribute("defense", 0));
+		item.setInitiativeModifier(itemNode.getIntAttribute("initiative", 0));
+		for (XmlReader.Element modifierNode : itemNode.getChildrenByName("skillModifier")) {
+			item.addSkillModifier(modifierNode.getIntAttribute("id"), modifierNode.getIntAttribute("value"));
+		}
+		for (XmlReader.Element modifierNode : itemNode.getChildrenByName("attributeModifier")) {
+			item.addAttributeModifier(modifierNode.getIntAttribute("id"), modifierNode.getIntAttribute("value"));
+		}
+	}
+}
@@ -26,7 +26,7 @@ import com.pberna.engine.persistence.Database;
 public abstract class AdventureDatabase extends Database {
 
     private static final String AdventureDatabaseName = "adventure";
-    private static final int CurrentDatabaseVersion = 6;
+    private static final int CurrentDatabaseVersion = 7;
 
 
     public AdventureDatabase() {
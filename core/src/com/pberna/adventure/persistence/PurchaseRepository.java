@@ -30,25 +30,23 @@ import com.pberna.engine.persistence.Result;
 import java.util.Collection;
 
 public class PurchaseRepository implements IRepository<Purchase> {
+    private static final String FindAllSql = "SELECT * FROM '" + Purchase.TableName + "' " +
+            " ORDER BY '" + Purchase.DateColumnName + "' DESC";
 
     public PurchaseRepository() {
     }
 
     @Override
     public Collection<Purchase> findAll() {
-        String query = "SELECT * FROM '" + Purchase.TableName + "' " +
-                " ORDER BY '" + Purchase.DateColumnName + "' DESC";
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindAllSql).query();
 
         return PersistenceHelper.fillEntitiesList(queryResult, Purchase.class);
     }
 
     @Override
     public Purchase add(Purchase entity) {
-        String insertQuery = PersistenceHelper.getInsertStatement(entity, Purchase.class);
-
-        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + insertQuery);
-        Database.getInstance().execute(insertQuery);
+        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + Purchase.TableName);
+        PersistenceHelper.insert(entity, Purchase.class);
 
         return entity;
     }
@@ -31,6 +31,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 public class StoredGameRepository implements IRepository<StoredGame> {
+    private static final String FindAllSql = "SELECT * FROM '" + StoredGame.TableName + "' ORDER BY " +
+            StoredGame.CreationDataColumnName + " DESC";
+    private static final String FindByIdSql = "SELECT * FROM '" + StoredGame.TableName + "' WHERE " +
+            StoredGame.IdColumnName + " = ?";
+    private static final String DeleteSql = "DELETE FROM '" + StoredGame.TableName + "' WHERE " +
+            StoredGame.IdColumnName + " = ?";
 
     public StoredGameRepository() {
 
@@ -38,29 +44,22 @@ public class StoredGameRepository implements IRepository<StoredGame> {
 
     @Override
     public Collection<StoredGame> findAll() {
-        String query = "SELECT * FROM '" + StoredGame.TableName + "' ORDER BY " +
-                StoredGame.CreationDataColumnName + " DESC";
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindAllSql).query();
 
         return PersistenceHelper.fillEntitiesList(queryResult, StoredGame.class);
     }
 
     @Override
     public StoredGame add(StoredGame entity) {
-        String insertQuery = PersistenceHelper.getInsertStatement(entity, StoredGame.class);
-        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + insertQuery);
-
-        Database.getInstance().execute(insertQuery);
-        entity.setId(Database.getInstance().getLastId());
+        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + StoredGame.TableName);
+        entity.setId((int) PersistenceHelper.insert(entity, StoredGame.class));
 
         return entity;
     }
 
     @Override
     public void delete(StoredGame entity) {
-        String deleteQuery = "DELETE FROM '" + StoredGame.TableName + "' " +
-                "WHERE " + StoredGame.IdColumnName + " = " + String.valueOf(entity.getId());
-        Database.getInstance().execute(deleteQuery);
+        Database.getInstance().prepare(DeleteSql).bindInt(1, entity.getId()).execute();
     }
 
     @Override
@@ -70,9 +69,7 @@ public class StoredGameRepository implements IRepository<StoredGame> {
 
     @Override
     public StoredGame findById(int id) {
-        String query = "SELECT * FROM '" + StoredGame.TableName + "' WHERE " +
-                StoredGame.IdColumnName + " = " + String.valueOf(id);
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindByIdSql).bindInt(1, id).query();
 
         ArrayList<StoredGame> storedGames = PersistenceHelper.fillEntitiesList(queryResult, StoredGame.class);
         return storedGames.size() > 0 ? storedGames.get(0) : null;
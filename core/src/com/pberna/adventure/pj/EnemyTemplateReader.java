@@ -0,0 +1,85 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.XmlReader;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.localization.Translator;
+
+//Reads the enemy templates of the bestiary data file into the EnemyManager
+public class EnemyTemplateReader {
+	private static final String EnemiesBundleName = "Enemies";
+
+	private EnemyTemplateReader() {
+
+	}
+
+	public static void load(FileHandle source) throws IOException {
+		EnemyManager.getInstance().setTemplates(read(source));
+	}
+
+	public static ArrayList<EnemyTemplate> read(FileHandle source) throws IOException {
+		XmlReader.Element root = new XmlReader().parse(source);
+		if(!root.getName().equals("enemies")) {
+			throw new IOException("Not an enemies file: " + source.path());
+		}
+
+		ArrayList<EnemyTemplate> templates = new ArrayList<EnemyTemplate>();
+		ArrayList<Integer> ids = new ArrayList<Integer>();
+		for (XmlReader.Element enemyNode : root.getChildrenByName("enemy")) {
+			EnemyTemplate template = readTemplate(enemyNode);
+			if(template.getId() <= 0 || ids.contains(template.getId())) {
+				throw new IOException("Wrong or duplicated enemy id " + template.getId() + " in " + source.path());
+			}
+			ids.add(template.getId());
+			templates.add(template);
+		}
+		return templates;
+	}
+
+	private static EnemyTemplate readTemplate(XmlReader.Element enemyNode) throws IOException {
+		int spellsMask = 0;
+		for (XmlReader.Element spellNode : enemyNode.getChildrenByName("spell")) {
+			int idSpell = spellNode.getIntAttribute("id");
+			if(Spell.getSpell(idSpell) == null) {
+				throw new IOException("Unknown spell " + idSpell + " for enemy " + enemyNode.getAttribute("id"));
+			}
+			spellsMask |= Spell.getMask(idSpell);
+		}
+
+		return new EnemyTemplate(enemyNode.getIntAttribute("id"),
+				Translator.getTextIndex(EnemiesBundleName, enemyNode.getAttribute("name")),
+				enemyNode.getAttribute("image"),
+				enemyNode.getIntAttribute("attack"),
+				enemyNode.getIntAttribute("defense"),
+				enemyNode.getIntAttribute("initiative"),
+				enemyNode.getIntAttribute("magic", 0),
+				enemyNode.getIntAttribute("life"),
+				enemyNode.getIntAttribute("power", 0),
+				enemyNode.getIntAttribute("luck", 0),
+				spellsMask,
+				enemyNode.getAttribute("aiPolicy", EnemyTemplate.DefaultAiPolicy));
+	}
+}
@@ -20,13 +20,13 @@
 
 package com.pberna.adventure.places;
 
-import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyTemplate;
 
 public class CombatPlace extends Place{
 	private int idPlaceToGoIfWin;
 	private int idPlaceToGoIfLose;
 	private Integer idPlaceToGoIfRunAway;
-	private Enemy enemy;
+	private EnemyTemplate enemyTemplate;
 	
 	public int getIdPlaceToGoIfWin() {
 		return idPlaceToGoIfWin;
@@ -49,11 +49,11 @@ public class CombatPlace extends Place{
 		this.idPlaceToGoIfRunAway = idPlaceToGoIfRunAway;
 	}
 	
-	public Enemy getEnemy() {
-		return enemy;
+	public EnemyTemplate getEnemyTemplate() {
+		return enemyTemplate;
 	}
-	public void setEnemy(Enemy enemy) {
-		this.enemy = enemy;
+	public void setEnemyTemplate(EnemyTemplate enemyTemplate) {
+		this.enemyTemplate = enemyTemplate;
 	}
 	
 	public boolean canRunAway() {
@@ -49,4 +49,12 @@ public class EffectPlace extends OptionChoosePlace {
     public void setPlaceToGoIfDie(OptionChoosePlaceCanGo placeToGoIfDie) {
         this.placeToGoIfDie = placeToGoIfDie;
     }
+
+    @Override
+    public void releaseTexts() {
+        super.releaseTexts();
+        if(placeToGoIfDie != null) {
+            placeToGoIfDie.releaseTexts();
+        }
+    }
 }
@@ -36,5 +36,13 @@ public class OptionChoosePlace extends Place{
 
 	public void setPlacesToGo(ArrayList<OptionChoosePlaceCanGo> placesToGo) {
 		this.placesToGo = placesToGo;
-	}	
+	}
+
+	@Override
+	public void releaseTexts() {
+		super.releaseTexts();
+		for(OptionChoosePlaceCanGo placeToGo: placesToGo) {
+			placeToGo.releaseTexts();
+		}
+	}
 }
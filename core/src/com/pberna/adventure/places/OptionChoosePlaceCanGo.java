@@ -30,6 +30,8 @@ public class OptionChoosePlaceCanGo {
 	private int idPlaceToGo;
 	private String text;
 	private ArrayList<OptionChoosePlaceCanGoTranslation> translations;
+	private IPlaceTextSource textSource;
+	private int idText;
 	
 	public OptionChoosePlaceCanGo() {
 		super();
@@ -51,13 +53,26 @@ public class OptionChoosePlaceCanGo {
 	}
 	
 	public String getText() {
-		return text;
+		return textSource != null ? textSource.getText(idText) : text;
 	}
 	public void setText(String text) {
 		this.text = text;
+		this.textSource = null;
+	}
+
+	public void setTextSource(IPlaceTextSource textSource, int idText) {
+		this.textSource = textSource;
+		this.idText = idText;
 	}
 	
 	public ArrayList<OptionChoosePlaceCanGoTranslation> getTranslations() {
+		if(textSource != null) {
+			ArrayList<OptionChoosePlaceCanGoTranslation> sourceTranslations = new ArrayList<OptionChoosePlaceCanGoTranslation>();
+			for(String language: textSource.getTranslationLanguages(idText)) {
+				sourceTranslations.add(new OptionChoosePlaceCanGoTranslation(language, textSource.getTranslation(idText, language)));
+			}
+			return sourceTranslations;
+		}
 		return translations;
 	}
 	public void setTranslations(ArrayList<OptionChoosePlaceCanGoTranslation> translations) {
@@ -65,6 +80,9 @@ public class OptionChoosePlaceCanGo {
 	}
 	
 	public String getTranslatedText() {
+		if(textSource != null) {
+			return textSource.getTranslatedText(idText, Localization.getInstance().getLocale().getLanguage());
+		}
 		if(translations != null) {
 			Locale locale = Localization.getInstance().getLocale();
 			
@@ -78,4 +96,10 @@ public class OptionChoosePlaceCanGo {
 		
 		return getText();
 	}
+
+	public void releaseTexts() {
+		if(textSource != null) {
+			textSource.releaseText(idText);
+		}
+	}
 }
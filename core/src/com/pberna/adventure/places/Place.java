@@ -35,6 +35,8 @@ public class Place {
 	private ArrayList<PlaceTranslation> translations;
 	private ArrayList<Item> itemsCharacterGets;
 	private ArrayList<String> playerActions;
+	private IPlaceTextSource textSource;
+	private int idText;
 	
 	protected Place() {
 		translations = new ArrayList<PlaceTranslation>();
@@ -50,10 +52,16 @@ public class Place {
 	}
 	
 	public String getText() {
-		return text;
+		return textSource != null ? textSource.getText(idText) : text;
 	}
 	public void setText(String text) {
 		this.text = text;
+		this.textSource = null;
+	}
+
+	public void setTextSource(IPlaceTextSource textSource, int idText) {
+		this.textSource = textSource;
+		this.idText = idText;
 	}
 	
 	public PlaceType getPlaceType() {
@@ -64,6 +72,13 @@ public class Place {
 	}
 	
 	public ArrayList<PlaceTranslation> getTranslations() {
+		if(textSource != null) {
+			ArrayList<PlaceTranslation> sourceTranslations = new ArrayList<PlaceTranslation>();
+			for(String language: textSource.getTranslationLanguages(idText)) {
+				sourceTranslations.add(new PlaceTranslation(language, textSource.getTranslation(idText, language)));
+			}
+			return sourceTranslations;
+		}
 		return translations;
 	}
 	public void setTranslations(ArrayList<PlaceTranslation> translations) {
@@ -71,6 +86,9 @@ public class Place {
 	}
 	
 	public String getTranslatedText() {
+		if(textSource != null) {
+			return textSource.getTranslatedText(idText, Localization.getInstance().getLocale().getLanguage());
+		}
 		if(translations != null) {
 			Locale locale = Localization.getInstance().getLocale();
 			
@@ -100,4 +118,10 @@ public class Place {
 	public void addPlayerAction(String actionId) {
 		playerActions.add(actionId);
 	}
+
+	public void releaseTexts() {
+		if(textSource != null) {
+			textSource.releaseText(idText);
+		}
+	}
 }
@@ -33,6 +33,18 @@ public class PlaceType {
 	public static final int IdEndAdventurePlace = 7;
 	public static final int IdEffectPlace = 8;
 	
+	private static final PlaceType[] PlaceTypes = {
+		null,
+		new PlaceType(IdOptionChoosePlace, "OptionChoosePlace"),
+		new PlaceType(IdCombatPlace, "CombatPlace"),
+		new PlaceType(IdSkillCheckPlace, "SkillCheckPlace"),
+		new PlaceType(IdAttributeCheckPlace, "AttributeCheckPlace"),
+		new PlaceType(IdItemUsePlace, "ItemUsePlace"),
+		new PlaceType(IdSpellUsePlace, "SpellUsePlace"),
+		new PlaceType(IdEndAdventurePlace, "EndAdventurePlace"),
+		new PlaceType(IdEffectPlace, "EffectPlace")
+	};
+
 	private int id;
 	private String name;
 
@@ -56,19 +68,19 @@ public class PlaceType {
 	}
 	
 	public static ArrayList<PlaceType> getAllPlaceTypes() {
-		ArrayList<PlaceType> listPlaceTypes = new ArrayList<PlaceType>();
+		ArrayList<PlaceType> listPlaceTypes = new ArrayList<PlaceType>(PlaceTypes.length - 1);
 		
-		listPlaceTypes.add(new PlaceType(IdOptionChoosePlace, "OptionChoosePlace"));
-		listPlaceTypes.add(new PlaceType(IdCombatPlace, "CombatPlace"));
-		listPlaceTypes.add(new PlaceType(IdSkillCheckPlace, "SkillCheckPlace"));
-		listPlaceTypes.add(new PlaceType(IdAttributeCheckPlace, "AttributeCheckPlace"));
-		listPlaceTypes.add(new PlaceType(IdItemUsePlace, "ItemUsePlace"));
-		listPlaceTypes.add(new PlaceType(IdSpellUsePlace, "SpellUsePlace"));
-		listPlaceTypes.add(new PlaceType(IdEndAdventurePlace, "EndAdventurePlace"));
-		listPlaceTypes.add(new PlaceType(IdEffectPlace, "EffectPlace"));
+		for(int i = 1; i < PlaceTypes.length; i++) {
+			listPlaceTypes.add(PlaceTypes[i]);
+		}
 		
 		return listPlaceTypes;
 	}
+
+	//Place types are shared by every place
+	public static PlaceType getPlaceType(int idPlaceType) {
+		return idPlaceType > 0 && idPlaceType < PlaceTypes.length ? PlaceTypes[idPlaceType] : null;
+	}
 	
 	public static PlaceType findPlaceType(ArrayList<PlaceType> listPlaceTypes, int idPlaceType) {
 		for(PlaceType placetype:listPlaceTypes) {
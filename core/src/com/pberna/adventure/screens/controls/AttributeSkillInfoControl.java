@@ -24,6 +24,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.pberna.adventure.pj.IImageName;
 import com.pberna.engine.assets.AssetRepository;
 import com.pberna.adventure.screens.StageScreenHelper;
 
@@ -28,6 +28,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import com.pberna.adventure.pj.Attribute;
+import com.pberna.adventure.pj.IImageName;
 import com.pberna.adventure.pj.Skill;
 import com.pberna.engine.assets.AssetRepository;
 import com.pberna.engine.localization.ILocalizable;
@@ -87,8 +88,8 @@ public class AttributesSkillsControl extends Table implements IModelEditingScree
 	}
 
 	private void createAttributesSkillsRow() {
-		ArrayList<Attribute> attributes = Attribute.getAttributes();
-		ArrayList<Skill> skills = Skill.getSkills();
+		ArrayList<Attribute> attributes = Attribute.getAttributeDefinitions();
+		ArrayList<Skill> skills = Skill.getSkillDefinitions();
 		int numRows = Math.max(attributes.size(), skills.size());		
 		boolean spellControlAdded = false;
 		
@@ -269,10 +270,8 @@ public class AttributesSkillsControl extends Table implements IModelEditingScree
 	}
 
 	private void localizeAttributesControls() {
-		ArrayList<Attribute> localizedAttributes = Attribute.getAttributes();
-		
 		for(AttributeSkillInfoControl control: attributesControls) {
-			Attribute localizedAttribute = Attribute.findAttribute(localizedAttributes, control.getTag().getId());
+			Attribute localizedAttribute = Attribute.getAttributeDefinition(control.getTag().getId());
 			if(localizedAttribute != null) {
 				control.setMainText(localizedAttribute.getName());
 			}
@@ -280,10 +279,8 @@ public class AttributesSkillsControl extends Table implements IModelEditingScree
 	}
 
 	private void localizeSkillsControls() {
-		ArrayList<Skill> localizedSkills = Skill.getSkills();
-		
 		for(AttributeSkillInfoControl control: skillsControls) {
-			Skill localizedSkill = Skill.findSkill(localizedSkills, control.getTag().getId());
+			Skill localizedSkill = Skill.getSkillDefinition(control.getTag().getId());
 			if(localizedSkill != null) {
 				control.setMainText(localizedSkill.getName());
 			}
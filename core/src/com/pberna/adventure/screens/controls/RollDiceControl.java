@@ -24,19 +24,17 @@ import java.util.ArrayList;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.pberna.adventure.dices.Dice;
 import com.pberna.engine.assets.AssetRepository;
 import com.pberna.adventure.screens.StageScreenHelper;
 
 public class RollDiceControl extends Table {
-	public static int DiceFaces = 8;
-	
 	private static final String MainTextMask = "[BLACK]%d []%s[BLACK]+ %s = %s[]";
 	private static final String UndefinedValueString = "?";
 	private static final int UndefinedValueInteger = -1;
@@ -111,7 +109,7 @@ public class RollDiceControl extends Table {
 			int newIndex;
 			do
 			{
-				newIndex = MathUtils.random(0, diceImages.size() - 1);				
+				newIndex = Dice.getInstance().getCosmeticRandom().nextInt(0, diceImages.size() - 1);				
 			} while(AlreadyUsedInSequence(sequence, newIndex));
 			sequence[i] = newIndex;
 		}
@@ -236,7 +234,7 @@ public class RollDiceControl extends Table {
 
 	private void endRoll() {
 		rollInProgress = false;
-		modifierValue = MathUtils.random(1, DiceFaces);
+		modifierValue = Dice.getInstance().roll();
 		if(rollDiceImageSequence[currentVisibleDiceImageIndex] != (modifierValue - 1)) {
 			diceImages.get(rollDiceImageSequence[currentVisibleDiceImageIndex]).setVisible(false);			
 			diceImages.get(modifierValue - 1).setVisible(true);
@@ -183,7 +183,7 @@ public class SpellsListControl extends Table {
 		spellNameLabels.add(spellNameLabel);
 
 		String magicColor = getSpellRequirementColor(spell.getMinimumMagicRequired(), currentCharacterMagic);
-		String powerPointsColor = getSpellRequirementColor(spell.getMinimumMagicRequired(), currentCharacterPowerPoints);
+		String powerPointsColor = getSpellRequirementColor(spell.getPowerPointsNeeded(), currentCharacterPowerPoints);
 
 		String statsSpellText = String.format(Localization.getInstance().formatTranslation("PjCreation",
 						"spellMagicPPRequired"), magicColor, spell.getMinimumMagicRequired(),
@@ -110,7 +110,7 @@ public class StoredGameControl extends Stack {
         DateFormat dayFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, Localization.getInstance().getLocale());
         DateFormat timeFormat =  DateFormat.getTimeInstance(DateFormat.SHORT, Localization.getInstance().getLocale());
         Label adventureInfoLabel = createLabel(dayFormat.format(date) + " " + timeFormat.format(date)
-                //+ " " + String.valueOf((int) storedGame.getProgressPercentage()) + " %"
+                + " " + String.valueOf((int) storedGame.getProgressPercentage()) + " %"
                 , getAdventureInfoLabelStyle());
         rightTable.add(adventureInfoLabel).left().row();
 
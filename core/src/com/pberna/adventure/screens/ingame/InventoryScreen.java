@@ -358,6 +358,7 @@ public class InventoryScreen extends BaseStageScreen
 			
 			if(equipped) {
 				character.getBackpack().removeItem(item);
+				retagBackpackItemButtons(item);
 				backpackControl.takeSelectedItemButton();
 				Image positionImage = equipmentPositionImages.get(equipPosition);
 				stage.addActor(selectedItemButton);
@@ -513,6 +514,19 @@ public class InventoryScreen extends BaseStageScreen
 		}				
 	}
 	
+	//The copies of an item left in the backpack share a new object once one of them is equipped
+	private void retagBackpackItemButtons(Item equippedItem) {
+		Item backpackItem = character.getBackpack().findItem(equippedItem.getId());
+		if(backpackItem == null) {
+			return;
+		}
+		for(ExtendedImageButton<Item> itemButton: backpackItemsButtons) {
+			if(itemButton != selectedItemButton && itemButton.getTag() == equippedItem) {
+				itemButton.setTag(backpackItem);
+			}
+		}
+	}
+
 	private void updateBackpackItemsImages() {
 		emptyBackpackItems();
 		
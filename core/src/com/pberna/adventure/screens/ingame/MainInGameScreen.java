@@ -143,6 +143,10 @@ public class MainInGameScreen extends BaseStageScreen implements ILocalizable {
 		showCharacterButton();
 	}	
 
+	public void setIdAdventure(int idAdventure) {
+		placeViewer.setIdAdventure(idAdventure);
+	}
+
 	public void setActivePlace(Place activePlace) {
 		AnimationsHelper.hideActorByAlpha(placeViewer);		
 		this.activePlace = activePlace;		
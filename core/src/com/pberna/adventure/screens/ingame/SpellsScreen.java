@@ -121,11 +121,11 @@ public class SpellsScreen extends BaseStageScreen implements ILocalizable {
 	public void setCharacter(Character character) {
 		this.character = character;
 		if(this.character != null) {
-			if(mode == SpellScreenMode.Adventure) {
-				this.spells = this.character.getSpells();	
-			} else {
-				this.spells = this.character.getCombatSpells();
+			int spellsMask = this.character.getLearntSpellsMask();
+			if(mode != SpellScreenMode.Adventure) {
+				spellsMask &= Spell.getCombatSpellsMask();
 			}
+			Spell.getSpells(spellsMask, this.spells);
 			spellsListControl.showSpells(this.spells, this.character.getTotalSkillValue(Skill.IdMagic), this.character.getCurrentPowerPoints());
 			mainScrollPane.setScrollPercentY(0);
 			selectedSpell = null;
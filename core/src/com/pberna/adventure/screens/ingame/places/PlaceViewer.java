@@ -60,6 +60,7 @@ public class PlaceViewer extends Table implements ILocalizable {
 	private ArrayList<PlaceViewerEventsListener> listeners;
 	private CounterControl counterControl;
 	private Place currentPlace;
+	private int idAdventure;
 	
 	public PlaceViewer() {		
 		//main text label
@@ -72,6 +73,7 @@ public class PlaceViewer extends Table implements ILocalizable {
 		listeners = new ArrayList<PlaceViewerEventsListener>();
 		counterControl = new CounterControl();
 		currentPlace = null;
+		idAdventure = 0;
 	}	
 
 	public void setPaddingWidth(float paddingWidth) {
@@ -85,6 +87,10 @@ public class PlaceViewer extends Table implements ILocalizable {
 	public void setCharacter(Character character) {
 		this.character = character;
 	}
+
+	public void setIdAdventure(int idAdventure) {
+		this.idAdventure = idAdventure;
+	}
 	
 	public void addListener(PlaceViewerEventsListener listener) {
 		listeners.add(listener);
@@ -563,8 +569,7 @@ public class PlaceViewer extends Table implements ILocalizable {
 	@Override
 	public void refreshLocalizableItems() {
 		if(currentPlace != null) {
-			//TODO Replace idAventure by the right idAdventure once more than one adventures implemented
-			currentPlace = AdventureManager.getInstance().getPlace(-1, currentPlace.getId());
+			currentPlace = AdventureManager.getInstance().getPlace(idAdventure, currentPlace.getId());
 			showPlace(currentPlace);
 		}
 	}
@@ -84,8 +84,8 @@ implements IModelEditingScreen<Character>{
 				"PjCreation", "chooseCharacterName"), "selected_border");
 		
 		character = null;
-		listAttributes = Attribute.getAttributes();
-		listSkills = Skill.getSkills();
+		listAttributes = Attribute.getAttributeDefinitions();
+		listSkills = Skill.getSkillDefinitions();
 		
 		portraitImage = null;
 		portraitPanel = new Rectangle();
@@ -394,8 +394,8 @@ implements IModelEditingScreen<Character>{
 			lifePowerPoints.updatePointsLabel(character);
 		}		
 		
-		listAttributes = Attribute.getAttributes();
-		listSkills = Skill.getSkills();
+		listAttributes = Attribute.getAttributeDefinitions();
+		listSkills = Skill.getSkillDefinitions();
 		setRaceGenderLabel();
 		setAttributeLabels();
 		setSkillLabels();
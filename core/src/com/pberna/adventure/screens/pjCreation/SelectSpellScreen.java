@@ -72,7 +72,7 @@ public class SelectSpellScreen extends BasePjCreationScreen
 	@Override
 	public void setModel(Character model) {
 		character = model;
-		selectedSpells = character.getSpells();
+		selectedSpells = new ArrayList<Spell>(character.getSpells());
 		
 		emptyMessageText();
 		refreshMainLabel();
@@ -248,16 +248,6 @@ public class SelectSpellScreen extends BasePjCreationScreen
 		refreshMainLabel();
 		updateRemaingSpellText();
 		
-		spells = Spell.getSpells();
-		for(Spell selectedSpell: selectedSpells) {
-			for(Spell spell: spells) {
-				if(selectedSpell.getId() == spell.getId())
-				{
-					selectedSpell.setName(spell.getName());
-					selectedSpell.setDescription(spell.getDescription());
-				}
-			}			
-		}		
 		showSpells();
 		
 		super.refreshLocalizableItems();
@@ -37,6 +37,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.Timer.Task;
+import com.pberna.adventure.dices.Dice;
 import com.pberna.adventure.pj.Attribute;
 import com.pberna.adventure.pj.Difficulty;
 import com.pberna.adventure.pj.Skill;
@@ -170,7 +171,8 @@ public class AttributeSkillCheckWindow extends AnimableWindow implements ILocali
 	private void setCheckInfo(String name, Difficulty difficulty, int baseAttributeValue, int luckModifierValue) {
 		setTitleWord(name);
 		setSubTitle(String.format(Localization.getInstance().getTranslation("InGame", "difficultyLabelSplitted", false),
-				difficulty.getDifficulty(), difficulty.getName()));
+				difficulty.getDifficulty(), difficulty.getName()) + " "
+				+ getSuccessChanceText(difficulty, baseAttributeValue, luckModifierValue));
 		successLabel.setText("  " + String.format(Localization.getInstance().getTranslation(
 				"InGame", "successSkillAttributeDiceRoll"), name));
 		failLabel.setText("  " + String.format(Localization.getInstance().getTranslation(
@@ -180,6 +182,14 @@ public class AttributeSkillCheckWindow extends AnimableWindow implements ILocali
 		rollDiceControl.setLuckModifierValue(luckModifierValue);
 	}
 	
+	private String getSuccessChanceText(Difficulty difficulty, int baseAttributeValue, int luckModifierValue) {
+		int successChance = Math.round((float)Dice.getCheckSuccessProbability(baseAttributeValue, luckModifierValue,
+				difficulty.getDifficulty()) * 100f);
+		//The subtitle is built from unadjusted translations
+		return Localization.getInstance().formatTranslation("Common", "successChanceLabel", successChance)
+				.replace(Localization.BlankSpaceAdjusted, " ");
+	}
+
 	public void setTitleWord(String word) {
 		titleLabel.setText(String.format(Localization.getInstance().getTranslation("InGame", "diceRollOf"), word));
 	}
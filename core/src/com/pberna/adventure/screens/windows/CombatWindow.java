@@ -42,14 +42,15 @@ import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.Timer.Task;
 import com.pberna.adventure.combat.Combat;
 import com.pberna.adventure.combat.CombatEventsListener;
+import com.pberna.adventure.combat.CombatOddsCalculator;
 import com.pberna.adventure.combat.CombatState;
 import com.pberna.adventure.combat.CombatWinner;
+import com.pberna.adventure.combat.EnemyPolicies;
 import com.pberna.adventure.combat.RoundState;
 import com.pberna.adventure.combat.Turn;
 import com.pberna.adventure.pj.Attribute;
 import com.pberna.adventure.pj.Character;
 import com.pberna.adventure.pj.Enemy;
-import com.pberna.adventure.pj.EnemyNextAction;
 import com.pberna.adventure.pj.Gender;
 import com.pberna.adventure.pj.Skill;
 import com.pberna.adventure.places.CombatPlace;
@@ -492,7 +493,7 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 
 	public void setCombatPlace(CombatPlace combatPlace) {
 		this.combatPlace = combatPlace;		
-		combat.setEnemy(this.combatPlace.getEnemy());
+		combat.setEnemy(this.combatPlace.getEnemyTemplate());
 		updateEnemyInfo(true);
 		if(this.combatPlace.canRunAway()) {
 			ImageManipulationHelper.setActorNonTransparent(runAwayButton);
@@ -511,7 +512,7 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 			return;
 		}
 		
-		Enemy enemy = combatPlace.getEnemy();
+		Enemy enemy = combat.getEnemy();
 		
 		if(enemy != null) {
 			if(updatePortrait) {
@@ -526,9 +527,7 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		if(enemyPortrait != null) {
 			enemyPortraitStack.removeActor(enemyPortrait);
 		}
-		enemyPortrait =  enemy.getTextureImage() == null
-				? new Image(AssetRepository.getInstance().getTextureRegion("enemies", enemy.getImageName()))
-				: new Image(enemy.getTextureImage());
+		enemyPortrait = new Image(AssetRepository.getInstance().getTextureRegion("enemies", enemy.getImageName()));
 		enemyPortraitStack.addActorAt(0, enemyPortrait);
 		Cell<Stack> cell = getCell(enemyPortraitStack);
 		if(cell != null) {
@@ -542,6 +541,7 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		}
 		
 		combat.resetCombat();
+		EnemyPolicies.getPolicy(combat.getEnemy()).prepare(combat);
 		setButtonsVisible(false);
 		showMenuButtonsRow();		
 		StageScreenHelper.setImageButtonVisible(continueButton, false);
@@ -577,7 +577,7 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		characterDiceControl.setBaseValue(character.getTotalInitiativeValue());
 		
 		enemyDiceControl.setTitleText(Localization.getInstance().getTranslation("InGame", "initiative"));
-		enemyDiceControl.setBaseValue(combatPlace.getEnemy().getInitiativeValue());
+		enemyDiceControl.setBaseValue(combat.getEnemy().getInitiativeValue());
 		
 		setMainMessage(Localization.getInstance().getTranslation("InGame", "combatRollingInitiatives", false));
 		updateMainTitleLabel();
@@ -600,7 +600,8 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		resetRollValues();
 		setButtonsVisible(true);
 				
-		setMainMessage(Localization.getInstance().getTranslation("InGame", "characterTurnMessage", false));
+		setMainMessage(Localization.getInstance().getTranslation("InGame", "characterTurnMessage", false) + " "
+				+ getWinChanceText());
 		
 		currentCharacterPortraitImage.addAction(AnimationsHelper.getFadeOutAction(FadeAnimationDuration));
 		currentEnemyPortraitImage.addAction(AnimationsHelper.getFadeOutAction(FadeAnimationDuration));		
@@ -612,10 +613,10 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 
 		if(combat.getCombatState() != CombatState.RunAway) {
 			setMainMessage(String.format(Localization.getInstance().getTranslation("InGame", "enemyTurnToAct", false),
-					removeBlankAdjusted(combatPlace.getEnemy().getName())));
+					removeBlankAdjusted(combat.getEnemy().getName())));
 		} else {
 			setMainMessage(String.format(Localization.getInstance().getTranslation("InGame", "enemyAttackRunAway", false),
-					removeBlankAdjusted(combatPlace.getEnemy().getName())));
+					removeBlankAdjusted(combat.getEnemy().getName())));
 		}
 		if(currentCharacterPortraitImage != null) {
 			currentCharacterPortraitImage.addAction(AnimationsHelper.getFadeOutAction(FadeAnimationDuration));
@@ -632,6 +633,11 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		}, TransitionTimeDelay);
 	}
 
+	private String getWinChanceText() {
+		int winChance = Math.round(CombatOddsCalculator.getInstance().getWinProbability(combat) * 100f);
+		return removeBlankAdjusted(Localization.getInstance().formatTranslation("Common", "winChanceLabel", winChance));
+	}
+
 	private static String removeBlankAdjusted(String text) {
 		return text.replace(Localization.BlankSpaceAdjusted, " ");
 	}
@@ -640,15 +646,11 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		resetRollValues();
 		setButtonsVisible(false);
 
-		Enemy enemy = combatPlace.getEnemy();
-		if(enemy.getNextAction() == EnemyNextAction.MagicAttack) {
-			enemyAttackingSpell = enemy.getAttackSpellToCast();
-			if(enemyAttackingSpell != null) {
-				enemy.setCurrentPowerPoints(enemy.getCurrentPowerPoints() - enemyAttackingSpell.getPowerPointsNeeded());
-				updateEnemyInfo(false);
-			}
-		} else {
-			enemyAttackingSpell = null;
+		Enemy enemy = combat.getEnemy();
+		enemyAttackingSpell = EnemyPolicies.getPolicy(enemy).getAttackSpell(combat);
+		if(enemyAttackingSpell != null) {
+			enemy.setCurrentPowerPoints(enemy.getCurrentPowerPoints() - enemyAttackingSpell.getPowerPointsNeeded());
+			updateEnemyInfo(false);
 		}
 		
 		characterDiceControl.setTitleText(Localization.getInstance().getTranslation("InGame",
@@ -685,10 +687,10 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		characterDiceControl.setBaseValue(character.getTotalAttackValue());
 		
 		enemyDiceControl.setTitleText(Localization.getInstance().getTranslation("InGame", "defense"));
-		enemyDiceControl.setBaseValue(combatPlace.getEnemy().getDefenseValue());
+		enemyDiceControl.setBaseValue(combat.getEnemy().getDefenseValue());
 				
 		setMainMessage(String.format(Localization.getInstance().getTranslation("InGame", "attackMessage", false),
-				removeBlankAdjusted(character.getName()), removeBlankAdjusted(combatPlace.getEnemy().getName())));
+				removeBlankAdjusted(character.getName()), removeBlankAdjusted(combat.getEnemy().getName())));
 		
 		currentCharacterPortraitImage = characterAttackingImage;
 		currentCharacterPortraitImage.addAction(AnimationsHelper.getFadeInAction(FadeAnimationDuration));
@@ -707,10 +709,10 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 		characterDiceControl.setBaseValue(character.getTotalSkillValue(Skill.IdMagic));
 		
 		enemyDiceControl.setTitleText(Localization.getInstance().getTranslation("InGame", "magicDefense"));
-		enemyDiceControl.setBaseValue(combatPlace.getEnemy().getMagicValue());
+		enemyDiceControl.setBaseValue(combat.getEnemy().getMagicValue());
 				
 		setMainMessage(String.format(Localization.getInstance().getTranslation("InGame", "attackMessage", false),
-				removeBlankAdjusted(character.getName()), removeBlankAdjusted(combatPlace.getEnemy().getName())));
+				removeBlankAdjusted(character.getName()), removeBlankAdjusted(combat.getEnemy().getName())));
 		
 		currentCharacterPortraitImage = characterAttackingWithMagicImage;
 		currentCharacterPortraitImage.addAction(AnimationsHelper.getFadeInAction(FadeAnimationDuration));
@@ -785,7 +787,7 @@ public class CombatWindow extends AnimableWindow implements ILocalizable {
 	
 	protected void startDefenderSuffersDamage(int damage) {
 		characterLifePower.updatePointsLabel(character);
-		enemyLifePower.updatePointsLabel(combatPlace.getEnemy());
+		enemyLifePower.updatePointsLabel(combat.getEnemy());
 		
 		if(combat.getCurrentTurn() == Turn.Character) {
 			enemyDamageImage.addAction(new SequenceAction(AnimationsHelper.getFadeInAction(SplatAnimationDuration1),
@@ -18,6 +18,8 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.pberna.adventure.persistence.PurchaseRepository;
 import com.pberna.engine.logging.Logger;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceTask;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -177,9 +179,21 @@ public class PurchaseManager implements Disposable {
         listeners.add(listener);
     }
 
+    //It waits for the purchases to be read, the launcher asks it once before the game is created to know whether
+    //the advertising is shown
     public boolean isItemPurchased(String storePlatformId) {
-        String encryptStoreId = getEncryptedString(storePlatformId);
+        final String encryptStoreId = getEncryptedString(storePlatformId);
 
+        return PersistenceExecutor.getInstance().execute(new PersistenceTask<Boolean>() {
+            @Override
+            public Boolean run() {
+                return isItemStored(encryptStoreId);
+            }
+        });
+    }
+
+    //Reads the purchases, so it is called from the persistence thread
+    private boolean isItemStored(String encryptStoreId) {
         for( Purchase purchase : purchaseRepository.findAll()) {
             if(purchase.getPlatformStoreId().equals(encryptStoreId)) {
                 return true;
@@ -219,11 +233,18 @@ public class PurchaseManager implements Disposable {
         }
     }
 
-    public void addItemPurchase(Purchase purchase) {
-        if(!isItemPurchased(purchase.getPlatformStoreId())) {
-            purchase.setPlatformStoreId(getEncryptedString(purchase.getPlatformStoreId()));
-            purchaseRepository.add(purchase);
-        }
+    //The purchase is checked and stored in the persistence thread, the caller does not wait for it
+    public void addItemPurchase(final Purchase purchase) {
+        purchase.setPlatformStoreId(getEncryptedString(purchase.getPlatformStoreId()));
+        PersistenceExecutor.getInstance().write(new PersistenceTask<Purchase>() {
+            @Override
+            public Purchase run() {
+                if(isItemStored(purchase.getPlatformStoreId())) {
+                    return null;
+                }
+                return purchaseRepository.add(purchase);
+            }
+        });
     }
 
     public void setUniqueId(String uniqueId) {
@@ -29,6 +29,9 @@ import com.pberna.engine.achievements.playerAction.IPlayerActionManager;
 import com.pberna.engine.achievements.playerAction.PlayerAction;
 import com.pberna.engine.achievements.playerAction.PlayerActionEvents;
 import com.pberna.engine.achievements.playerAction.PlayerActionManager;
+import com.pberna.engine.persistence.PersistenceCallback;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceTask;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -66,8 +69,8 @@ public class AchievementManager implements IAchievementManager, Disposable {
             }
         });
         listeners = new ArrayList<AchievementEventListener>();
-        achievements = new ArrayList<Achievement>(repository.findAll());
-        lockedAchievements = repository.getAchievements(false);
+        achievements = new ArrayList<Achievement>();
+        lockedAchievements = new ArrayList<Achievement>();
     }
 
     @Override
@@ -104,8 +107,15 @@ public class AchievementManager implements IAchievementManager, Disposable {
     @Override
     public void unlockAchievements(ArrayList<Achievement> achievements) {
         for(Achievement achievement: achievements) {
-            Date date = new Date(TimeUtils.millis());
-            repository.changelockAchievement(achievement.getId(), true, date);
+            final int achievementId = achievement.getId();
+            final Date date = new Date(TimeUtils.millis());
+            PersistenceExecutor.getInstance().write(new PersistenceTask<Void>() {
+                @Override
+                public Void run() {
+                    repository.changelockAchievement(achievementId, true, date);
+                    return null;
+                }
+            });
 
             Achievement lockedAchievement = getLockedAchievementFromCache(achievement.getId());
             if(lockedAchievement != null) {
@@ -136,9 +146,15 @@ public class AchievementManager implements IAchievementManager, Disposable {
         return null;
     }
 
+    //It waits for the new id, the achievements come with the database so only tools and tests add them
     @Override
-    public Achievement add(Achievement achievement) {
-        Achievement createdAchievement = repository.add(achievement);
+    public Achievement add(final Achievement achievement) {
+        Achievement createdAchievement = PersistenceExecutor.getInstance().execute(new PersistenceTask<Achievement>() {
+            @Override
+            public Achievement run() {
+                return repository.add(achievement);
+            }
+        });
         achievements.add(createdAchievement);
         if(!achievement.isUnlocked()) {
             lockedAchievements.add(createdAchievement);
@@ -172,10 +188,34 @@ public class AchievementManager implements IAchievementManager, Disposable {
         instance = null;
     }
 
+    //The achievements are read in the persistence thread and replace the cached ones in the render thread
     @Override
-    public void refreshCache() {
-        achievements = new ArrayList<Achievement>(repository.findAll());
-        lockedAchievements = repository.getAchievements(false);
+    public void refreshCache(final PersistenceCallback<Void> callback) {
+        PersistenceExecutor.getInstance().read(new PersistenceTask<ArrayList<ArrayList<Achievement>>>() {
+            @Override
+            public ArrayList<ArrayList<Achievement>> run() {
+                ArrayList<ArrayList<Achievement>> result = new ArrayList<ArrayList<Achievement>>(2);
+                result.add(new ArrayList<Achievement>(repository.findAll()));
+                result.add(repository.getAchievements(false));
+                return result;
+            }
+        }, new PersistenceCallback<ArrayList<ArrayList<Achievement>>>() {
+            @Override
+            public void completed(ArrayList<ArrayList<Achievement>> result) {
+                achievements = result.get(0);
+                lockedAchievements = result.get(1);
+                if(callback != null) {
+                    callback.completed(null);
+                }
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                if(callback != null) {
+                    callback.failed(exception);
+                }
+            }
+        });
     }
 
     @Override
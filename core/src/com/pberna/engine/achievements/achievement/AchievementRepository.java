@@ -31,6 +31,14 @@ import java.util.Collection;
 import java.util.Date;
 
 class AchievementRepository implements IRepository<Achievement>{
+    private static final String FindAllSql = "SELECT * FROM '" + Achievement.TableName + "'";
+    private static final String FindByIdSql = "SELECT * FROM '" + Achievement.TableName + "' WHERE " +
+            Achievement.IdColumnName + " = ?";
+    private static final String FindByUnlockedSql = "SELECT * FROM '" + Achievement.TableName + "' WHERE " +
+            Achievement.UnlockedColumnName + " = ?";
+    private static final String ChangeLockSql = "UPDATE '" + Achievement.TableName + "' SET " +
+            Achievement.UnlockedColumnName + " = ?, " + Achievement.UnlockDateColumnName + " = ? WHERE " +
+            Achievement.IdColumnName + " = ?";
 
     AchievementRepository() {
 
@@ -38,18 +46,15 @@ class AchievementRepository implements IRepository<Achievement>{
 
     @Override
     public Collection<Achievement> findAll() {
-        String query = "SELECT * FROM '" + Achievement.TableName + "'";
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindAllSql).query();
 
         return PersistenceHelper.fillEntitiesList(queryResult, Achievement.class);
     }
 
     @Override
     public Achievement add(Achievement entity) {
-        String insertQuery = PersistenceHelper.getInsertStatement(entity, Achievement.class);
-
-        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + insertQuery);
-        Database.getInstance().execute(insertQuery);
+        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + Achievement.TableName);
+        PersistenceHelper.insert(entity, Achievement.class);
 
         return entity;
     }
@@ -66,29 +71,22 @@ class AchievementRepository implements IRepository<Achievement>{
 
     @Override
     public Achievement findById(int id) {
-        String query = "SELECT * FROM '" + Achievement.TableName + "' WHERE " +
-                Achievement.IdColumnName + " = " + String.valueOf(id);
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindByIdSql).bindInt(1, id).query();
 
         ArrayList<Achievement> achievements = PersistenceHelper.fillEntitiesList(queryResult, Achievement.class);
         return achievements.size() > 0 ? achievements.get(0) : null;
     }
 
     public ArrayList<Achievement> getAchievements(boolean unlocked) {
-        String query = "SELECT * FROM '" + Achievement.TableName + "' WHERE " +
-                Achievement.UnlockedColumnName + " = " + String.valueOf(unlocked ? 1 : 0);
-
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindByUnlockedSql).bindInt(1, unlocked ? 1 : 0).query();
         return PersistenceHelper.fillEntitiesList(queryResult, Achievement.class);
     }
 
     public void changelockAchievement(int achievementId, boolean unlocked, Date unlockDate) {
-        String updateQuery = "UPDATE '" + Achievement.TableName + "' SET " +
-                Achievement.UnlockedColumnName + " = " + String.valueOf(unlocked ? 1 : 0) +
-                ", " + Achievement.UnlockDateColumnName + " = " +
-                String.valueOf(unlockDate.getTime()) + " WHERE " + Achievement.IdColumnName +
-                " = " + String.valueOf(achievementId);
-
-        Database.getInstance().executeUpdate(updateQuery);
+        Database.getInstance().prepare(ChangeLockSql)
+                .bindInt(1, unlocked ? 1 : 0)
+                .bindLong(2, unlockDate.getTime())
+                .bindInt(3, achievementId)
+                .executeUpdate();
     }
 }
@@ -20,6 +20,8 @@
 
 package com.pberna.engine.achievements.achievement;
 
+import com.pberna.engine.persistence.PersistenceCallback;
+
 import java.util.ArrayList;
 
 public interface IAchievementManager {
@@ -29,7 +31,7 @@ public interface IAchievementManager {
     void unlockAchievements(ArrayList<Achievement> achievements);
     Achievement add(Achievement achievement);
     void addListener(AchievementEventListener listener);
-    void refreshCache();
+    void refreshCache(PersistenceCallback<Void> callback);
     int getAchievementProgress(int achivementId);
     ArrayList<Achievement> getAchievementsShouldBeIncrementedWhenRegisteringActions(String actionId);
 }
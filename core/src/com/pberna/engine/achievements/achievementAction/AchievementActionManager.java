@@ -22,6 +22,9 @@ package com.pberna.engine.achievements.achievementAction;
 
 import com.badlogic.gdx.utils.Disposable;
 import com.pberna.engine.achievements.achievement.AchievementManager;
+import com.pberna.engine.persistence.PersistenceCallback;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceTask;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -48,31 +51,64 @@ public class AchievementActionManager implements IAchievementActionManager, Disp
     @Override
     public ArrayList<AchievementAction> getAchievementActions(int achievementId) {
         Integer key = achievementId;
-        if(achievementActions.containsKey(key)) {
-            return achievementActions.get(key);
+        ArrayList<AchievementAction> actions = achievementActions.get(key);
+        if(actions == null) {
+            actions = new ArrayList<AchievementAction>();
+            achievementActions.put(key, actions);
         }
-
-        ArrayList<AchievementAction> actions = repository.getAchievementActions(achievementId);
-        achievementActions.put(key, actions);
-
         return actions;
     }
 
+    //It waits for the new id, the achievements come with the database so only tools and tests add them
     @Override
-    public AchievementAction add(AchievementAction achievementAction) {
-        AchievementAction action = repository.add(achievementAction);
+    public AchievementAction add(final AchievementAction achievementAction) {
+        AchievementAction action = PersistenceExecutor.getInstance().execute(new PersistenceTask<AchievementAction>() {
+            @Override
+            public AchievementAction run() {
+                return repository.add(achievementAction);
+            }
+        });
 
-        Integer key = achievementAction.getAchievementId();
-        if(achievementActions.containsKey(key)) {
-            achievementActions.get(key).add(action);
-        }
+        getAchievementActions(action.getAchievementId()).add(action);
 
         return action;
     }
 
+    //All the actions are read at once in the persistence thread, grouped by achievement, and replace the cached
+    //ones in the render thread
     @Override
-    public void refreshCache() {
-        achievementActions.clear();
+    public void refreshCache(final PersistenceCallback<Void> callback) {
+        PersistenceExecutor.getInstance().read(new PersistenceTask<HashMap<Integer, ArrayList<AchievementAction>>>() {
+            @Override
+            public HashMap<Integer, ArrayList<AchievementAction>> run() {
+                HashMap<Integer, ArrayList<AchievementAction>> result =
+                        new HashMap<Integer, ArrayList<AchievementAction>>();
+                for(AchievementAction action: repository.findAll()) {
+                    ArrayList<AchievementAction> actions = result.get(action.getAchievementId());
+                    if(actions == null) {
+                        actions = new ArrayList<AchievementAction>();
+                        result.put(action.getAchievementId(), actions);
+                    }
+                    actions.add(action);
+                }
+                return result;
+            }
+        }, new PersistenceCallback<HashMap<Integer, ArrayList<AchievementAction>>>() {
+            @Override
+            public void completed(HashMap<Integer, ArrayList<AchievementAction>> result) {
+                achievementActions = result;
+                if(callback != null) {
+                    callback.completed(null);
+                }
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                if(callback != null) {
+                    callback.failed(exception);
+                }
+            }
+        });
     }
 
     @Override
@@ -30,6 +30,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 class AchievementActionRepository implements IRepository<AchievementAction> {
+    private static final String FindAllSql = "SELECT * FROM '" + AchievementAction.TableName + "'";
+    private static final String FindByAchievementSql = "SELECT * FROM '" + AchievementAction.TableName + "' WHERE " +
+            AchievementAction.AchievementIdColumnName + " = ?";
 
     AchievementActionRepository() {
 
@@ -37,18 +40,15 @@ class AchievementActionRepository implements IRepository<AchievementAction> {
 
     @Override
     public Collection<AchievementAction> findAll() {
-        String query = "SELECT * FROM '" + AchievementAction.TableName + "'";
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindAllSql).query();
 
         return PersistenceHelper.fillEntitiesList(queryResult, AchievementAction.class);
     }
 
     @Override
     public AchievementAction add(AchievementAction entity) {
-        String insertQuery = PersistenceHelper.getInsertStatement(entity, AchievementAction.class);
-
-        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + insertQuery);
-        Database.getInstance().execute(insertQuery);
+        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + AchievementAction.TableName);
+        PersistenceHelper.insert(entity, AchievementAction.class);
 
         return entity;
     }
@@ -69,9 +69,7 @@ class AchievementActionRepository implements IRepository<AchievementAction> {
     }
 
     public ArrayList<AchievementAction> getAchievementActions(int achievementId) {
-        String query = "SELECT * FROM '" + AchievementAction.TableName + "' WHERE " +
-                AchievementAction.AchievementIdColumnName + " = " + String.valueOf(achievementId);
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindByAchievementSql).bindInt(1, achievementId).query();
 
         return PersistenceHelper.fillEntitiesList(queryResult, AchievementAction.class);
     }
@@ -20,10 +20,12 @@
 
 package com.pberna.engine.achievements.achievementAction;
 
+import com.pberna.engine.persistence.PersistenceCallback;
+
 import java.util.ArrayList;
 
 public interface IAchievementActionManager {
     ArrayList<AchievementAction> getAchievementActions(int achievementId);
     AchievementAction add(AchievementAction achievementAction);
-    void refreshCache();
+    void refreshCache(PersistenceCallback<Void> callback);
 }
@@ -21,14 +21,16 @@
 package com.pberna.engine.achievements.playerAction;
 
 import com.pberna.engine.achievements.achievementAction.AchievementAction;
+import com.pberna.engine.persistence.PersistenceCallback;
 
 import java.util.ArrayList;
 
 public interface IPlayerActionManager {
     boolean registerAction(String actionId);
+    int registerActions(ArrayList<String> actionIds);
     boolean areAllActionsRegistered(ArrayList<AchievementAction> actions);
     boolean isAnyActionRegistered(ArrayList<AchievementAction> actions);
     void addListener(PlayerActionEvents listener);
-    void refreshCache();
+    void refreshCache(PersistenceCallback<Void> callback);
     int getPlayerActionsRegistered(ArrayList<AchievementAction> achievementActions);
 }
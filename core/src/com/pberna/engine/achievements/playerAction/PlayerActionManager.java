@@ -25,8 +25,12 @@ import com.badlogic.gdx.utils.TimeUtils;
 import com.pberna.engine.achievements.achievementAction.AchievementAction;
 import com.pberna.engine.achievements.Constants;
 import com.pberna.engine.logging.Logger;
+import com.pberna.engine.persistence.PersistenceCallback;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceTask;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 
 public class PlayerActionManager implements IPlayerActionManager, Disposable {
@@ -40,7 +44,7 @@ public class PlayerActionManager implements IPlayerActionManager, Disposable {
     private PlayerActionManager() {
         repository = new PlayerActionRepository();
         listeners = new ArrayList<PlayerActionEvents>();
-        playerActions = new ArrayList<PlayerAction>(repository.findAll());
+        playerActions = new ArrayList<PlayerAction>();
     }
 
     public static PlayerActionManager getInstance() {
@@ -53,7 +57,7 @@ public class PlayerActionManager implements IPlayerActionManager, Disposable {
     @Override
     public boolean registerAction(String actionId) {
         try {
-            PlayerAction playerAction = new PlayerAction();
+            final PlayerAction playerAction = new PlayerAction();
             playerAction.setActionId(actionId);
             playerAction.setCreationDate(new Date(TimeUtils.millis()));
 
@@ -62,7 +66,12 @@ public class PlayerActionManager implements IPlayerActionManager, Disposable {
                 return false;
             }
 
-            repository.add(playerAction);
+            PersistenceExecutor.getInstance().write(new PersistenceTask<PlayerAction>() {
+                @Override
+                public PlayerAction run() {
+                    return repository.add(playerAction);
+                }
+            });
             playerActions.add(playerAction);
 
             notifyNewPlayerActionRegister(playerAction);
@@ -74,6 +83,51 @@ public class PlayerActionManager implements IPlayerActionManager, Disposable {
         }
     }
 
+    //The new actions and the achievements they unlock are written in a single transaction
+    @Override
+    public int registerActions(ArrayList<String> actionIds) {
+        PersistenceExecutor persistenceExecutor = PersistenceExecutor.getInstance();
+        persistenceExecutor.beginGroup();
+        try {
+            ArrayList<PlayerAction> doneActions = new ArrayList<PlayerAction>();
+            final ArrayList<PlayerAction> newPlayerActions = new ArrayList<PlayerAction>();
+            for(String actionId: actionIds) {
+                PlayerAction playerAction = new PlayerAction();
+                playerAction.setActionId(actionId);
+                playerAction.setCreationDate(new Date(TimeUtils.millis()));
+
+                if(isActionInList(actionId)) {
+                    doneActions.add(playerAction);
+                } else {
+                    newPlayerActions.add(playerAction);
+                    playerActions.add(playerAction);
+                }
+            }
+
+            if(newPlayerActions.size() > 0) {
+                persistenceExecutor.write(new PersistenceTask<Collection<PlayerAction>>() {
+                    @Override
+                    public Collection<PlayerAction> run() {
+                        return repository.addAll(newPlayerActions);
+                    }
+                });
+            }
+            for(PlayerAction playerAction: doneActions) {
+                notifyPlayerActionDone(playerAction);
+            }
+            for(PlayerAction playerAction: newPlayerActions) {
+                notifyNewPlayerActionRegister(playerAction);
+            }
+
+            return newPlayerActions.size();
+        } catch (Exception ex) {
+            Logger.getInstance().addLogInfo(Constants.TagAchievement, ex.getMessage());
+            return 0;
+        } finally {
+            persistenceExecutor.endGroup();
+        }
+    }
+
     private void notifyPlayerActionDone(PlayerAction playerAction) {
         for(PlayerActionEvents listener: listeners) {
             listener.playerActionDone(playerAction);
@@ -141,9 +195,30 @@ public class PlayerActionManager implements IPlayerActionManager, Disposable {
         listeners.add(listener);
     }
 
+    //The actions are read in the persistence thread and replace the cached ones in the render thread
     @Override
-    public void refreshCache() {
-        playerActions = new ArrayList<PlayerAction>(repository.findAll());
+    public void refreshCache(final PersistenceCallback<Void> callback) {
+        PersistenceExecutor.getInstance().read(new PersistenceTask<ArrayList<PlayerAction>>() {
+            @Override
+            public ArrayList<PlayerAction> run() {
+                return new ArrayList<PlayerAction>(repository.findAll());
+            }
+        }, new PersistenceCallback<ArrayList<PlayerAction>>() {
+            @Override
+            public void completed(ArrayList<PlayerAction> result) {
+                playerActions = result;
+                if(callback != null) {
+                    callback.completed(null);
+                }
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                if(callback != null) {
+                    callback.failed(exception);
+                }
+            }
+        });
     }
 
     @Override
@@ -31,29 +31,39 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 class PlayerActionRepository implements IRepository<PlayerAction> {
+    private static final String FindAllSql = "SELECT * FROM '" + PlayerAction.TableName + "'";
+    private static final String FindByIdSql = "SELECT * FROM '" + PlayerAction.TableName + "' WHERE " +
+            PlayerAction.IdColumnName + " = ?";
 
     PlayerActionRepository() {
     }
 
     @Override
     public Collection<PlayerAction> findAll() {
-        String query = "SELECT * FROM '" + PlayerAction.TableName + "'";
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindAllSql).query();
 
         return PersistenceHelper.fillEntitiesList(queryResult, PlayerAction.class);
     }
 
     @Override
     public PlayerAction add(PlayerAction entity) {
-        String insertQuery = PersistenceHelper.getInsertStatement(entity, PlayerAction.class);
-
-        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + insertQuery);
-        Database.getInstance().execute(insertQuery);
-        entity.setId(Database.getInstance().getLastId());
+        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + PlayerAction.TableName);
+        entity.setId((int) PersistenceHelper.insert(entity, PlayerAction.class));
 
         return entity;
     }
 
+    Collection<PlayerAction> addAll(Collection<PlayerAction> entities) {
+        Logger.getInstance().addLogInfo(Logger.TagSql, "Insert: " + PlayerAction.TableName + " x" + entities.size());
+        long[] ids = PersistenceHelper.insertAll(entities, PlayerAction.class);
+        int i = 0;
+        for(PlayerAction entity: entities) {
+            entity.setId((int) ids[i++]);
+        }
+
+        return entities;
+    }
+
     @Override
     public void delete(PlayerAction entity) {
 
@@ -66,9 +76,7 @@ class PlayerActionRepository implements IRepository<PlayerAction> {
 
     @Override
     public PlayerAction findById(int id) {
-        String query = "SELECT * FROM '" + PlayerAction.TableName + "' WHERE " +
-                PlayerAction.IdColumnName + " = " + String.valueOf(id);
-        Result queryResult = Database.getInstance().query(query);
+        Result queryResult = Database.getInstance().prepare(FindByIdSql).bindInt(1, id).query();
 
         ArrayList<PlayerAction> playerActions = PersistenceHelper.fillEntitiesList(queryResult, PlayerAction.class);
         return playerActions.size() > 0 ? playerActions.get(0) : null;
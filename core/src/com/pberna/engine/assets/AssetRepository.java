@@ -280,7 +280,8 @@ public class AssetRepository implements Disposable {
 		return assetManager.get(soundMappings.get(soundAlias), Sound.class);
 	}
 	
-	public TextureRegion getTextureRegion(String textureAtlasAlias, String regionName)
+	//synchronized: regions are also looked up by the place prefetcher from its worker thread
+	public synchronized TextureRegion getTextureRegion(String textureAtlasAlias, String regionName)
 	{
 		//check if the texture is in the cache
 		String cacheKey = textureAtlasAlias + "." + regionName;
@@ -35,7 +35,7 @@ import com.badlogic.gdx.utils.I18NBundle;
 import com.badlogic.gdx.utils.XmlReader;
 import com.badlogic.gdx.utils.XmlReader.Element;
 
-public class Localization implements Disposable {
+public class Localization implements Disposable, ITranslator {
 	private static final String LocalizationPreferencesName = "localization_settings";
 	private static final String LocalizationPreferencesLanguageName = "language";
 	public static final String BlankSpaceAdjusted = "   ";
@@ -75,6 +75,7 @@ public class Localization implements Disposable {
 
 	public void setAdjustBlankSpaces(boolean adjustBlankSpaces) {
 		this.adjustBlankSpaces = adjustBlankSpaces;
+		Translator.clearTexts();
 	}
 
 	private Localization()
@@ -84,6 +85,7 @@ public class Localization implements Disposable {
 		extendedLocaleList = new ArrayList<ExtendedLocale>();
 		locale = Locale.getDefault(); //new Locale("es"); //
 		adjustBlankSpaces = true;
+		Translator.setInstance(this);
 	}
 	
 	public static Localization getInstance() 
@@ -180,6 +182,7 @@ public class Localization implements Disposable {
 		    I18NBundle bundle = I18NBundle.createBundle(baseFileHandle, locale, "UTF-8");
 		    bundleFiles.put(alias, bundle);		    
 		}
+		Translator.setLocale(locale.toString());
 	}
 	
 	public void loadBundle(String alias)
@@ -192,9 +195,11 @@ public class Localization implements Disposable {
 			FileHandle baseFileHandle = Gdx.files.internal(bundleMappings.get(alias));		    
 		    I18NBundle bundle = I18NBundle.createBundle(baseFileHandle, locale);
 		    bundleFiles.put(alias, bundle);
-		}		
+		}
+		Translator.clearTexts();
 	}
 	
+	@Override
 	public String getTranslation(String bundleName, String key, boolean adjustSpaces)
 	{
 		if(bundleFiles.containsKey(bundleName)) {
@@ -204,6 +209,7 @@ public class Localization implements Disposable {
 		return "<NoText>";
 	}
 	
+	@Override
 	public String getTranslation(String bundleName, String key)
 	{
 		if(bundleFiles.containsKey(bundleName)) {
@@ -27,14 +27,35 @@ import com.badlogic.gdx.utils.XmlReader;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public abstract class Database implements Disposable{
+    private static final int MaximumCachedStatements = 32;
+    private static final String LastIdSql = "SELECT last_insert_rowid() AS LAST_ID";
+    private static final String SavepointPrefix = "NESTED_";
+
     protected String databaseName = "database";
     protected int databaseVersion = 1;
     private static Database instance = null;
     private boolean executeOnCreate = false;
     private boolean executeOnUpdate = false;
     private int oldDatabaseVersion = 1;
+    private int transactionDepth = 0;
+    //set when a nested transaction without savepoint fails, the outer one cannot be committed then
+    private boolean rollbackOnly = false;
+    //compiled statements of the connection by sql, the least recently used one is closed when there are too many
+    private final LinkedHashMap<String, SqlStatement> statements = new LinkedHashMap<String, SqlStatement>(
+            MaximumCachedStatements, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SqlStatement> eldest) {
+            if(size() > MaximumCachedStatements) {
+                eldest.getValue().dispose();
+                return true;
+            }
+            return false;
+        }
+    };
 
     public static Database getInstance (){
         return instance;
@@ -56,14 +77,118 @@ public abstract class Database implements Disposable{
     public abstract void execute(String sql);
     public abstract int executeUpdate(String sql);
     public abstract Result query(String sql);
+    protected abstract SqlStatement compileStatement(String sql);
+    protected abstract void beginTransaction();
+    protected abstract void commitTransaction();
+    protected abstract void rollbackTransaction();
+
+    //Runs the work in a transaction, so its writes are synced to disk once and are undone if the work throws.
+    //A transaction run inside another one becomes a savepoint of the outer one. Where the platform has no savepoints
+    //it joins the outer one instead, and if it fails the whole outer transaction is rolled back
+    public void runInTransaction(Runnable work) {
+        boolean outermost = transactionDepth == 0;
+        String savepointName = null;
+        if(outermost) {
+            rollbackOnly = false;
+            beginTransaction();
+        } else if(supportsSavepoints()) {
+            savepointName = SavepointPrefix + transactionDepth;
+            savepoint(savepointName);
+        }
+        transactionDepth++;
+
+        boolean succeeded = false;
+        try {
+            work.run();
+            succeeded = true;
+        } finally {
+            transactionDepth--;
+            if(outermost) {
+                endTransaction(succeeded);
+            } else if(savepointName != null) {
+                if(!succeeded) {
+                    rollbackToSavepoint(savepointName);
+                }
+                releaseSavepoint(savepointName);
+            } else if(!succeeded) {
+                rollbackOnly = true;
+            }
+        }
+    }
+
+    private void endTransaction(boolean succeeded) {
+        if(succeeded && !rollbackOnly) {
+            commitTransaction();
+            return;
+        }
+
+        rollbackTransaction();
+        if(succeeded) {
+            rollbackOnly = false;
+            throw new IllegalStateException("Transaction rolled back because a nested block failed");
+        }
+    }
+
+    public boolean isInTransaction() {
+        return transactionDepth > 0;
+    }
+
+    //Platforms that cannot roll back to a savepoint without ending the whole transaction return false
+    protected boolean supportsSavepoints() {
+        return true;
+    }
+
+    public void savepoint(String name) {
+        checkSavepointsSupported();
+        execute("SAVEPOINT " + name);
+    }
+
+    public void releaseSavepoint(String name) {
+        checkSavepointsSupported();
+        execute("RELEASE SAVEPOINT " + name);
+    }
+
+    public void rollbackToSavepoint(String name) {
+        checkSavepointsSupported();
+        execute("ROLLBACK TO SAVEPOINT " + name);
+    }
+
+    private void checkSavepointsSupported() {
+        if(!supportsSavepoints()) {
+            throw new UnsupportedOperationException("Savepoints are not supported by " + getClass().getSimpleName());
+        }
+    }
+
+    //Statement for the sql, compiled the first time it is asked for and then taken from the cache
+    public SqlStatement prepare(String sql) {
+        SqlStatement statement = statements.get(sql);
+        if(statement == null) {
+            statement = compileStatement(sql);
+            if(statement != null) {
+                statements.put(sql, statement);
+            }
+        }
+        return statement;
+    }
+
+    protected void clearStatements() {
+        for(SqlStatement statement: statements.values()) {
+            statement.dispose();
+        }
+        statements.clear();
+    }
 
     public int getLastId() {
-        Result result = query("SELECT last_insert_rowid() AS LAST_ID");
-        if(!result.isEmpty()) {
-            result.moveToNext();
-            return result.getInt(result.getColumnIndex("LAST_ID"));
+        Result result = prepare(LastIdSql).query();
+        try {
+            if(!result.isEmpty()) {
+                result.moveToNext();
+                return result.getInt(result.getColumnIndex("LAST_ID"));
+            }
+            return 0;
+        } finally {
+            result.close();
         }
-        return 0;
     }
 
     class SqlScript {
@@ -136,19 +261,26 @@ public abstract class Database implements Disposable{
         return scriptsList;
     }
 
+    //Each script is applied as a whole, in a single transaction
     private void executeSqlScript(SqlScript script) {
         FileHandle file = Gdx.files.internal(script.filePath);
-        String textContent = file.readString();
+        final String textContent = file.readString();
 
-        for(String sentenceText: textContent.split(";")) {
-            if(!sentenceText.equals("") && sentenceText.length() >= 2) {
-                execute(sentenceText);
+        runInTransaction(new Runnable() {
+            @Override
+            public void run() {
+                for(String sentenceText: textContent.split(";")) {
+                    if(!sentenceText.equals("") && sentenceText.length() >= 2) {
+                        execute(sentenceText);
+                    }
+                }
             }
-        }
+        });
     }
 
     @Override
     public void dispose() {
+        clearStatements();
         instance = null;
     }
 }
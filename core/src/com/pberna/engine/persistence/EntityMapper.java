@@ -0,0 +1,271 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.persistence;
+
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Date;
+
+//Reads and writes the entities of a @DatabaseTable class. The annotated fields, their types and the insert sql are
+//found once per class, and the columns of a result are looked up once per result instead of once per row
+class EntityMapper<T> {
+    private static final int TypeInt = 0;
+    private static final int TypeLong = 1;
+    private static final int TypeFloat = 2;
+    private static final int TypeString = 3;
+    private static final int TypeDate = 4;
+    private static final int TypeBoolean = 5;
+
+    private final Constructor<T> constructor;
+    private final Field[] fields;
+    private final String[] columnNames;
+    private final int[] fieldTypes;
+    //indexes in fields of the columns of the insert, the generated ids are left out
+    private final int[] insertFields;
+    private final String insertSql;
+
+    EntityMapper(Class<T> type) {
+        constructor = getConstructor(type);
+
+        ArrayList<Field> fieldsList = new ArrayList<Field>();
+        ArrayList<String> columnNamesList = new ArrayList<String>();
+        ArrayList<Integer> fieldTypesList = new ArrayList<Integer>();
+        ArrayList<Integer> insertFieldsList = new ArrayList<Integer>();
+        for (Field field: type.getDeclaredFields()) {
+            DatabaseField databaseField = field.getAnnotation(DatabaseField.class);
+            if(databaseField == null) {
+                continue;
+            }
+            int fieldType = getFieldType(field.getType());
+            if(fieldType < 0) {
+                new UnsupportedOperationException("Cannot map type " + field.getType().toString() + " of " +
+                        type.getName() + " to a column of Database").printStackTrace();
+                continue;
+            }
+
+            field.setAccessible(true);
+            if(!databaseField.generatedId()) {
+                insertFieldsList.add(fieldsList.size());
+            }
+            fieldsList.add(field);
+            columnNamesList.add(databaseField.columnName().equals("") ? field.getName() : databaseField.columnName());
+            fieldTypesList.add(fieldType);
+        }
+
+        fields = fieldsList.toArray(new Field[fieldsList.size()]);
+        columnNames = columnNamesList.toArray(new String[columnNamesList.size()]);
+        fieldTypes = new int[fields.length];
+        for(int i = 0; i < fields.length; i++) {
+            fieldTypes[i] = fieldTypesList.get(i);
+        }
+        insertFields = new int[insertFieldsList.size()];
+        for(int i = 0; i < insertFields.length; i++) {
+            insertFields[i] = insertFieldsList.get(i);
+        }
+        insertSql = buildInsertSql(type);
+    }
+
+    //Null when the class is not a table or has no columns to insert
+    String getInsertSql() {
+        return insertSql;
+    }
+
+    ArrayList<T> readAll(Result result) {
+        ArrayList<T> entitiesList = new ArrayList<T>();
+        if(result == null) {
+            return entitiesList;
+        }
+
+        try {
+            if(result.isEmpty()) {
+                return entitiesList;
+            }
+
+            int[] columnIndexes = new int[fields.length];
+            boolean columnsFound = false;
+            while(result.moveToNext()) {
+                if(!columnsFound) {
+                    for(int i = 0; i < fields.length; i++) {
+                        columnIndexes[i] = result.getColumnIndex(columnNames[i]);
+                    }
+                    columnsFound = true;
+                }
+                T entity = newEntity();
+                if(entity != null) {
+                    read(result, columnIndexes, entity);
+                }
+                entitiesList.add(entity);
+            }
+        } finally {
+            result.close();
+        }
+        return entitiesList;
+    }
+
+    void bindInsert(SqlStatement statement, T entity) {
+        try {
+            for(int i = 0; i < insertFields.length; i++) {
+                bind(statement, i + 1, entity, insertFields[i]);
+            }
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private T newEntity() {
+        if(constructor == null) {
+            return null;
+        }
+        try {
+            return constructor.newInstance();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private void read(Result result, int[] columnIndexes, T entity) {
+        try {
+            for(int i = 0; i < fields.length; i++) {
+                int columnIndex = columnIndexes[i];
+                if(columnIndex < 0) {
+                    continue;
+                }
+                Field field = fields[i];
+                switch(fieldTypes[i]) {
+                    case TypeInt:
+                        field.setInt(entity, result.getInt(columnIndex));
+                        break;
+                    case TypeLong:
+                        field.setLong(entity, result.getLong(columnIndex));
+                        break;
+                    case TypeFloat:
+                        field.setFloat(entity, result.getFloat(columnIndex));
+                        break;
+                    case TypeString:
+                        field.set(entity, result.getString(columnIndex));
+                        break;
+                    case TypeDate:
+                        field.set(entity, new Date(result.getLong(columnIndex)));
+                        break;
+                    case TypeBoolean:
+                        field.setBoolean(entity, result.getInt(columnIndex) > 0);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void bind(SqlStatement statement, int index, T entity, int fieldIndex) throws IllegalAccessException {
+        Field field = fields[fieldIndex];
+        switch(fieldTypes[fieldIndex]) {
+            case TypeInt:
+                statement.bindInt(index, field.getInt(entity));
+                break;
+            case TypeLong:
+                statement.bindLong(index, field.getLong(entity));
+                break;
+            case TypeFloat:
+                statement.bindFloat(index, field.getFloat(entity));
+                break;
+            case TypeString:
+                String value = (String) field.get(entity);
+                if(value != null) {
+                    statement.bindString(index, value);
+                } else {
+                    statement.bindNull(index);
+                }
+                break;
+            case TypeDate:
+                Date date = (Date) field.get(entity);
+                if(date != null) {
+                    statement.bindLong(index, date.getTime());
+                } else {
+                    statement.bindNull(index);
+                }
+                break;
+            case TypeBoolean:
+                statement.bindInt(index, field.getBoolean(entity) ? 1 : 0);
+                break;
+            default:
+                statement.bindNull(index);
+                break;
+        }
+    }
+
+    private String buildInsertSql(Class<T> type) {
+        DatabaseTable databaseTable = type.getAnnotation(DatabaseTable.class);
+        if(databaseTable == null || databaseTable.tableName().equals("") || insertFields.length == 0) {
+            return null;
+        }
+
+        StringBuilder sbFirstPart = new StringBuilder();
+        StringBuilder sbSecondPart = new StringBuilder();
+        sbFirstPart.append("INSERT INTO '").append(databaseTable.tableName()).append("' (");
+        sbSecondPart.append(" VALUES (");
+        for(int i = 0; i < insertFields.length; i++) {
+            if(i > 0) {
+                sbFirstPart.append(", ");
+                sbSecondPart.append(", ");
+            }
+            sbFirstPart.append("'").append(columnNames[insertFields[i]]).append("'");
+            sbSecondPart.append("?");
+        }
+        sbFirstPart.append(")");
+        sbSecondPart.append(")");
+        return sbFirstPart.toString() + sbSecondPart.toString();
+    }
+
+    private static <T> Constructor<T> getConstructor(Class<T> type) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private static int getFieldType(Class<?> fieldClass) {
+        if(fieldClass == int.class) {
+            return TypeInt;
+        } else if(fieldClass == long.class) {
+            return TypeLong;
+        } else if(fieldClass == float.class) {
+            return TypeFloat;
+        } else if(fieldClass == String.class) {
+            return TypeString;
+        } else if(fieldClass == Date.class) {
+            return TypeDate;
+        } else if(fieldClass == boolean.class) {
+            return TypeBoolean;
+        }
+        return -1;
+    }
+}
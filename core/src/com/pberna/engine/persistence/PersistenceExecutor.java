@@ -0,0 +1,239 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.persistence;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import java.util.ArrayList;
+
+//Runs all the work against the database in a single thread, out of the render thread. Writes are queued in the
+//order they are asked for while the caller goes on with its state in memory already changed. Reads are queued
+//behind the writes asked for before them, so they always see them
+public class PersistenceExecutor implements Disposable {
+    private static PersistenceExecutor instance = null;
+
+    private AsyncExecutor executor;
+    private AsyncResult<?> lastResult;
+    private volatile Thread persistenceThread;
+    //writes asked for while a group is open, they are queued together and run in one transaction when it closes
+    private final ArrayList<PendingTask<?>> groupedWrites;
+    private int openGroups;
+
+    private PersistenceExecutor() {
+        executor = null;
+        lastResult = null;
+        persistenceThread = null;
+        groupedWrites = new ArrayList<PendingTask<?>>();
+        openGroups = 0;
+    }
+
+    public static synchronized PersistenceExecutor getInstance() {
+        if(instance == null) {
+            instance = new PersistenceExecutor();
+        }
+        return instance;
+    }
+
+    //The executor already created, or null. Disposing or flushing does not need to create one
+    public static synchronized PersistenceExecutor getCreatedInstance() {
+        return instance;
+    }
+
+    public <T> void write(PersistenceTask<T> task) {
+        write(task, null);
+    }
+
+    //Queues the task behind the pending ones, the callback gets its outcome in the render thread
+    public <T> void write(PersistenceTask<T> task, PersistenceCallback<T> callback) {
+        PendingTask<T> pendingWrite = new PendingTask<T>(task, callback);
+        if(isPersistenceThread()) {
+            pendingWrite.run();
+        } else if(openGroups > 0) {
+            groupedWrites.add(pendingWrite);
+        } else {
+            ArrayList<PendingTask<?>> writes = new ArrayList<PendingTask<?>>(1);
+            writes.add(pendingWrite);
+            submit(writes);
+        }
+    }
+
+    //Queues the task behind the pending writes, including those of an open group, and the callback gets its result
+    //in the render thread. This is how the game reads, the render thread never waits for the disk
+    public <T> void read(PersistenceTask<T> task, PersistenceCallback<T> callback) {
+        PendingTask<T> pendingRead = new PendingTask<T>(task, callback);
+        if(isPersistenceThread()) {
+            pendingRead.run();
+            return;
+        }
+        submitGroupedWrites();
+
+        ArrayList<PendingTask<?>> reads = new ArrayList<PendingTask<?>>(1);
+        reads.add(pendingRead);
+        submit(reads);
+    }
+
+    //Runs the task after the pending writes and waits for its result. It blocks the calling thread, so it is not
+    //called from the render thread, the game uses read there
+    public <T> T execute(final PersistenceTask<T> task) {
+        if(isPersistenceThread()) {
+            return task.run();
+        }
+        submitGroupedWrites();
+
+        AsyncResult<T> result = getExecutor().submit(new AsyncTask<T>() {
+            @Override
+            public T call() throws Exception {
+                persistenceThread = Thread.currentThread();
+                return task.run();
+            }
+        });
+        lastResult = result;
+        return result.get();
+    }
+
+    //Writes asked for until the matching endGroup are written in a single transaction. Groups are opened and closed
+    //in the render thread and can be nested
+    public void beginGroup() {
+        openGroups++;
+    }
+
+    public void endGroup() {
+        if(openGroups > 0) {
+            openGroups--;
+        }
+        if(openGroups == 0) {
+            submitGroupedWrites();
+        }
+    }
+
+    //Waits until every queued write is on disk
+    public void flush() {
+        submitGroupedWrites();
+        if(lastResult != null) {
+            try {
+                lastResult.get();
+            } catch (GdxRuntimeException e) {
+                e.printStackTrace();
+            }
+            lastResult = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        flush();
+        if(executor != null) {
+            executor.dispose();
+            executor = null;
+        }
+        synchronized (PersistenceExecutor.class) {
+            instance = null;
+        }
+    }
+
+    private boolean isPersistenceThread() {
+        return persistenceThread != null && persistenceThread == Thread.currentThread();
+    }
+
+    private AsyncExecutor getExecutor() {
+        if(executor == null) {
+            executor = new AsyncExecutor(1);
+        }
+        return executor;
+    }
+
+    private void submitGroupedWrites() {
+        if(groupedWrites.size() > 0) {
+            ArrayList<PendingTask<?>> writes = new ArrayList<PendingTask<?>>(groupedWrites);
+            groupedWrites.clear();
+            submit(writes);
+        }
+    }
+
+    private void submit(final ArrayList<PendingTask<?>> tasks) {
+        lastResult = getExecutor().submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() throws Exception {
+                persistenceThread = Thread.currentThread();
+                if(tasks.size() == 1) {
+                    tasks.get(0).run();
+                } else {
+                    Database.getInstance().runInTransaction(new Runnable() {
+                        @Override
+                        public void run() {
+                            for(PendingTask<?> task: tasks) {
+                                task.run();
+                            }
+                        }
+                    });
+                }
+                return null;
+            }
+        });
+    }
+
+    private static void postToRenderThread(Runnable runnable) {
+        if(Gdx.app != null) {
+            Gdx.app.postRunnable(runnable);
+        } else {
+            runnable.run();
+        }
+    }
+
+    private static class PendingTask<T> {
+        private final PersistenceTask<T> task;
+        private final PersistenceCallback<T> callback;
+
+        private PendingTask(PersistenceTask<T> task, PersistenceCallback<T> callback) {
+            this.task = task;
+            this.callback = callback;
+        }
+
+        //A failed task is reported to its callback and does not undo the others of its group
+        private void run() {
+            try {
+                final T result = task.run();
+                if(callback != null) {
+                    postToRenderThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            callback.completed(result);
+                        }
+                    });
+                }
+            } catch (final Exception e) {
+                e.printStackTrace();
+                if(callback != null) {
+                    postToRenderThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            callback.failed(e);
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
@@ -20,16 +20,15 @@
 
 package com.pberna.engine.persistence;
 
-import com.j256.ormlite.field.DatabaseField;
 import com.j256.ormlite.stmt.StatementBuilder;
-import com.j256.ormlite.table.DatabaseTable;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
+import java.util.HashMap;
 
 public class PersistenceHelper {
+    //mapper of each entity class, built the first time the class is read or written
+    private static final HashMap<Class<?>, EntityMapper<?>> mappers = new HashMap<Class<?>, EntityMapper<?>>();
 
     private PersistenceHelper() { }
 
@@ -42,150 +41,54 @@ public class PersistenceHelper {
         return null;
     }
 
-    private static <T> T fillEntity(Result result, Class<T> type) {
-        T entity = instantiateEntity(type);
-
-        if(entity == null) {
-            return null;
-        }
-
-        fillFields(result, entity, type);
-
-        return entity;
+    public static <T> ArrayList<T> fillEntitiesList(Result result, Class<T> type) {
+        return getMapper(type).readAll(result);
     }
 
-    private static <T> T instantiateEntity(Class<T> type) {
-        T entity = null;
-
-        try {
-            entity = type.newInstance();
-        } catch (InstantiationException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+    //Inserts the entity with a statement compiled once per entity class and returns the id of the new row
+    public static <T> long insert(T entity, Class<T> type) {
+        EntityMapper<T> mapper = getMapper(type);
+        if(mapper.getInsertSql() == null) {
+            return -1;
         }
 
-        return entity;
+        SqlStatement statement = Database.getInstance().prepare(mapper.getInsertSql());
+        mapper.bindInsert(statement, entity);
+        return statement.executeInsert();
     }
 
-    private static <T> void fillFields(Result result, T entity, Class<T> type) {
-        for (Field field: type.getDeclaredFields()) {
-            String classFieldName = field.getName();
+    //Inserts all the entities in one transaction reusing the same statement, and returns the ids of the new rows in
+    //the order of the collection
+    public static <T> long[] insertAll(final Collection<T> entities, final Class<T> type) {
+        final long[] ids = new long[entities.size()];
+        if(ids.length == 0) {
+            return ids;
+        }
 
-            for(Annotation annotation: field.getAnnotations())  {
-                if(annotation instanceof DatabaseField) {
-                    DatabaseField databaseFieldAnnotation = (DatabaseField)annotation;
-                    String fieldNameInResult = databaseFieldAnnotation.columnName().equals("") ? classFieldName : databaseFieldAnnotation.columnName();
-                    int fieldIndexInResult = result.getColumnIndex(fieldNameInResult);
-                    if(fieldIndexInResult >= 0) {
-                        assignValueToField(result, fieldIndexInResult, entity, field);
-                    }
-                    break;
+        Database.getInstance().runInTransaction(new Runnable() {
+            @Override
+            public void run() {
+                int i = 0;
+                for(T entity: entities) {
+                    ids[i++] = insert(entity, type);
                 }
             }
-        }
+        });
+        return ids;
     }
 
-    private static <T> void assignValueToField(Result result, int fieldIndexInResult, T entity, Field field) {
-        Class<?> fieldType = field.getType();
-        try {
-            field.setAccessible(true);
-            if (fieldType.getName().equals("int")) {
-                field.set(entity, result.getInt(fieldIndexInResult));
-            } else if (fieldType.getName().equals("float")) {
-                field.set(entity, result.getFloat(fieldIndexInResult));
-            } else if (fieldType.getName().equals("java.lang.String")) {
-                field.set(entity, result.getString(fieldIndexInResult));
-            } else if (fieldType.getName().equals("java.util.Date")) {
-                field.set(entity, new Date(result.getLong(fieldIndexInResult)));
-            } else if (fieldType.getName().equals("boolean")) {
-                field.set(entity, result.getInt(fieldIndexInResult) > 0);
-            } else {
-                throw new UnsupportedOperationException("Cannot read type " + fieldType.toString() + " from a Result of Database");
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (UnsupportedOperationException e) {
-            e.printStackTrace();
-        }
+    public static String getInsertSql(Class<?> type) {
+        String insertSql = getMapper(type).getInsertSql();
+        return insertSql != null ? insertSql : "";
     }
 
-    public static <T> ArrayList<T> fillEntitiesList(Result result, Class<T> type) {
-        ArrayList<T> entitiesList = new ArrayList<T>();
-        while(!result.isEmpty() && result.moveToNext()) {
-            entitiesList.add(PersistenceHelper.fillEntity(result, type));
+    @SuppressWarnings("unchecked")
+    private static synchronized <T> EntityMapper<T> getMapper(Class<T> type) {
+        EntityMapper<T> mapper = (EntityMapper<T>) mappers.get(type);
+        if(mapper == null) {
+            mapper = new EntityMapper<T>(type);
+            mappers.put(type, mapper);
         }
-        return entitiesList;
+        return mapper;
     }
-
-    public static <T> String getInsertStatement(T entity, Class<T> type) {
-        ArrayList<String> columnNames = new ArrayList<String>();
-        ArrayList<String> columnValues = new ArrayList<String>();
-        String tableName = "";
-
-        for(Annotation annotation : type.getAnnotations()) {
-            if(annotation.annotationType() == DatabaseTable.class) {
-                tableName = "'" + ((DatabaseTable) annotation).tableName() + "'";
-                break;
-            }
-        }
-
-        if(tableName.equals("")) {
-            return "";
-        }
-
-        for (Field field: type.getDeclaredFields()) {
-            String classFieldName = field.getName();
-
-            for(Annotation annotation: field.getAnnotations())  {
-                if(annotation instanceof DatabaseField) {
-                    DatabaseField databaseFieldAnnotation = (DatabaseField)annotation;
-
-                    if(!(databaseFieldAnnotation.generatedId())) {
-                        String fieldNameInDb = databaseFieldAnnotation.columnName().equals("") ? classFieldName : databaseFieldAnnotation.columnName();
-                        columnNames.add("'" + fieldNameInDb + "'");
-                        try {
-                            field.setAccessible(true);
-                            if(field.get(entity) == null) {
-                                continue;
-                            }
-                            if (field.getType() == String.class) {
-                                columnValues.add("'" + field.get(entity).toString().replace("'", "''") + "'");
-                            } else if (field.getType() == Date.class) {
-                                columnValues.add(String.valueOf(((Date) field.get(entity)).getTime()));
-                            } else if(field.getType() == boolean.class) {
-                                columnValues.add(String.valueOf (((Boolean) field.get(entity)) ? 1 : 0 ));
-                            } else {
-                                columnValues.add(field.get(entity).toString());
-                            }
-                        } catch (IllegalAccessException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    break;
-                }
-            }
-        }
-
-        StringBuilder sbFirstPart = new StringBuilder();
-        StringBuilder sbSecondPart = new StringBuilder();
-        for(int i = 0; i < columnNames.size() && i < columnValues.size(); i++) {
-            if(i == 0) {
-                sbFirstPart.append("INSERT INTO ").append(tableName).append(" (").append(columnNames.get(i));
-                sbSecondPart.append(" VALUES (").append(columnValues.get(i));
-            } else {
-                sbFirstPart.append(", ").append(columnNames.get(i));
-                sbSecondPart.append(", ").append(columnValues.get(i));
-            }
-        }
-        sbFirstPart.append(")");
-        sbSecondPart.append(")");
-
-        if(columnNames.size() == 0 || columnValues.size() == 0) {
-            return "";
-        }
-
-        return sbFirstPart.toString()  + "\n" + sbSecondPart.toString();
-    }
-
 }
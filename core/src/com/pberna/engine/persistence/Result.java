@@ -28,4 +28,6 @@ public interface Result {
     String getString(int columnIndex);
     int getInt(int columnIndex);
     long getLong(int columnIndex);
+    //Frees the result, it cannot be read afterwards
+    void close();
 }
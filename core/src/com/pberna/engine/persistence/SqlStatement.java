@@ -0,0 +1,41 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.persistence;
+
+import com.badlogic.gdx.utils.Disposable;
+
+//Sql compiled once and run many times with different values. Parameters are the ? marks of the sql, numbered
+//from 1, and keep their values until they are bound again or cleared
+public interface SqlStatement extends Disposable {
+    SqlStatement bindInt(int index, int value);
+    SqlStatement bindLong(int index, long value);
+    SqlStatement bindFloat(int index, float value);
+    SqlStatement bindString(int index, String value);
+    SqlStatement bindNull(int index);
+    SqlStatement clearBindings();
+
+    void execute();
+    int executeUpdate();
+    //Id of the inserted row
+    long executeInsert();
+    //The result can be read until the statement is run again
+    Result query();
+}
@@ -0,0 +1,102 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.persistence;
+
+//How the database trades durability for speed. Each profile is a set of pragmas applied to every connection the
+//platform opens, and the number of read connections it may open besides the one that writes
+public enum StorageProfile {
+    //the sqlite defaults: rollback journal and a sync on every commit
+    Default(JournalMode.Delete, Synchronous.Full, 0L, 2000, 0),
+    //write ahead log, still synced on every commit
+    Durable(JournalMode.Wal, Synchronous.Full, 0L, 4000, 2),
+    //write ahead log synced at checkpoints, a crash may lose the last commits but never breaks the file
+    Balanced(JournalMode.Wal, Synchronous.Normal, 64L * 1024L * 1024L, 8000, 2),
+    //nothing is synced, only for tests and benchmarks
+    Fast(JournalMode.Wal, Synchronous.Off, 256L * 1024L * 1024L, 16000, 2);
+
+    public static final class JournalMode {
+        public static final String Delete = "DELETE";
+        public static final String Wal = "WAL";
+
+        private JournalMode() { }
+    }
+
+    public static final class Synchronous {
+        public static final String Off = "OFF";
+        public static final String Normal = "NORMAL";
+        public static final String Full = "FULL";
+
+        private Synchronous() { }
+    }
+
+    private final String journalMode;
+    private final String synchronous;
+    private final long mmapSize;
+    private final int cacheSize;
+    private final int readConnections;
+
+    StorageProfile(String journalMode, String synchronous, long mmapSize, int cacheSize, int readConnections) {
+        this.journalMode = journalMode;
+        this.synchronous = synchronous;
+        this.mmapSize = mmapSize;
+        this.cacheSize = cacheSize;
+        this.readConnections = readConnections;
+    }
+
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    //Bytes of the file read through memory mapping, sqlite versions older than 3.7.17 ignore it
+    public long getMmapSize() {
+        return mmapSize;
+    }
+
+    //Pages kept in memory by each connection
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public int getReadConnections() {
+        return readConnections;
+    }
+
+    //The journal mode belongs to the database file, so only the connection that writes sets it
+    public String[] getPragmas(boolean writerConnection) {
+        String[] connectionPragmas = new String[] {
+                "PRAGMA synchronous=" + synchronous,
+                "PRAGMA cache_size=" + cacheSize,
+                "PRAGMA mmap_size=" + mmapSize
+        };
+        if(!writerConnection) {
+            return connectionPragmas;
+        }
+
+        String[] pragmas = new String[connectionPragmas.length + 1];
+        pragmas[0] = "PRAGMA journal_mode=" + journalMode;
+        System.arraycopy(connectionPragmas, 0, pragmas, 1, connectionPragmas.length);
+        return pragmas;
+    }
+}
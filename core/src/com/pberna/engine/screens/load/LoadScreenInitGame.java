@@ -62,11 +62,13 @@ public class LoadScreenInitGame extends BaseStageScreen {
 	private Label progressTextLabel;
 	private Texture logoTexture;
 	private Image logoImage;
+	private int pendingLoads;
 
 	public LoadScreenInitGame() {
 		super();
 		setShowBackgroundTexture(false);
 		listeners = new ArrayList<LoadScreenListener>();
+		pendingLoads = 0;
 		font = new BitmapFont();
 
 		//leftBorderProgressBar
@@ -136,7 +138,7 @@ public class LoadScreenInitGame extends BaseStageScreen {
 	
 	@Override
 	public void render(float delta) {
-		if(AssetRepository.getInstance().loadAssetsInBackgroud()) {
+		if(AssetRepository.getInstance().loadAssetsInBackgroud() && pendingLoads == 0) {
 			progressBar.setValue(1f);
 			progressTextLabel.setText("100 %");
 			for(LoadScreenListener listener: listeners) {
@@ -198,4 +200,15 @@ public class LoadScreenInitGame extends BaseStageScreen {
 	public void addListener(LoadScreenListener listener) {
 		listeners.add(listener);
 	}
+
+	//Loads made out of the render thread together with the assets, the load does not finish until all of them end
+	public void addPendingLoad() {
+		pendingLoads++;
+	}
+
+	public void pendingLoadFinished() {
+		if(pendingLoads > 0) {
+			pendingLoads--;
+		}
+	}
 }
@@ -27,6 +27,7 @@ import com.pberna.adventure.dependencies.DependenciesContainer;
 import com.pberna.adventure.dependencies.StoreItemConfig;
 import com.pberna.adventure.desktop.persistence.DatabaseDesktop;
 import com.pberna.adventure.store.StoreItem;
+import com.pberna.engine.persistence.StorageProfile;
 
 public class DesktopLauncher {
 	public static void main (String[] arg) {
@@ -38,7 +39,9 @@ public class DesktopLauncher {
 
 	private static DependenciesContainer buildDependenciesContainer() {
 		DependenciesContainer container = new DependenciesContainer();
-		container.setDatabase(new DatabaseDesktop());
+		//every commit is synced, the saves are small and written out of the render thread (StorageProfileBenchmark)
+		container.getSettings().setStorageProfile(StorageProfile.Durable);
+		container.setDatabase(new DatabaseDesktop(container.getSettings().getStorageProfile()));
 		container.getSettings().setStoreAvailable(true);
 		container.getSettings().getStoreItemConfigs().add(new StoreItemConfig(
 				StoreItem.RemoveAdvertisingId, "desktop_store_id"));
@@ -20,27 +20,44 @@
 
 package com.pberna.adventure.desktop.persistence;
 
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.pberna.adventure.persistence.AdventureDatabase;
 import com.pberna.engine.persistence.Result;
+import com.pberna.engine.persistence.SqlStatement;
+import com.pberna.engine.persistence.StorageProfile;
 import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Locale;
 
+//One connection writes and, when the storage profile allows it, a pool of connections reads the committed state
+//for the queries run out of a transaction. Every query gets its own statement, closed with its result
 public class DatabaseDesktop extends AdventureDatabase {
     protected Connection db_connection;
-    protected Statement stmt;
     protected boolean noDatabase = false;
+    private StorageProfile storageProfile;
+    private ReadConnectionPool readConnectionPool;
 
     public DatabaseDesktop(String databaseName) {
+        this(databaseName, StorageProfile.Default);
+    }
+
+    public DatabaseDesktop(String databaseName, StorageProfile storageProfile) {
         super();
         this.databaseName = databaseName;
+        this.storageProfile = storageProfile;
         initDatabase();
     }
 
     public DatabaseDesktop() {
+        this(StorageProfile.Default);
+    }
+
+    public DatabaseDesktop(StorageProfile storageProfile) {
         super();
+        this.storageProfile = storageProfile;
         initDatabase();
     }
 
@@ -55,40 +72,163 @@ public class DatabaseDesktop extends AdventureDatabase {
         }
     }
 
+    public StorageProfile getStorageProfile() {
+        return storageProfile;
+    }
+
     public void execute(String sql) {
+        Statement statement = null;
         try {
-            stmt.execute(sql);
+            statement = db_connection.createStatement();
+            statement.execute(sql);
         } catch (SQLException e) {
-            e.printStackTrace();
+            handleWriteException(e);
+        } finally {
+            closeStatement(statement);
         }
     }
 
     public int executeUpdate(String sql) {
+        Statement statement = null;
         try {
-            return stmt.executeUpdate(sql);
+            statement = db_connection.createStatement();
+            return statement.executeUpdate(sql);
         } catch (SQLException e) {
-            e.printStackTrace();
+            handleWriteException(e);
+        } finally {
+            closeStatement(statement);
         }
         return 0;
     }
 
     public Result query(String sql) {
+        Connection readConnection = canReadOutOfWriter(sql) ? acquireReadConnection() : null;
+        Connection connection = readConnection != null ? readConnection : db_connection;
+        Statement statement = null;
         try {
-            return new ResultDesktop(stmt.executeQuery(sql));
+            statement = connection.createStatement();
+            return new ResultDesktop(statement.executeQuery(sql), statement,
+                    readConnection != null ? readConnectionPool : null, readConnection);
         } catch (SQLException e) {
             e.printStackTrace();
+            closeStatement(statement);
+            if (readConnection != null) {
+                readConnectionPool.release(readConnection);
+            }
         }
         return null;
     }
 
+    @Override
+    protected SqlStatement compileStatement(String sql) {
+        try {
+            return new StatementDesktop(this, sql, db_connection.prepareStatement(sql));
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    @Override
+    protected void beginTransaction() {
+        try {
+            db_connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //A commit that fails is rolled back and thrown, the writer goes back to autocommit in any case
+    @Override
+    protected void commitTransaction() {
+        try {
+            db_connection.commit();
+        } catch (SQLException e) {
+            rollbackQuietly();
+            throw new GdxRuntimeException(e);
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    @Override
+    protected void rollbackTransaction() {
+        try {
+            db_connection.rollback();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    //Inside a transaction a failed write is thrown, so the transaction is rolled back instead of committed without it
+    void handleWriteException(SQLException e) {
+        if (isInTransaction()) {
+            throw new GdxRuntimeException(e);
+        }
+        e.printStackTrace();
+    }
+
+    private void rollbackQuietly() {
+        try {
+            db_connection.rollback();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void restoreAutoCommit() {
+        try {
+            db_connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //A read connection lent by the pool, null when the query has to run on the writer: there is no pool, every
+    //connection is lent or a transaction is open and its writes are only seen by the writer
+    Connection acquireReadConnection() {
+        if (readConnectionPool == null || isInTransaction()) {
+            return null;
+        }
+        return readConnectionPool.tryAcquire();
+    }
+
+    ReadConnectionPool getReadConnectionPool() {
+        return readConnectionPool;
+    }
+
+    //Plain queries can run on any connection, the ones about the last write only on the writer
+    static boolean canReadOutOfWriter(String sql) {
+        String lowerCaseSql = sql.trim().toLowerCase(Locale.ROOT);
+        return lowerCaseSql.startsWith("select") && !lowerCaseSql.contains("last_insert_rowid")
+                && !lowerCaseSql.contains("changes()");
+    }
+
+    static void applyPragmas(Connection connection, String[] pragmas) throws SQLException {
+        Statement statement = connection.createStatement();
+        try {
+            for (String pragma : pragmas) {
+                statement.execute(pragma);
+            }
+        } finally {
+            statement.close();
+        }
+    }
+
     private void loadDatabase() {
         File file = new File(databaseName + ".db");
         if (!file.exists())
             noDatabase = true;
         try {
             Class.forName("org.sqlite.JDBC");
-            db_connection = DriverManager.getConnection("jdbc:sqlite:" + databaseName + ".db");
-            stmt = db_connection.createStatement();
+            String url = "jdbc:sqlite:" + databaseName + ".db";
+            db_connection = DriverManager.getConnection(url);
+            applyPragmas(db_connection, storageProfile.getPragmas(true));
+            if (storageProfile.getReadConnections() > 0) {
+                readConnectionPool = new ReadConnectionPool(url, storageProfile);
+            }
         } catch (ClassNotFoundException e) {
             e.printStackTrace();
         } catch (SQLException e) {
@@ -106,20 +246,39 @@ public class DatabaseDesktop extends AdventureDatabase {
 
     private boolean isVersionDifferent() {
         Result q = query("PRAGMA user_version");
-        return q.isEmpty() || (q.getInt(1) != databaseVersion);
+        try {
+            return q.isEmpty() || (q.getInt(1) != databaseVersion);
+        } finally {
+            q.close();
+        }
     }
 
     private int getCurrentDatabaseVersion() {
         Result q = query("PRAGMA user_version");
-        return q.isEmpty() ? 0 : q.getInt(1);
+        try {
+            return q.isEmpty() ? 0 : q.getInt(1);
+        } finally {
+            q.close();
+        }
+    }
+
+    private static void closeStatement(Statement statement) {
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
     }
 
     @Override
     public void dispose() {
+        clearStatements();
+        if (readConnectionPool != null) {
+            readConnectionPool.close();
+        }
         try {
-            if (stmt != null) {
-                stmt.close();
-            }
             if (db_connection != null) {
                 db_connection.close();
             }
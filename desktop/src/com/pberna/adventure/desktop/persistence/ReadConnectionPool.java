@@ -0,0 +1,102 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.desktop.persistence;
+
+import com.pberna.engine.persistence.StorageProfile;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+//Connections used only to read, besides the one that writes. With a write ahead log they read the last committed
+//state without waiting for the writer. A connection is lent while a result read on it is open
+class ReadConnectionPool {
+    private final String url;
+    private final StorageProfile storageProfile;
+    private final ArrayList<Connection> idleConnections;
+    private int openConnections;
+    private boolean closed;
+
+    ReadConnectionPool(String url, StorageProfile storageProfile) {
+        this.url = url;
+        this.storageProfile = storageProfile;
+        idleConnections = new ArrayList<Connection>(storageProfile.getReadConnections());
+        openConnections = 0;
+        closed = false;
+    }
+
+    //Null when every connection is lent, the caller then reads on the writer
+    synchronized Connection tryAcquire() {
+        if (closed) {
+            return null;
+        }
+        if (!idleConnections.isEmpty()) {
+            return idleConnections.remove(idleConnections.size() - 1);
+        }
+        if (openConnections < storageProfile.getReadConnections()) {
+            Connection connection = open();
+            if (connection != null) {
+                openConnections++;
+            }
+            return connection;
+        }
+        return null;
+    }
+
+    synchronized void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        if (closed) {
+            closeConnection(connection);
+        } else {
+            idleConnections.add(connection);
+        }
+    }
+
+    //The lent connections are closed when they are given back
+    synchronized void close() {
+        closed = true;
+        for (Connection connection : idleConnections) {
+            closeConnection(connection);
+        }
+        idleConnections.clear();
+    }
+
+    private Connection open() {
+        try {
+            Connection connection = DriverManager.getConnection(url);
+            DatabaseDesktop.applyPragmas(connection, storageProfile.getPragmas(false));
+            return connection;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private static void closeConnection(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -22,20 +22,38 @@ package com.pberna.adventure.desktop.persistence;
 
 import com.pberna.engine.persistence.Result;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 public class ResultDesktop implements Result {
 
     private ResultSet res;
     private boolean calledIsEmpty = false;
+    private boolean closed = false;
+    //statement created only for this result, it is closed with it
+    private final Statement ownStatement;
+    //read connection lent by the pool while the result is open
+    private final ReadConnectionPool pool;
+    private final Connection pooledConnection;
 
     public ResultDesktop(ResultSet res) {
+        this(res, null, null, null);
+    }
+
+    ResultDesktop(ResultSet res, Statement ownStatement, ReadConnectionPool pool, Connection pooledConnection) {
         this.res = res;
+        this.ownStatement = ownStatement;
+        this.pool = pool;
+        this.pooledConnection = pooledConnection;
     }
 
     @Override
     public boolean isEmpty() {
+        if (closed) {
+            return true;
+        }
         try {
             if (res.getRow() == 0) {
                 calledIsEmpty = true;
@@ -50,18 +68,45 @@ public class ResultDesktop implements Result {
 
     @Override
     public boolean moveToNext() {
+        if (closed) {
+            return false;
+        }
         try {
             if (calledIsEmpty) {
                 calledIsEmpty = false;
                 return true;
-            } else
-                return res.next();
+            } else if (res.next()) {
+                return true;
+            }
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        //a pooled connection goes back as soon as the rows are read, even if the result is never closed
+        if (pool != null) {
+            close();
+        }
         return false;
     }
 
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            res.close();
+            if (ownStatement != null) {
+                ownStatement.close();
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        if (pool != null) {
+            pool.release(pooledConnection);
+        }
+    }
+
     @Override
     public int getColumnIndex(String name) {
         try {
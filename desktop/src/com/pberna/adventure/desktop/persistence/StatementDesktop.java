@@ -0,0 +1,226 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.desktop.persistence;
+
+import com.pberna.engine.persistence.Result;
+import com.pberna.engine.persistence.SqlStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class StatementDesktop implements SqlStatement {
+    private static final Object NullParameter = new Object();
+
+    private final DatabaseDesktop database;
+    private final String sql;
+    private final PreparedStatement statement;
+    //values of the parameters, bound again on the read connection the query runs on. Null when the sql has to run
+    //on the writer
+    private final ArrayList<Object> parameters;
+    private final HashMap<Connection, PreparedStatement> readStatements;
+
+    public StatementDesktop(DatabaseDesktop database, String sql, PreparedStatement statement) {
+        this.database = database;
+        this.sql = sql;
+        this.statement = statement;
+        if (DatabaseDesktop.canReadOutOfWriter(sql)) {
+            parameters = new ArrayList<Object>();
+            readStatements = new HashMap<Connection, PreparedStatement>();
+        } else {
+            parameters = null;
+            readStatements = null;
+        }
+    }
+
+    @Override
+    public SqlStatement bindInt(int index, int value) {
+        try {
+            statement.setInt(index, value);
+            setParameter(index, value);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindLong(int index, long value) {
+        try {
+            statement.setLong(index, value);
+            setParameter(index, value);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindFloat(int index, float value) {
+        try {
+            statement.setFloat(index, value);
+            setParameter(index, value);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindString(int index, String value) {
+        try {
+            statement.setString(index, value);
+            setParameter(index, value != null ? value : NullParameter);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement bindNull(int index) {
+        try {
+            statement.setNull(index, Types.NULL);
+            setParameter(index, NullParameter);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public SqlStatement clearBindings() {
+        try {
+            statement.clearParameters();
+            if (parameters != null) {
+                parameters.clear();
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public void execute() {
+        try {
+            statement.execute();
+        } catch (SQLException e) {
+            database.handleWriteException(e);
+        }
+    }
+
+    @Override
+    public int executeUpdate() {
+        try {
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            database.handleWriteException(e);
+        }
+        return 0;
+    }
+
+    @Override
+    public long executeInsert() {
+        return executeUpdate() > 0 ? database.getLastId() : -1;
+    }
+
+    @Override
+    public Result query() {
+        Connection readConnection = parameters != null ? database.acquireReadConnection() : null;
+        if (readConnection != null) {
+            try {
+                PreparedStatement readStatement = getReadStatement(readConnection);
+                bindParameters(readStatement);
+                return new ResultDesktop(readStatement.executeQuery(), null, database.getReadConnectionPool(),
+                        readConnection);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                database.getReadConnectionPool().release(readConnection);
+            }
+            return null;
+        }
+
+        try {
+            return new ResultDesktop(statement.executeQuery());
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            statement.close();
+            if (readStatements != null) {
+                for (PreparedStatement readStatement : readStatements.values()) {
+                    readStatement.close();
+                }
+                readStatements.clear();
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void setParameter(int index, Object value) {
+        if (parameters == null) {
+            return;
+        }
+        while (parameters.size() < index) {
+            parameters.add(null);
+        }
+        parameters.set(index - 1, value);
+    }
+
+    private PreparedStatement getReadStatement(Connection readConnection) throws SQLException {
+        PreparedStatement readStatement = readStatements.get(readConnection);
+        if (readStatement == null) {
+            readStatement = readConnection.prepareStatement(sql);
+            readStatements.put(readConnection, readStatement);
+        }
+        return readStatement;
+    }
+
+    private void bindParameters(PreparedStatement readStatement) throws SQLException {
+        readStatement.clearParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            Object value = parameters.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (value == NullParameter) {
+                readStatement.setNull(i + 1, Types.NULL);
+            } else if (value instanceof Integer) {
+                readStatement.setInt(i + 1, (Integer) value);
+            } else if (value instanceof Long) {
+                readStatement.setLong(i + 1, (Long) value);
+            } else if (value instanceof Float) {
+                readStatement.setFloat(i + 1, (Float) value);
+            } else {
+                readStatement.setString(i + 1, (String) value);
+            }
+        }
+    }
+}
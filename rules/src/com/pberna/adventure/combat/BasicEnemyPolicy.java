@@ -0,0 +1,42 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyNextAction;
+import com.pberna.adventure.pj.EnemyTemplate;
+import com.pberna.adventure.spells.AttackSpell;
+
+//The enemy casts the first attack spell it has power points for, or attacks in melee
+public class BasicEnemyPolicy implements IEnemyPolicy {
+	public static final String Name = EnemyTemplate.DefaultAiPolicy;
+
+	@Override
+	public void prepare(Combat combat) {
+
+	}
+
+	@Override
+	public AttackSpell getAttackSpell(Combat combat) {
+		Enemy enemy = combat.getEnemy();
+		return enemy.getNextAction() == EnemyNextAction.MagicAttack ? enemy.getAttackSpellToCast() : null;
+	}
+}
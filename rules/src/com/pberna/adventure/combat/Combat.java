@@ -23,6 +23,9 @@ package com.pberna.adventure.combat;
 import java.util.ArrayList;
 import com.pberna.adventure.pj.Character;
 import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyPool;
+import com.pberna.adventure.pj.EnemyTemplate;
+import com.pberna.adventure.spells.AttackSpell;
 
 public class Combat {
 	private CombatState combatState;
@@ -32,7 +35,12 @@ public class Combat {
 	private Turn secondTurn;
 	private Character character;
 	private Enemy enemy;
+	private final EnemyPool enemyPool;
+	private boolean enemyFromPool;
 	private boolean characterUsedMeleeInCombat;
+	//what the policy of the enemy resolved when the combat was prepared, null until then
+	private AttackSpell[] enemyAttackSpells;
+	private EnemyDecisionTable enemyDecisionTable;
 	
 	private ArrayList<CombatEventsListener> listeners;
 	
@@ -44,7 +52,11 @@ public class Combat {
 		secondTurn = Turn.Enemy;
 		character = null;
 		enemy = null;
+		enemyPool = new EnemyPool();
+		enemyFromPool = false;
 		characterUsedMeleeInCombat = false;
+		enemyAttackSpells = null;
+		enemyDecisionTable = null;
 		listeners = new ArrayList<CombatEventsListener>();
 	}
 	
@@ -81,9 +93,39 @@ public class Combat {
 	}
 
 	public void setEnemy(Enemy enemy) {
+		freeEnemy();
 		this.enemy = enemy;
 	}
 
+	//The enemy is taken from the pool of the combat, it is given back when the combat gets another enemy
+	public void setEnemy(EnemyTemplate template) {
+		freeEnemy();
+		enemy = enemyPool.obtain(template);
+		enemyFromPool = true;
+	}
+
+	private void freeEnemy() {
+		if(enemyFromPool) {
+			enemyPool.free(enemy);
+			enemyFromPool = false;
+		}
+		enemyAttackSpells = null;
+		enemyDecisionTable = null;
+	}
+
+	AttackSpell[] getEnemyAttackSpells() {
+		return enemyAttackSpells;
+	}
+
+	EnemyDecisionTable getEnemyDecisionTable() {
+		return enemyDecisionTable;
+	}
+
+	void setEnemyDecision(AttackSpell[] enemyAttackSpells, EnemyDecisionTable enemyDecisionTable) {
+		this.enemyAttackSpells = enemyAttackSpells;
+		this.enemyDecisionTable = enemyDecisionTable;
+	}
+
 	public boolean isCharacterUsedMeleeInCombat (){
 		return characterUsedMeleeInCombat;
 	}
@@ -161,6 +203,7 @@ public class Combat {
 					
 				case SecondTurn:
 					roundState = RoundState.EndRound;
+					character.getEffectEngine().combatRoundEnded();
 					for(CombatEventsListener listener:listeners) {
 						listener.endRound();
 					}
@@ -0,0 +1,180 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyTemplate;
+import com.pberna.adventure.spells.AttackSpell;
+
+//Exact chance to win a combat, and the action that gives it. Tables of odds are kept per character stats and
+//enemy template, so while a combat goes on every question is answered with a lookup. The simulator asks from
+//several threads: the tables never change once built, so they are shared without locks and a table missing in the
+//cache is built by the thread that needs it
+public class CombatOddsCalculator {
+	private static final int MaximumTables = 16;
+
+	private static final CombatOddsCalculator instance = new CombatOddsCalculator();
+
+	private final ConcurrentHashMap<CombatOddsKey, CombatOddsTable> tables;
+	//fresh enemy of a template, for the questions asked before the combat starts
+	private final ThreadLocal<Enemy> templateEnemies;
+
+	private CombatOddsCalculator() {
+		tables = new ConcurrentHashMap<CombatOddsKey, CombatOddsTable>(MaximumTables * 2);
+		templateEnemies = new ThreadLocal<Enemy>() {
+			@Override
+			protected Enemy initialValue() {
+				return new Enemy();
+			}
+		};
+	}
+
+	public static CombatOddsCalculator getInstance() {
+		return instance;
+	}
+
+	//Chance to win a combat that starts now, or at the start of a round
+	public float getWinProbability(Character character, Enemy enemy) {
+		CombatOddsTable table = getTable(character, enemy);
+		return (float) table.getRoundOdds(getLifePoints(character), getLifePoints(enemy),
+				character.getCurrentPowerPoints(), enemy.getCurrentPowerPoints());
+	}
+
+	public float getWinProbability(Character character, EnemyTemplate template) {
+		Enemy templateEnemy = templateEnemies.get();
+		templateEnemy.reset(template);
+		return getWinProbability(character, templateEnemy);
+	}
+
+	public float getWinProbability(Combat combat) {
+		if(combat.getCombatState() == CombatState.Finished) {
+			return combat.getCombatWinner() == CombatWinner.Character ? 1f : 0f;
+		}
+		if(combat.getCombatState() == CombatState.RunAway) {
+			return 0f;
+		}
+
+		Character character = combat.getCharacter();
+		Enemy enemy = combat.getEnemy();
+		CombatOddsTable table = getTable(character, enemy);
+		int characterLife = getLifePoints(character);
+		int enemyLife = getLifePoints(enemy);
+		int characterPower = character.getCurrentPowerPoints();
+		int enemyPower = enemy.getCurrentPowerPoints();
+
+		if(combat.getCombatState() == CombatState.Fighting && combat.getRoundState() == RoundState.FirstTurn) {
+			return (float) (combat.firstTurn() == Turn.Character
+					? table.getCharacterFirstOdds(characterLife, enemyLife, characterPower, enemyPower)
+					: table.getEnemyFirstOdds(characterLife, enemyLife, characterPower, enemyPower));
+		}
+		if(combat.getCombatState() == CombatState.Fighting && combat.getRoundState() == RoundState.SecondTurn) {
+			return (float) (combat.secondTurn() == Turn.Character
+					? table.getCharacterSecondOdds(characterLife, enemyLife, characterPower, enemyPower)
+					: table.getEnemySecondOdds(characterLife, enemyLife, characterPower, enemyPower));
+		}
+		return (float) table.getRoundOdds(characterLife, enemyLife, characterPower, enemyPower);
+	}
+
+	//Chance to survive the attack of the enemy when the character runs away
+	public float getRunAwayProbability(Character character, Enemy enemy) {
+		CombatOddsTable table = getTable(character, enemy);
+		return (float) table.getRunAwayOdds(getLifePoints(character), enemy.getCurrentPowerPoints());
+	}
+
+	public float getRunAwayProbability(Character character, EnemyTemplate template) {
+		Enemy templateEnemy = templateEnemies.get();
+		templateEnemy.reset(template);
+		return getRunAwayProbability(character, templateEnemy);
+	}
+
+	//Attack spell that gives the highest chance to win in the turn of the character, null to attack in melee
+	public AttackSpell getBestAttackSpell(Combat combat) {
+		Character character = combat.getCharacter();
+		Enemy enemy = combat.getEnemy();
+		if(getLifePoints(character) == 0 || getLifePoints(enemy) == 0) {
+			return null;
+		}
+
+		ArrayList<AttackSpell> spells = CombatOddsKey.getAttackSpells(character.getCombatSpells());
+		CombatOddsTable table = getTable(new CombatOddsKey(character, spells, enemy), character, enemy);
+		int action = combat.getRoundState() == RoundState.FirstTurn
+				? table.getCharacterFirstAction(getLifePoints(character), getLifePoints(enemy),
+					character.getCurrentPowerPoints(), enemy.getCurrentPowerPoints())
+				: table.getCharacterSecondAction(getLifePoints(character), getLifePoints(enemy),
+					character.getCurrentPowerPoints(), enemy.getCurrentPowerPoints());
+		return action == CombatOddsTable.MeleeAction ? null : spells.get(action - 1);
+	}
+
+	public void clear() {
+		tables.clear();
+	}
+
+	private CombatOddsTable getTable(Character character, Enemy enemy) {
+		return getTable(new CombatOddsKey(character, CombatOddsKey.getAttackSpells(character.getCombatSpells()), enemy),
+				character, enemy);
+	}
+
+	private CombatOddsTable getTable(CombatOddsKey key, Character character, Enemy enemy) {
+		int characterLife = getLifePoints(character);
+		int enemyLife = getLifePoints(enemy);
+		int characterPower = character.getCurrentPowerPoints();
+		int enemyPower = enemy.getCurrentPowerPoints();
+
+		CombatOddsTable table = tables.get(key);
+		if(table == null || !table.contains(characterLife, enemyLife, characterPower, enemyPower)) {
+			//life and power points only go down during a combat, so the table is as big as the current points
+			if(table != null) {
+				characterLife = Math.max(characterLife, table.getCharacterLifeSize() - 1);
+				enemyLife = Math.max(enemyLife, table.getEnemyLifeSize() - 1);
+				characterPower = Math.max(characterPower, table.getCharacterPowerSize() - 1);
+				enemyPower = Math.max(enemyPower, table.getEnemyPowerSize() - 1);
+			}
+			table = new CombatOddsTable(key, characterLife, enemyLife, characterPower, enemyPower);
+			if(tables.put(key, table) == null) {
+				evictTables(key);
+			}
+		}
+		return table;
+	}
+
+	//Keeps the cache small, any other table goes: it is built again if it is needed
+	private void evictTables(CombatOddsKey keptKey) {
+		Iterator<CombatOddsKey> keys = tables.keySet().iterator();
+		while(tables.size() > MaximumTables && keys.hasNext()) {
+			if(!keys.next().equals(keptKey)) {
+				keys.remove();
+			}
+		}
+	}
+
+	private static int getLifePoints(Character character) {
+		return Math.max(0, character.getCurrentLifePoints());
+	}
+
+	private static int getLifePoints(Enemy enemy) {
+		return Math.max(0, enemy.getCurrentLifePoints());
+	}
+}
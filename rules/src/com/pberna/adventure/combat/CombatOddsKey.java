@@ -0,0 +1,149 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.Skill;
+import com.pberna.adventure.spells.AttackSpell;
+import com.pberna.adventure.spells.Spell;
+
+//Stats of a character and an enemy template that decide the odds of a combat, apart from life and power points
+class CombatOddsKey {
+	private static final int CharacterInitiative = 0;
+	private static final int CharacterAttack = 1;
+	private static final int CharacterDefense = 2;
+	private static final int CharacterMagic = 3;
+	private static final int EnemyInitiative = 4;
+	private static final int EnemyAttack = 5;
+	private static final int EnemyDefense = 6;
+	private static final int EnemyMagic = 7;
+	private static final int CharacterSpellsCount = 8;
+	private static final int FirstSpell = 9;
+
+	//fixed stats, the character spells (cost, multiplier bits) and the enemy spells
+	private final int[] values;
+	private final int hashCode;
+
+	CombatOddsKey(Character character, ArrayList<AttackSpell> characterSpells, Enemy enemy) {
+		ArrayList<AttackSpell> enemySpells = getAttackSpells(enemy.getSpells());
+		values = new int[FirstSpell + (characterSpells.size() + enemySpells.size()) * 2];
+		values[CharacterInitiative] = character.getTotalInitiativeValue();
+		values[CharacterAttack] = character.getTotalAttackValue();
+		values[CharacterDefense] = character.getTotalDefenseValue();
+		values[CharacterMagic] = character.getTotalSkillValue(Skill.IdMagic);
+		values[EnemyInitiative] = enemy.getInitiativeValue();
+		values[EnemyAttack] = enemy.getAttackValue();
+		values[EnemyDefense] = enemy.getDefenseValue();
+		values[EnemyMagic] = enemy.getMagicValue();
+		values[CharacterSpellsCount] = characterSpells.size();
+		int index = FirstSpell;
+		for(AttackSpell spell: characterSpells) {
+			values[index++] = spell.getPowerPointsNeeded();
+			values[index++] = Float.floatToIntBits(spell.getDamageMultiplier());
+		}
+		for(AttackSpell spell: enemySpells) {
+			values[index++] = spell.getPowerPointsNeeded();
+			values[index++] = Float.floatToIntBits(spell.getDamageMultiplier());
+		}
+		hashCode = Arrays.hashCode(values);
+	}
+
+	static ArrayList<AttackSpell> getAttackSpells(ArrayList<Spell> spells) {
+		ArrayList<AttackSpell> attackSpells = new ArrayList<AttackSpell>();
+		for(Spell spell: spells) {
+			if(spell instanceof AttackSpell) {
+				attackSpells.add((AttackSpell) spell);
+			}
+		}
+		return attackSpells;
+	}
+
+	int getCharacterInitiative() {
+		return values[CharacterInitiative];
+	}
+
+	int getCharacterAttack() {
+		return values[CharacterAttack];
+	}
+
+	int getCharacterDefense() {
+		return values[CharacterDefense];
+	}
+
+	int getCharacterMagic() {
+		return values[CharacterMagic];
+	}
+
+	int getEnemyInitiative() {
+		return values[EnemyInitiative];
+	}
+
+	int getEnemyAttack() {
+		return values[EnemyAttack];
+	}
+
+	int getEnemyDefense() {
+		return values[EnemyDefense];
+	}
+
+	int getEnemyMagic() {
+		return values[EnemyMagic];
+	}
+
+	int getCharacterSpellsCount() {
+		return values[CharacterSpellsCount];
+	}
+
+	int getCharacterSpellCost(int spell) {
+		return values[FirstSpell + spell * 2];
+	}
+
+	float getCharacterSpellMultiplier(int spell) {
+		return Float.intBitsToFloat(values[FirstSpell + spell * 2 + 1]);
+	}
+
+	int getEnemySpellsCount() {
+		return (values.length - FirstSpell) / 2 - getCharacterSpellsCount();
+	}
+
+	int getEnemySpellCost(int spell) {
+		return values[FirstSpell + (getCharacterSpellsCount() + spell) * 2];
+	}
+
+	float getEnemySpellMultiplier(int spell) {
+		return Float.intBitsToFloat(values[FirstSpell + (getCharacterSpellsCount() + spell) * 2 + 1]);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof CombatOddsKey && hashCode == other.hashCode()
+				&& Arrays.equals(values, ((CombatOddsKey) other).values);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
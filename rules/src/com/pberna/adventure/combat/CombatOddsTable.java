@@ -0,0 +1,438 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.dices.Dice;
+
+//Exact odds of a combat for some character and enemy stats, for every life and power points up to the bounds of
+//the table. Each round the initiative decides who attacks first; on its turn the character attacks or casts one
+//of its attack spells (the one that gives the highest chance to win) and the enemy acts like Enemy.getNextAction.
+//The odds are computed from the lower states up: every action takes life or power points except a failed melee
+//attack, so a state only depends on itself through rounds where nobody is damaged
+class CombatOddsTable {
+	static final int MeleeAction = 0;
+
+	private static final double NeverEnds = 1.0 - 1e-12;
+
+	private final int characterLifeSize;
+	private final int enemyLifeSize;
+	private final int characterPowerSize;
+	private final int enemyPowerSize;
+
+	private final double characterFirstProbability;
+	private final int[] characterActionCosts;
+	private final int[][] characterActionDamages;
+	private final double[][] characterActionProbabilities;
+	private final int[] enemyActionByPower;
+	private final int[] enemyActionCosts;
+	private final int[][] enemyActionDamages;
+	private final double[][] enemyActionProbabilities;
+
+	//odds at the start of a round, at the character's second turn and at the enemy's second turn
+	private final double[] roundOdds;
+	private final double[] characterSecondOdds;
+	private final double[] enemySecondOdds;
+	private final byte[] characterFirstActions;
+	private final byte[] characterSecondActions;
+
+	CombatOddsTable(CombatOddsKey key, int characterLifePoints, int enemyLifePoints,
+					int characterPowerPoints, int enemyPowerPoints) {
+		characterLifeSize = characterLifePoints + 1;
+		enemyLifeSize = enemyLifePoints + 1;
+		characterPowerSize = characterPowerPoints + 1;
+		enemyPowerSize = enemyPowerPoints + 1;
+
+		characterFirstProbability = getProbabilityRollIsHigherOrEqual(key.getCharacterInitiative(),
+				key.getEnemyInitiative());
+
+		int characterActions = key.getCharacterSpellsCount() + 1;
+		characterActionCosts = new int[characterActions];
+		characterActionDamages = new int[characterActions][];
+		characterActionProbabilities = new double[characterActions][];
+		setDamageDistribution(characterActionDamages, characterActionProbabilities, MeleeAction,
+				key.getCharacterAttack(), key.getEnemyDefense(), 1f);
+		for(int spell = 0; spell < key.getCharacterSpellsCount(); spell++) {
+			characterActionCosts[spell + 1] = key.getCharacterSpellCost(spell);
+			setDamageDistribution(characterActionDamages, characterActionProbabilities, spell + 1,
+					key.getCharacterMagic(), key.getEnemyMagic(), key.getCharacterSpellMultiplier(spell));
+		}
+
+		int enemyActions = key.getEnemySpellsCount() + 1;
+		enemyActionCosts = new int[enemyActions];
+		enemyActionDamages = new int[enemyActions][];
+		enemyActionProbabilities = new double[enemyActions][];
+		setDamageDistribution(enemyActionDamages, enemyActionProbabilities, MeleeAction,
+				key.getEnemyAttack(), key.getCharacterDefense(), 1f);
+		for(int spell = 0; spell < key.getEnemySpellsCount(); spell++) {
+			enemyActionCosts[spell + 1] = key.getEnemySpellCost(spell);
+			setDamageDistribution(enemyActionDamages, enemyActionProbabilities, spell + 1,
+					key.getEnemyMagic(), key.getCharacterMagic(), key.getEnemySpellMultiplier(spell));
+		}
+		enemyActionByPower = new int[enemyPowerSize];
+		for(int power = 0; power < enemyPowerSize; power++) {
+			enemyActionByPower[power] = MeleeAction;
+			for(int spell = 0; spell < key.getEnemySpellsCount(); spell++) {
+				if(key.getEnemySpellCost(spell) <= power) {
+					enemyActionByPower[power] = spell + 1;
+					break;
+				}
+			}
+		}
+
+		int states = characterLifeSize * enemyLifeSize * characterPowerSize * enemyPowerSize;
+		roundOdds = new double[states];
+		characterSecondOdds = new double[states];
+		enemySecondOdds = new double[states];
+		characterFirstActions = new byte[states];
+		characterSecondActions = new byte[states];
+		computeOdds();
+	}
+
+	boolean contains(int characterLifePoints, int enemyLifePoints, int characterPowerPoints, int enemyPowerPoints) {
+		return characterLifePoints < characterLifeSize && enemyLifePoints < enemyLifeSize
+				&& characterPowerPoints < characterPowerSize && enemyPowerPoints < enemyPowerSize;
+	}
+
+	int getCharacterLifeSize() {
+		return characterLifeSize;
+	}
+
+	int getEnemyLifeSize() {
+		return enemyLifeSize;
+	}
+
+	int getCharacterPowerSize() {
+		return characterPowerSize;
+	}
+
+	int getEnemyPowerSize() {
+		return enemyPowerSize;
+	}
+
+	double getRoundOdds(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		if(characterLife <= 0 || enemyLife <= 0) {
+			return characterLife > 0 ? 1.0 : 0.0;
+		}
+		return roundOdds[getIndex(characterLife, enemyLife, characterPower, enemyPower)];
+	}
+
+	double getCharacterFirstOdds(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		if(characterLife <= 0 || enemyLife <= 0) {
+			return characterLife > 0 ? 1.0 : 0.0;
+		}
+		int action = characterFirstActions[getIndex(characterLife, enemyLife, characterPower, enemyPower)];
+		return getCharacterActionOdds(action, characterLife, enemyLife, characterPower, enemyPower, enemySecondOdds);
+	}
+
+	double getCharacterSecondOdds(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		if(characterLife <= 0 || enemyLife <= 0) {
+			return characterLife > 0 ? 1.0 : 0.0;
+		}
+		return characterSecondOdds[getIndex(characterLife, enemyLife, characterPower, enemyPower)];
+	}
+
+	double getEnemyFirstOdds(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		if(characterLife <= 0 || enemyLife <= 0) {
+			return characterLife > 0 ? 1.0 : 0.0;
+		}
+		return getEnemyActionOdds(characterLife, enemyLife, characterPower, enemyPower, characterSecondOdds);
+	}
+
+	double getEnemySecondOdds(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		if(characterLife <= 0 || enemyLife <= 0) {
+			return characterLife > 0 ? 1.0 : 0.0;
+		}
+		return enemySecondOdds[getIndex(characterLife, enemyLife, characterPower, enemyPower)];
+	}
+
+	//Probability that the character is alive after the attack the enemy makes when the character runs away
+	double getRunAwayOdds(int characterLife, int enemyPower) {
+		int enemyAction = enemyActionByPower[enemyPower];
+		int[] damages = enemyActionDamages[enemyAction];
+		double[] probabilities = enemyActionProbabilities[enemyAction];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] < characterLife) {
+				odds += probabilities[i];
+			}
+		}
+		return odds;
+	}
+
+	int getCharacterFirstAction(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		return characterFirstActions[getIndex(characterLife, enemyLife, characterPower, enemyPower)];
+	}
+
+	int getCharacterSecondAction(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		return characterSecondActions[getIndex(characterLife, enemyLife, characterPower, enemyPower)];
+	}
+
+	private int getIndex(int characterLife, int enemyLife, int characterPower, int enemyPower) {
+		return ((characterLife * enemyLifeSize + enemyLife) * characterPowerSize + characterPower) * enemyPowerSize
+				+ enemyPower;
+	}
+
+	private void computeOdds() {
+		int characterActions = characterActionCosts.length;
+		double[] characterFirstConstant = new double[characterActions];
+		double[] characterFirstSlope = new double[characterActions];
+		double[] characterSecondConstant = new double[characterActions];
+		double[] characterSecondSlope = new double[characterActions];
+		double[] enemyFirstConstant = new double[characterActions];
+		double[] enemyFirstSlope = new double[characterActions];
+
+		for(int characterLife = 1; characterLife < characterLifeSize; characterLife++) {
+			for(int enemyLife = 1; enemyLife < enemyLifeSize; enemyLife++) {
+				for(int characterPower = 0; characterPower < characterPowerSize; characterPower++) {
+					for(int enemyPower = 0; enemyPower < enemyPowerSize; enemyPower++) {
+						int index = getIndex(characterLife, enemyLife, characterPower, enemyPower);
+
+						//every odd of this state is a linear function of the round odds x of this same state:
+						//constant + slope * x
+						double enemySecondConstant = enemyAttacksSecond(characterLife, enemyLife, characterPower,
+								enemyPower, 0.0);
+						double enemySecondSlope = enemyAttacksSecond(characterLife, enemyLife, characterPower,
+								enemyPower, 1.0) - enemySecondConstant;
+
+						for(int action = 0; action < characterActions; action++) {
+							if(characterActionCosts[action] > characterPower) {
+								continue;
+							}
+							characterFirstConstant[action] = characterAttacksFirst(action, characterLife, enemyLife,
+									characterPower, enemyPower, enemySecondConstant);
+							characterFirstSlope[action] = characterAttacksFirst(action, characterLife, enemyLife,
+									characterPower, enemyPower, enemySecondConstant + enemySecondSlope)
+									- characterFirstConstant[action];
+							characterSecondConstant[action] = characterAttacksSecond(action, characterLife, enemyLife,
+									characterPower, enemyPower, 0.0);
+							characterSecondSlope[action] = characterAttacksSecond(action, characterLife, enemyLife,
+									characterPower, enemyPower, 1.0) - characterSecondConstant[action];
+							enemyFirstConstant[action] = enemyAttacksFirst(characterLife, enemyLife, characterPower,
+									enemyPower, characterSecondConstant[action]);
+							enemyFirstSlope[action] = enemyAttacksFirst(characterLife, enemyLife, characterPower,
+									enemyPower, characterSecondConstant[action] + characterSecondSlope[action])
+									- enemyFirstConstant[action];
+						}
+
+						//the best pair of actions for the character, when it attacks first and second
+						double odds = 0.0;
+						for(int firstAction = 0; firstAction < characterActions; firstAction++) {
+							if(characterActionCosts[firstAction] > characterPower) {
+								continue;
+							}
+							for(int secondAction = 0; secondAction < characterActions; secondAction++) {
+								if(characterActionCosts[secondAction] > characterPower) {
+									continue;
+								}
+								double constant = characterFirstProbability * characterFirstConstant[firstAction]
+										+ (1.0 - characterFirstProbability) * enemyFirstConstant[secondAction];
+								double slope = characterFirstProbability * characterFirstSlope[firstAction]
+										+ (1.0 - characterFirstProbability) * enemyFirstSlope[secondAction];
+								double policyOdds = slope < NeverEnds ? constant / (1.0 - slope) : 0.0;
+								odds = Math.max(odds, policyOdds);
+							}
+						}
+
+						roundOdds[index] = odds;
+						enemySecondOdds[index] = enemySecondConstant + enemySecondSlope * odds;
+						characterFirstActions[index] = (byte) getBestAction(characterFirstConstant, characterFirstSlope,
+								characterPower, odds);
+						int secondAction = getBestAction(characterSecondConstant, characterSecondSlope, characterPower, odds);
+						characterSecondActions[index] = (byte) secondAction;
+						characterSecondOdds[index] = characterSecondConstant[secondAction]
+								+ characterSecondSlope[secondAction] * odds;
+					}
+				}
+			}
+		}
+	}
+
+	private int getBestAction(double[] constants, double[] slopes, int characterPower, double roundOdds) {
+		int bestAction = MeleeAction;
+		double bestOdds = -1.0;
+		for(int action = 0; action < constants.length; action++) {
+			if(characterActionCosts[action] <= characterPower && constants[action] + slopes[action] * roundOdds > bestOdds) {
+				bestAction = action;
+				bestOdds = constants[action] + slopes[action] * roundOdds;
+			}
+		}
+		return bestAction;
+	}
+
+	//Character attacks first; a failed melee attack leaves the same state, where the enemy odds are sameStateOdds
+	private double characterAttacksFirst(int action, int characterLife, int enemyLife, int characterPower,
+										int enemyPower, double sameStateOdds) {
+		int[] damages = characterActionDamages[action];
+		double[] probabilities = characterActionProbabilities[action];
+		int power = characterPower - characterActionCosts[action];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] >= enemyLife) {
+				odds += probabilities[i];
+			} else if(damages[i] == 0 && power == characterPower) {
+				odds += probabilities[i] * sameStateOdds;
+			} else {
+				odds += probabilities[i] * enemySecondOdds[getIndex(characterLife, enemyLife - damages[i], power,
+						enemyPower)];
+			}
+		}
+		return odds;
+	}
+
+	//Character attacks second; a failed melee attack leaves the same state for the next round
+	private double characterAttacksSecond(int action, int characterLife, int enemyLife, int characterPower,
+										 int enemyPower, double sameStateOdds) {
+		int[] damages = characterActionDamages[action];
+		double[] probabilities = characterActionProbabilities[action];
+		int power = characterPower - characterActionCosts[action];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] >= enemyLife) {
+				odds += probabilities[i];
+			} else if(damages[i] == 0 && power == characterPower) {
+				odds += probabilities[i] * sameStateOdds;
+			} else {
+				odds += probabilities[i] * roundOdds[getIndex(characterLife, enemyLife - damages[i], power, enemyPower)];
+			}
+		}
+		return odds;
+	}
+
+	private double enemyAttacksFirst(int characterLife, int enemyLife, int characterPower, int enemyPower,
+									 double sameStateOdds) {
+		int enemyAction = enemyActionByPower[enemyPower];
+		int[] damages = enemyActionDamages[enemyAction];
+		double[] probabilities = enemyActionProbabilities[enemyAction];
+		int power = enemyPower - enemyActionCosts[enemyAction];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] >= characterLife) {
+				continue;
+			}
+			if(damages[i] == 0 && power == enemyPower) {
+				odds += probabilities[i] * sameStateOdds;
+			} else {
+				odds += probabilities[i] * characterSecondOdds[getIndex(characterLife - damages[i], enemyLife,
+						characterPower, power)];
+			}
+		}
+		return odds;
+	}
+
+	private double enemyAttacksSecond(int characterLife, int enemyLife, int characterPower, int enemyPower,
+									 double sameStateOdds) {
+		int enemyAction = enemyActionByPower[enemyPower];
+		int[] damages = enemyActionDamages[enemyAction];
+		double[] probabilities = enemyActionProbabilities[enemyAction];
+		int power = enemyPower - enemyActionCosts[enemyAction];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] >= characterLife) {
+				continue;
+			}
+			if(damages[i] == 0 && power == enemyPower) {
+				odds += probabilities[i] * sameStateOdds;
+			} else {
+				odds += probabilities[i] * roundOdds[getIndex(characterLife - damages[i], enemyLife, characterPower,
+						power)];
+			}
+		}
+		return odds;
+	}
+
+	//Odds of an action from a state whose following states are already in the table
+	private double getCharacterActionOdds(int action, int characterLife, int enemyLife, int characterPower,
+										  int enemyPower, double[] nextOdds) {
+		int[] damages = characterActionDamages[action];
+		double[] probabilities = characterActionProbabilities[action];
+		int power = characterPower - characterActionCosts[action];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] >= enemyLife) {
+				odds += probabilities[i];
+			} else {
+				odds += probabilities[i] * nextOdds[getIndex(characterLife, enemyLife - damages[i], power, enemyPower)];
+			}
+		}
+		return odds;
+	}
+
+	private double getEnemyActionOdds(int characterLife, int enemyLife, int characterPower, int enemyPower,
+									  double[] nextOdds) {
+		int enemyAction = enemyActionByPower[enemyPower];
+		int[] damages = enemyActionDamages[enemyAction];
+		double[] probabilities = enemyActionProbabilities[enemyAction];
+		int power = enemyPower - enemyActionCosts[enemyAction];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] < characterLife) {
+				odds += probabilities[i] * nextOdds[getIndex(characterLife - damages[i], enemyLife, characterPower, power)];
+			}
+		}
+		return odds;
+	}
+
+	//Distribution of the damage of Combat.applyAttackRoll when both sides roll a dice
+	static void setDamageDistribution(int[][] damages, double[][] probabilities, int action,
+									  int attackValue, int defenseValue, float damageMultiplier) {
+		int maximumDamage = Math.max(0, Math.round((attackValue - defenseValue + Dice.DiceFaces) * damageMultiplier))
+				+ Dice.DiceFaces;
+		int[] counts = new int[maximumDamage + 1];
+		int outcomes = 0;
+		for(int attackRoll = 1; attackRoll <= Dice.DiceFaces; attackRoll++) {
+			for(int defenseRoll = 1; defenseRoll <= Dice.DiceFaces; defenseRoll++) {
+				int damage = attackValue + attackRoll - defenseValue - defenseRoll;
+				if(damage > 0) {
+					damage = Math.max(1, Math.round(damage * damageMultiplier));
+				}
+				counts[Math.max(0, damage)]++;
+			}
+		}
+		for(int count: counts) {
+			if(count > 0) {
+				outcomes++;
+			}
+		}
+
+		damages[action] = new int[outcomes];
+		probabilities[action] = new double[outcomes];
+		int outcome = 0;
+		for(int damage = 0; damage < counts.length; damage++) {
+			if(counts[damage] > 0) {
+				damages[action][outcome] = damage;
+				probabilities[action][outcome] = counts[damage] / (double) (Dice.DiceFaces * Dice.DiceFaces);
+				outcome++;
+			}
+		}
+	}
+
+	static double getProbabilityRollIsHigherOrEqual(int value, int otherValue) {
+		int favourable = 0;
+		for(int roll = 1; roll <= Dice.DiceFaces; roll++) {
+			for(int otherRoll = 1; otherRoll <= Dice.DiceFaces; otherRoll++) {
+				if(value + roll >= otherValue + otherRoll) {
+					favourable++;
+				}
+			}
+		}
+		return favourable / (double) (Dice.DiceFaces * Dice.DiceFaces);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.dices.Dice;
+import com.pberna.adventure.dices.DiceDistribution;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.Skill;
+import com.pberna.adventure.spells.AttackSpell;
+import com.pberna.engine.random.SplittableRandom;
+
+//Plays the rest of a combat in one call, with the same rolls CombatWindow makes. The character takes the action
+//with the highest chance to win in each of its turns and the enemy the one its policy chooses. The steps of the
+//combat are played here for the simulator too, which lets its policies choose the actions of the character
+public class CombatResolver {
+	private static final int MaximumSteps = 10000;
+	private static final DiceDistribution CombatDice = Dice.CheckDice.getDistribution();
+
+	private static final ICharacterCombatTurn BestOddsTurn = new ICharacterCombatTurn() {
+		@Override
+		public void play(Combat combat, SplittableRandom random) {
+			AttackSpell attackSpell = CombatOddsCalculator.getInstance().getBestAttackSpell(combat);
+			if(attackSpell != null) {
+				castAttackSpell(combat, attackSpell, random);
+			} else {
+				attack(combat, random);
+			}
+		}
+	};
+
+	private CombatResolver() {
+
+	}
+
+	public static CombatWinner resolve(Combat combat) {
+		return resolve(combat, Dice.getInstance().getGameRandom());
+	}
+
+	public static CombatWinner resolve(Combat combat, SplittableRandom random) {
+		if(combat.getCombatState() == CombatState.NotStarted) {
+			EnemyPolicies.getPolicy(combat.getEnemy()).prepare(combat);
+			combat.startCombat(false);
+		}
+
+		for(int step = 0; step < MaximumSteps && combat.getCombatState() != CombatState.Finished; step++) {
+			boolean runningAway = combat.getCombatState() == CombatState.RunAway;
+			step(combat, BestOddsTurn, random);
+			if(runningAway) {
+				break;
+			}
+		}
+		return combat.getCombatWinner();
+	}
+
+	//Plays the next step of a started combat: the initiative, the end of a round or the turn of the character or the
+	//enemy. When the character runs away the step is the last attack of the enemy
+	public static void step(Combat combat, ICharacterCombatTurn characterTurn, SplittableRandom random) {
+		Character character = combat.getCharacter();
+		Enemy enemy = combat.getEnemy();
+		if(combat.getCombatState() == CombatState.RunAway) {
+			enemyAttacks(character, enemy, combat, random);
+		} else if(combat.getRoundState() == RoundState.RollingInitiative) {
+			combat.applyInitiativeRoll(character.getTotalInitiativeValue() + rollDice(random),
+					enemy.getInitiativeValue() + rollDice(random));
+		} else if(combat.getRoundState() == RoundState.EndRound) {
+			combat.nextTurnOrRound();
+		} else if(combat.getCurrentTurn() == Turn.Character) {
+			characterTurn.play(combat, random);
+		} else {
+			enemyAttacks(character, enemy, combat, random);
+		}
+	}
+
+	//Melee attack of the character
+	public static void attack(Combat combat, SplittableRandom random) {
+		combat.applyAttackRoll(combat.getCharacter().getTotalAttackValue() + rollDice(random),
+				combat.getEnemy().getDefenseValue() + rollDice(random), 1f, true);
+	}
+
+	public static void castAttackSpell(Combat combat, AttackSpell attackSpell, SplittableRandom random) {
+		Character character = combat.getCharacter();
+		character.setCurrentPowerPoints(character.getCurrentPowerPoints() - attackSpell.getPowerPointsNeeded());
+		combat.applyAttackRoll(character.getTotalSkillValue(Skill.IdMagic) + rollDice(random),
+				combat.getEnemy().getMagicValue() + rollDice(random), attackSpell.getDamageMultiplier(), false);
+	}
+
+	private static void enemyAttacks(Character character, Enemy enemy, Combat combat, SplittableRandom random) {
+		AttackSpell attackSpell = EnemyPolicies.getPolicy(enemy).getAttackSpell(combat);
+		if(attackSpell != null) {
+			enemy.setCurrentPowerPoints(enemy.getCurrentPowerPoints() - attackSpell.getPowerPointsNeeded());
+			combat.applyAttackRoll(enemy.getMagicValue() + rollDice(random),
+					character.getTotalSkillValue(Skill.IdMagic) + rollDice(random), attackSpell.getDamageMultiplier(), false);
+		} else {
+			combat.applyAttackRoll(enemy.getAttackValue() + rollDice(random),
+					character.getTotalDefenseValue() + rollDice(random), 1f, true);
+		}
+	}
+
+	public static int rollDice(SplittableRandom random) {
+		return CombatDice.sample(random);
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+//Actions of an enemy that plays to kill a character who attacks in melee, for every round up to the horizon and
+//every life and power points up to the bounds of the table. They are chosen with expectimax over the initiative and
+//damage dice: in each of its turns the enemy takes the action with the highest chance to win, and after the last
+//round the chance to win is taken as the share of the life points left that belong to the enemy
+class EnemyDecisionTable {
+	static final int MeleeAction = CombatOddsTable.MeleeAction;
+	static final int Rounds = 12;
+
+	//an action has to be this much better than the ones before it, so on ties the enemy attacks in melee
+	private static final double MinimumGain = 1e-9;
+
+	private final int characterLifeSize;
+	private final int enemyLifeSize;
+	private final int enemyPowerSize;
+	private final int states;
+
+	private final double enemyFirstProbability;
+	private final int[][] characterDamages;
+	private final double[][] characterProbabilities;
+	private final int[] enemyActionCosts;
+	private final int[][] enemyActionDamages;
+	private final double[][] enemyActionProbabilities;
+
+	//actions by round and state when the enemy attacks first or second, and when the character runs away
+	private final byte[] firstActions;
+	private final byte[] secondActions;
+	private final byte[] runAwayActions;
+
+	EnemyDecisionTable(CombatOddsKey key, int characterLifePoints, int enemyLifePoints, int enemyPowerPoints) {
+		characterLifeSize = characterLifePoints + 1;
+		enemyLifeSize = enemyLifePoints + 1;
+		enemyPowerSize = enemyPowerPoints + 1;
+		states = characterLifeSize * enemyLifeSize * enemyPowerSize;
+
+		enemyFirstProbability = 1.0 - CombatOddsTable.getProbabilityRollIsHigherOrEqual(key.getCharacterInitiative(),
+				key.getEnemyInitiative());
+
+		characterDamages = new int[1][];
+		characterProbabilities = new double[1][];
+		CombatOddsTable.setDamageDistribution(characterDamages, characterProbabilities, MeleeAction,
+				key.getCharacterAttack(), key.getEnemyDefense(), 1f);
+
+		int enemyActions = key.getEnemySpellsCount() + 1;
+		enemyActionCosts = new int[enemyActions];
+		enemyActionDamages = new int[enemyActions][];
+		enemyActionProbabilities = new double[enemyActions][];
+		CombatOddsTable.setDamageDistribution(enemyActionDamages, enemyActionProbabilities, MeleeAction,
+				key.getEnemyAttack(), key.getCharacterDefense(), 1f);
+		for(int spell = 0; spell < key.getEnemySpellsCount(); spell++) {
+			enemyActionCosts[spell + 1] = key.getEnemySpellCost(spell);
+			CombatOddsTable.setDamageDistribution(enemyActionDamages, enemyActionProbabilities, spell + 1,
+					key.getEnemyMagic(), key.getCharacterMagic(), key.getEnemySpellMultiplier(spell));
+		}
+
+		firstActions = new byte[Rounds * states];
+		secondActions = new byte[Rounds * states];
+		runAwayActions = new byte[characterLifeSize * enemyPowerSize];
+		computeActions();
+		computeRunAwayActions();
+	}
+
+	boolean contains(int characterLifePoints, int enemyLifePoints, int enemyPowerPoints) {
+		return characterLifePoints < characterLifeSize && enemyLifePoints < enemyLifeSize
+				&& enemyPowerPoints < enemyPowerSize;
+	}
+
+	int getCharacterLifeSize() {
+		return characterLifeSize;
+	}
+
+	int getEnemyLifeSize() {
+		return enemyLifeSize;
+	}
+
+	int getEnemyPowerSize() {
+		return enemyPowerSize;
+	}
+
+	//Rounds of the combat start at 1, the ones past the horizon play like the last round of the table
+	int getFirstAction(int round, int characterLife, int enemyLife, int enemyPower) {
+		return firstActions[getRoundOffset(round) + getIndex(characterLife, enemyLife, enemyPower)];
+	}
+
+	int getSecondAction(int round, int characterLife, int enemyLife, int enemyPower) {
+		return secondActions[getRoundOffset(round) + getIndex(characterLife, enemyLife, enemyPower)];
+	}
+
+	int getRunAwayAction(int characterLife, int enemyPower) {
+		return runAwayActions[characterLife * enemyPowerSize + enemyPower];
+	}
+
+	private int getRoundOffset(int round) {
+		return Math.min(Math.max(round - 1, 0), Rounds - 1) * states;
+	}
+
+	private int getIndex(int characterLife, int enemyLife, int enemyPower) {
+		return (characterLife * enemyLifeSize + enemyLife) * enemyPowerSize + enemyPower;
+	}
+
+	//From the last round back to the first one, the odds of a round only depend on the odds of the next one
+	private void computeActions() {
+		double[] nextRoundOdds = new double[states];
+		double[] roundOdds = new double[states];
+		double[] characterSecondOdds = new double[states];
+		double[] enemySecondOdds = new double[states];
+
+		for(int characterLife = 1; characterLife < characterLifeSize; characterLife++) {
+			for(int enemyLife = 1; enemyLife < enemyLifeSize; enemyLife++) {
+				double horizonOdds = enemyLife / (double) (enemyLife + characterLife);
+				for(int enemyPower = 0; enemyPower < enemyPowerSize; enemyPower++) {
+					nextRoundOdds[getIndex(characterLife, enemyLife, enemyPower)] = horizonOdds;
+				}
+			}
+		}
+
+		for(int round = Rounds - 1; round >= 0; round--) {
+			int offset = round * states;
+			for(int characterLife = 1; characterLife < characterLifeSize; characterLife++) {
+				for(int enemyLife = 1; enemyLife < enemyLifeSize; enemyLife++) {
+					for(int enemyPower = 0; enemyPower < enemyPowerSize; enemyPower++) {
+						int index = getIndex(characterLife, enemyLife, enemyPower);
+						characterSecondOdds[index] = getCharacterAttackOdds(characterLife, enemyLife, enemyPower,
+								nextRoundOdds);
+						enemySecondOdds[index] = getEnemyActionOdds(characterLife, enemyLife, enemyPower,
+								nextRoundOdds, secondActions, offset + index);
+					}
+				}
+			}
+			for(int characterLife = 1; characterLife < characterLifeSize; characterLife++) {
+				for(int enemyLife = 1; enemyLife < enemyLifeSize; enemyLife++) {
+					for(int enemyPower = 0; enemyPower < enemyPowerSize; enemyPower++) {
+						int index = getIndex(characterLife, enemyLife, enemyPower);
+						double enemyFirstOdds = getEnemyActionOdds(characterLife, enemyLife, enemyPower,
+								characterSecondOdds, firstActions, offset + index);
+						double characterFirstOdds = getCharacterAttackOdds(characterLife, enemyLife, enemyPower,
+								enemySecondOdds);
+						roundOdds[index] = enemyFirstProbability * enemyFirstOdds
+								+ (1.0 - enemyFirstProbability) * characterFirstOdds;
+					}
+				}
+			}
+
+			double[] odds = nextRoundOdds;
+			nextRoundOdds = roundOdds;
+			roundOdds = odds;
+		}
+	}
+
+	//The attack when the character runs away is the last one, so the enemy only looks at the chance to kill
+	private void computeRunAwayActions() {
+		for(int characterLife = 1; characterLife < characterLifeSize; characterLife++) {
+			for(int enemyPower = 0; enemyPower < enemyPowerSize; enemyPower++) {
+				int bestAction = MeleeAction;
+				double bestOdds = -1.0;
+				for(int action = 0; action < enemyActionCosts.length; action++) {
+					if(enemyActionCosts[action] > enemyPower) {
+						continue;
+					}
+					int[] damages = enemyActionDamages[action];
+					double[] probabilities = enemyActionProbabilities[action];
+					double odds = 0.0;
+					for(int i = 0; i < damages.length; i++) {
+						if(damages[i] >= characterLife) {
+							odds += probabilities[i];
+						}
+					}
+					if(odds > bestOdds + MinimumGain) {
+						bestOdds = odds;
+						bestAction = action;
+					}
+				}
+				runAwayActions[characterLife * enemyPowerSize + enemyPower] = (byte) bestAction;
+			}
+		}
+	}
+
+	private double getCharacterAttackOdds(int characterLife, int enemyLife, int enemyPower, double[] nextOdds) {
+		int[] damages = characterDamages[MeleeAction];
+		double[] probabilities = characterProbabilities[MeleeAction];
+		double odds = 0.0;
+		for(int i = 0; i < damages.length; i++) {
+			if(damages[i] < enemyLife) {
+				odds += probabilities[i] * nextOdds[getIndex(characterLife, enemyLife - damages[i], enemyPower)];
+			}
+		}
+		return odds;
+	}
+
+	private double getEnemyActionOdds(int characterLife, int enemyLife, int enemyPower, double[] nextOdds,
+									  byte[] actions, int actionIndex) {
+		int bestAction = MeleeAction;
+		double bestOdds = -1.0;
+		for(int action = 0; action < enemyActionCosts.length; action++) {
+			if(enemyActionCosts[action] > enemyPower) {
+				continue;
+			}
+			int[] damages = enemyActionDamages[action];
+			double[] probabilities = enemyActionProbabilities[action];
+			int power = enemyPower - enemyActionCosts[action];
+			double odds = 0.0;
+			for(int i = 0; i < damages.length; i++) {
+				odds += damages[i] >= characterLife ? probabilities[i]
+						: probabilities[i] * nextOdds[getIndex(characterLife - damages[i], enemyLife, power)];
+			}
+			if(odds > bestOdds + MinimumGain) {
+				bestOdds = odds;
+				bestAction = action;
+			}
+		}
+		actions[actionIndex] = (byte) bestAction;
+		return bestOdds;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import java.util.HashMap;
+
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyTemplate;
+
+//Policies that choose the actions of the enemies in combat, by the name the bestiary gives them
+public class EnemyPolicies {
+	private static final HashMap<String, IEnemyPolicy> policies = new HashMap<String, IEnemyPolicy>();
+	private static final IEnemyPolicy defaultPolicy = new BasicEnemyPolicy();
+
+	static {
+		policies.put(BasicEnemyPolicy.Name, defaultPolicy);
+		policies.put(ExpectimaxEnemyPolicy.Name, new ExpectimaxEnemyPolicy());
+	}
+
+	private EnemyPolicies() {
+
+	}
+
+	public static synchronized void register(String name, IEnemyPolicy policy) {
+		policies.put(name, policy);
+	}
+
+	//Policy with the name, the basic one when there is none
+	public static synchronized IEnemyPolicy getPolicy(String name) {
+		IEnemyPolicy policy = name != null ? policies.get(name) : null;
+		return policy != null ? policy : defaultPolicy;
+	}
+
+	public static IEnemyPolicy getPolicy(Enemy enemy) {
+		EnemyTemplate template = enemy.getTemplate();
+		return template != null ? getPolicy(template.getAiPolicy()) : defaultPolicy;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.spells.AttackSpell;
+
+//The enemy plays to win looking ahead over the combat dice. Decision tables are kept per character stats and enemy
+//template, and the one of a combat is kept on it when the combat is prepared, so every turn of the enemy is a
+//lookup. Enemies without attack spells always attack in melee. The tables never change once built, so they are
+//shared between threads without locks
+public class ExpectimaxEnemyPolicy implements IEnemyPolicy {
+	public static final String Name = "expectimax";
+
+	private static final int MaximumTables = 16;
+	private static final AttackSpell[] NoAttackSpells = new AttackSpell[0];
+
+	private final ArrayList<AttackSpell> noSpells;
+	private final ConcurrentHashMap<CombatOddsKey, EnemyDecisionTable> tables;
+
+	public ExpectimaxEnemyPolicy() {
+		noSpells = new ArrayList<AttackSpell>();
+		tables = new ConcurrentHashMap<CombatOddsKey, EnemyDecisionTable>(MaximumTables * 2);
+	}
+
+	@Override
+	public void prepare(Combat combat) {
+		Enemy enemy = combat.getEnemy();
+		AttackSpell[] attackSpells = getAttackSpells(enemy);
+		combat.setEnemyDecision(attackSpells,
+				attackSpells.length > 0 ? getTable(combat.getCharacter(), enemy) : null);
+	}
+
+	@Override
+	public AttackSpell getAttackSpell(Combat combat) {
+		if(combat.getEnemyAttackSpells() == null) {
+			prepare(combat);
+		}
+		AttackSpell[] attackSpells = combat.getEnemyAttackSpells();
+		Enemy enemy = combat.getEnemy();
+		int characterLife = getLifePoints(combat.getCharacter());
+		int enemyLife = getLifePoints(enemy);
+		int enemyPower = Math.max(0, enemy.getCurrentPowerPoints());
+		if(characterLife == 0 || enemyLife == 0 || attackSpells.length == 0) {
+			return null;
+		}
+
+		EnemyDecisionTable table = combat.getEnemyDecisionTable();
+		if(!table.contains(characterLife, enemyLife, enemyPower)) {
+			//the character healed over the points the table was built for
+			table = getTable(combat.getCharacter(), enemy);
+			combat.setEnemyDecision(attackSpells, table);
+		}
+		int action;
+		if(combat.getCombatState() == CombatState.RunAway) {
+			action = table.getRunAwayAction(characterLife, enemyPower);
+		} else if(combat.getRoundState() == RoundState.FirstTurn) {
+			action = table.getFirstAction(combat.getRound(), characterLife, enemyLife, enemyPower);
+		} else {
+			action = table.getSecondAction(combat.getRound(), characterLife, enemyLife, enemyPower);
+		}
+		return action == EnemyDecisionTable.MeleeAction ? null : attackSpells[action - 1];
+	}
+
+	public void clear() {
+		tables.clear();
+	}
+
+	//The character is taken to attack in melee, so its spells are left out of the key
+	private EnemyDecisionTable getTable(Character character, Enemy enemy) {
+		CombatOddsKey key = new CombatOddsKey(character, noSpells, enemy);
+		int characterLife = getLifePoints(character);
+		int enemyLife = getLifePoints(enemy);
+		int enemyPower = Math.max(0, enemy.getCurrentPowerPoints());
+
+		EnemyDecisionTable table = tables.get(key);
+		if(table == null || !table.contains(characterLife, enemyLife, enemyPower)) {
+			//life and power points only go down during a combat, so the table is as big as the current points
+			if(table != null) {
+				characterLife = Math.max(characterLife, table.getCharacterLifeSize() - 1);
+				enemyLife = Math.max(enemyLife, table.getEnemyLifeSize() - 1);
+				enemyPower = Math.max(enemyPower, table.getEnemyPowerSize() - 1);
+			}
+			table = new EnemyDecisionTable(key, characterLife, enemyLife, enemyPower);
+			if(tables.put(key, table) == null) {
+				evictTables(key);
+			}
+		}
+		return table;
+	}
+
+	//Keeps the cache small, any other table goes: it is built again if it is needed
+	private void evictTables(CombatOddsKey keptKey) {
+		Iterator<CombatOddsKey> keys = tables.keySet().iterator();
+		while(tables.size() > MaximumTables && keys.hasNext()) {
+			if(!keys.next().equals(keptKey)) {
+				keys.remove();
+			}
+		}
+	}
+
+	//In the order of the spells of the enemy, the same the decision table numbers its actions with
+	private static AttackSpell[] getAttackSpells(Enemy enemy) {
+		ArrayList<AttackSpell> attackSpells = CombatOddsKey.getAttackSpells(enemy.getSpells());
+		return attackSpells.isEmpty() ? NoAttackSpells : attackSpells.toArray(new AttackSpell[attackSpells.size()]);
+	}
+
+	private static int getLifePoints(Character character) {
+		return Math.max(0, character.getCurrentLifePoints());
+	}
+
+	private static int getLifePoints(Enemy enemy) {
+		return Math.max(0, enemy.getCurrentLifePoints());
+	}
+}
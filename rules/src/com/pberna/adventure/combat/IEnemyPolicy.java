@@ -0,0 +1,33 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.spells.AttackSpell;
+
+//Chooses the actions of an enemy in combat
+public interface IEnemyPolicy {
+	//Called when a combat is about to start, once its character and enemy are set, so the policy can keep on the
+	//combat what it needs for the turns of the enemy
+	void prepare(Combat combat);
+
+	//Attack spell the enemy casts in its current turn of the combat, null to attack in melee
+	AttackSpell getAttackSpell(Combat combat);
+}
@@ -0,0 +1,82 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.dices;
+
+import com.pberna.engine.random.SplittableRandom;
+
+//Every dice of the game (initiative, attacks, skill and attribute checks) is rolled here, from a random
+//stream that is stored with the saved games. Effects that don't change the game, like the animation of the
+//dice, use a different stream so they don't alter the rolls
+public class Dice {
+	public static final int DiceFaces = 8;
+	public static final DiceExpression CheckDice = new DiceExpression(1, DiceFaces, 0);
+
+	private static Dice instance = null;
+
+	private final SplittableRandom gameRandom;
+	private final SplittableRandom cosmeticRandom;
+
+	private Dice(long seed) {
+		gameRandom = new SplittableRandom(seed);
+		cosmeticRandom = gameRandom.split();
+	}
+
+	public static Dice getInstance() {
+		if(instance == null) {
+			instance = new Dice(System.nanoTime());
+		}
+		return instance;
+	}
+
+	public int roll() {
+		return gameRandom.nextInt(1, DiceFaces);
+	}
+
+	//Probability of passing a skill or attribute check: base value plus luck plus the die reaching the difficulty
+	public static double getCheckSuccessProbability(int baseValue, int luckModifier, int difficulty) {
+		return CheckDice.withModifier(baseValue + luckModifier).getDistribution().getProbabilityAtLeast(difficulty);
+	}
+
+	public SplittableRandom getGameRandom() {
+		return gameRandom;
+	}
+
+	public SplittableRandom getCosmeticRandom() {
+		return cosmeticRandom;
+	}
+
+	//Independent stream for rolls out of the game: another thread, a simulation...
+	public SplittableRandom split() {
+		return gameRandom.split();
+	}
+
+	public long getSeed() {
+		return gameRandom.getSeed();
+	}
+
+	public long getGamma() {
+		return gameRandom.getGamma();
+	}
+
+	public void setState(long seed, long gamma) {
+		gameRandom.setState(seed, gamma);
+	}
+}
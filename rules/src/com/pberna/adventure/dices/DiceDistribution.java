@@ -0,0 +1,149 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.dices;
+
+import com.pberna.engine.random.SplittableRandom;
+
+//Exact probabilities of every total of some dice, with an alias table to sample a total with one random number
+//and one random index whatever the number of totals
+public class DiceDistribution {
+	private final int minimum;
+	private final double[] probabilities;
+	//probability of a total or higher
+	private final double[] tailProbabilities;
+	private final double[] aliasProbabilities;
+	private final int[] aliases;
+
+	DiceDistribution(int count, double[] dieProbabilities) {
+		double[] totals = dieProbabilities;
+		for(int die = 1; die < count; die++) {
+			totals = convolve(totals, dieProbabilities);
+		}
+
+		minimum = count;
+		probabilities = totals;
+		tailProbabilities = new double[totals.length + 1];
+		for(int i = totals.length - 1; i >= 0; i--) {
+			tailProbabilities[i] = tailProbabilities[i + 1] + totals[i];
+		}
+		aliasProbabilities = new double[totals.length];
+		aliases = new int[totals.length];
+		buildAliasTable();
+	}
+
+	private DiceDistribution(DiceDistribution distribution, int minimum) {
+		this.minimum = minimum;
+		probabilities = distribution.probabilities;
+		tailProbabilities = distribution.tailProbabilities;
+		aliasProbabilities = distribution.aliasProbabilities;
+		aliases = distribution.aliases;
+	}
+
+	DiceDistribution shift(int modifier) {
+		return modifier == 0 ? this : new DiceDistribution(this, minimum + modifier);
+	}
+
+	public int getMinimum() {
+		return minimum;
+	}
+
+	public int getMaximum() {
+		return minimum + probabilities.length - 1;
+	}
+
+	public double getProbability(int total) {
+		int index = total - minimum;
+		return index >= 0 && index < probabilities.length ? probabilities[index] : 0.0;
+	}
+
+	public double getProbabilityAtLeast(int total) {
+		int index = total - minimum;
+		if(index <= 0) {
+			return 1.0;
+		}
+		return index < tailProbabilities.length ? tailProbabilities[index] : 0.0;
+	}
+
+	public double getMean() {
+		double mean = 0.0;
+		for(int i = 0; i < probabilities.length; i++) {
+			mean += (minimum + i) * probabilities[i];
+		}
+		return mean;
+	}
+
+	public int sample(SplittableRandom random) {
+		int index = random.nextInt(aliases.length);
+		return minimum + (random.nextDouble() < aliasProbabilities[index] ? index : aliases[index]);
+	}
+
+	//Vose's alias method: every column holds its own total with some probability and the alias total otherwise
+	private void buildAliasTable() {
+		int length = probabilities.length;
+		double[] scaled = new double[length];
+		int[] small = new int[length];
+		int[] large = new int[length];
+		int smallCount = 0;
+		int largeCount = 0;
+		for(int i = 0; i < length; i++) {
+			scaled[i] = probabilities[i] * length;
+			if(scaled[i] < 1.0) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+
+		while(smallCount > 0 && largeCount > 0) {
+			int less = small[--smallCount];
+			int more = large[--largeCount];
+			aliasProbabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = scaled[more] + scaled[less] - 1.0;
+			if(scaled[more] < 1.0) {
+				small[smallCount++] = more;
+			} else {
+				large[largeCount++] = more;
+			}
+		}
+		//the rest are 1 except for rounding errors
+		while(largeCount > 0) {
+			int index = large[--largeCount];
+			aliasProbabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+		while(smallCount > 0) {
+			int index = small[--smallCount];
+			aliasProbabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+	}
+
+	private static double[] convolve(double[] first, double[] second) {
+		double[] result = new double[first.length + second.length - 1];
+		for(int i = 0; i < first.length; i++) {
+			for(int j = 0; j < second.length; j++) {
+				result[i + j] += first[i] * second[j];
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.dices;
+
+import java.util.HashMap;
+
+//Dice expression like "1d8", "2d6+3" or "3d6r1-2": number of dice, faces, an optional reroll (every die that
+//shows the reroll value or less is rolled once more) and a modifier added to the sum of the dice
+public class DiceExpression {
+	private static final HashMap<DiceExpression, DiceDistribution> distributions =
+			new HashMap<DiceExpression, DiceDistribution>();
+
+	private final int count;
+	private final int faces;
+	private final int reroll;
+	private final int modifier;
+
+	public DiceExpression(int count, int faces, int reroll, int modifier) {
+		if(count < 1 || faces < 1 || reroll < 0 || reroll >= faces) {
+			throw new IllegalArgumentException("Invalid dice expression " + count + "d" + faces + "r" + reroll);
+		}
+		this.count = count;
+		this.faces = faces;
+		this.reroll = reroll;
+		this.modifier = modifier;
+	}
+
+	public DiceExpression(int count, int faces, int modifier) {
+		this(count, faces, 0, modifier);
+	}
+
+	public static DiceExpression parse(String expression) {
+		String text = expression.trim().toLowerCase();
+		int diceIndex = text.indexOf('d');
+		if(diceIndex < 0) {
+			throw new IllegalArgumentException("Invalid dice expression " + expression);
+		}
+
+		int modifierIndex = Math.max(text.indexOf('+'), text.indexOf('-'));
+		int rerollIndex = text.indexOf('r');
+		int facesEnd = rerollIndex >= 0 ? rerollIndex : (modifierIndex >= 0 ? modifierIndex : text.length());
+		try {
+			int count = diceIndex == 0 ? 1 : Integer.parseInt(text.substring(0, diceIndex));
+			int faces = Integer.parseInt(text.substring(diceIndex + 1, facesEnd));
+			int reroll = rerollIndex >= 0
+					? Integer.parseInt(text.substring(rerollIndex + 1, modifierIndex >= 0 ? modifierIndex : text.length()))
+					: 0;
+			int modifier = modifierIndex >= 0 ? Integer.parseInt(text.substring(modifierIndex + 1)) : 0;
+			return new DiceExpression(count, faces, reroll,
+					modifierIndex >= 0 && text.charAt(modifierIndex) == '-' ? -modifier : modifier);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid dice expression " + expression);
+		}
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public int getFaces() {
+		return faces;
+	}
+
+	public int getReroll() {
+		return reroll;
+	}
+
+	public int getModifier() {
+		return modifier;
+	}
+
+	public DiceExpression withModifier(int modifier) {
+		return modifier == this.modifier ? this : new DiceExpression(count, faces, reroll, modifier);
+	}
+
+	//Exact distribution of the expression. The distribution of the dice is computed once and shared by every
+	//modifier
+	public DiceDistribution getDistribution() {
+		DiceExpression dice = withModifier(0);
+		DiceDistribution distribution;
+		synchronized (distributions) {
+			distribution = distributions.get(dice);
+			if(distribution == null) {
+				distribution = new DiceDistribution(count, getDieProbabilities());
+				distributions.put(dice, distribution);
+			}
+		}
+		return distribution.shift(modifier);
+	}
+
+	//Probability of every face of one die, after the reroll
+	private double[] getDieProbabilities() {
+		double[] probabilities = new double[faces];
+		for(int face = 0; face < faces; face++) {
+			probabilities[face] = (face + 1 > reroll ? 1.0 / faces : 0.0) + (double) reroll / faces / faces;
+		}
+		return probabilities;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if(!(other instanceof DiceExpression)) {
+			return false;
+		}
+		DiceExpression expression = (DiceExpression) other;
+		return count == expression.count && faces == expression.faces && reroll == expression.reroll
+				&& modifier == expression.modifier;
+	}
+
+	@Override
+	public int hashCode() {
+		return ((count * 31 + faces) * 31 + reroll) * 31 + modifier;
+	}
+
+	@Override
+	public String toString() {
+		return count + "d" + faces + (reroll > 0 ? "r" + reroll : "")
+				+ (modifier > 0 ? "+" + modifier : (modifier < 0 ? String.valueOf(modifier) : ""));
+	}
+}
@@ -29,4 +29,9 @@ public class Armor extends ItemEquipable{
     public EEquipmentPosition[] getAllowedPositions() {
         return AllowedPositions;
     }
+
+    @Override
+    protected ItemEquipable newInstance() {
+        return new Armor();
+    }
 }
@@ -30,4 +30,9 @@ public class Boots extends ItemEquipable {
 	public EEquipmentPosition[] getAllowedPositions() {
 		return AllowedPositions;
 	}		
+
+	@Override
+	protected ItemEquipable newInstance() {
+		return new Boots();
+	}
 }
@@ -31,4 +31,9 @@ public class Helmet extends ItemEquipable {
     public EEquipmentPosition[] getAllowedPositions() {
         return AllowedPositions;
     }
+
+    @Override
+    protected ItemEquipable newInstance() {
+        return new Helmet();
+    }
 }
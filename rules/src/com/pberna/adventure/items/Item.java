@@ -22,11 +22,15 @@ package com.pberna.adventure.items;
 
 import java.util.ArrayList;
 
+import com.pberna.engine.localization.Translator;
+
 public class Item {
 	
 	private int id;
 	private String name;
+	private transient int nameText;
 	private String description;
+	private transient int descriptionText;
 	private String imageName;
 	
 	public Item() {
@@ -45,20 +49,32 @@ public class Item {
 	}
 	
 	public String getName() {
-		return name;
+		return nameText != 0 ? Translator.getText(nameText) : name;
 	}
 	
 	public Item setName(String name) {
 		this.name = name;
+		nameText = 0;
+		return this;
+	}
+
+	public Item setNameText(String bundleName, String key) {
+		nameText = Translator.getTextIndex(bundleName, key);
 		return this;
 	}
 	
 	public String getDescription() {
-		return description;
+		return descriptionText != 0 ? Translator.getText(descriptionText) : description;
 	}
 	
 	public Item setDescription(String description) {
 		this.description = description;
+		descriptionText = 0;
+		return this;
+	}
+
+	public Item setDescriptionText(String bundleName, String key) {
+		descriptionText = Translator.getTextIndex(bundleName, key);
 		return this;
 	}
 
@@ -71,6 +87,16 @@ public class Item {
 		return this;
 	}
 	
+	//Shares the texts and image of a definition
+	protected void copyDefinition(Item definition) {
+		id = definition.id;
+		name = definition.name;
+		nameText = definition.nameText;
+		description = definition.description;
+		descriptionText = definition.descriptionText;
+		imageName = definition.imageName;
+	}
+	
 	public static Item findItem(ArrayList<Item> listItems, int idItem) {
 		
 		for(Item item: listItems) {
@@ -40,6 +40,20 @@ public abstract class ItemEquipable extends Item {
 	}	
 	
 	public abstract EEquipmentPosition[] getAllowedPositions();
+
+	protected abstract ItemEquipable newInstance();
+
+	//New object of the item not equipped, it shares the definition of this one
+	public ItemEquipable createInstance() {
+		ItemEquipable instance = newInstance();
+		instance.copyDefinition(this);
+		instance.skillModifiers = skillModifiers;
+		instance.attributeModifiers = attributeModifiers;
+		instance.attackModifier = attackModifier;
+		instance.defenseModifier = defenseModifier;
+		instance.initiativeModifier = initiativeModifier;
+		return instance;
+	}
 		
 	public boolean isEquipped() {
 		return equipped;
@@ -21,9 +21,11 @@
 package com.pberna.adventure.items;
 
 import com.pberna.adventure.pj.Character;
+import com.pberna.engine.localization.Translator;
 
 public abstract class ItemUsable extends Item {		
 	private String effectDescription;
+	private transient int effectDescriptionText;
 	
 	public ItemUsable() {
 		super();
@@ -31,11 +33,16 @@ public abstract class ItemUsable extends Item {
 	}
 	
 	public String getEffectDescription() {
-		return effectDescription;
+		return effectDescriptionText != 0 ? Translator.getText(effectDescriptionText) : effectDescription;
 	}
 
 	public void setEffectDescription(String effectDescription) {
 		this.effectDescription = effectDescription;
+		effectDescriptionText = 0;
+	}
+
+	public void setEffectDescriptionText(String bundleName, String key) {
+		effectDescriptionText = Translator.getTextIndex(bundleName, key);
 	}
 	
 	public abstract void useItem(Character character);
@@ -31,4 +31,9 @@ public class Ring extends ItemEquipable {
     public EEquipmentPosition[] getAllowedPositions() {
         return AllowedPositions;
     }
+
+    @Override
+    protected ItemEquipable newInstance() {
+        return new Ring();
+    }
 }
@@ -30,4 +30,9 @@ public class Shield extends ItemEquipable {
     public EEquipmentPosition[] getAllowedPositions() {
         return AllowedPositions;
     }
+
+    @Override
+    protected ItemEquipable newInstance() {
+        return new Shield();
+    }
 }
@@ -31,4 +31,9 @@ public class Weapon1Hand extends ItemEquipable {
 		return AllowedPositions;
 	}
 
+	@Override
+	protected ItemEquipable newInstance() {
+		return new Weapon1Hand();
+	}
+
 }
@@ -0,0 +1,77 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.items.manager;
+
+import java.util.Collection;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+
+//Registry of the item definitions read from the items data file, indexed by id. Definitions are shared by every
+//item of the game; equipable items get their own object because they keep their equipment position
+public class ItemManager implements IItemManager {
+
+    private static final ItemManager instance  = new ItemManager();
+
+    private volatile Item[] itemDefinitions;
+
+    private ItemManager() {
+        itemDefinitions = new Item[0];
+    }
+
+    public static ItemManager getInstance() {
+        return instance;
+    }
+
+    public synchronized void setItemDefinitions(Collection<Item> definitions) {
+        int maximumId = 0;
+        for(Item definition: definitions) {
+            maximumId = Math.max(maximumId, definition.getId());
+        }
+
+        Item[] newItemDefinitions = new Item[maximumId + 1];
+        for(Item definition: definitions) {
+            newItemDefinitions[definition.getId()] = definition;
+        }
+        itemDefinitions = newItemDefinitions;
+    }
+
+    public synchronized void addItemDefinition(Item definition) {
+        Item[] newItemDefinitions = new Item[Math.max(itemDefinitions.length, definition.getId() + 1)];
+        System.arraycopy(itemDefinitions, 0, newItemDefinitions, 0, itemDefinitions.length);
+        newItemDefinitions[definition.getId()] = definition;
+        itemDefinitions = newItemDefinitions;
+    }
+
+    public Item getItemDefinition(int itemId) {
+        Item[] definitions = itemDefinitions;
+        return itemId >= 0 && itemId < definitions.length ? definitions[itemId] : null;
+    }
+
+    @Override
+    public Item getItem(int itemId) {
+        Item definition = getItemDefinition(itemId);
+        if(definition instanceof ItemEquipable) {
+            return ((ItemEquipable) definition).createInstance();
+        }
+        return definition;
+    }
+}
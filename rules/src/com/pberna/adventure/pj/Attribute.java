@@ -0,0 +1,221 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.ArrayList;
+
+import com.pberna.engine.localization.Translator;
+
+public class Attribute implements IImageName {
+
+	public static final int MinimumGenericValue = 1;
+	public static final int MaximumGenericValue = 8;
+	
+	public static final int TotalAttributePointsPerPj = 16;
+	
+	public static final int IdMight = 1;
+	public static final int IdAgility = 2;
+	public static final int IdIntelligence = 3;
+	public static final int IdFortune = 4;
+	
+	private int id;
+	private String name;
+	private transient int nameText;
+	private int value;
+	private String description;
+	private transient int descriptionText;
+	private String imageName;
+	//stats of the character that owns it, computed again when the value changes
+	private transient CharacterStats ownerStats;
+
+	//Attributes are built once and copied for every character, which keeps its own values
+	private static class Catalog {
+		private static final Attribute[] Attributes = buildAttributes();
+		private static final ArrayList<Attribute> Definitions = buildList(Attributes);
+	}
+
+	public Attribute() {
+
+	}
+
+	public Attribute(Attribute attribute) {
+		id = attribute.id;
+		name = attribute.name;
+		nameText = attribute.nameText;
+		value = attribute.value;
+		description = attribute.description;
+		descriptionText = attribute.descriptionText;
+		imageName = attribute.imageName;
+	}
+	
+	public int getId() {
+		return id;
+	}
+
+	public Attribute setId(int id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getName() {
+		return nameText != 0 ? Translator.getText(nameText) : name;
+	}
+
+	public Attribute setName(String name) {
+		this.name = name;
+		nameText = 0;
+		return this;
+	}
+
+	public Attribute setNameText(String bundleName, String key) {
+		nameText = Translator.getTextIndex(bundleName, key);
+		return this;
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	public Attribute setValue(int value) {
+		this.value = value;
+		if(ownerStats != null) {
+			ownerStats.invalidate();
+		}
+		return this;
+	}
+
+	void setOwnerStats(CharacterStats ownerStats) {
+		this.ownerStats = ownerStats;
+	}
+
+	public String getDescription() {
+		return descriptionText != 0 ? Translator.getText(descriptionText) : description;
+	}
+
+	public Attribute setDescription(String description) {
+		this.description = description;
+		descriptionText = 0;
+		return this;
+	}
+
+	public Attribute setDescriptionText(String bundleName, String key) {
+		descriptionText = Translator.getTextIndex(bundleName, key);
+		return this;
+	}
+
+
+	public String getImageName() {
+		return imageName;
+	}
+
+	public Attribute setImageName(String imageName) {
+		this.imageName = imageName;
+		return this;
+	}
+	
+	private static Attribute[] buildAttributes()
+	{
+		ArrayList<Attribute> listAttributes = new ArrayList<Attribute>();
+		
+		//Might
+		listAttributes.add(new Attribute()
+			.setId(IdMight)
+			.setNameText("PjInformation", "attributeMight")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionAttributeMight")
+			.setImageName("might"));
+		
+		//Agility
+		listAttributes.add(new Attribute()
+			.setId(IdAgility)
+			.setNameText("PjInformation", "attributeAgility")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionAttributeAgility")
+			.setImageName("agility"));
+		
+		//Intelligence
+		listAttributes.add(new Attribute()
+			.setId(IdIntelligence)
+			.setNameText("PjInformation", "attributeIntelligence")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionAttributeIntelligence")
+			.setImageName("intelligence"));
+				
+		//Fortune
+		listAttributes.add(new Attribute()
+			.setId(IdFortune)
+			.setNameText("PjInformation", "attributeFortune")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionAttributeFortune")
+			.setImageName("fortune"));
+		
+		Attribute[] catalog = new Attribute[IdFortune + 1];
+		for(Attribute attribute: listAttributes) {
+			catalog[attribute.id] = attribute;
+		}
+		return catalog;
+	}
+
+	private static ArrayList<Attribute> buildList(Attribute[] catalog) {
+		ArrayList<Attribute> listAttributes = new ArrayList<Attribute>(catalog.length - 1);
+		for(Attribute attribute: catalog) {
+			if(attribute != null) {
+				listAttributes.add(attribute);
+			}
+		}
+		return listAttributes;
+	}
+
+	//New attribute list for a character, ordered by id
+	public static ArrayList<Attribute> getAttributes()
+	{
+		ArrayList<Attribute> listAttributes = new ArrayList<Attribute>(Catalog.Definitions.size());
+		for(Attribute attribute: Catalog.Definitions) {
+			listAttributes.add(new Attribute(attribute));
+		}
+		return listAttributes;
+	}
+
+	//Shared definitions, ordered by id. Neither the list nor the values of its attributes must be changed
+	public static ArrayList<Attribute> getAttributeDefinitions() {
+		return Catalog.Definitions;
+	}
+
+	public static Attribute getAttributeDefinition(int idAttribute) {
+		return idAttribute > 0 && idAttribute < Catalog.Attributes.length ? Catalog.Attributes[idAttribute] : null;
+	}
+	
+	public static Attribute findAttribute(ArrayList<Attribute> listAttributes, int idAttribute){
+		//lists built by getAttributes keep each attribute at the position of its id
+		int index = idAttribute - 1;
+		if(index >= 0 && index < listAttributes.size() && listAttributes.get(index).id == idAttribute) {
+			return listAttributes.get(index);
+		}
+
+		for(Attribute attribute: listAttributes) {
+			if(attribute.id == idAttribute) {
+				return attribute;
+			}
+		}
+		
+		return null;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.ArrayList;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+import com.pberna.adventure.items.manager.ItemManager;
+
+//Items are stacked by id: one item and the number of copies carried. Games saved before the stacks have one
+//entry per copy and no counts, they are merged the first time the backpack is used
+public class Backpack {
+	private static final int ListItemsInitialSize = 20;
+	
+	private ArrayList<Item> listItems;
+	private int[] itemCounts;
+	private transient int[] stackIndexById;
+	private transient int itemCount;
+	private transient int modificationCount;
+	private transient ArrayList<Item> indexedListItems;
+	private transient int[] indexedItemCounts;
+	
+	public Backpack(){
+		listItems = new ArrayList<Item>(ListItemsInitialSize);
+		itemCounts = new int[ListItemsInitialSize];
+	}
+	
+	public int getItemCount() {
+		ensureIndex();
+		return itemCount;
+	}
+	
+	public void addItem(Item item) {
+		ensureIndex();
+		int stackIndex = getStackIndex(item.getId());
+		if(stackIndex >= 0) {
+			itemCounts[stackIndex]++;
+		} else {
+			stackIndex = listItems.size();
+			listItems.add(item);
+			if(stackIndex >= itemCounts.length) {
+				int[] newItemCounts = new int[itemCounts.length * 2];
+				System.arraycopy(itemCounts, 0, newItemCounts, 0, itemCounts.length);
+				itemCounts = newItemCounts;
+				indexedItemCounts = itemCounts;
+			}
+			itemCounts[stackIndex] = 1;
+			setStackIndex(item.getId(), stackIndex);
+		}
+		itemCount++;
+		modificationCount++;
+	}
+	
+	public Item getItem(int index) {
+		ensureIndex();
+		if(index >= itemCount || index < 0) {
+			throw new IndexOutOfBoundsException("GetItem: backpack contains " + itemCount + " item(s). Index " + index + ".");
+		}
+		return listItems.get(getStackIndexOfItem(index));
+	}
+	
+	public void removeItem(int index) {
+		ensureIndex();
+		if(index >= itemCount || index < 0) {
+			throw new IndexOutOfBoundsException("RemoveItem: backpack contains " + itemCount + " item(s). Index " + index + ".");
+		}
+		removeFromStack(getStackIndexOfItem(index));
+	}
+	
+	public void removeItem(Item item) {
+		removeItemById(item.getId());
+	}
+
+	public boolean removeItemById(int idItem) {
+		ensureIndex();
+		int stackIndex = getStackIndex(idItem);
+		if(stackIndex < 0) {
+			return false;
+		}
+		removeFromStack(stackIndex);
+		return true;
+	}
+
+	public boolean containsItem(int idItem) {
+		ensureIndex();
+		return getStackIndex(idItem) >= 0;
+	}
+
+	public int getItemQuantity(int idItem) {
+		ensureIndex();
+		int stackIndex = getStackIndex(idItem);
+		return stackIndex >= 0 ? itemCounts[stackIndex] : 0;
+	}
+
+	public Item findItem(int idItem) {
+		ensureIndex();
+		int stackIndex = getStackIndex(idItem);
+		return stackIndex >= 0 ? listItems.get(stackIndex) : null;
+	}
+
+	public int getStackCount() {
+		ensureIndex();
+		return listItems.size();
+	}
+
+	public Item getStackItem(int stackIndex) {
+		ensureIndex();
+		return listItems.get(stackIndex);
+	}
+
+	public int getStackQuantity(int stackIndex) {
+		ensureIndex();
+		if(stackIndex >= listItems.size() || stackIndex < 0) {
+			throw new IndexOutOfBoundsException("GetStackQuantity: backpack contains " + listItems.size()
+					+ " stack(s). Index " + stackIndex + ".");
+		}
+		return itemCounts[stackIndex];
+	}
+
+	//Changes every time an item is added or removed
+	int getModificationCount() {
+		ensureIndex();
+		return modificationCount;
+	}
+
+	//Replaces the items by the ones of the catalog, for items read from the old json saves
+	public void restoreCatalogItems() {
+		ensureIndex();
+		for(int i = 0; i < listItems.size(); i++) {
+			listItems.set(i, ItemManager.getInstance().getItem(listItems.get(i).getId()));
+		}
+		modificationCount++;
+	}
+
+	private void removeFromStack(int stackIndex) {
+		Item item = listItems.get(stackIndex);
+		itemCount--;
+		modificationCount++;
+		if(itemCounts[stackIndex] > 1) {
+			itemCounts[stackIndex]--;
+			//the item taken out can be equipped, the copies left need their own object
+			if(item instanceof ItemEquipable) {
+				Item copy = ItemManager.getInstance().getItem(item.getId());
+				if(copy != null) {
+					listItems.set(stackIndex, copy);
+				}
+			}
+			return;
+		}
+
+		listItems.remove(stackIndex);
+		System.arraycopy(itemCounts, stackIndex + 1, itemCounts, stackIndex, listItems.size() - stackIndex);
+		itemCounts[listItems.size()] = 0;
+		setStackIndex(item.getId(), -1);
+		for(int i = stackIndex; i < listItems.size(); i++) {
+			setStackIndex(listItems.get(i).getId(), i);
+		}
+	}
+
+	private int getStackIndexOfItem(int index) {
+		int stackIndex = 0;
+		while(index >= itemCounts[stackIndex]) {
+			index -= itemCounts[stackIndex];
+			stackIndex++;
+		}
+		return stackIndex;
+	}
+
+	private int getStackIndex(int idItem) {
+		if(idItem < 0 || idItem >= stackIndexById.length) {
+			return -1;
+		}
+		return stackIndexById[idItem] - 1;
+	}
+
+	private void setStackIndex(int idItem, int stackIndex) {
+		if(idItem >= stackIndexById.length) {
+			int[] newStackIndexById = new int[Math.max(idItem + 1, stackIndexById.length * 2)];
+			System.arraycopy(stackIndexById, 0, newStackIndexById, 0, stackIndexById.length);
+			stackIndexById = newStackIndexById;
+		}
+		stackIndexById[idItem] = stackIndex + 1;
+	}
+
+	//The lists can be replaced by a serializer, the index is built again when they are not the indexed ones
+	private void ensureIndex() {
+		if(indexedListItems == listItems && indexedItemCounts == itemCounts) {
+			return;
+		}
+
+		ArrayList<Item> loadedItems = listItems;
+		int[] loadedCounts = itemCounts;
+		listItems = new ArrayList<Item>(Math.max(ListItemsInitialSize, loadedItems.size()));
+		itemCounts = new int[Math.max(ListItemsInitialSize, loadedItems.size())];
+		stackIndexById = new int[ListItemsInitialSize];
+		itemCount = 0;
+		indexedListItems = listItems;
+		indexedItemCounts = itemCounts;
+
+		for(int i = 0; i < loadedItems.size(); i++) {
+			Item item = loadedItems.get(i);
+			int count = loadedCounts != null && i < loadedCounts.length && loadedCounts[i] > 0 ? loadedCounts[i] : 1;
+			for(int copy = 0; copy < count; copy++) {
+				addItem(item);
+			}
+		}
+		modificationCount++;
+	}
+}
@@ -23,15 +23,14 @@ package com.pberna.adventure.pj;
 import java.util.ArrayList;
 import java.util.HashMap;
 
-import com.badlogic.gdx.utils.Json;
 import com.pberna.adventure.items.Item;
 import com.pberna.adventure.items.ItemEquipable;
 import com.pberna.adventure.items.manager.ItemManager;
+import com.pberna.adventure.pj.effects.EffectEngine;
+import com.pberna.adventure.pj.effects.EffectExpiry;
+import com.pberna.adventure.pj.effects.ScheduledEffect;
+import com.pberna.adventure.pj.effects.TimedEffect;
 import com.pberna.adventure.pj.race.BaseRace;
-import com.pberna.adventure.pj.race.Dwarf;
-import com.pberna.adventure.pj.race.Elf;
-import com.pberna.adventure.pj.race.Halfling;
-import com.pberna.adventure.pj.race.Human;
 import com.pberna.adventure.spells.EnhanceCombatStatsSpell;
 import com.pberna.adventure.spells.EnhanceSkillSpell;
 import com.pberna.adventure.spells.Spell;
@@ -57,6 +56,14 @@ public class Character implements ILocalizable {
 	private ArrayList<Spell> spells;
 	private ArrayList<Spell> activeSpells;
 	private int currentLuckPoints;
+	private transient CharacterStats stats;
+	private transient int learntSpellsMask;
+	private transient int activeSpellsMask;
+	private transient ArrayList<Spell> combatSpells;
+	private transient int combatSpellsMask;
+	private transient EffectEngine effectEngine;
+	//expiries of the active spells by spell id
+	private transient ScheduledEffect[] activeSpellExpiries;
 	 
 	public Character()	{
 		name = "";
@@ -72,6 +79,8 @@ public class Character implements ILocalizable {
 		spells = new ArrayList<Spell>(Spell.TotalNumberSpells);
 		activeSpells = new ArrayList<Spell>();
 		currentLuckPoints = 0;
+		effectEngine = new EffectEngine(this);
+		activeSpellExpiries = new ScheduledEffect[Integer.SIZE];
 	}
 	
 	public String getName() { return name; }
@@ -95,18 +104,21 @@ public class Character implements ILocalizable {
 	}
 	public void setRace(BaseRace race) {
 		this.race = race;
+		invalidateStats();
 	}
 	public ArrayList<Attribute> getAttributes() {
 		return attributes;
 	}
 	public void setAttributes(ArrayList<Attribute> attributes) {
 		this.attributes = attributes;
+		invalidateStats();
 	}
 	public ArrayList<Skill> getSkills() {
 		return skills;
 	}
 	public void setSkills(ArrayList<Skill> skills) {
 		this.skills = skills;
+		invalidateStats();
 	}
 	public Backpack getBackpack() {
 		return backpack;
@@ -114,6 +126,7 @@ public class Character implements ILocalizable {
 
 	public void setBackpack(Backpack backpack) {
 		this.backpack = backpack;
+		invalidateStats();
 	}
 
 	public int getCurrentLifePoints() {
@@ -153,63 +166,29 @@ public class Character implements ILocalizable {
 	}
 
 	public int getBaseAttributeValue(int idAttribute) {
-		Attribute searchedAttribute = Attribute.findAttribute(attributes, idAttribute);
-		
-		if(searchedAttribute != null) {
-			return searchedAttribute.getValue() + race.getAttributeModifier(idAttribute);
-		}
-		
-		return 0;
+		return getStats().getBaseAttributeValue(idAttribute);
 	}
 	
 	public int getModifierAttributeValue(int idAttribute) {
-		int modifier = 0;
-		
-		for(ItemEquipable item:equippedItems.values()) {
-			if(item != null) {
-				modifier += item.getAttributeModifier(idAttribute);
-			}
-		}
-		
-		return modifier;
+		return getStats().getModifierAttributeValue(idAttribute);
 	}
 	
 	public int getTotalAttributeValue(int idAttribute) {
-		return getBaseAttributeValue(idAttribute) + getModifierAttributeValue(idAttribute);
+		CharacterStats characterStats = getStats();
+		return characterStats.getBaseAttributeValue(idAttribute) + characterStats.getModifierAttributeValue(idAttribute);
 	}
 
 	public int getBaseSkillValue(int idSkill) {
-		Skill searchedSkill = Skill.findSkill(skills, idSkill);
-		
-		if(searchedSkill != null) {
-			return searchedSkill.getValue() + race.getSkillModifier(idSkill);
-		}
-		
-		return 0;
+		return getStats().getBaseSkillValue(idSkill);
 	}
 	
 	public int getModifierSkillValue(int idSkill) {
-		int modifier = 0;
-		for(Spell spell:activeSpells) {
-			if(spell instanceof EnhanceSkillSpell) {
-				modifier += ((EnhanceSkillSpell)spell).getSkillModifier(idSkill);
-			}
-			if(idSkill == Skill.IdMagic && spell instanceof EnhanceCombatStatsSpell) {
-				modifier += ((EnhanceCombatStatsSpell)spell).getMagicModifier();
-			}
-		}
-		
-		for(ItemEquipable item:equippedItems.values()) {
-			if(item != null) {
-				modifier += item.getSkillModifier(idSkill);
-			}
-		}
-		
-		return modifier;
+		return getStats().getModifierSkillValue(idSkill);
 	}
 	
 	public int getTotalSkillValue(int idSkill) {
-		return getBaseSkillValue(idSkill) + getModifierSkillValue(idSkill);
+		CharacterStats characterStats = getStats();
+		return characterStats.getBaseSkillValue(idSkill) + characterStats.getModifierSkillValue(idSkill);
 	}
 	
 	public int getBaseAttackValue() {
@@ -217,20 +196,7 @@ public class Character implements ILocalizable {
 	}
 	
 	public int getModifierAttackValue() {
-		int modifier = 0;
-		for(Spell spell:activeSpells) {
-			if(spell instanceof EnhanceCombatStatsSpell) {
-				modifier += ((EnhanceCombatStatsSpell)spell).getAttackModifier();
-			}
-		}
-		
-		for(ItemEquipable item:equippedItems.values()) {
-			if(item != null) {
-				modifier += item.getAttackModifier();
-			}
-		}
-		
-		return modifier;
+		return getStats().getModifierAttackValue();
 	}
 	
 	public int getTotalAttackValue() {
@@ -242,20 +208,7 @@ public class Character implements ILocalizable {
 	}
 	
 	public int getModifierDefenseValue() {
-		int modifier = 0;
-		for(Spell spell:activeSpells) {
-			if(spell instanceof EnhanceCombatStatsSpell) {
-				modifier += ((EnhanceCombatStatsSpell)spell).getDefenseModifier();
-			}
-		}
-		
-		for(ItemEquipable item:equippedItems.values()) {
-			if(item != null) {
-				modifier += item.getDefenseModifier();
-			}
-		}
-		
-		return modifier;
+		return getStats().getModifierDefenseValue();
 	}
 	
 	public int getTotalDefenseValue() {
@@ -263,18 +216,30 @@ public class Character implements ILocalizable {
 	}
 	
 	public int getModifierInitiativeValue() {
-		int modifier = 0;
-		for(ItemEquipable item:equippedItems.values()) {
-			if(item != null) {
-				modifier += item.getInitiativeModifier();
-			}
-		}
-		return modifier;
+		return getStats().getModifierInitiativeValue();
 	}
 	
 	public int getTotalInitiativeValue() {
 		return getTotalAttributeValue(Attribute.IdAgility) + getModifierInitiativeValue();
 	}
+
+	private CharacterStats getStats() {
+		if(stats == null) {
+			stats = new CharacterStats();
+		}
+		if(!stats.isValid(backpack)) {
+			stats.update(race, attributes, skills, backpack, equippedItems.values(), activeSpells);
+		}
+		return stats;
+	}
+
+	//Must be called when anything the derived values depend on changes, except the attribute and skill values
+	//and the backpack contents that are tracked by themselves
+	private void invalidateStats() {
+		if(stats != null) {
+			stats.invalidate();
+		}
+	}
 	
 	public ItemEquipable getEquippedItem(EEquipmentPosition position) {
 		if(equippedItems.containsKey(position)) {
@@ -286,42 +251,59 @@ public class Character implements ILocalizable {
 	public boolean setEquippedItem(EEquipmentPosition position, ItemEquipable item) {
 		if(item == null) {
 			equippedItems.put(position, item);
+			invalidateStats();
 			return false;
 		}
 		
 		boolean equipped = item.equip(position);
 		if(equipped) {
 			equippedItems.put(position, item);
+			invalidateStats();
 		}
 		return equipped;
 	}
 
+	//Learnt spells must be changed with setSpells or learnSpell so that the mask follows them
 	public ArrayList<Spell> getSpells() {
 		return spells;
 	}
 
 	public void setSpells(ArrayList<Spell> spells) {
 		this.spells = spells;
+		learntSpellsMask = Spell.getMask(spells);
+	}
+
+	public void learnSpell(Spell spell) {
+		if(!hasLearntSpell(spell)) {
+			spells.add(spell);
+			learntSpellsMask |= spell.getMask();
+		}
+	}
+
+	public int getLearntSpellsMask() {
+		return learntSpellsMask;
 	}
 	
+	//The returned list is shared and rebuilt only when the learnt spells change, it must not be modified
 	public ArrayList<Spell> getCombatSpells() {
-		ArrayList<Spell> combatSpells = new ArrayList<Spell>();
-		
-		for(Spell spell: this.spells) {
-			if(spell.canBeCastedInCombat()) {
-				combatSpells.add(spell);
+		int mask = learntSpellsMask & Spell.getCombatSpellsMask();
+		if(combatSpells == null || combatSpellsMask != mask) {
+			if(combatSpells == null) {
+				combatSpells = new ArrayList<Spell>();
 			}
+			Spell.getSpells(mask, combatSpells);
+			combatSpellsMask = mask;
 		}
-		
 		return combatSpells;
 	}
 	
 	public void resetSpells (){
 		spells.clear();
+		learntSpellsMask = 0;
 	}
 	
 	public boolean hasLearntSpell(Spell spell) {
-		return (Spell.findSpells(spells, spell.getId()) != null); 
+		return (learntSpellsMask & spell.getMask()) != 0;
 	}
 	
 	public boolean hasEnoughPowerPointsToCastSpell(Spell spell) {
@@ -333,46 +315,16 @@ public class Character implements ILocalizable {
 	}
 	
 	public boolean hasItem(Item item) {
-		
-		for(int i = 0 ; i < backpack.getItemCount(); i++) {
-			if(backpack.getItem(i).getId() == item.getId()) {
-				return true;
-			}
-		}
-
-		for(EEquipmentPosition position: EEquipmentPosition.values()) {
-			Item equippedItem = getEquippedItem(position);
-			if(equippedItem != null && equippedItem.getId() == item.getId()) {
-				return true;
-			}
-		}
-		
-		return false;
+		return getStats().ownsItem(item.getId());
 	}
 
 	public boolean removeItem(int itemId) {
-		if(!removeItemFromBackpack(itemId)) {
+		if(!backpack.removeItemById(itemId)) {
 			return removeItemFromEquipped(itemId);
 		}
 		return true;
 	}
 
-	private boolean removeItemFromBackpack(int itemId) {
-		int removeIndex = -1;
-		for(int i = 0 ; i < backpack.getItemCount(); i++) {
-			if(backpack.getItem(i).getId() == itemId) {
-				removeIndex = i;
-				break;
-			}
-		}
-
-		if(removeIndex >= 0) {
-			backpack.removeItem(removeIndex);
-			return true;
-		}
-		return false;
-	}
-
 	private boolean removeItemFromEquipped(int itemId) {
 		EEquipmentPosition removePosition = null;
 		for(EEquipmentPosition position: EEquipmentPosition.values()) {
@@ -383,6 +335,7 @@ public class Character implements ILocalizable {
 		}
 		if(removePosition != null) {
 			equippedItems.remove(removePosition);
+			invalidateStats();
 			return true;
 		}
 		return false;
@@ -399,85 +352,94 @@ public class Character implements ILocalizable {
 	}
 	
 	public void addActiveSpell(Spell spell) {
-		if(!(spell instanceof EnhanceCombatStatsSpell || spell instanceof EnhanceSkillSpell)) {
+		if(!(spell instanceof EnhanceCombatStatsSpell || spell instanceof EnhanceSkillSpell)
+				|| hasActiveSpell(spell.getId())) {
 			return;
 		}
 		
-		for(Spell activeSpell: activeSpells) {
-			if(activeSpell.getId() == spell.getId()) {
-				return;
-			}
-		}
-		
 		activeSpells.add(spell);
+		activeSpellsMask |= spell.getMask();
+		scheduleActiveSpellExpiry(spell);
+		invalidateStats();
 	}
 	
 	public void removeActiveSpell(int idSpell) {
-		Spell spellToRemove = null;
-		
-		for(Spell activeSpell: activeSpells) {
-			if(activeSpell.getId() == idSpell) {
-				spellToRemove = activeSpell;
-				break;
-			}
+		removeActiveSpells(Spell.getMask(idSpell));
+	}
+
+	//Removes in one pass every active spell whose id is in the mask
+	public void removeActiveSpells(int mask) {
+		if((activeSpellsMask & mask) == 0) {
+			return;
 		}
-		
-		if(spellToRemove != null) {
-			activeSpells.remove(spellToRemove);
+
+		for(int i = activeSpells.size() - 1; i >= 0; i--) {
+			if((activeSpells.get(i).getMask() & mask) != 0) {
+				cancelActiveSpellExpiry(activeSpells.remove(i).getId());
+			}
 		}
+		activeSpellsMask &= ~mask;
+		invalidateStats();
 	}
 	
 	public boolean hasActiveSpell(int idSpell) {
-		return Spell.findSpells(activeSpells, idSpell) != null;
+		return (activeSpellsMask & Spell.getMask(idSpell)) != 0;
 	}
 
+	//Temporary effects and the clocks they wear off with
+	public EffectEngine getEffectEngine() {
+		return effectEngine;
+	}
+
+	private void scheduleActiveSpellExpiry(Spell spell) {
+		cancelActiveSpellExpiry(spell.getId());
+		if(spell.getExpiry() != null) {
+			activeSpellExpiries[spell.getId()] = effectEngine.schedule(new ActiveSpellEffect(spell));
+		}
+	}
+
+	private void cancelActiveSpellExpiry(int idSpell) {
+		if(activeSpellExpiries[idSpell] != null) {
+			activeSpellExpiries[idSpell].cancel();
+			activeSpellExpiries[idSpell] = null;
+		}
+	}
+
+	//Names and descriptions are read from the texts of the current language, there is nothing to rebuild
 	@Override
 	public void refreshLocalizableItems() {
-		localizeBaseRace();
-		localizeAttributes();
-		localizeSkills();
-		backpack.refreshLocalizableItems();
-		localizeEquippedItems();
-		localizeSpells();
-	}	
-
-	private void localizeBaseRace() {
-		if(race instanceof Human) {
-			race = new Human();
-		} else if(race instanceof Elf) {
-			race = new Elf();
-		} else if(race instanceof Dwarf) {
-			race = new Dwarf();
-		} else if(race instanceof Halfling) {
-			race = new Halfling();
-		}		
 	}
-	
-	private void localizeAttributes() {
-		ArrayList<Attribute> localizedAttributes = Attribute.getAttributes();
-		
-		for(Attribute characterAttribute: attributes) {
-			Attribute localizedAttribute = Attribute.findAttribute(localizedAttributes, characterAttribute.getId());
-			if(localizedAttribute != null) {
-				characterAttribute.setName(localizedAttribute.getName());
-				characterAttribute.setDescription(localizedAttribute.getDescription());
+
+	//Characters saved as json keep the texts of the language they were saved with, their attributes, skills,
+	//items and spells are replaced by the ones of the catalogs
+	public void restoreCatalogObjects() {
+		restoreCatalogAttributes();
+		restoreCatalogSkills();
+		backpack.restoreCatalogItems();
+		restoreCatalogEquippedItems();
+		restoreCatalogSpells();
+		invalidateStats();
+	}
+	
+	private void restoreCatalogAttributes() {
+		for(int i = 0; i < attributes.size(); i++) {
+			Attribute catalogAttribute = Attribute.getAttributeDefinition(attributes.get(i).getId());
+			if(catalogAttribute != null) {
+				attributes.set(i, new Attribute(catalogAttribute).setValue(attributes.get(i).getValue()));
 			}
 		}
 	}
 	
-	private void localizeSkills() {
-		ArrayList<Skill> localizedSkills = Skill.getSkills();
-		
-		for(Skill characterSkill: skills) {
-			Skill localizedSkill = Skill.findSkill(localizedSkills, characterSkill.getId());
-			if(localizedSkill != null) {
-				characterSkill.setName(localizedSkill.getName());
-				characterSkill.setDescription(localizedSkill.getDescription());
+	private void restoreCatalogSkills() {
+		for(int i = 0; i < skills.size(); i++) {
+			Skill catalogSkill = Skill.getSkillDefinition(skills.get(i).getId());
+			if(catalogSkill != null) {
+				skills.set(i, new Skill(catalogSkill).setValue(skills.get(i).getValue()));
 			}
-		}		
+		}
 	}
 	
-	private void localizeEquippedItems() {
+	private void restoreCatalogEquippedItems() {
 		for(EEquipmentPosition position: EEquipmentPosition.values()) {
 			ItemEquipable item = equippedItems.get(position);
 			if(item != null) {
@@ -493,39 +455,31 @@ public class Character implements ILocalizable {
 		}
 	}
 	
-	private void localizeSpells() {
-		localizeSpellsList(spells);
-		localizeSpellsList(activeSpells);
+	private void restoreCatalogSpells() {
+		restoreCatalogSpellsList(spells);
+		restoreCatalogSpellsList(activeSpells);
+		learntSpellsMask = Spell.getMask(spells);
+		activeSpellsMask = Spell.getMask(activeSpells);
+		for(Spell spell: activeSpells) {
+			scheduleActiveSpellExpiry(spell);
+		}
 	}
 
-	private void localizeSpellsList(ArrayList<Spell> spellsList) {
-		ArrayList<Spell> localizedSpells = Spell.getSpells();
-		
-		ArrayList<Integer> listSpellsIds = new ArrayList<Integer>();
-		for(Spell spell:spellsList) {
-			listSpellsIds.add(spell.getId());
-		}		
-		spellsList.clear();
-		
-		for(Integer id:listSpellsIds) {
-			Spell spell = Spell.findSpells(localizedSpells, id.intValue());
+	private void restoreCatalogSpellsList(ArrayList<Spell> spellsList) {
+		for(int i = spellsList.size() - 1; i >= 0; i--) {
+			Spell spell = Spell.getSpell(spellsList.get(i).getId());
 			if(spell != null) {
-				spellsList.add(spell);
+				spellsList.set(i, spell);
+			} else {
+				spellsList.remove(i);
 			}
 		}
 	}
 
-	public static String getJsonFromCharacter(Character character) {
-		Json json = new Json();
-		return json.toJson(character);
-	}
-
-	public static Character getCharacterFromJson(String text) {
-		Json json = new Json();
-		Character character = json.fromJson(Character.class, text);
-
+	//Serializers that can not restore enum keys leave the equipment positions as strings
+	public void restoreEquippedItems() {
 		HashMap<EEquipmentPosition, ItemEquipable> newEquippedItems = new HashMap<EEquipmentPosition, ItemEquipable>();
-		HashMap castedHashMap = ((HashMap)(character.equippedItems));
+		HashMap castedHashMap = ((HashMap)(equippedItems));
 		for(Object stringPosition:castedHashMap.keySet()) {
 			ItemEquipable item = (ItemEquipable)castedHashMap.get(stringPosition);
 			EEquipmentPosition position = EEquipmentPosition.valueOf(stringPosition.toString());
@@ -534,9 +488,8 @@ public class Character implements ILocalizable {
 				newEquippedItems.put(position, item);
 			}
 		}
-		character.equippedItems = newEquippedItems;
-
-		return character;
+		equippedItems = newEquippedItems;
+		invalidateStats();
 	}
 
 	public int getCurrentLuckPoints() {
@@ -550,4 +503,28 @@ public class Character implements ILocalizable {
 	public int getMaximumLuckPoints() {
 		return getTotalAttributeValue(Attribute.IdFortune) * LuckPointsMultiplier;
 	}
+
+	//Active spell that stops being active when the expiry of the spell comes
+	private static class ActiveSpellEffect extends TimedEffect {
+		private final Spell spell;
+
+		ActiveSpellEffect(Spell spell) {
+			this.spell = spell;
+		}
+
+		@Override
+		public EffectExpiry getExpiry() {
+			return spell.getExpiry();
+		}
+
+		@Override
+		public void applyTo(Character character) {
+			character.addActiveSpell(spell);
+		}
+
+		@Override
+		public void removeFrom(Character character) {
+			character.removeActiveSpell(spell.getId());
+		}
+	}
 }
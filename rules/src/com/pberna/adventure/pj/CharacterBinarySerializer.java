@@ -0,0 +1,322 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.ArrayList;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+import com.pberna.adventure.items.manager.ItemManager;
+import com.pberna.adventure.pj.race.BaseRace;
+import com.pberna.adventure.spells.Spell;
+
+//Stores only ids and numbers: race, attribute and skill values, items with their counts, equipped items, learnt and
+//active spells and the points. Names and descriptions come from the catalogs when the character is read again.
+//The bytes are written as base64 text after a prefix, texts without it are read by the legacy serializer
+public class CharacterBinarySerializer implements ICharacterSerializer {
+	public static final String Prefix = "#C";
+	public static final int SchemaVersion = 1;
+
+	private static final int BufferInitialSize = 256;
+	private static final char[] Base64Chars =
+			"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+	private static final int[] Base64Values = new int[128];
+
+	static {
+		for(int i = 0; i < Base64Values.length; i++) {
+			Base64Values[i] = -1;
+		}
+		for(int i = 0; i < Base64Chars.length; i++) {
+			Base64Values[Base64Chars[i]] = i;
+		}
+	}
+
+	private final ICharacterSerializer legacySerializer;
+	private byte[] buffer;
+	private int position;
+	private int length;
+	private char[] text;
+
+	public CharacterBinarySerializer(ICharacterSerializer legacySerializer) {
+		this.legacySerializer = legacySerializer;
+		buffer = new byte[BufferInitialSize];
+		text = new char[BufferInitialSize];
+	}
+
+	public static boolean isBinary(String text) {
+		return text != null && text.startsWith(Prefix);
+	}
+
+	@Override
+	public synchronized String serialize(Character character) {
+		position = 0;
+		writeInt(SchemaVersion);
+		writeString(character.getName());
+		writeInt(character.getGender() != null ? character.getGender().ordinal() : 0);
+		writeString(character.getPortraitImageName());
+		writeInt(character.getRace() != null ? character.getRace().getId() : 0);
+
+		writeInt(character.getAttributes().size());
+		for(Attribute attribute: character.getAttributes()) {
+			writeInt(attribute.getId());
+			writeInt(attribute.getValue());
+		}
+		writeInt(character.getSkills().size());
+		for(Skill skill: character.getSkills()) {
+			writeInt(skill.getId());
+			writeInt(skill.getValue());
+		}
+
+		Backpack backpack = character.getBackpack();
+		writeInt(backpack.getStackCount());
+		for(int i = 0; i < backpack.getStackCount(); i++) {
+			writeInt(backpack.getStackItem(i).getId());
+			writeInt(backpack.getStackQuantity(i));
+		}
+		int equippedCount = 0;
+		for(EEquipmentPosition position: EEquipmentPosition.values()) {
+			if(character.getEquippedItem(position) != null) {
+				equippedCount++;
+			}
+		}
+		writeInt(equippedCount);
+		for(EEquipmentPosition position: EEquipmentPosition.values()) {
+			ItemEquipable item = character.getEquippedItem(position);
+			if(item != null) {
+				writeInt(position.ordinal());
+				writeInt(item.getId());
+			}
+		}
+
+		writeSpellIds(character.getSpells());
+		writeSpellIds(character.getActiveSpells());
+
+		writeInt(character.getCurrentLifePoints());
+		writeInt(character.getCurrentPowerPoints());
+		writeInt(character.getCurrentLuckPoints());
+
+		return encodeBase64();
+	}
+
+	@Override
+	public synchronized Character deserialize(String text) {
+		if(!isBinary(text)) {
+			return legacySerializer.deserialize(text);
+		}
+
+		decodeBase64(text);
+		int version = readInt();
+		if(version > SchemaVersion) {
+			throw new IllegalArgumentException("Character saved with a newer schema version: " + version);
+		}
+
+		Character character = new Character();
+		character.setName(readString());
+		int gender = readInt();
+		character.setGender(gender < Gender.values().length ? Gender.values()[gender] : Gender.NotSet);
+		character.setPortraitImageName(readString());
+		character.setRace(findRace(readInt()));
+
+		int count = readInt();
+		for(int i = 0; i < count; i++) {
+			Attribute attribute = Attribute.findAttribute(character.getAttributes(), readInt());
+			int value = readInt();
+			if(attribute != null) {
+				attribute.setValue(value);
+			}
+		}
+		count = readInt();
+		for(int i = 0; i < count; i++) {
+			Skill skill = Skill.findSkill(character.getSkills(), readInt());
+			int value = readInt();
+			if(skill != null) {
+				skill.setValue(value);
+			}
+		}
+
+		count = readInt();
+		for(int i = 0; i < count; i++) {
+			Item item = ItemManager.getInstance().getItem(readInt());
+			int quantity = readInt();
+			for(int copy = 0; item != null && copy < quantity; copy++) {
+				character.getBackpack().addItem(item);
+			}
+		}
+		count = readInt();
+		EEquipmentPosition[] positions = EEquipmentPosition.values();
+		for(int i = 0; i < count; i++) {
+			int position = readInt();
+			Item item = ItemManager.getInstance().getItem(readInt());
+			if(position < positions.length && item instanceof ItemEquipable) {
+				character.setEquippedItem(positions[position], (ItemEquipable) item);
+			}
+		}
+
+		int spellsCount = readInt();
+		for(int i = 0; i < spellsCount; i++) {
+			Spell spell = Spell.getSpell(readInt());
+			if(spell != null) {
+				character.learnSpell(spell);
+			}
+		}
+		spellsCount = readInt();
+		for(int i = 0; i < spellsCount; i++) {
+			Spell spell = Spell.getSpell(readInt());
+			if(spell != null) {
+				character.addActiveSpell(spell);
+			}
+		}
+
+		character.setCurrentLifePoints(readInt());
+		character.setCurrentPowerPoints(readInt());
+		character.setCurrentLuckPoints(readInt());
+		return character;
+	}
+
+	private void writeSpellIds(ArrayList<Spell> spells) {
+		writeInt(spells.size());
+		for(Spell spell: spells) {
+			writeInt(spell.getId());
+		}
+	}
+
+	private static BaseRace findRace(int idRace) {
+		for(BaseRace race: BaseRace.getAvailableRaces()) {
+			if(race.getId() == idRace) {
+				return race;
+			}
+		}
+		return null;
+	}
+
+	//Variable length: 7 bits per byte, zigzag so small negative numbers are short too
+	private void writeInt(int value) {
+		int zigzag = (value << 1) ^ (value >> 31);
+		ensureCapacity(5);
+		while((zigzag & ~0x7F) != 0) {
+			buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+			zigzag >>>= 7;
+		}
+		buffer[position++] = (byte) zigzag;
+	}
+
+	private int readInt() {
+		int zigzag = 0;
+		int shift = 0;
+		while(true) {
+			if(position >= length) {
+				throw new IllegalArgumentException("Character data is truncated");
+			}
+			byte current = buffer[position++];
+			zigzag |= (current & 0x7F) << shift;
+			if((current & 0x80) == 0) {
+				break;
+			}
+			shift += 7;
+			if(shift > 28) {
+				throw new IllegalArgumentException("Character data is not valid: integer longer than 5 bytes");
+			}
+		}
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+
+	private void writeString(String value) {
+		String text = value != null ? value : "";
+		writeInt(text.length());
+		for(int i = 0; i < text.length(); i++) {
+			writeInt(text.charAt(i));
+		}
+	}
+
+	private String readString() {
+		int textLength = readInt();
+		if(textLength < 0) {
+			throw new IllegalArgumentException("Character data is not valid: negative text length");
+		}
+		//every char takes one byte at least
+		if(textLength > length - position) {
+			throw new IllegalArgumentException("Character data is truncated");
+		}
+		if(textLength > text.length) {
+			text = new char[textLength];
+		}
+		for(int i = 0; i < textLength; i++) {
+			text[i] = (char) readInt();
+		}
+		return new String(text, 0, textLength);
+	}
+
+	private void ensureCapacity(int bytes) {
+		if(position + bytes > buffer.length) {
+			byte[] newBuffer = new byte[Math.max(buffer.length * 2, position + bytes)];
+			System.arraycopy(buffer, 0, newBuffer, 0, position);
+			buffer = newBuffer;
+		}
+	}
+
+	private String encodeBase64() {
+		int textLength = Prefix.length() + (position + 2) / 3 * 4;
+		if(textLength > text.length) {
+			text = new char[textLength];
+		}
+		Prefix.getChars(0, Prefix.length(), text, 0);
+		int out = Prefix.length();
+		for(int i = 0; i < position; i += 3) {
+			int bits = (buffer[i] & 0xFF) << 16;
+			if(i + 1 < position) {
+				bits |= (buffer[i + 1] & 0xFF) << 8;
+			}
+			if(i + 2 < position) {
+				bits |= buffer[i + 2] & 0xFF;
+			}
+			text[out++] = Base64Chars[(bits >> 18) & 0x3F];
+			text[out++] = Base64Chars[(bits >> 12) & 0x3F];
+			text[out++] = i + 1 < position ? Base64Chars[(bits >> 6) & 0x3F] : '=';
+			text[out++] = i + 2 < position ? Base64Chars[bits & 0x3F] : '=';
+		}
+		return new String(text, 0, out);
+	}
+
+	private void decodeBase64(String encoded) {
+		position = 0;
+		ensureCapacity((encoded.length() - Prefix.length()) / 4 * 3);
+		int bits = 0;
+		int bitCount = 0;
+		for(int i = Prefix.length(); i < encoded.length(); i++) {
+			char current = encoded.charAt(i);
+			if(current == '=') {
+				break;
+			}
+			int value = current < Base64Values.length ? Base64Values[current] : -1;
+			if(value < 0) {
+				throw new IllegalArgumentException("Character data is not valid base64");
+			}
+			bits = (bits << 6) | value;
+			bitCount += 6;
+			if(bitCount >= 8) {
+				bitCount -= 8;
+				buffer[position++] = (byte) (bits >> bitCount);
+			}
+		}
+		length = position;
+		position = 0;
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+import com.pberna.adventure.pj.race.BaseRace;
+import com.pberna.adventure.spells.EnhanceCombatStatsSpell;
+import com.pberna.adventure.spells.EnhanceSkillSpell;
+import com.pberna.adventure.spells.Spell;
+
+//Derived values of a character indexed by attribute and skill id, and the ids of the items it owns in the backpack
+//or equipped. They are computed again only when the equipment, the backpack, the active spells, the race or the
+//base values change, so reading a stat is just an array access. The screens change the attribute and skill values
+//directly, so the attributes and skills read here tell these stats when they change
+final class CharacterStats {
+	private int[] baseAttributes;
+	private int[] modifierAttributes;
+	private int[] baseSkills;
+	private int[] modifierSkills;
+	private int modifierAttack;
+	private int modifierDefense;
+	private int modifierInitiative;
+	private BitSet ownedItems;
+	private boolean valid;
+	private Backpack validBackpack;
+	private int validBackpackModificationCount;
+
+	CharacterStats() {
+		baseAttributes = new int[Attribute.IdFortune + 1];
+		modifierAttributes = new int[baseAttributes.length];
+		baseSkills = new int[Skill.IdSocial + 1];
+		modifierSkills = new int[baseSkills.length];
+		ownedItems = new BitSet();
+		valid = false;
+	}
+
+	void invalidate() {
+		valid = false;
+	}
+
+	boolean isValid(Backpack backpack) {
+		return valid && validBackpack == backpack
+				&& validBackpackModificationCount == backpack.getModificationCount();
+	}
+
+	void update(BaseRace race, ArrayList<Attribute> attributes, ArrayList<Skill> skills, Backpack backpack,
+			Collection<ItemEquipable> equippedItems, ArrayList<Spell> activeSpells) {
+		validBackpack = backpack;
+		validBackpackModificationCount = backpack.getModificationCount();
+
+		int maximumId = 0;
+		for(Attribute attribute: attributes) {
+			maximumId = Math.max(maximumId, attribute.getId());
+		}
+		if(maximumId >= baseAttributes.length) {
+			baseAttributes = new int[maximumId + 1];
+			modifierAttributes = new int[maximumId + 1];
+		}
+		maximumId = 0;
+		for(Skill skill: skills) {
+			maximumId = Math.max(maximumId, skill.getId());
+		}
+		if(maximumId >= baseSkills.length) {
+			baseSkills = new int[maximumId + 1];
+			modifierSkills = new int[maximumId + 1];
+		}
+
+		for(int id = 0; id < baseAttributes.length; id++) {
+			baseAttributes[id] = 0;
+			modifierAttributes[id] = 0;
+		}
+		for(Attribute attribute: attributes) {
+			attribute.setOwnerStats(this);
+			baseAttributes[attribute.getId()] = attribute.getValue()
+					+ (race != null ? race.getAttributeModifier(attribute.getId()) : 0);
+		}
+		for(int id = 0; id < baseSkills.length; id++) {
+			baseSkills[id] = 0;
+			modifierSkills[id] = 0;
+		}
+		for(Skill skill: skills) {
+			skill.setOwnerStats(this);
+			baseSkills[skill.getId()] = skill.getValue()
+					+ (race != null ? race.getSkillModifier(skill.getId()) : 0);
+		}
+
+		ownedItems.clear();
+		for(int i = 0; i < backpack.getStackCount(); i++) {
+			Item item = backpack.getStackItem(i);
+			if(item != null && item.getId() >= 0) {
+				ownedItems.set(item.getId());
+			}
+		}
+
+		modifierAttack = 0;
+		modifierDefense = 0;
+		modifierInitiative = 0;
+		for(ItemEquipable item: equippedItems) {
+			if(item != null) {
+				if(item.getId() >= 0) {
+					ownedItems.set(item.getId());
+				}
+				for(int id = 0; id < modifierAttributes.length; id++) {
+					modifierAttributes[id] += item.getAttributeModifier(id);
+				}
+				for(int id = 0; id < modifierSkills.length; id++) {
+					modifierSkills[id] += item.getSkillModifier(id);
+				}
+				modifierAttack += item.getAttackModifier();
+				modifierDefense += item.getDefenseModifier();
+				modifierInitiative += item.getInitiativeModifier();
+			}
+		}
+
+		for(Spell spell: activeSpells) {
+			if(spell instanceof EnhanceSkillSpell) {
+				for(int id = 0; id < modifierSkills.length; id++) {
+					modifierSkills[id] += ((EnhanceSkillSpell)spell).getSkillModifier(id);
+				}
+			}
+			if(spell instanceof EnhanceCombatStatsSpell) {
+				EnhanceCombatStatsSpell combatSpell = (EnhanceCombatStatsSpell)spell;
+				if(Skill.IdMagic < modifierSkills.length) {
+					modifierSkills[Skill.IdMagic] += combatSpell.getMagicModifier();
+				}
+				modifierAttack += combatSpell.getAttackModifier();
+				modifierDefense += combatSpell.getDefenseModifier();
+			}
+		}
+
+		valid = true;
+	}
+
+	int getBaseAttributeValue(int idAttribute) {
+		return idAttribute >= 0 && idAttribute < baseAttributes.length ? baseAttributes[idAttribute] : 0;
+	}
+
+	int getModifierAttributeValue(int idAttribute) {
+		return idAttribute >= 0 && idAttribute < modifierAttributes.length ? modifierAttributes[idAttribute] : 0;
+	}
+
+	int getBaseSkillValue(int idSkill) {
+		return idSkill >= 0 && idSkill < baseSkills.length ? baseSkills[idSkill] : 0;
+	}
+
+	int getModifierSkillValue(int idSkill) {
+		return idSkill >= 0 && idSkill < modifierSkills.length ? modifierSkills[idSkill] : 0;
+	}
+
+	int getModifierAttackValue() {
+		return modifierAttack;
+	}
+
+	int getModifierDefenseValue() {
+		return modifierDefense;
+	}
+
+	int getModifierInitiativeValue() {
+		return modifierInitiative;
+	}
+
+	boolean ownsItem(int idItem) {
+		return idItem >= 0 && ownedItems.get(idItem);
+	}
+}
@@ -22,7 +22,7 @@ package com.pberna.adventure.pj;
 
 import java.util.ArrayList;
 
-import com.pberna.engine.localization.Localization;
+import com.pberna.engine.localization.Translator;
 
 public class Difficulty {
 	
@@ -32,6 +32,10 @@ public class Difficulty {
 			"difficultyComplicated", "difficultyVeryComplicated", "difficultySomeHard", "difficultyHard", "difficultyVeryHard",
 			"difficultyReallyHard", "difficultyTemerity", "difficultyMadness", "difficultyRidiculous", "difficultyImpossible"};
 
+	//Difficulties are built once per locale and shared, without and with the blank spaces adjusted
+	private static final Difficulty[][] Catalogs = new Difficulty[2][];
+	private static int catalogsTextsVersion = -1;
+
 	private int difficulty;
 	private String name;
 	
@@ -56,25 +60,44 @@ public class Difficulty {
 	
 	public static ArrayList<Difficulty> getAllDifficulties(boolean adjustBlankSpaces)
 	{
-		ArrayList<Difficulty> difficulties = new ArrayList<Difficulty>(DifficultiesValues.length);
-		for(int i = 0; i < DifficultiesValues.length && i < DifficultiesLabel.length; i++) {
-			difficulties.add(buildDifficulty(DifficultiesValues[i], DifficultiesLabel[i], adjustBlankSpaces));
+		Difficulty[] catalog = getCatalog(adjustBlankSpaces);
+		ArrayList<Difficulty> difficulties = new ArrayList<Difficulty>(catalog.length);
+		for(Difficulty difficulty: catalog) {
+			difficulties.add(difficulty);
 		}
 
 		return difficulties;
 	}
 
+	private static synchronized Difficulty[] getCatalog(boolean adjustBlankSpaces) {
+		int textsVersion = Translator.getTextsVersion();
+		if(textsVersion != catalogsTextsVersion) {
+			Catalogs[0] = null;
+			Catalogs[1] = null;
+			catalogsTextsVersion = textsVersion;
+		}
+
+		int index = adjustBlankSpaces ? 1 : 0;
+		if(Catalogs[index] == null) {
+			Difficulty[] catalog = new Difficulty[Math.min(DifficultiesValues.length, DifficultiesLabel.length)];
+			for(int i = 0; i < catalog.length; i++) {
+				catalog[i] = buildDifficulty(DifficultiesValues[i], DifficultiesLabel[i], adjustBlankSpaces);
+			}
+			Catalogs[index] = catalog;
+		}
+		return Catalogs[index];
+	}
+
 	private static Difficulty buildDifficulty(int difficultyValue, String labelKey, boolean adjustBlankSpaces) {
-		return new Difficulty(difficultyValue, Localization.getInstance().getTranslation("PjInformation", labelKey, adjustBlankSpaces));
+		return new Difficulty(difficultyValue, Translator.getInstance().getTranslation("PjInformation", labelKey, adjustBlankSpaces));
 	}
 
+	//Difficulty values are consecutive, so the catalog is indexed by value
 	public static Difficulty getDifficulty(int difficultyValue, boolean adjustBlankSpaces) {
-		for(int i = 0; i < DifficultiesValues.length && i < DifficultiesLabel.length; i++) {
-			if(DifficultiesValues[i] == difficultyValue) {
-				return buildDifficulty(DifficultiesValues[i], DifficultiesLabel[i], adjustBlankSpaces);
-			}
-		}
-		return null;
+		Difficulty[] catalog = getCatalog(adjustBlankSpaces);
+		int index = difficultyValue - DifficultiesValues[0];
+		return index >= 0 && index < catalog.length && catalog[index].difficulty == difficultyValue
+				? catalog[index] : null;
 	}
 	
 	public static Difficulty findDifficulty(ArrayList<Difficulty> listDifficulties, int difficultyValue) {
@@ -20,7 +20,6 @@
 
 package com.pberna.adventure.pj;
 
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.pberna.adventure.spells.AttackSpell;
 import com.pberna.adventure.spells.Spell;
 
@@ -41,12 +40,57 @@ public class Enemy {
 	private int currentLuckPoints;
 	private int maximumLuckPoints;
 	private ArrayList<Spell> spells;
-
-	private TextureRegion textureImage;
+	private EnemyTemplate template;
 
 	public Enemy() {
 		spells = new ArrayList<Spell>();
 	}
+
+	public Enemy(EnemyTemplate template) {
+		this();
+		reset(template);
+	}
+
+	public Enemy(Enemy enemy) {
+		template = enemy.template;
+		id = enemy.id;
+		name = enemy.name;
+		imageName = enemy.imageName;
+		attackValue = enemy.attackValue;
+		defenseValue = enemy.defenseValue;
+		magicValue = enemy.magicValue;
+		initiativeValue = enemy.initiativeValue;
+		currentLifePoints = enemy.currentLifePoints;
+		maximumLifePoints = enemy.maximumLifePoints;
+		currentPowerPoints = enemy.currentPowerPoints;
+		maximumPowerPoints = enemy.maximumPowerPoints;
+		currentLuckPoints = enemy.currentLuckPoints;
+		maximumLuckPoints = enemy.maximumLuckPoints;
+		spells = new ArrayList<Spell>(enemy.spells);
+	}
+	
+	//Turns this enemy into a fresh one of the template, with its life, power and luck points full
+	public void reset(EnemyTemplate template) {
+		this.template = template;
+		id = template.getId();
+		name = null;
+		imageName = template.getImageName();
+		attackValue = template.getAttackValue();
+		defenseValue = template.getDefenseValue();
+		magicValue = template.getMagicValue();
+		initiativeValue = template.getInitiativeValue();
+		maximumLifePoints = template.getMaximumLifePoints();
+		currentLifePoints = maximumLifePoints;
+		maximumPowerPoints = template.getMaximumPowerPoints();
+		currentPowerPoints = maximumPowerPoints;
+		maximumLuckPoints = template.getMaximumLuckPoints();
+		currentLuckPoints = maximumLuckPoints;
+		Spell.getSpells(template.getSpellsMask(), spells);
+	}
+
+	public EnemyTemplate getTemplate() {
+		return template;
+	}
 	
 	public int getId() {
 		return id;
@@ -56,7 +100,7 @@ public class Enemy {
 	}
 	
 	public String getName() {
-		return name;
+		return name == null && template != null ? template.getName() : name;
 	}
 	public void setName(String name) {
 		this.name = name;
@@ -146,14 +190,6 @@ public class Enemy {
 		this.maximumLuckPoints = maximumLuckPoints;
 	}
 
-	public TextureRegion getTextureImage() {
-		return textureImage;
-	}
-
-	public void setTextureImage(TextureRegion textureImage) {
-		this.textureImage = textureImage;
-	}
-
 	public ArrayList<Spell> getSpells() {
 		return spells;
 	}
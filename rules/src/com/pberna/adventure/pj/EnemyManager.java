@@ -0,0 +1,64 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.Collection;
+
+//Bestiary with the enemy templates read from the enemies data file, indexed by id
+public class EnemyManager implements IEnemyManager {
+    private static final EnemyManager instance = new EnemyManager();
+
+    private volatile EnemyTemplate[] templates;
+
+    private EnemyManager() {
+        templates = new EnemyTemplate[0];
+    }
+
+    public static EnemyManager getInstance() {
+        return instance;
+    }
+
+    public synchronized void setTemplates(Collection<EnemyTemplate> newTemplates) {
+        int maximumId = 0;
+        for(EnemyTemplate template: newTemplates) {
+            maximumId = Math.max(maximumId, template.getId());
+        }
+
+        EnemyTemplate[] indexedTemplates = new EnemyTemplate[maximumId + 1];
+        for(EnemyTemplate template: newTemplates) {
+            indexedTemplates[template.getId()] = template;
+        }
+        templates = indexedTemplates;
+    }
+
+    public synchronized void addTemplate(EnemyTemplate template) {
+        EnemyTemplate[] newTemplates = new EnemyTemplate[Math.max(templates.length, template.getId() + 1)];
+        System.arraycopy(templates, 0, newTemplates, 0, templates.length);
+        newTemplates[template.getId()] = template;
+        templates = newTemplates;
+    }
+
+    @Override
+    public EnemyTemplate getById(int id) {
+        EnemyTemplate[] currentTemplates = templates;
+        return id >= 0 && id < currentTemplates.length ? currentTemplates[id] : null;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.ArrayList;
+
+//Small free list of enemies, so that repeated fights reuse the same instances. It is not thread safe, every
+//combat owns its own pool
+public class EnemyPool {
+	private static final int MaximumFreeEnemies = 4;
+
+	private final ArrayList<Enemy> freeEnemies;
+
+	public EnemyPool() {
+		freeEnemies = new ArrayList<Enemy>(MaximumFreeEnemies);
+	}
+
+	public Enemy obtain(EnemyTemplate template) {
+		if(freeEnemies.isEmpty()) {
+			return new Enemy(template);
+		}
+
+		Enemy enemy = freeEnemies.remove(freeEnemies.size() - 1);
+		enemy.reset(template);
+		return enemy;
+	}
+
+	public void free(Enemy enemy) {
+		if(enemy != null && freeEnemies.size() < MaximumFreeEnemies && !freeEnemies.contains(enemy)) {
+			freeEnemies.add(enemy);
+		}
+	}
+
+	public int getFreeCount() {
+		return freeEnemies.size();
+	}
+}
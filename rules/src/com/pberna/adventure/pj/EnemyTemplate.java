@@ -0,0 +1,108 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import com.pberna.engine.localization.Translator;
+
+//Immutable stats of a kind of enemy read from the bestiary, fights use Enemy instances built from it
+public class EnemyTemplate {
+	public static final String DefaultAiPolicy = "basic";
+
+	private final int id;
+	private final int nameText;
+	private final String imageName;
+	private final int attackValue;
+	private final int defenseValue;
+	private final int initiativeValue;
+	private final int magicValue;
+	private final int maximumLifePoints;
+	private final int maximumPowerPoints;
+	private final int maximumLuckPoints;
+	private final int spellsMask;
+	private final String aiPolicy;
+
+	public EnemyTemplate(int id, int nameText, String imageName, int attackValue, int defenseValue,
+			int initiativeValue, int magicValue, int maximumLifePoints, int maximumPowerPoints,
+			int maximumLuckPoints, int spellsMask, String aiPolicy) {
+		this.id = id;
+		this.nameText = nameText;
+		this.imageName = imageName;
+		this.attackValue = attackValue;
+		this.defenseValue = defenseValue;
+		this.initiativeValue = initiativeValue;
+		this.magicValue = magicValue;
+		this.maximumLifePoints = maximumLifePoints;
+		this.maximumPowerPoints = maximumPowerPoints;
+		this.maximumLuckPoints = maximumLuckPoints;
+		this.spellsMask = spellsMask;
+		this.aiPolicy = aiPolicy;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String getName() {
+		return Translator.getText(nameText);
+	}
+
+	public String getImageName() {
+		return imageName;
+	}
+
+	public int getAttackValue() {
+		return attackValue;
+	}
+
+	public int getDefenseValue() {
+		return defenseValue;
+	}
+
+	public int getInitiativeValue() {
+		return initiativeValue;
+	}
+
+	public int getMagicValue() {
+		return magicValue;
+	}
+
+	public int getMaximumLifePoints() {
+		return maximumLifePoints;
+	}
+
+	public int getMaximumPowerPoints() {
+		return maximumPowerPoints;
+	}
+
+	public int getMaximumLuckPoints() {
+		return maximumLuckPoints;
+	}
+
+	//Ids of the catalog spells the enemy can cast, as a mask of Spell.getMask
+	public int getSpellsMask() {
+		return spellsMask;
+	}
+
+	//Name of the policy that chooses the actions of the enemy in combat
+	public String getAiPolicy() {
+		return aiPolicy;
+	}
+}
@@ -22,5 +22,5 @@ package com.pberna.adventure.pj;
 
 public interface IEnemyManager {
 
-    Enemy getById(int id);
+    EnemyTemplate getById(int id);
 }
@@ -18,7 +18,7 @@
  *   Email contact: lomodastudios@gmail.com
  */
 
-package com.pberna.adventure.screens.controls;
+package com.pberna.adventure.pj;
 
 public interface IImageName {
     String getImageName();
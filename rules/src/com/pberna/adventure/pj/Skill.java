@@ -0,0 +1,228 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import java.util.ArrayList;
+
+import com.pberna.engine.localization.Translator;
+
+public class Skill implements IImageName {
+	public static final int MinimumGenericValue = 1;
+	public static final int MaximumGenericValue = 8;
+	
+	public static final int TotalSkillPointsPerPj = 20;
+	
+	public static final int IdFighting = 1;
+	public static final int IdKnowledge = 2;
+	public static final int IdStealth = 3;
+	public static final int IdMagic = 4;
+	public static final int IdSocial = 5;
+	
+	private int id;
+	private String name;
+	private transient int nameText;
+	private int value;
+	private String description;
+	private transient int descriptionText;
+	private String imageName;
+	//stats of the character that owns it, computed again when the value changes
+	private transient CharacterStats ownerStats;
+
+	//Skills are built once and copied for every character, which keeps its own values
+	private static class Catalog {
+		private static final Skill[] Skills = buildSkills();
+		private static final ArrayList<Skill> Definitions = buildList(Skills);
+	}
+
+	public Skill() {
+
+	}
+
+	public Skill(Skill skill) {
+		id = skill.id;
+		name = skill.name;
+		nameText = skill.nameText;
+		value = skill.value;
+		description = skill.description;
+		descriptionText = skill.descriptionText;
+		imageName = skill.imageName;
+	}
+	
+	public int getId() {
+		return id;
+	}
+
+	public Skill setId(int id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getName() {
+		return nameText != 0 ? Translator.getText(nameText) : name;
+	}
+
+	public Skill setName(String name) {
+		this.name = name;
+		nameText = 0;
+		return this;
+	}
+
+	public Skill setNameText(String bundleName, String key) {
+		nameText = Translator.getTextIndex(bundleName, key);
+		return this;
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	public Skill setValue(int value) {
+		this.value = value;
+		if(ownerStats != null) {
+			ownerStats.invalidate();
+		}
+		return this;
+	}
+
+	void setOwnerStats(CharacterStats ownerStats) {
+		this.ownerStats = ownerStats;
+	}
+
+	public String getDescription() {
+		return descriptionText != 0 ? Translator.getText(descriptionText) : description;
+	}
+
+	public Skill setDescription(String description) {
+		this.description = description;
+		descriptionText = 0;
+		return this;
+	}
+
+	public Skill setDescriptionText(String bundleName, String key) {
+		descriptionText = Translator.getTextIndex(bundleName, key);
+		return this;
+	}
+
+	public String getImageName() {
+		return imageName;
+	}
+
+	public Skill setImageName(String imageName) {
+		this.imageName = imageName;
+		return this;
+	}
+	
+	private static Skill[] buildSkills()
+	{
+		ArrayList<Skill> listSkills = new ArrayList<Skill>();
+		
+		//Fighting
+		listSkills.add(new Skill()
+			.setId(IdFighting)
+			.setNameText("PjInformation", "skillFighting")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionSkillFighting")
+			.setImageName("combat"));
+		
+		//Knowledge
+		listSkills.add(new Skill()
+			.setId(IdKnowledge)
+			.setNameText("PjInformation", "skillKnowledge")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionSkillKnowledge")
+			.setImageName("knowledge"));
+		
+		//Stealth
+		listSkills.add(new Skill()
+			.setId(IdStealth)
+			.setNameText("PjInformation", "skillStealth")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionSkillStealth")
+			.setImageName("stealth"));
+				
+		//Magic
+		listSkills.add(new Skill()
+			.setId(IdMagic)
+			.setNameText("PjInformation", "skillMagic")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionSkillMagic")
+			.setImageName("magic"));
+		
+		//Social
+		listSkills.add(new Skill()
+			.setId(IdSocial)
+			.setNameText("PjInformation", "skillSocial")
+			.setValue(MinimumGenericValue)
+			.setDescriptionText("PjInformation", "descriptionSkillSocial")
+			.setImageName("social"));
+		
+		Skill[] catalog = new Skill[IdSocial + 1];
+		for(Skill skill: listSkills) {
+			catalog[skill.id] = skill;
+		}
+		return catalog;
+	}
+
+	private static ArrayList<Skill> buildList(Skill[] catalog) {
+		ArrayList<Skill> listSkills = new ArrayList<Skill>(catalog.length - 1);
+		for(Skill skill: catalog) {
+			if(skill != null) {
+				listSkills.add(skill);
+			}
+		}
+		return listSkills;
+	}
+
+	//New skill list for a character, ordered by id
+	public static ArrayList<Skill> getSkills()
+	{
+		ArrayList<Skill> listSkills = new ArrayList<Skill>(Catalog.Definitions.size());
+		for(Skill skill: Catalog.Definitions) {
+			listSkills.add(new Skill(skill));
+		}
+		return listSkills;
+	}
+
+	//Shared definitions, ordered by id. Neither the list nor the values of its skills must be changed
+	public static ArrayList<Skill> getSkillDefinitions() {
+		return Catalog.Definitions;
+	}
+
+	public static Skill getSkillDefinition(int idSkill) {
+		return idSkill > 0 && idSkill < Catalog.Skills.length ? Catalog.Skills[idSkill] : null;
+	}
+
+	public static Skill findSkill(ArrayList<Skill> listSkills, int idSkill) {
+		//lists built by getSkills keep each skill at the position of its id
+		int index = idSkill - 1;
+		if(index >= 0 && index < listSkills.size() && listSkills.get(index).id == idSkill) {
+			return listSkills.get(index);
+		}
+
+		for(Skill skill: listSkills) {
+			if(skill.id == idSkill) {
+				return skill;
+			}
+		}
+		
+		return null;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj.effects;
+
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+
+import com.pberna.adventure.pj.Character;
+
+//Temporary effects of a character. Every clock of the game (places left, combat rounds, combats and checks of each
+//skill) keeps the expiries scheduled on it in a priority queue by time, so a tick of a clock only takes out the
+//effects that are due
+public class EffectEngine {
+    private final Character character;
+    private final ArrayList<Clock> clocks;
+    private long scheduledCount;
+
+    public EffectEngine(Character character) {
+        this.character = character;
+        clocks = new ArrayList<Clock>();
+        scheduledCount = 0;
+    }
+
+    public void apply(Effect effect) {
+        effect.applyTo(character);
+        if(effect instanceof TimedEffect) {
+            schedule((TimedEffect) effect);
+        }
+    }
+
+    //Queues the expiry of an effect already applied, effects without expiry last until they are removed
+    public ScheduledEffect schedule(TimedEffect effect) {
+        EffectExpiry expiry = effect.getExpiry();
+        if(expiry == null) {
+            return null;
+        }
+
+        Clock clock = getClock(expiry.getClock());
+        ScheduledEffect scheduledEffect = new ScheduledEffect(effect, clock.time + expiry.getTicks(), scheduledCount++);
+        clock.queue.add(scheduledEffect);
+        return scheduledEffect;
+    }
+
+    public void placeLeft() {
+        tick(EffectExpiry.PlacesClock);
+    }
+
+    public void combatRoundEnded() {
+        tick(EffectExpiry.CombatRoundsClock);
+    }
+
+    public void combatEnded() {
+        tick(EffectExpiry.CombatsClock);
+    }
+
+    public void skillCheckEnded(int idSkill) {
+        tick(EffectExpiry.getSkillChecksClock(idSkill));
+    }
+
+    public int getTime(int clock) {
+        return clock < clocks.size() && clocks.get(clock) != null ? clocks.get(clock).time : 0;
+    }
+
+    //Expiries waiting in the queues, the cancelled ones included
+    public int getScheduledCount() {
+        int count = 0;
+        for(Clock clock: clocks) {
+            if(clock != null) {
+                count += clock.queue.size();
+            }
+        }
+        return count;
+    }
+
+    public void clear() {
+        clocks.clear();
+    }
+
+    private void tick(int clockId) {
+        Clock clock = getClock(clockId);
+        clock.time++;
+        while(!clock.queue.isEmpty() && clock.queue.peek().getTime() <= clock.time) {
+            ScheduledEffect scheduledEffect = clock.queue.poll();
+            if(!scheduledEffect.isCancelled()) {
+                scheduledEffect.getEffect().removeFrom(character);
+            }
+        }
+    }
+
+    private Clock getClock(int clockId) {
+        while(clocks.size() <= clockId) {
+            clocks.add(null);
+        }
+        Clock clock = clocks.get(clockId);
+        if(clock == null) {
+            clock = new Clock();
+            clocks.set(clockId, clock);
+        }
+        return clock;
+    }
+
+    private static class Clock {
+        private int time;
+        private final PriorityQueue<ScheduledEffect> queue = new PriorityQueue<ScheduledEffect>();
+    }
+}
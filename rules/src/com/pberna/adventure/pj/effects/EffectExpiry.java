@@ -0,0 +1,68 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj.effects;
+
+//When a temporary effect wears off: after some ticks of one of the clocks of the game
+public class EffectExpiry {
+    public static final int PlacesClock = 0;
+    public static final int CombatRoundsClock = 1;
+    public static final int CombatsClock = 2;
+    //every skill has its own clock of checks, from this one on by skill id
+    public static final int SkillChecksClock = 3;
+
+    private final int clock;
+    private final int ticks;
+
+    private EffectExpiry(int clock, int ticks) {
+        this.clock = clock;
+        this.ticks = ticks;
+    }
+
+    //After leaving that many places, counting the one where the effect starts
+    public static EffectExpiry afterPlaces(int places) {
+        return new EffectExpiry(PlacesClock, places);
+    }
+
+    public static EffectExpiry afterCombatRounds(int rounds) {
+        return new EffectExpiry(CombatRoundsClock, rounds);
+    }
+
+    //At the end of that many combats, the one going on counts
+    public static EffectExpiry afterCombats(int combats) {
+        return new EffectExpiry(CombatsClock, combats);
+    }
+
+    public static EffectExpiry afterSkillChecks(int idSkill, int checks) {
+        return new EffectExpiry(getSkillChecksClock(idSkill), checks);
+    }
+
+    public static int getSkillChecksClock(int idSkill) {
+        return SkillChecksClock + idSkill;
+    }
+
+    public int getClock() {
+        return clock;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+}
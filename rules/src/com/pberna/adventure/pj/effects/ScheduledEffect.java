@@ -0,0 +1,61 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj.effects;
+
+//Expiry of an effect waiting in the queue of its clock. A cancelled one is dropped when it comes out of the queue
+public class ScheduledEffect implements Comparable<ScheduledEffect> {
+    private final TimedEffect effect;
+    private final int time;
+    private final long order;
+    private boolean cancelled;
+
+    ScheduledEffect(TimedEffect effect, int time, long order) {
+        this.effect = effect;
+        this.time = time;
+        this.order = order;
+        cancelled = false;
+    }
+
+    public TimedEffect getEffect() {
+        return effect;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    //Earlier times first, and the effects due at the same time in the order they were scheduled
+    @Override
+    public int compareTo(ScheduledEffect other) {
+        if(time != other.time) {
+            return time < other.time ? -1 : 1;
+        }
+        return order < other.order ? -1 : (order == other.order ? 0 : 1);
+    }
+}
@@ -22,9 +22,13 @@ package com.pberna.adventure.pj.race;
 
 import com.pberna.adventure.pj.Attribute;
 import com.pberna.adventure.pj.Skill;
-import com.pberna.engine.localization.Localization;
+import com.pberna.engine.localization.Translator;
 
 public class Dwarf extends BaseRace {
+	private static final int NameText = Translator.getTextIndex("PjInformation", "raceDwarf");
+	private static final int NameMaleText = Translator.getTextIndex("PjInformation", "raceDwarfMale");
+	private static final int NameFemaleText = Translator.getTextIndex("PjInformation", "raceDwarfFemale");
+	private static final int DescriptionText = Translator.getTextIndex("PjInformation", "descriptionDwarf");
 
 	public static final int MaximumMagic = 4;
 	
@@ -35,26 +39,22 @@ public class Dwarf extends BaseRace {
 	
 	@Override
 	public String getName() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceDwarf");
+		return Translator.getText(NameText);
 	}
 	
 	@Override
 	public String getNameMale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceDwarfMale");
+		return Translator.getText(NameMaleText);
 	}
 	
 	@Override
 	public String getNameFemale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceDwarfFemale");
+		return Translator.getText(NameFemaleText);
 	}
 	
 	@Override
 	public String getDescription() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "descriptionDwarf");
+		return Translator.getText(DescriptionText);
 	}
 	
 	@Override
@@ -22,9 +22,13 @@ package com.pberna.adventure.pj.race;
 
 import com.pberna.adventure.pj.Attribute;
 import com.pberna.adventure.pj.Skill;
-import com.pberna.engine.localization.Localization;
+import com.pberna.engine.localization.Translator;
 
 public class Elf extends BaseRace{
+	private static final int NameText = Translator.getTextIndex("PjInformation", "raceElf");
+	private static final int NameMaleText = Translator.getTextIndex("PjInformation", "raceElfMale");
+	private static final int NameFemaleText = Translator.getTextIndex("PjInformation", "raceElfFemale");
+	private static final int DescriptionText = Translator.getTextIndex("PjInformation", "descriptionElf");
 	
 	public static final int MinimumMagic = 4;
 	
@@ -35,26 +39,22 @@ public class Elf extends BaseRace{
 	
 	@Override
 	public String getName() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceElf");
+		return Translator.getText(NameText);
 	}
 	
 	@Override
 	public String getNameMale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceElfMale");
+		return Translator.getText(NameMaleText);
 	}
 	
 	@Override
 	public String getNameFemale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceElfFemale");
+		return Translator.getText(NameFemaleText);
 	}
 	
 	@Override
 	public String getDescription() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "descriptionElf");
+		return Translator.getText(DescriptionText);
 	}
 	
 	@Override
@@ -22,9 +22,13 @@ package com.pberna.adventure.pj.race;
 
 import com.pberna.adventure.pj.Attribute;
 import com.pberna.adventure.pj.Skill;
-import com.pberna.engine.localization.Localization;
+import com.pberna.engine.localization.Translator;
 
 public class Halfling extends BaseRace {
+	private static final int NameText = Translator.getTextIndex("PjInformation", "raceHalfling");
+	private static final int NameMaleText = Translator.getTextIndex("PjInformation", "raceHalflingMale");
+	private static final int NameFemaleText = Translator.getTextIndex("PjInformation", "raceHalflingFemale");
+	private static final int DescriptionText = Translator.getTextIndex("PjInformation", "descriptionHalfling");
 
 public static final int MaximumMagic = 4;
 	
@@ -35,26 +39,22 @@ public static final int MaximumMagic = 4;
 
 	@Override
 	public String getName() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceHalfling");
+		return Translator.getText(NameText);
 	}
 	
 	@Override
 	public String getNameMale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceHalflingMale");
+		return Translator.getText(NameMaleText);
 	}
 	
 	@Override
 	public String getNameFemale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceHalflingFemale");
+		return Translator.getText(NameFemaleText);
 	}
 	
 	@Override
 	public String getDescription() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "descriptionHalfling");
+		return Translator.getText(DescriptionText);
 	}
 	
 	@Override
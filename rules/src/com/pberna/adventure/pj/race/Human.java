@@ -22,9 +22,13 @@ package com.pberna.adventure.pj.race;
 
 import com.pberna.adventure.pj.Attribute;
 import com.pberna.adventure.pj.Skill;
-import com.pberna.engine.localization.Localization;
+import com.pberna.engine.localization.Translator;
 
 public class Human extends BaseRace{
+	private static final int NameText = Translator.getTextIndex("PjInformation", "raceHuman");
+	private static final int NameMaleText = Translator.getTextIndex("PjInformation", "raceHumanMale");
+	private static final int NameFemaleText = Translator.getTextIndex("PjInformation", "raceHumanFemale");
+	private static final int DescriptionText = Translator.getTextIndex("PjInformation", "descriptionHuman");
 	
 	@Override
 	public int getId() {
@@ -33,26 +37,22 @@ public class Human extends BaseRace{
 	
 	@Override
 	public String getName() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceHuman");
+		return Translator.getText(NameText);
 	}	
 	
 	@Override
 	public String getNameMale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceHumanMale");
+		return Translator.getText(NameMaleText);
 	}
 	
 	@Override
 	public String getNameFemale() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "raceHumanFemale");
+		return Translator.getText(NameFemaleText);
 	}
 	
 	@Override
 	public String getDescription() {
-		return Localization.getInstance().getTranslation(
-				"PjInformation", "descriptionHuman");
+		return Translator.getText(DescriptionText);
 	}
 	
 	@Override
@@ -23,7 +23,8 @@ package com.pberna.adventure.spells;
 import java.util.ArrayList;
 
 import com.pberna.adventure.pj.Skill;
-import com.pberna.engine.localization.Localization;
+import com.pberna.adventure.pj.effects.EffectExpiry;
+import com.pberna.engine.localization.Translator;
 
 public class Spell {
 	public static final int TotalNumberSpells = 11;
@@ -40,19 +41,34 @@ public class Spell {
 	public static final int IdLevitation = 10;
 	public static final int IdHeal = 11;
 	public static final int IdMagicRitual = 12;
-	
+
+	//Spells are immutable once built, so the catalog is shared by every character, enemy and screen. It is kept
+	//in its own class so that it is not built while the subclasses of Spell are being initialized
+	private static class Catalog {
+		private static final Spell[] Spells = buildCatalog();
+		private static final int CombatMask = buildCatalogMask(Spells, true);
+		private static final int AdventureMask = buildCatalogMask(Spells, false);
+	}
+
 	private int id;
 	private String name;
+	private transient int nameText;
 	private String description;
+	private transient int descriptionText;
 	private int minimumMagicRequired;
 	private int powerPointsNeeded;
 	private boolean canBeCastedInCombat;
 	private boolean canBeCastedInAdventure;	
 	private String imageName; 
+	private transient EffectExpiry expiry;
 	
 	public int getId() {
 		return id;
 	}
+
+	public int getMask() {
+		return getMask(id);
+	}
 	
 	public Spell setId(int id) {
 		this.id = id;
@@ -60,20 +76,32 @@ public class Spell {
 	}
 	
 	public String getName() {
-		return name;
+		return nameText != 0 ? Translator.getText(nameText) : name;
 	}
 	
 	public Spell setName(String name) {
 		this.name = name;
+		nameText = 0;
+		return this;
+	}
+
+	public Spell setNameText(String bundleName, String key) {
+		nameText = Translator.getTextIndex(bundleName, key);
 		return this;
 	}
 	
 	public String getDescription() {
-		return description;
+		return descriptionText != 0 ? Translator.getText(descriptionText) : description;
 	}
 	
 	public Spell setDescription(String description) {
 		this.description = description;
+		descriptionText = 0;
+		return this;
+	}
+
+	public Spell setDescriptionText(String bundleName, String key) {
+		descriptionText = Translator.getTextIndex(bundleName, key);
 		return this;
 	}
 
@@ -121,8 +149,18 @@ public class Spell {
 		this.imageName = imageName;
 		return this;
 	}
+
+	//When the spell stops being active, null when it lasts until it is removed
+	public EffectExpiry getExpiry() {
+		return expiry;
+	}
+
+	public Spell setExpiry(EffectExpiry expiry) {
+		this.expiry = expiry;
+		return this;
+	}
 	
-	public static ArrayList<Spell> getSpells()
+	private static Spell[] buildCatalog()
 	{
 		ArrayList<Spell> listSpells = new ArrayList<Spell>(TotalNumberSpells);
 		
@@ -136,7 +174,7 @@ public class Spell {
 
 		//shield
 		listSpells.add(buildSpell(new EnhanceCombatStatsSpell().setDefenseModifier(1), IdShield, "spellShieldName", 
-				"spellShieldDescription", 2, 2, true, true, "spell_shield"));						
+				"spellShieldDescription", 2, 2, true, true, "spell_shield").setExpiry(EffectExpiry.afterCombats(1)));						
 		
 		//cheat
 		listSpells.add(buildSpell(new Spell(), IdCheat, "spellCheatName", "spellCheatDescription", 
@@ -144,7 +182,8 @@ public class Spell {
 
 		//expertise
 		listSpells.add(buildSpell(new EnhanceSkillSpell().addSkillModifier(Skill.IdStealth, 2), IdExpertise, 
-				"spellExpertiseName", "spellExpertiseDescription", 2, 2, false, true, "spell_expertise"));						
+				"spellExpertiseName", "spellExpertiseDescription", 2, 2, false, true, "spell_expertise")
+				.setExpiry(EffectExpiry.afterSkillChecks(Skill.IdStealth, 1)));						
 
 		//ice ray
 		listSpells.add(buildSpell(new AttackSpell().setDamageMultiplier(0.75f), IdIceRay, "spellIceRayName", 
@@ -152,7 +191,7 @@ public class Spell {
 
 		//might
 		listSpells.add(buildSpell(new EnhanceCombatStatsSpell().setAttackModifier(2), IdMight, "spellMightName", 
-				"spellMightDescription", 3, 3, true, true, "spell_might"));						
+				"spellMightDescription", 3, 3, true, true, "spell_might").setExpiry(EffectExpiry.afterCombats(1)));						
 
 		//weakness
 		listSpells.add(buildSpell(new Spell(), IdFear, "spellFearName", "spellFearDescription",
@@ -173,18 +212,73 @@ public class Spell {
 		//magic ritual
 		listSpells.add(buildSpell(new EnhanceCombatStatsSpell().setMagicModifier(3).setDefenseModifier(1),
 				IdMagicRitual, "spellMagicRitualName", "spellMagicRitualDescription", 6, 6,
-				true, true, "magic_ritual"));
+				true, true, "magic_ritual").setExpiry(EffectExpiry.afterCombats(1)));
 
+		Spell[] catalog = new Spell[IdMagicRitual + 1];
+		for(Spell spell: listSpells) {
+			catalog[spell.getId()] = spell;
+		}
+		return catalog;
+	}
+
+	private static int buildCatalogMask(Spell[] catalog, boolean combat) {
+		int mask = 0;
+		for(Spell spell: catalog) {
+			if(spell != null && (combat ? spell.canBeCastedInCombat() : spell.canBeCastedInAdventure())) {
+				mask |= spell.getMask();
+			}
+		}
+		return mask;
+	}
+
+	public static ArrayList<Spell> getSpells()
+	{
+		ArrayList<Spell> listSpells = new ArrayList<Spell>(TotalNumberSpells);
+		getSpells(-1, listSpells);
 		return listSpells;
 	}
+
+	//Fills the list with the catalog spells whose ids are in the mask, ordered by id
+	public static void getSpells(int mask, ArrayList<Spell> listSpells) {
+		listSpells.clear();
+		for(Spell spell: Catalog.Spells) {
+			if(spell != null && (mask & spell.getMask()) != 0) {
+				listSpells.add(spell);
+			}
+		}
+	}
+
+	public static Spell getSpell(int idSpell) {
+		return idSpell > 0 && idSpell < Catalog.Spells.length ? Catalog.Spells[idSpell] : null;
+	}
+
+	public static int getCombatSpellsMask() {
+		return Catalog.CombatMask;
+	}
+
+	public static int getAdventureSpellsMask() {
+		return Catalog.AdventureMask;
+	}
+
+	public static int getMask(int idSpell) {
+		return 1 << idSpell;
+	}
+
+	public static int getMask(ArrayList<Spell> listSpells) {
+		int mask = 0;
+		for(Spell spell: listSpells) {
+			mask |= spell.getMask();
+		}
+		return mask;
+	}
 	
 	private static Spell buildSpell(Spell spell, int id, String spellName, String spellDescription, int minimumMagic,
 			int powerPointsNeeded, boolean canBeCastedInCombat, boolean canBeCastedInAdventure, String imageName)
 	{
 		return spell
 		.setId(id)
-		.setName(Localization.getInstance().getTranslation("Spells", spellName))
-		.setDescription(Localization.getInstance().getTranslation("Spells", spellDescription))
+		.setNameText("Spells", spellName)
+		.setDescriptionText("Spells", spellDescription)
 		.setMinimumMagicRequired(minimumMagic)
 		.setPowerPointsNeeded(powerPointsNeeded)
 		.setCanBeCastedInCombat(canBeCastedInCombat)
@@ -0,0 +1,132 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.localization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+//Translator used by the game rules. The game installs its Localization; without it (simulations, tests,
+//servers) the rules work with the translation keys as texts.
+//Game objects keep the index of their texts instead of the texts. Each locale has a table with the texts already
+//translated, so changing the language is just using another table
+public class Translator {
+	private static final int TextsInitialSize = 64;
+
+	private static final ITranslator keyTranslator = new ITranslator() {
+		@Override
+		public String getTranslation(String bundleName, String key) {
+			return key;
+		}
+
+		@Override
+		public String getTranslation(String bundleName, String key, boolean adjustSpaces) {
+			return key;
+		}
+	};
+	private static ITranslator instance = keyTranslator;
+
+	private static final HashMap<String, Integer> textIndexes = new HashMap<String, Integer>();
+	private static final ArrayList<String> textBundleNames = new ArrayList<String>();
+	private static final ArrayList<String> textKeys = new ArrayList<String>();
+	private static final HashMap<String, String[]> localeTexts = new HashMap<String, String[]>();
+	private static String localeName = null;
+	private static volatile String[] texts = null;
+	private static volatile int textsVersion = 0;
+
+	private Translator() {
+
+	}
+
+	public static ITranslator getInstance() {
+		return instance;
+	}
+
+	public static void setInstance(ITranslator translator) {
+		instance = translator != null ? translator : keyTranslator;
+		clearTexts();
+	}
+
+	//Index of a text, 0 is never used so it can mean "no text"
+	public static synchronized int getTextIndex(String bundleName, String key) {
+		String textName = bundleName + "/" + key;
+		Integer index = textIndexes.get(textName);
+		if(index == null) {
+			textBundleNames.add(bundleName);
+			textKeys.add(key);
+			index = Integer.valueOf(textKeys.size());
+			textIndexes.put(textName, index);
+		}
+		return index.intValue();
+	}
+
+	public static String getText(int textIndex) {
+		String[] currentTexts = texts;
+		if(currentTexts != null && textIndex < currentTexts.length) {
+			String text = currentTexts[textIndex];
+			if(text != null) {
+				return text;
+			}
+		}
+		return loadText(textIndex);
+	}
+
+	//Texts are translated when they are used for the first time in the locale
+	private static synchronized String loadText(int textIndex) {
+		String text = instance.getTranslation(textBundleNames.get(textIndex - 1), textKeys.get(textIndex - 1));
+		if(texts == null) {
+			return text;
+		}
+		if(textIndex >= texts.length) {
+			String[] newTexts = new String[Math.max(textIndex + 1, texts.length * 2)];
+			System.arraycopy(texts, 0, newTexts, 0, texts.length);
+			texts = newTexts;
+			localeTexts.put(localeName, texts);
+		}
+		texts[textIndex] = text;
+		return text;
+	}
+
+	//Changes every time the texts may change, so objects built with translated texts know when to rebuild them
+	public static int getTextsVersion() {
+		return textsVersion;
+	}
+
+	//Called by the translator when its locale changes and its texts are loaded
+	public static synchronized void setLocale(String locale) {
+		textsVersion++;
+		localeName = locale;
+		texts = localeTexts.get(locale);
+		if(texts == null) {
+			texts = new String[Math.max(TextsInitialSize, textKeys.size() + 1)];
+			localeTexts.put(locale, texts);
+		}
+	}
+
+	//Called by the translator when the texts it translates change
+	public static synchronized void clearTexts() {
+		textsVersion++;
+		localeTexts.clear();
+		if(localeName != null) {
+			texts = null;
+			setLocale(localeName);
+		}
+	}
+}
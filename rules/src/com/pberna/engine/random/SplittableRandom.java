@@ -0,0 +1,116 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.random;
+
+//SplitMix64 random generator: the whole state is two longs, so it can be stored in a save game and restored,
+//numbers are generated without allocations and split() gives an independent stream for another thread
+public class SplittableRandom {
+	private static final long GoldenGamma = 0x9E3779B97F4A7C15L;
+
+	private long seed;
+	private long gamma;
+
+	public SplittableRandom(long seed) {
+		this(seed, GoldenGamma);
+	}
+
+	private SplittableRandom(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public long getGamma() {
+		return gamma;
+	}
+
+	public void setState(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma | 1L;
+	}
+
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+
+	//Uniform in [0, bound)
+	public int nextInt(int bound) {
+		if(bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		int bits = mix32(nextSeed()) >>> 1;
+		int value = bits % bound;
+		//rejects the last incomplete range of values so every value has the same probability
+		while(bits - value + (bound - 1) < 0) {
+			bits = mix32(nextSeed()) >>> 1;
+			value = bits % bound;
+		}
+		return value;
+	}
+
+	//Uniform in [start, end], like MathUtils.random(int, int)
+	public int nextInt(int start, int end) {
+		return start + nextInt(end - start + 1);
+	}
+
+	public boolean nextBoolean() {
+		return mix32(nextSeed()) < 0;
+	}
+
+	public float nextFloat() {
+		return (mix32(nextSeed()) >>> 8) * 0x1.0p-24f;
+	}
+
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	public SplittableRandom split() {
+		return new SplittableRandom(nextLong(), mixGamma(nextSeed()));
+	}
+
+	private long nextSeed() {
+		return seed += gamma;
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static int mix32(long z) {
+		z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+		return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+	}
+
+	private static long mixGamma(long z) {
+		z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+		z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		//gammas with too few bit transitions give poorly mixed sequences
+		int transitions = Long.bitCount(z ^ (z >>> 1));
+		return transitions < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.pj.Attribute;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.Skill;
+import com.pberna.adventure.pj.race.Human;
+import com.pberna.adventure.spells.AttackSpell;
+
+import java.util.ArrayList;
+
+//Characters, enemies and spells shared by the combat tests
+final class CombatFixtures {
+
+    private CombatFixtures() {
+
+    }
+
+    //Human with the attribute and skill points spread evenly and its life points full
+    static Character createCharacter() {
+        Character character = new Character();
+        character.setRace(new Human());
+
+        ArrayList<Attribute> attributes = Attribute.getAttributes();
+        for(Attribute attribute: attributes) {
+            attribute.setValue(Attribute.TotalAttributePointsPerPj / attributes.size());
+        }
+        character.setAttributes(attributes);
+
+        ArrayList<Skill> skills = Skill.getSkills();
+        for(Skill skill: skills) {
+            skill.setValue(Skill.TotalSkillPointsPerPj / skills.size());
+        }
+        character.setSkills(skills);
+
+        character.setCurrentLifePoints(character.getMaximumLifePoints());
+        return character;
+    }
+
+    static Combat createCombat(Character character, Enemy enemy) {
+        Combat combat = new Combat();
+        combat.setCharacter(character);
+        combat.setEnemy(enemy);
+        return combat;
+    }
+
+    static Enemy createEnemy(int lifePoints) {
+        return createEnemy(lifePoints, 0, 0, 0, 0);
+    }
+
+    static Enemy createEnemy(int lifePoints, int attackValue, int defenseValue, int magicValue, int initiativeValue) {
+        Enemy enemy = new Enemy();
+        enemy.setMaximumLifePoints(lifePoints);
+        enemy.setCurrentLifePoints(lifePoints);
+        enemy.setAttackValue(attackValue);
+        enemy.setDefenseValue(defenseValue);
+        enemy.setMagicValue(magicValue);
+        enemy.setInitiativeValue(initiativeValue);
+        return enemy;
+    }
+
+    static AttackSpell createAttackSpell(int id, float damageMultiplier, int powerPointsNeeded) {
+        AttackSpell spell = new AttackSpell();
+        spell.setDamageMultiplier(damageMultiplier);
+        spell.setId(id);
+        spell.setPowerPointsNeeded(powerPointsNeeded);
+        spell.setCanBeCastedInCombat(true);
+        return spell;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.spells.AttackSpell;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.random.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+public class CombatOddsCalculatorTests {
+
+    @Test
+    public void getWinProbability_EnemyCannotDamageCharacter_CharacterAlwaysWins() {
+        //Arrange
+        Character character = createCharacter();
+        Enemy enemy = CombatFixtures.createEnemy(12, -20, 0, 0, 2);
+
+        //Act
+        float winProbability = CombatOddsCalculator.getInstance().getWinProbability(character, enemy);
+
+        //Assert
+        Assert.assertEquals(1f, winProbability, 0.0001f);
+    }
+
+    @Test
+    public void getWinProbability_CharacterCannotDamageEnemy_CharacterNeverWins() {
+        //Arrange
+        Character character = createCharacter();
+        Enemy enemy = CombatFixtures.createEnemy(12, 2, 40, 40, 2);
+
+        //Act
+        float winProbability = CombatOddsCalculator.getInstance().getWinProbability(character, enemy);
+
+        //Assert
+        Assert.assertEquals(0f, winProbability, 0.0001f);
+    }
+
+    @Test
+    public void getBestAttackSpell_NotEnoughPowerPoints_AttacksInMelee() {
+        //Arrange
+        Character character = createCharacter();
+        character.setCurrentPowerPoints(0);
+        Combat combat = CombatFixtures.createCombat(character, CombatFixtures.createEnemy(12, 2, 2, 2, 2));
+        combat.startCombat(false);
+        combat.applyInitiativeRoll(8, 1);
+
+        //Act
+        AttackSpell attackSpell = CombatOddsCalculator.getInstance().getBestAttackSpell(combat);
+
+        //Assert
+        Assert.assertNull(attackSpell);
+    }
+
+    @Test
+    public void resolve_ManyCombats_WinRateIsTheWinProbability() {
+        //Arrange
+        float winProbability = CombatOddsCalculator.getInstance().getWinProbability(createCharacter(),
+                CombatFixtures.createEnemy(30, 5, 3, 3, 2));
+        SplittableRandom random = new SplittableRandom(2018L);
+        int combats = 20000;
+        int wins = 0;
+
+        //Act
+        for(int i = 0; i < combats; i++) {
+            Combat combat = CombatFixtures.createCombat(createCharacter(), CombatFixtures.createEnemy(30, 5, 3, 3, 2));
+            if(CombatResolver.resolve(combat, random) == CombatWinner.Character) {
+                wins++;
+            }
+        }
+
+        //Assert
+        Assert.assertTrue(winProbability > 0f && winProbability < 1f);
+        Assert.assertEquals(winProbability, wins / (float) combats, 0.015f);
+    }
+
+    //Character of the fixtures that knows Fire Ray, with its power points full
+    private static Character createCharacter() {
+        Character character = CombatFixtures.createCharacter();
+        ArrayList<Spell> spells = new ArrayList<Spell>();
+        spells.add(CombatFixtures.createAttackSpell(Spell.IdFireRay, 2f, 2));
+        character.setSpells(spells);
+        character.setCurrentPowerPoints(character.getMaximumPowerPoints());
+        return character;
+    }
+}
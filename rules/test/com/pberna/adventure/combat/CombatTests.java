@@ -0,0 +1,106 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyTemplate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CombatTests {
+
+    @Test
+    public void applyAttackRoll_CharacterAttacksFirst_EnemySuffersDamage() {
+        //Arrange
+        Combat combat = CombatFixtures.createCombat(CombatFixtures.createCharacter(),
+                CombatFixtures.createEnemy(10));
+        combat.startCombat(false);
+        combat.applyInitiativeRoll(6, 1);
+
+        //Act
+        combat.applyAttackRoll(8, 3, 1f, true);
+
+        //Assert
+        Assert.assertEquals(5, combat.getEnemy().getCurrentLifePoints());
+        Assert.assertTrue(combat.isCharacterUsedMeleeInCombat());
+        Assert.assertEquals(Turn.Enemy, combat.getCurrentTurn());
+    }
+
+    @Test
+    public void applyAttackRoll_EnemyLifePointsExhausted_CharacterWins() {
+        //Arrange
+        Combat combat = CombatFixtures.createCombat(CombatFixtures.createCharacter(),
+                CombatFixtures.createEnemy(4));
+        combat.startCombat(false);
+        combat.applyInitiativeRoll(6, 1);
+
+        //Act
+        combat.applyAttackRoll(8, 3, 1f, true);
+
+        //Assert
+        Assert.assertEquals(CombatState.Finished, combat.getCombatState());
+        Assert.assertEquals(CombatWinner.Character, combat.getCombatWinner());
+    }
+
+    @Test
+    public void applyAttackRoll_DefenseHigherThanAttack_NoDamage() {
+        //Arrange
+        Character character = CombatFixtures.createCharacter();
+        int characterLifePoints = character.getCurrentLifePoints();
+        Combat combat = CombatFixtures.createCombat(character, CombatFixtures.createEnemy(10));
+        combat.startCombat(false);
+        combat.applyInitiativeRoll(1, 6);
+
+        //Act
+        combat.applyAttackRoll(3, 8, 1f, true);
+
+        //Assert
+        Assert.assertEquals(characterLifePoints, character.getCurrentLifePoints());
+        Assert.assertEquals(Turn.Character, combat.getCurrentTurn());
+    }
+
+    @Test
+    public void setEnemy_TemplateAfterAFight_ReusesTheEnemyWithFullLifePoints() {
+        //Arrange
+        EnemyTemplate template = new EnemyTemplate(1, 0, "skeleton", 5, 4, 6, 1, 12, 0, 0, 0,
+                EnemyTemplate.DefaultAiPolicy);
+        Combat combat = new Combat();
+        combat.setCharacter(CombatFixtures.createCharacter());
+        combat.setEnemy(template);
+        Enemy firstEnemy = combat.getEnemy();
+        combat.startCombat(false);
+        combat.applyInitiativeRoll(6, 1);
+        combat.applyAttackRoll(8, 3, 1f, true);
+        int lifePointsAfterFight = firstEnemy.getCurrentLifePoints();
+
+        //Act
+        combat.setEnemy(template);
+
+        //Assert
+        Assert.assertEquals(7, lifePointsAfterFight);
+        Assert.assertSame(firstEnemy, combat.getEnemy());
+        Assert.assertSame(template, combat.getEnemy().getTemplate());
+        Assert.assertEquals(12, combat.getEnemy().getCurrentLifePoints());
+        Assert.assertEquals(5, combat.getEnemy().getAttackValue());
+    }
+}
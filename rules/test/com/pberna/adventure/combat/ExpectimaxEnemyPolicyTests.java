@@ -0,0 +1,125 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.combat;
+
+import com.pberna.adventure.pj.Enemy;
+import com.pberna.adventure.pj.EnemyTemplate;
+import com.pberna.adventure.spells.AttackSpell;
+import com.pberna.adventure.spells.Spell;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExpectimaxEnemyPolicyTests {
+
+    @Test
+    public void getPolicy_UnknownName_ReturnsBasicPolicy() {
+        //Act
+        IEnemyPolicy policy = EnemyPolicies.getPolicy("unknown");
+
+        //Assert
+        Assert.assertTrue(policy instanceof BasicEnemyPolicy);
+        Assert.assertTrue(EnemyPolicies.getPolicy(ExpectimaxEnemyPolicy.Name) instanceof ExpectimaxEnemyPolicy);
+    }
+
+    @Test
+    public void getAttackSpell_SpellWeakerThanMelee_AttacksInMelee() {
+        //Arrange
+        AttackSpell electricDischarge = CombatFixtures.createAttackSpell(Spell.IdElectricDischarge, 0.25f, 1);
+        Combat combat = createCombat(createEnemy(12, 0, electricDischarge));
+        ExpectimaxEnemyPolicy policy = new ExpectimaxEnemyPolicy();
+        policy.prepare(combat);
+
+        //Act
+        AttackSpell attackSpell = policy.getAttackSpell(combat);
+
+        //Assert
+        Assert.assertNotNull(new BasicEnemyPolicy().getAttackSpell(combat));
+        Assert.assertNull(attackSpell);
+    }
+
+    @Test
+    public void getAttackSpell_SpellStrongerThanMelee_CastsSpell() {
+        //Arrange
+        AttackSpell fireRay = CombatFixtures.createAttackSpell(Spell.IdFireRay, 1f, 4);
+        Combat combat = createCombat(createEnemy(0, 12, fireRay));
+        ExpectimaxEnemyPolicy policy = new ExpectimaxEnemyPolicy();
+        policy.prepare(combat);
+
+        //Act
+        AttackSpell attackSpell = policy.getAttackSpell(combat);
+
+        //Assert
+        Assert.assertSame(fireRay, attackSpell);
+    }
+
+    @Test
+    public void prepare_EnemyWithAttackSpell_KeepsTheDecisionTableOnTheCombat() {
+        //Arrange
+        AttackSpell fireRay = CombatFixtures.createAttackSpell(Spell.IdFireRay, 1f, 4);
+        Combat combat = createCombat(createEnemy(0, 12, fireRay));
+        ExpectimaxEnemyPolicy policy = new ExpectimaxEnemyPolicy();
+
+        //Act
+        policy.prepare(combat);
+        EnemyDecisionTable preparedTable = combat.getEnemyDecisionTable();
+        policy.getAttackSpell(combat);
+
+        //Assert
+        Assert.assertNotNull(preparedTable);
+        Assert.assertSame(preparedTable, combat.getEnemyDecisionTable());
+        Assert.assertSame(fireRay, combat.getEnemyAttackSpells()[0]);
+    }
+
+    @Test
+    public void prepare_TemplateWithExpectimaxPolicy_ResolvesTheTemplateSpells() {
+        //Arrange
+        EnemyTemplate template = new EnemyTemplate(2, 0, "golem", 8, 8, 8, 5, 35, 6, 0,
+                Spell.getMask(Spell.IdIceRay), ExpectimaxEnemyPolicy.Name);
+        Combat combat = createCombat(new Enemy(template));
+        IEnemyPolicy policy = EnemyPolicies.getPolicy(combat.getEnemy());
+
+        //Act
+        policy.prepare(combat);
+
+        //Assert
+        Assert.assertTrue(policy instanceof ExpectimaxEnemyPolicy);
+        Assert.assertEquals(1, combat.getEnemyAttackSpells().length);
+        Assert.assertEquals(Spell.IdIceRay, combat.getEnemyAttackSpells()[0].getId());
+        Assert.assertNotNull(combat.getEnemyDecisionTable());
+    }
+
+    //Combat at the first turn of the enemy
+    private static Combat createCombat(Enemy enemy) {
+        Combat combat = CombatFixtures.createCombat(CombatFixtures.createCharacter(), enemy);
+        combat.startCombat(false);
+        combat.applyInitiativeRoll(1, 8);
+        return combat;
+    }
+
+    private static Enemy createEnemy(int attackValue, int magicValue, AttackSpell spell) {
+        Enemy enemy = CombatFixtures.createEnemy(20, attackValue, 2, magicValue, 8);
+        enemy.setMaximumPowerPoints(8);
+        enemy.setCurrentPowerPoints(8);
+        enemy.getSpells().add(spell);
+        return enemy;
+    }
+}
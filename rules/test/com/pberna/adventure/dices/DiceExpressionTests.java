@@ -0,0 +1,101 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.dices;
+
+import com.pberna.engine.random.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DiceExpressionTests {
+
+    @Test
+    public void parse_FullExpression_ReadsEveryPart() {
+        //Act
+        DiceExpression expression = DiceExpression.parse("3d6r1-2");
+
+        //Assert
+        Assert.assertEquals(3, expression.getCount());
+        Assert.assertEquals(6, expression.getFaces());
+        Assert.assertEquals(1, expression.getReroll());
+        Assert.assertEquals(-2, expression.getModifier());
+        Assert.assertEquals("3d6r1-2", expression.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_MalformedExpression_Throws() {
+        DiceExpression.parse("2x6+1");
+    }
+
+    @Test
+    public void getDistribution_TwoDice_ExactProbabilities() {
+        //Act
+        DiceDistribution distribution = DiceExpression.parse("2d8+1").getDistribution();
+
+        //Assert
+        Assert.assertEquals(3, distribution.getMinimum());
+        Assert.assertEquals(17, distribution.getMaximum());
+        Assert.assertEquals(8.0 / 64.0, distribution.getProbability(10), 1e-12);
+        Assert.assertEquals(1.0 / 64.0, distribution.getProbability(17), 1e-12);
+        Assert.assertEquals(6.0 / 64.0, distribution.getProbabilityAtLeast(15), 1e-12);
+        Assert.assertEquals(10.0, distribution.getMean(), 1e-9);
+    }
+
+    @Test
+    public void getDistribution_RerollOnes_OnesAreLessLikely() {
+        //Act
+        DiceDistribution distribution = DiceExpression.parse("1d8r1").getDistribution();
+
+        //Assert
+        Assert.assertEquals(1.0 / 64.0, distribution.getProbability(1), 1e-12);
+        Assert.assertEquals(9.0 / 64.0, distribution.getProbability(8), 1e-12);
+    }
+
+    @Test
+    public void getCheckSuccessProbability_EqualsCountingTheFaces() {
+        //Act
+        double probability = Dice.getCheckSuccessProbability(4, 1, 9);
+
+        //Assert
+        Assert.assertEquals(5.0 / 8.0, probability, 1e-12);
+        Assert.assertEquals(1.0, Dice.getCheckSuccessProbability(10, 0, 9), 1e-12);
+        Assert.assertEquals(0.0, Dice.getCheckSuccessProbability(0, 0, 9), 1e-12);
+    }
+
+    @Test
+    public void sample_ManyRolls_FrequenciesMatchDistribution() {
+        //Arrange
+        DiceDistribution distribution = DiceExpression.parse("3d6").getDistribution();
+        SplittableRandom random = new SplittableRandom(42L);
+        int rolls = 200000;
+        int[] counts = new int[distribution.getMaximum() + 1];
+
+        //Act
+        for(int i = 0; i < rolls; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        //Assert
+        for(int total = distribution.getMinimum(); total <= distribution.getMaximum(); total++) {
+            Assert.assertEquals(distribution.getProbability(total), (double) counts[total] / rolls, 0.005);
+        }
+    }
+}
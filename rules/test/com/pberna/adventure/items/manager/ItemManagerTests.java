@@ -0,0 +1,80 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.items.manager;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+import com.pberna.adventure.items.Ring;
+import com.pberna.adventure.pj.EEquipmentPosition;
+import com.pberna.adventure.pj.Skill;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ItemManagerTests {
+
+    @Test
+    public void getItem_NotEquipableItem_ReturnsSharedDefinition() {
+        //Arrange
+        Item key = new Item();
+        key.setId(3);
+        ItemManager.getInstance().addItemDefinition(key);
+
+        //Act
+        Item first = ItemManager.getInstance().getItem(3);
+        Item second = ItemManager.getInstance().getItem(3);
+
+        //Assert
+        Assert.assertSame(key, first);
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void getItem_EquipableItem_ReturnsOwnInstanceWithDefinitionModifiers() {
+        //Arrange
+        Ring ring = new Ring();
+        ring.setId(5);
+        ring.setDefenseModifier(1);
+        ring.addSkillModifier(Skill.IdStealth, 2);
+        ItemManager.getInstance().addItemDefinition(ring);
+
+        //Act
+        ItemEquipable first = (ItemEquipable) ItemManager.getInstance().getItem(5);
+        ItemEquipable second = (ItemEquipable) ItemManager.getInstance().getItem(5);
+        boolean equipped = first.equip(EEquipmentPosition.LeftHandRing);
+
+        //Assert
+        Assert.assertNotSame(first, second);
+        Assert.assertTrue(first instanceof Ring);
+        Assert.assertEquals(5, first.getId());
+        Assert.assertEquals(1, second.getDefenseModifier());
+        Assert.assertEquals(2, second.getSkillModifier(Skill.IdStealth));
+        Assert.assertTrue(equipped);
+        Assert.assertEquals(EEquipmentPosition.LeftHandRing, first.getEquipmentPosition());
+        Assert.assertNull(second.getEquipmentPosition());
+    }
+
+    @Test
+    public void getItem_UnknownId_ReturnsNull() {
+        Assert.assertNull(ItemManager.getInstance().getItem(1000));
+        Assert.assertNull(ItemManager.getInstance().getItem(-1));
+    }
+}
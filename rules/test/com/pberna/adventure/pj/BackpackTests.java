@@ -0,0 +1,101 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.RecoveryItem;
+import com.pberna.adventure.items.Ring;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BackpackTests {
+
+    @Test
+    public void addItem_SameItemTwice_StacksTheCopies() {
+        //Arrange
+        Backpack backpack = new Backpack();
+
+        //Act
+        backpack.addItem(createItem(new RecoveryItem(), 2));
+        backpack.addItem(createItem(new Item(), 3));
+        backpack.addItem(createItem(new RecoveryItem(), 2));
+
+        //Assert
+        Assert.assertEquals(3, backpack.getItemCount());
+        Assert.assertEquals(2, backpack.getStackCount());
+        Assert.assertEquals(2, backpack.getItemQuantity(2));
+        Assert.assertSame(backpack.getItem(0), backpack.getItem(1));
+        Assert.assertEquals(3, backpack.getItem(2).getId());
+    }
+
+    @Test
+    public void removeItem_LastCopy_RemovesTheStack() {
+        //Arrange
+        Backpack backpack = new Backpack();
+        backpack.addItem(createItem(new RecoveryItem(), 2));
+        backpack.addItem(createItem(new RecoveryItem(), 2));
+        backpack.addItem(createItem(new Item(), 3));
+
+        //Act
+        backpack.removeItem(0);
+        boolean removedOnce = backpack.containsItem(2);
+        boolean removed = backpack.removeItemById(2);
+
+        //Assert
+        Assert.assertTrue(removedOnce);
+        Assert.assertTrue(removed);
+        Assert.assertFalse(backpack.containsItem(2));
+        Assert.assertFalse(backpack.removeItemById(2));
+        Assert.assertEquals(1, backpack.getItemCount());
+        Assert.assertEquals(3, backpack.getItem(0).getId());
+    }
+
+    @Test
+    public void hasItem_ItemMovedFromBackpackToEquipment_StillOwned() {
+        //Arrange
+        Character character = new Character();
+        Item key = createItem(new Item(), 3);
+        Ring ring = new Ring();
+        ring.setId(5);
+        character.getBackpack().addItem(key);
+        character.getBackpack().addItem(ring);
+
+        //Act
+        boolean ownedInBackpack = character.hasItem(ring);
+        character.getBackpack().removeItem(ring);
+        boolean ownedWhenRemoved = character.hasItem(ring);
+        character.setEquippedItem(EEquipmentPosition.LeftHandRing, ring);
+
+        //Assert
+        Assert.assertTrue(ownedInBackpack);
+        Assert.assertFalse(ownedWhenRemoved);
+        Assert.assertTrue(character.hasItem(ring));
+        Assert.assertTrue(character.hasItem(key));
+        Assert.assertTrue(character.removeItem(5));
+        Assert.assertFalse(character.hasItem(ring));
+    }
+
+    private static Item createItem(Item item, int id) {
+        item.setId(id);
+        return item;
+    }
+}
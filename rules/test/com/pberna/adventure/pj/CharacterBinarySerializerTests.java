@@ -0,0 +1,157 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemEquipable;
+import com.pberna.adventure.items.RecoveryItem;
+import com.pberna.adventure.items.Weapon1Hand;
+import com.pberna.adventure.items.manager.ItemManager;
+import com.pberna.adventure.pj.race.BaseRace;
+import com.pberna.adventure.pj.race.Elf;
+import com.pberna.adventure.spells.Spell;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CharacterBinarySerializerTests {
+
+    @Test
+    public void deserialize_SerializedCharacter_SameState() {
+        //Arrange
+        CharacterBinarySerializer serializer = new CharacterBinarySerializer(null);
+        Character character = createCharacter();
+
+        //Act
+        String text = serializer.serialize(character);
+        Character loaded = serializer.deserialize(text);
+
+        //Assert
+        Assert.assertTrue(CharacterBinarySerializer.isBinary(text));
+        Assert.assertEquals("Ñandú", loaded.getName());
+        Assert.assertEquals(Gender.Female, loaded.getGender());
+        Assert.assertEquals("portrait2", loaded.getPortraitImageName());
+        Assert.assertEquals(BaseRace.IdRaceElf, loaded.getRace().getId());
+        Assert.assertEquals(character.getTotalAttributeValue(Attribute.IdMight), loaded.getTotalAttributeValue(Attribute.IdMight));
+        Assert.assertEquals(character.getTotalSkillValue(Skill.IdStealth), loaded.getTotalSkillValue(Skill.IdStealth));
+        Assert.assertEquals(character.getTotalAttackValue(), loaded.getTotalAttackValue());
+        Assert.assertEquals(2, loaded.getBackpack().getItemQuantity(2));
+        Assert.assertEquals(4, loaded.getEquippedItem(EEquipmentPosition.RightHand).getId());
+        Assert.assertEquals(2, loaded.getSpells().size());
+        Assert.assertTrue(loaded.hasActiveSpell(Spell.IdExpertise));
+        Assert.assertEquals(character.getCurrentLifePoints(), loaded.getCurrentLifePoints());
+        Assert.assertEquals(1, loaded.getCurrentPowerPoints());
+        Assert.assertEquals(character.getCurrentLuckPoints(), loaded.getCurrentLuckPoints());
+    }
+
+    @Test
+    public void deserialize_LegacyText_UsesLegacySerializer() {
+        //Arrange
+        final Character legacyCharacter = new Character();
+        CharacterBinarySerializer serializer = new CharacterBinarySerializer(new ICharacterSerializer() {
+            @Override
+            public String serialize(Character character) {
+                return "{}";
+            }
+
+            @Override
+            public Character deserialize(String text) {
+                return legacyCharacter;
+            }
+        });
+
+        //Act
+        Character loaded = serializer.deserialize("{name:Legacy}");
+
+        //Assert
+        Assert.assertSame(legacyCharacter, loaded);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void deserialize_TruncatedText_Throws() {
+        CharacterBinarySerializer serializer = new CharacterBinarySerializer(null);
+        String text = serializer.serialize(createCharacter());
+
+        serializer.deserialize(text.substring(0, text.length() / 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void deserialize_NegativeTextLength_Throws() {
+        CharacterBinarySerializer serializer = new CharacterBinarySerializer(null);
+
+        //version 1 and a name of length -1
+        serializer.deserialize(CharacterBinarySerializer.Prefix + "AgEA");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void deserialize_IntegerLongerThanFiveBytes_Throws() {
+        CharacterBinarySerializer serializer = new CharacterBinarySerializer(null);
+
+        //six bytes with the continuation bit set before the last one
+        serializer.deserialize(CharacterBinarySerializer.Prefix + "gICAgICAAA==");
+    }
+
+    private static Character createCharacter() {
+        Character character = new Character();
+        character.setName("Ñandú");
+        character.setGender(Gender.Female);
+        character.setPortraitImageName("portrait2");
+        character.setRace(new Elf());
+        for(Attribute attribute: character.getAttributes()) {
+            attribute.setValue(attribute.getId() + 1);
+        }
+        for(Skill skill: character.getSkills()) {
+            skill.setValue(skill.getId());
+        }
+        registerItemDefinitions();
+        character.getBackpack().addItem(ItemManager.getInstance().getItem(2));
+        character.getBackpack().addItem(ItemManager.getInstance().getItem(3));
+        character.getBackpack().addItem(ItemManager.getInstance().getItem(2));
+        character.setEquippedItem(EEquipmentPosition.RightHand, (ItemEquipable) ItemManager.getInstance().getItem(4));
+        for(Spell spell: Spell.getSpells()) {
+            if(spell.getId() == Spell.IdExpertise || spell.getId() == Spell.IdHeal) {
+                character.learnSpell(spell);
+            }
+            if(spell.getId() == Spell.IdExpertise) {
+                character.addActiveSpell(spell);
+            }
+        }
+        character.setCurrentLifePoints(character.getMaximumLifePoints() - 1);
+        character.setCurrentPowerPoints(1);
+        character.setCurrentLuckPoints(character.getMaximumLuckPoints());
+        return character;
+    }
+
+    private static void registerItemDefinitions() {
+        RecoveryItem potion = new RecoveryItem();
+        potion.setId(2);
+        potion.setLifePointsRecoveryFull();
+        Item key = new Item();
+        key.setId(3);
+        Weapon1Hand sword = new Weapon1Hand();
+        sword.setId(4);
+        sword.setAttackModifier(1);
+
+        ItemManager.getInstance().addItemDefinition(potion);
+        ItemManager.getInstance().addItemDefinition(key);
+        ItemManager.getInstance().addItemDefinition(sword);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import com.pberna.adventure.pj.race.Human;
+
+//Characters shared by the character and effect tests
+public final class CharacterFixtures {
+
+    private CharacterFixtures() {
+
+    }
+
+    //Human with every attribute and skill at 2
+    public static Character createCharacter() {
+        Character character = new Character();
+        character.setRace(new Human());
+        for(Attribute attribute: character.getAttributes()) {
+            attribute.setValue(2);
+        }
+        for(Skill skill: character.getSkills()) {
+            skill.setValue(2);
+        }
+        return character;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj;
+
+import com.pberna.adventure.items.Ring;
+import com.pberna.adventure.spells.EnhanceCombatStatsSpell;
+import com.pberna.adventure.spells.Spell;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+public class CharacterTests {
+
+    @Test
+    public void getTotalSkillValue_BaseValueChangedAfterReading_ReturnsNewValue() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        int previousValue = character.getTotalSkillValue(Skill.IdFighting);
+
+        //Act
+        Skill.findSkill(character.getSkills(), Skill.IdFighting).setValue(5);
+
+        //Assert
+        Assert.assertEquals(3, previousValue);
+        Assert.assertEquals(6, character.getTotalSkillValue(Skill.IdFighting));
+        Assert.assertEquals(6, character.getTotalAttackValue());
+    }
+
+    @Test
+    public void getBaseAttributeValue_AttributesReplacedThenChanged_ReturnsNewValue() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        ArrayList<Attribute> attributes = Attribute.getAttributes();
+        character.setAttributes(attributes);
+        int previousValue = character.getBaseAttributeValue(Attribute.IdAgility);
+
+        //Act
+        Attribute.findAttribute(attributes, Attribute.IdAgility).setValue(7);
+
+        //Assert
+        Assert.assertEquals(previousValue + 7 - Attribute.MinimumGenericValue,
+                character.getBaseAttributeValue(Attribute.IdAgility));
+    }
+
+    @Test
+    public void getTotalAttributeValue_ItemEquippedAndRemoved_FollowsTheEquipment() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        Ring ring = new Ring();
+        ring.setId(100);
+        ring.addAttributeModifier(Attribute.IdMight, 2).setInitiativeModifier(1);
+        int previousLifePoints = character.getMaximumLifePoints();
+
+        //Act
+        character.setEquippedItem(EEquipmentPosition.LeftHandRing, ring);
+        int equippedLifePoints = character.getMaximumLifePoints();
+        int equippedInitiative = character.getTotalInitiativeValue();
+        character.removeItem(100);
+
+        //Assert
+        Assert.assertEquals(previousLifePoints + 2 * Character.LifePointsMultiplier, equippedLifePoints);
+        Assert.assertEquals(3, equippedInitiative);
+        Assert.assertEquals(previousLifePoints, character.getMaximumLifePoints());
+        Assert.assertEquals(2, character.getTotalInitiativeValue());
+    }
+
+    @Test
+    public void getTotalDefenseValue_SpellActivatedAndRemoved_FollowsTheActiveSpells() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        EnhanceCombatStatsSpell shield = new EnhanceCombatStatsSpell().setDefenseModifier(1).setMagicModifier(2);
+        shield.setId(Spell.IdShield);
+
+        //Act
+        character.addActiveSpell(shield);
+        int activeDefense = character.getTotalDefenseValue();
+        int activeMagic = character.getTotalSkillValue(Skill.IdMagic);
+        character.removeActiveSpell(Spell.IdShield);
+
+        //Assert
+        Assert.assertEquals(4, activeDefense);
+        Assert.assertEquals(4, activeMagic);
+        Assert.assertEquals(3, character.getTotalDefenseValue());
+        Assert.assertEquals(2, character.getTotalSkillValue(Skill.IdMagic));
+    }
+
+    @Test
+    public void getCombatSpells_SpellsLearnt_ReturnsOnlyCombatSpellsById() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+
+        //Act
+        character.learnSpell(Spell.getSpell(Spell.IdHeal));
+        character.learnSpell(Spell.getSpell(Spell.IdQuestion));
+        character.learnSpell(Spell.getSpell(Spell.IdElectricDischarge));
+        character.learnSpell(Spell.getSpell(Spell.IdHeal));
+
+        //Assert
+        Assert.assertEquals(3, character.getSpells().size());
+        Assert.assertTrue(character.hasLearntSpell(Spell.getSpell(Spell.IdQuestion)));
+        Assert.assertFalse(character.hasLearntSpell(Spell.getSpell(Spell.IdShield)));
+        Assert.assertEquals(2, character.getCombatSpells().size());
+        Assert.assertEquals(Spell.IdElectricDischarge, character.getCombatSpells().get(0).getId());
+        Assert.assertEquals(Spell.IdHeal, character.getCombatSpells().get(1).getId());
+        Assert.assertSame(character.getCombatSpells(), character.getCombatSpells());
+    }
+
+    @Test
+    public void removeActiveSpells_MaskOfSomeSpells_KeepsTheOtherSpells() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        character.addActiveSpell(Spell.getSpell(Spell.IdMight));
+        character.addActiveSpell(Spell.getSpell(Spell.IdExpertise));
+        character.addActiveSpell(Spell.getSpell(Spell.IdShield));
+
+        //Act
+        character.removeActiveSpells(Spell.getMask(Spell.IdMight) | Spell.getMask(Spell.IdShield));
+
+        //Assert
+        Assert.assertFalse(character.hasActiveSpell(Spell.IdMight));
+        Assert.assertFalse(character.hasActiveSpell(Spell.IdShield));
+        Assert.assertTrue(character.hasActiveSpell(Spell.IdExpertise));
+        Assert.assertEquals(1, character.getActiveSpells().size());
+        Assert.assertEquals(3, character.getTotalAttackValue());
+    }
+
+    @Test
+    public void getAttributes_TwoCharacters_KeepTheirOwnValues() {
+        //Arrange
+        Character first = new Character();
+        Character second = new Character();
+
+        //Act
+        Attribute.findAttribute(first.getAttributes(), Attribute.IdAgility).setValue(6);
+
+        //Assert
+        Assert.assertEquals(6, first.getBaseAttributeValue(Attribute.IdAgility));
+        Assert.assertEquals(Attribute.MinimumGenericValue, second.getBaseAttributeValue(Attribute.IdAgility));
+        Assert.assertEquals(Attribute.MinimumGenericValue,
+                Attribute.getAttributeDefinition(Attribute.IdAgility).getValue());
+        Assert.assertEquals(Attribute.getAttributeDefinition(Attribute.IdAgility).getImageName(),
+                Attribute.findAttribute(first.getAttributes(), Attribute.IdAgility).getImageName());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.pj.effects;
+
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.CharacterFixtures;
+import com.pberna.adventure.pj.Skill;
+import com.pberna.adventure.spells.Spell;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EffectEngineTests {
+
+    @Test
+    public void combatEnded_CombatAndSkillSpellsActive_OnlyCombatSpellsWearOff() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        character.addActiveSpell(Spell.getSpell(Spell.IdMight));
+        character.addActiveSpell(Spell.getSpell(Spell.IdExpertise));
+        character.addActiveSpell(Spell.getSpell(Spell.IdShield));
+
+        //Act
+        character.getEffectEngine().placeLeft();
+        boolean mightAfterPlace = character.hasActiveSpell(Spell.IdMight);
+        character.getEffectEngine().combatEnded();
+
+        //Assert
+        Assert.assertTrue(mightAfterPlace);
+        Assert.assertFalse(character.hasActiveSpell(Spell.IdMight));
+        Assert.assertFalse(character.hasActiveSpell(Spell.IdShield));
+        Assert.assertTrue(character.hasActiveSpell(Spell.IdExpertise));
+        Assert.assertEquals(3, character.getTotalAttackValue());
+    }
+
+    @Test
+    public void skillCheckEnded_ExpertiseActive_WearsOffAfterStealthCheck() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        character.addActiveSpell(Spell.getSpell(Spell.IdExpertise));
+
+        //Act
+        character.getEffectEngine().skillCheckEnded(Skill.IdKnowledge);
+        boolean activeAfterOtherCheck = character.hasActiveSpell(Spell.IdExpertise);
+        character.getEffectEngine().skillCheckEnded(Skill.IdStealth);
+
+        //Assert
+        Assert.assertTrue(activeAfterOtherCheck);
+        Assert.assertFalse(character.hasActiveSpell(Spell.IdExpertise));
+        Assert.assertEquals(0, character.getEffectEngine().getScheduledCount());
+    }
+
+    @Test
+    public void placeLeft_TimedEffectApplied_UndoneWhenDue() {
+        //Arrange
+        Character character = CharacterFixtures.createCharacter();
+        LuckEffect luckEffect = new LuckEffect(EffectExpiry.afterPlaces(2));
+
+        //Act
+        character.getEffectEngine().apply(luckEffect);
+        character.getEffectEngine().placeLeft();
+        int luckAfterOnePlace = luckEffect.luck;
+        character.getEffectEngine().placeLeft();
+
+        //Assert
+        Assert.assertEquals(1, luckAfterOnePlace);
+        Assert.assertEquals(0, luckEffect.luck);
+        Assert.assertEquals(2, character.getEffectEngine().getTime(EffectExpiry.PlacesClock));
+    }
+
+    private static class LuckEffect extends TimedEffect {
+        private final EffectExpiry expiry;
+        private int luck;
+
+        LuckEffect(EffectExpiry expiry) {
+            this.expiry = expiry;
+        }
+
+        @Override
+        public EffectExpiry getExpiry() {
+            return expiry;
+        }
+
+        @Override
+        public void applyTo(Character character) {
+            luck++;
+        }
+
+        @Override
+        public void removeFrom(Character character) {
+            luck--;
+        }
+    }
+}
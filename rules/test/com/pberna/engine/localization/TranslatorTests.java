@@ -0,0 +1,111 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.localization;
+
+import com.pberna.adventure.pj.Attribute;
+import com.pberna.adventure.pj.Difficulty;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TranslatorTests {
+
+    @After
+    public void tearDown() {
+        Translator.setInstance(null);
+    }
+
+    @Test
+    public void getName_LocaleChanged_SameObjectReturnsNewLanguage() {
+        //Arrange
+        CountingTranslator translator = new CountingTranslator();
+        Translator.setInstance(translator);
+        Translator.setLocale("en");
+        Attribute might = Attribute.findAttribute(Attribute.getAttributes(), Attribute.IdMight);
+
+        //Act
+        String englishName = might.getName();
+        translator.language = "es";
+        Translator.setLocale("es");
+        String spanishName = might.getName();
+        translator.language = "en";
+        Translator.setLocale("en");
+        String englishNameAgain = might.getName();
+
+        //Assert
+        Assert.assertEquals("en:attributeMight", englishName);
+        Assert.assertEquals("es:attributeMight", spanishName);
+        Assert.assertEquals(englishName, englishNameAgain);
+        Assert.assertEquals(2, translator.translations);
+    }
+
+    @Test
+    public void getName_TextSetAsLiteral_ReturnsTheLiteral() {
+        //Arrange
+        Attribute attribute = new Attribute().setNameText("PjInformation", "attributeMight");
+
+        //Act
+        attribute.setName("Saved name");
+
+        //Assert
+        Assert.assertEquals("Saved name", attribute.getName());
+    }
+
+    @Test
+    public void getDifficulty_LocaleChanged_SharedUntilTheLocaleChanges() {
+        //Arrange
+        CountingTranslator translator = new CountingTranslator();
+        Translator.setInstance(translator);
+        Translator.setLocale("en");
+
+        //Act
+        Difficulty english = Difficulty.getDifficulty(5, false);
+        Difficulty englishAgain = Difficulty.getDifficulty(5, false);
+        translator.language = "es";
+        Translator.setLocale("es");
+        Difficulty spanish = Difficulty.getDifficulty(5, false);
+
+        //Assert
+        Assert.assertSame(english, englishAgain);
+        Assert.assertEquals("en:difficultyRoutine", english.getName());
+        Assert.assertEquals("es:difficultyRoutine", spanish.getName());
+        Assert.assertEquals(5, spanish.getDifficulty());
+        Assert.assertNull(Difficulty.getDifficulty(1, false));
+        Assert.assertNull(Difficulty.getDifficulty(17, false));
+    }
+
+    private static class CountingTranslator implements ITranslator {
+        private String language = "en";
+        private int translations = 0;
+
+        @Override
+        public String getTranslation(String bundleName, String key) {
+            translations++;
+            return language + ":" + key;
+        }
+
+        @Override
+        public String getTranslation(String bundleName, String key, boolean adjustSpaces) {
+            return getTranslation(bundleName, key);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.engine.random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SplittableRandomTests {
+
+    @Test
+    public void nextInt_SameSeed_SameSequence() {
+        //Arrange
+        SplittableRandom first = new SplittableRandom(1234L);
+        SplittableRandom second = new SplittableRandom(1234L);
+
+        //Act & Assert
+        for(int i = 0; i < 1000; i++) {
+            Assert.assertEquals(first.nextInt(1, 8), second.nextInt(1, 8));
+        }
+    }
+
+    @Test
+    public void setState_StoredState_RepeatsTheRolls() {
+        //Arrange
+        SplittableRandom random = new SplittableRandom(99L).split();
+        long seed = random.getSeed();
+        long gamma = random.getGamma();
+        int[] rolls = new int[100];
+        for(int i = 0; i < rolls.length; i++) {
+            rolls[i] = random.nextInt(1, 8);
+        }
+
+        //Act
+        random.setState(seed, gamma);
+
+        //Assert
+        for(int i = 0; i < rolls.length; i++) {
+            Assert.assertEquals(rolls[i], random.nextInt(1, 8));
+        }
+    }
+
+    @Test
+    public void nextInt_ManyRolls_EveryFaceInRangeAndBalanced() {
+        //Arrange
+        SplittableRandom random = new SplittableRandom(7L);
+        int[] faceCounts = new int[8];
+        int rolls = 80000;
+
+        //Act
+        for(int i = 0; i < rolls; i++) {
+            int roll = random.nextInt(1, 8);
+            Assert.assertTrue(roll >= 1 && roll <= 8);
+            faceCounts[roll - 1]++;
+        }
+
+        //Assert
+        for(int faceCount: faceCounts) {
+            Assert.assertEquals(rolls / 8, faceCount, rolls / 80);
+        }
+    }
+
+    @Test
+    public void split_SameSeed_SameIndependentStreams() {
+        //Arrange
+        SplittableRandom first = new SplittableRandom(5L);
+        SplittableRandom second = new SplittableRandom(5L);
+
+        //Act
+        SplittableRandom firstChild = first.split();
+        SplittableRandom secondChild = second.split();
+
+        //Assert
+        Assert.assertEquals(firstChild.nextLong(), secondChild.nextLong());
+        Assert.assertEquals(first.nextLong(), second.nextLong());
+        Assert.assertNotEquals(firstChild.nextLong(), first.nextLong());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.pberna.adventure.adventure.AdventureGraph;
+import com.pberna.adventure.adventure.PlaceStore;
+import com.pberna.adventure.places.Place;
+import com.pberna.engine.random.SplittableRandom;
+
+//Plays an adventure many times without screens and aggregates where the playthroughs go and how they end.
+//Playthroughs are split in batches between the cores; every batch has its own random stream split in order
+//from the simulation seed, so the result of a seed does not depend on the threads
+public class AdventureSimulator {
+	private static final int PlaythroughsPerBatch = 4096;
+
+	private final Place[] places;
+	private final int idStartPlace;
+	private final int idDefaultPlace;
+	private final AdventureGraph adventureGraph;
+
+	public AdventureSimulator(PlaceStore placeStore) {
+		places = new Place[placeStore.getMaximumIdPlace() + 1];
+		for(int idPlace = 0; idPlace < places.length; idPlace++) {
+			places[idPlace] = placeStore.getPlace(idPlace);
+		}
+		idStartPlace = placeStore.getIdStartPlace();
+		idDefaultPlace = placeStore.getIdDefaultPlace();
+		adventureGraph = new AdventureGraph(placeStore);
+	}
+
+	public AdventureGraph getAdventureGraph() {
+		return adventureGraph;
+	}
+
+	public SimulationResult simulate(ICharacterFactory characterFactory, IPlaythroughPolicy policy,
+									 int playthroughs, long seed) {
+		ForkJoinPool pool = new ForkJoinPool();
+		try {
+			return simulate(characterFactory, policy, playthroughs, seed, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	public SimulationResult simulate(ICharacterFactory characterFactory, IPlaythroughPolicy policy,
+									 int playthroughs, long seed, ForkJoinPool pool) {
+		Playthrough playthrough = new Playthrough(places, idStartPlace, idDefaultPlace, policy);
+		int batches = (playthroughs + PlaythroughsPerBatch - 1) / PlaythroughsPerBatch;
+		SplittableRandom[] batchRandoms = new SplittableRandom[batches];
+		SplittableRandom simulationRandom = new SplittableRandom(seed);
+		for(int batch = 0; batch < batches; batch++) {
+			batchRandoms[batch] = simulationRandom.split();
+		}
+		return pool.invoke(new SimulationTask(playthrough, characterFactory, playthroughs, batchRandoms, 0, batches));
+	}
+
+	private class SimulationTask extends RecursiveTask<SimulationResult> {
+		private final Playthrough playthrough;
+		private final ICharacterFactory characterFactory;
+		private final int playthroughs;
+		private final SplittableRandom[] batchRandoms;
+		private final int firstBatch;
+		private final int lastBatch;
+
+		SimulationTask(Playthrough playthrough, ICharacterFactory characterFactory, int playthroughs,
+					   SplittableRandom[] batchRandoms, int firstBatch, int lastBatch) {
+			this.playthrough = playthrough;
+			this.characterFactory = characterFactory;
+			this.playthroughs = playthroughs;
+			this.batchRandoms = batchRandoms;
+			this.firstBatch = firstBatch;
+			this.lastBatch = lastBatch;
+		}
+
+		@Override
+		protected SimulationResult compute() {
+			if(lastBatch - firstBatch <= 1) {
+				return playBatch(firstBatch);
+			}
+
+			int middleBatch = (firstBatch + lastBatch) >>> 1;
+			SimulationTask firstHalf = new SimulationTask(playthrough, characterFactory, playthroughs, batchRandoms,
+					firstBatch, middleBatch);
+			SimulationTask secondHalf = new SimulationTask(playthrough, characterFactory, playthroughs, batchRandoms,
+					middleBatch, lastBatch);
+			firstHalf.fork();
+			SimulationResult result = secondHalf.compute();
+			result.merge(firstHalf.join());
+			return result;
+		}
+
+		private SimulationResult playBatch(int batch) {
+			SimulationResult result = new SimulationResult(places.length);
+			if(batch >= lastBatch) {
+				return result;
+			}
+
+			SplittableRandom random = batchRandoms[batch];
+			int batchPlaythroughs = Math.min(PlaythroughsPerBatch, playthroughs - batch * PlaythroughsPerBatch);
+			for(int i = 0; i < batchPlaythroughs; i++) {
+				playthrough.play(characterFactory.createCharacter(), random, result);
+			}
+			return result;
+		}
+	}
+}
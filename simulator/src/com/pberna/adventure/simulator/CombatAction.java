@@ -0,0 +1,74 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import com.pberna.adventure.items.ItemUsable;
+import com.pberna.adventure.spells.Spell;
+
+public class CombatAction {
+	public enum Type {
+		Attack,
+		CastSpell,
+		UseItem,
+		RunAway
+	}
+
+	private static final CombatAction attackAction = new CombatAction(Type.Attack, null, null);
+	private static final CombatAction runAwayAction = new CombatAction(Type.RunAway, null, null);
+
+	private final Type type;
+	private final Spell spell;
+	private final ItemUsable item;
+
+	private CombatAction(Type type, Spell spell, ItemUsable item) {
+		this.type = type;
+		this.spell = spell;
+		this.item = item;
+	}
+
+	public static CombatAction attack() {
+		return attackAction;
+	}
+
+	public static CombatAction runAway() {
+		return runAwayAction;
+	}
+
+	public static CombatAction castSpell(Spell spell) {
+		return new CombatAction(Type.CastSpell, spell, null);
+	}
+
+	public static CombatAction useItem(ItemUsable item) {
+		return new CombatAction(Type.UseItem, null, item);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public Spell getSpell() {
+		return spell;
+	}
+
+	public ItemUsable getItem() {
+		return item;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import com.pberna.adventure.adventure.AdventureGraph;
+import com.pberna.adventure.combat.Combat;
+import com.pberna.adventure.combat.CombatOddsCalculator;
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.RecoveryItem;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Difficulty;
+import com.pberna.adventure.pj.EnemyTemplate;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.Place;
+import com.pberna.adventure.spells.AttackSpell;
+import com.pberna.adventure.spells.HealSpell;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.random.SplittableRandom;
+
+//Goes to the option closest to an ending where the player survives, runs away from combats that are more likely
+//lost than escaped, spends the luck needed to pass checks, heals when life points run low and attacks with the
+//strongest spell it can cast
+public class GreedyPolicy implements IPlaythroughPolicy {
+	private static final float LowLifeFraction = 1f / 3f;
+
+	private final AdventureGraph adventureGraph;
+
+	public GreedyPolicy(AdventureGraph adventureGraph) {
+		this.adventureGraph = adventureGraph;
+	}
+
+	@Override
+	public int chooseOption(Character character, Place place, int[] idPlacesToGo, SplittableRandom random) {
+		int bestOption = 0;
+		int bestDistance = Integer.MAX_VALUE;
+		for(int option = 0; option < idPlacesToGo.length; option++) {
+			int distance = adventureGraph.getDistanceToEnding(idPlacesToGo[option]);
+			if(distance != AdventureGraph.Unreachable && distance < bestDistance) {
+				bestOption = option;
+				bestDistance = distance;
+			}
+		}
+		return bestOption;
+	}
+
+	@Override
+	public boolean runAwayBeforeCombat(Character character, CombatPlace combatPlace, SplittableRandom random) {
+		EnemyTemplate enemy = combatPlace.getEnemyTemplate();
+		return CombatOddsCalculator.getInstance().getRunAwayProbability(character, enemy)
+				> CombatOddsCalculator.getInstance().getWinProbability(character, enemy);
+	}
+
+	@Override
+	public CombatAction chooseCombatAction(Character character, Combat combat, CombatPlace combatPlace, SplittableRandom random) {
+		if(character.getCurrentLifePoints() <= character.getMaximumLifePoints() * LowLifeFraction) {
+			for(int i = 0; i < character.getBackpack().getStackCount(); i++) {
+				Item item = character.getBackpack().getStackItem(i);
+				if(item instanceof RecoveryItem && ((RecoveryItem) item).getLifePointsRecovery() > 0) {
+					return CombatAction.useItem((RecoveryItem) item);
+				}
+			}
+			for(Spell spell: character.getCombatSpells()) {
+				if(spell instanceof HealSpell && character.hasEnoughPowerPointsToCastSpell(spell)) {
+					return CombatAction.castSpell(spell);
+				}
+			}
+			if(combatPlace.canRunAway()) {
+				return CombatAction.runAway();
+			}
+		}
+
+		AttackSpell bestAttackSpell = null;
+		for(Spell spell: character.getCombatSpells()) {
+			if(spell instanceof AttackSpell && character.hasEnoughPowerPointsToCastSpell(spell)
+					&& (bestAttackSpell == null
+						|| ((AttackSpell) spell).getDamageMultiplier() > bestAttackSpell.getDamageMultiplier())) {
+				bestAttackSpell = (AttackSpell) spell;
+			}
+		}
+		return bestAttackSpell != null ? CombatAction.castSpell(bestAttackSpell) : CombatAction.attack();
+	}
+
+	@Override
+	public int chooseLuckPoints(Character character, int baseValue, Difficulty difficulty, SplittableRandom random) {
+		//the lowest roll of the dice still passes the check
+		return Math.min(character.getCurrentLuckPoints(), Math.max(0, difficulty.getDifficulty() - baseValue - 1));
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import com.pberna.adventure.combat.Combat;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Difficulty;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.Place;
+import com.pberna.engine.random.SplittableRandom;
+
+//Decisions the player takes during a simulated playthrough. Policies are shared by every simulation thread,
+//so they must not keep state: the random generator of the playthrough is passed to every decision
+public interface IPlaythroughPolicy {
+	//idPlacesToGo holds only the options the character can take; returns an index in that array
+	int chooseOption(Character character, Place place, int[] idPlacesToGo, SplittableRandom random);
+	boolean runAwayBeforeCombat(Character character, CombatPlace combatPlace, SplittableRandom random);
+	CombatAction chooseCombatAction(Character character, Combat combat, CombatPlace combatPlace, SplittableRandom random);
+	int chooseLuckPoints(Character character, int baseValue, Difficulty difficulty, SplittableRandom random);
+}
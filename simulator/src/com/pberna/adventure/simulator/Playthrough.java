@@ -0,0 +1,293 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import java.util.ArrayList;
+
+import com.pberna.adventure.combat.Combat;
+import com.pberna.adventure.combat.CombatResolver;
+import com.pberna.adventure.combat.CombatState;
+import com.pberna.adventure.combat.CombatWinner;
+import com.pberna.adventure.combat.EnemyPolicies;
+import com.pberna.adventure.combat.ICharacterCombatTurn;
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.manager.ItemManager;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Difficulty;
+import com.pberna.adventure.pj.effects.Effect;
+import com.pberna.adventure.pj.effects.EffectEngine;
+import com.pberna.adventure.places.AttributeCheckPlace;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.EffectPlace;
+import com.pberna.adventure.places.EndAdventurePlace;
+import com.pberna.adventure.places.ItemUsePlace;
+import com.pberna.adventure.places.ItemUsePlaceToGo;
+import com.pberna.adventure.places.OptionChoosePlace;
+import com.pberna.adventure.places.OptionChoosePlaceCanGo;
+import com.pberna.adventure.places.Place;
+import com.pberna.adventure.places.SkillCheckPlace;
+import com.pberna.adventure.places.SpellUsePlace;
+import com.pberna.adventure.places.SpellUsePlaceToGo;
+import com.pberna.adventure.spells.AttackSpell;
+import com.pberna.adventure.spells.EnhanceCombatStatsSpell;
+import com.pberna.adventure.spells.EnhanceSkillSpell;
+import com.pberna.adventure.spells.HealSpell;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.random.SplittableRandom;
+
+//Plays one adventure with the same rules as InGameController, MainInGameScreen and CombatWindow, without
+//screens: every dice is rolled with the random generator of the simulation task
+class Playthrough {
+	private static final int MaximumSteps = 1000;
+	private static final int MaximumCombatTurns = 1000;
+	private static final int NoPlace = -1;
+
+	private final Place[] places;
+	private final int idStartPlace;
+	private final int idDefaultPlace;
+	private final IPlaythroughPolicy policy;
+	//playthroughs run in several threads, each one fights with its own combat and its pool of enemies
+	private final ThreadLocal<Combat> combats = new ThreadLocal<Combat>() {
+		@Override
+		protected Combat initialValue() {
+			return new Combat();
+		}
+	};
+
+	Playthrough(Place[] places, int idStartPlace, int idDefaultPlace, IPlaythroughPolicy policy) {
+		this.places = places;
+		this.idStartPlace = idStartPlace;
+		this.idDefaultPlace = idDefaultPlace;
+		this.policy = policy;
+	}
+
+	void play(Character character, SplittableRandom random, SimulationResult result) {
+		Place placeFrom = null;
+		int idPlace = idStartPlace;
+		for(int step = 0; step < MaximumSteps && idPlace != NoPlace; step++) {
+			Place place = getPlace(idPlace);
+			result.addVisit(place.getId());
+			advanceEffectClocks(character, placeFrom);
+			giveObjectsToCharacter(character, place);
+
+			if(place instanceof EndAdventurePlace) {
+				boolean playerDead = ((EndAdventurePlace) place).isPlayerDead();
+				if(playerDead && placeFrom != null) {
+					result.addDeath(placeFrom.getId());
+				}
+				result.addEnding(place.getId(), playerDead);
+				return;
+			}
+
+			placeFrom = place;
+			idPlace = playPlace(character, place, random);
+		}
+		result.addAbandoned();
+	}
+
+	private Place getPlace(int idPlace) {
+		Place place = idPlace >= 0 && idPlace < places.length ? places[idPlace] : null;
+		return place != null ? place : places[idDefaultPlace];
+	}
+
+	private int playPlace(Character character, Place place, SplittableRandom random) {
+		if(place instanceof EffectPlace) {
+			EffectPlace effectPlace = (EffectPlace) place;
+			for(Effect effect: effectPlace.getEffects()) {
+				character.getEffectEngine().apply(effect);
+			}
+			if(character.getCurrentLifePoints() <= 0 && effectPlace.getPlaceToGoIfDie() != null) {
+				return effectPlace.getPlaceToGoIfDie().getIdPlaceToGo();
+			}
+		}
+
+		if(place instanceof OptionChoosePlace) {
+			return chooseOption(character, (OptionChoosePlace) place, random);
+		} else if(place instanceof CombatPlace) {
+			return playCombat(character, (CombatPlace) place, random);
+		} else if(place instanceof SkillCheckPlace) {
+			SkillCheckPlace skillCheckPlace = (SkillCheckPlace) place;
+			return rollCheck(character, character.getTotalSkillValue(skillCheckPlace.getSkill().getId()),
+					skillCheckPlace.getDifficulty(), random)
+					? skillCheckPlace.getIdPlaceToGoIfPass() : skillCheckPlace.getIdPlaceToGoIfFail();
+		} else if(place instanceof AttributeCheckPlace) {
+			AttributeCheckPlace attributeCheckPlace = (AttributeCheckPlace) place;
+			return rollCheck(character, character.getTotalAttributeValue(attributeCheckPlace.getAttribute().getId()),
+					attributeCheckPlace.getDifficulty(), random)
+					? attributeCheckPlace.getIdPlaceToGoIfPass() : attributeCheckPlace.getIdPlaceToGoIfFail();
+		} else if(place instanceof ItemUsePlace) {
+			return chooseItemUse(character, (ItemUsePlace) place, random);
+		} else if(place instanceof SpellUsePlace) {
+			return chooseSpellUse(character, (SpellUsePlace) place, random);
+		}
+		return NoPlace;
+	}
+
+	private int chooseOption(Character character, OptionChoosePlace place, SplittableRandom random) {
+		ArrayList<OptionChoosePlaceCanGo> placesToGo = place.getPlacesToGo();
+		if(placesToGo.isEmpty()) {
+			return NoPlace;
+		}
+
+		int[] idPlacesToGo = new int[placesToGo.size()];
+		for(int i = 0; i < idPlacesToGo.length; i++) {
+			idPlacesToGo[i] = placesToGo.get(i).getIdPlaceToGo();
+		}
+		return idPlacesToGo[policy.chooseOption(character, place, idPlacesToGo, random)];
+	}
+
+	private int chooseItemUse(Character character, ItemUsePlace place, SplittableRandom random) {
+		ArrayList<ItemUsePlaceToGo> usablePlacesToGo = new ArrayList<ItemUsePlaceToGo>();
+		for(ItemUsePlaceToGo placeToGo: place.getPlacesToGo()) {
+			if(character.hasItem(placeToGo.getItem())) {
+				usablePlacesToGo.add(placeToGo);
+			}
+		}
+
+		int[] idPlacesToGo = new int[usablePlacesToGo.size() + 1];
+		for(int i = 0; i < usablePlacesToGo.size(); i++) {
+			idPlacesToGo[i] = usablePlacesToGo.get(i).getIdPlaceToGo();
+		}
+		idPlacesToGo[usablePlacesToGo.size()] = place.getIdPlaceToGoIfNoItem();
+
+		int option = policy.chooseOption(character, place, idPlacesToGo, random);
+		if(option < usablePlacesToGo.size() && usablePlacesToGo.get(option).isItemIsSpent()) {
+			character.removeItem(usablePlacesToGo.get(option).getItem().getId());
+		}
+		return idPlacesToGo[option];
+	}
+
+	private int chooseSpellUse(Character character, SpellUsePlace place, SplittableRandom random) {
+		ArrayList<SpellUsePlaceToGo> castablePlacesToGo = new ArrayList<SpellUsePlaceToGo>();
+		for(SpellUsePlaceToGo placeToGo: place.getPlacesToGo()) {
+			if(character.canCastSpell(placeToGo.getSpell())) {
+				castablePlacesToGo.add(placeToGo);
+			}
+		}
+
+		int[] idPlacesToGo = new int[castablePlacesToGo.size() + 1];
+		for(int i = 0; i < castablePlacesToGo.size(); i++) {
+			idPlacesToGo[i] = castablePlacesToGo.get(i).getIdPlaceToGo();
+		}
+		idPlacesToGo[castablePlacesToGo.size()] = place.getIdPlaceToGoIfNoSpell();
+
+		int option = policy.chooseOption(character, place, idPlacesToGo, random);
+		if(option < castablePlacesToGo.size()) {
+			Spell spell = castablePlacesToGo.get(option).getSpell();
+			character.setCurrentPowerPoints(character.getCurrentPowerPoints() - spell.getPowerPointsNeeded());
+		}
+		return idPlacesToGo[option];
+	}
+
+	private boolean rollCheck(Character character, int baseValue, Difficulty difficulty, SplittableRandom random) {
+		int luckPoints = Math.max(0, Math.min(character.getCurrentLuckPoints(),
+				policy.chooseLuckPoints(character, baseValue, difficulty, random)));
+		if(luckPoints > 0) {
+			character.setCurrentLuckPoints(character.getCurrentLuckPoints() - luckPoints);
+		}
+		return baseValue + luckPoints + CombatResolver.rollDice(random) >= difficulty.getDifficulty();
+	}
+
+	private int playCombat(final Character character, final CombatPlace place, SplittableRandom random) {
+		Combat combat = combats.get();
+		combat.setCharacter(character);
+		combat.setEnemy(place.getEnemyTemplate());
+		EnemyPolicies.getPolicy(combat.getEnemy()).prepare(combat);
+		combat.startCombat(place.canRunAway() && policy.runAwayBeforeCombat(character, place, random));
+
+		ICharacterCombatTurn characterTurn = new ICharacterCombatTurn() {
+			@Override
+			public void play(Combat combat, SplittableRandom random) {
+				characterActs(character, combat, place, random);
+			}
+		};
+		for(int turn = 0; turn < MaximumCombatTurns; turn++) {
+			if(combat.getCombatState() == CombatState.Finished) {
+				return combat.getCombatWinner() == CombatWinner.Character
+						? place.getIdPlaceToGoIfWin() : place.getIdPlaceToGoIfLose();
+			}
+
+			boolean runningAway = combat.getCombatState() == CombatState.RunAway;
+			CombatResolver.step(combat, characterTurn, random);
+			if(runningAway && combat.getCombatState() != CombatState.Finished) {
+				return place.getIdPlaceToGoIfRunAway();
+			}
+		}
+		return NoPlace;
+	}
+
+	//The policy chooses the action, the combat rules play it
+	private void characterActs(Character character, Combat combat, CombatPlace place, SplittableRandom random) {
+		CombatAction action = policy.chooseCombatAction(character, combat, place, random);
+		switch(action.getType()) {
+			case CastSpell:
+				Spell spell = action.getSpell();
+				if(spell instanceof AttackSpell) {
+					CombatResolver.castAttackSpell(combat, (AttackSpell) spell, random);
+					return;
+				}
+				character.setCurrentPowerPoints(character.getCurrentPowerPoints() - spell.getPowerPointsNeeded());
+				if(spell instanceof HealSpell) {
+					((HealSpell) spell).heal(character);
+				} else if(spell instanceof EnhanceCombatStatsSpell || spell instanceof EnhanceSkillSpell) {
+					character.addActiveSpell(spell);
+				}
+				combat.nextTurnOrRound();
+				return;
+
+			case UseItem:
+				action.getItem().useItem(character);
+				character.getBackpack().removeItem(action.getItem());
+				combat.nextTurnOrRound();
+				return;
+
+			case RunAway:
+				if(place.canRunAway()) {
+					combat.tryToRunAway();
+					return;
+				}
+				break;
+
+			default:
+				break;
+		}
+		CombatResolver.attack(combat, random);
+	}
+
+	private static void advanceEffectClocks(Character character, Place placeFrom) {
+		if(placeFrom == null) {
+			return;
+		}
+		EffectEngine effectEngine = character.getEffectEngine();
+		if(placeFrom instanceof CombatPlace) {
+			effectEngine.combatEnded();
+		} else if(placeFrom instanceof SkillCheckPlace) {
+			effectEngine.skillCheckEnded(((SkillCheckPlace) placeFrom).getSkill().getId());
+		}
+		effectEngine.placeLeft();
+	}
+
+	private static void giveObjectsToCharacter(Character character, Place placeTo) {
+		for(Item item: placeTo.getItemsCharacterGets()) {
+			character.getBackpack().addItem(ItemManager.getInstance().getItem(item.getId()));
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import java.util.ArrayList;
+
+import com.pberna.adventure.combat.Combat;
+import com.pberna.adventure.items.Item;
+import com.pberna.adventure.items.ItemUsable;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Difficulty;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.Place;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.random.SplittableRandom;
+
+//Takes every decision uniformly at random among the ones the character can take
+public class RandomPolicy implements IPlaythroughPolicy {
+
+	@Override
+	public int chooseOption(Character character, Place place, int[] idPlacesToGo, SplittableRandom random) {
+		return random.nextInt(idPlacesToGo.length);
+	}
+
+	@Override
+	public boolean runAwayBeforeCombat(Character character, CombatPlace combatPlace, SplittableRandom random) {
+		return random.nextBoolean();
+	}
+
+	@Override
+	public CombatAction chooseCombatAction(Character character, Combat combat, CombatPlace combatPlace, SplittableRandom random) {
+		ArrayList<CombatAction> actions = new ArrayList<CombatAction>();
+		actions.add(CombatAction.attack());
+		for(Spell spell: character.getCombatSpells()) {
+			if(character.hasEnoughPowerPointsToCastSpell(spell) && !character.hasActiveSpell(spell.getId())) {
+				actions.add(CombatAction.castSpell(spell));
+			}
+		}
+		for(int i = 0; i < character.getBackpack().getItemCount(); i++) {
+			Item item = character.getBackpack().getItem(i);
+			if(item instanceof ItemUsable) {
+				actions.add(CombatAction.useItem((ItemUsable) item));
+			}
+		}
+		if(combatPlace.canRunAway()) {
+			actions.add(CombatAction.runAway());
+		}
+		return actions.get(random.nextInt(actions.size()));
+	}
+
+	@Override
+	public int chooseLuckPoints(Character character, int baseValue, Difficulty difficulty, SplittableRandom random) {
+		return random.nextInt(character.getCurrentLuckPoints() + 1);
+	}
+}
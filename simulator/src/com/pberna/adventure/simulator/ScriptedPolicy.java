@@ -0,0 +1,74 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import java.util.HashMap;
+
+import com.pberna.adventure.combat.Combat;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.Difficulty;
+import com.pberna.adventure.places.CombatPlace;
+import com.pberna.adventure.places.Place;
+import com.pberna.engine.random.SplittableRandom;
+
+//Follows a fixed route: the place to go from each scripted place. Decisions out of the script, or scripted
+//options the character can not take, are left to another policy
+public class ScriptedPolicy implements IPlaythroughPolicy {
+	private final HashMap<Integer, Integer> idPlacesToGo;
+	private final IPlaythroughPolicy fallbackPolicy;
+
+	public ScriptedPolicy(HashMap<Integer, Integer> idPlacesToGo, IPlaythroughPolicy fallbackPolicy) {
+		this.idPlacesToGo = new HashMap<Integer, Integer>(idPlacesToGo);
+		this.fallbackPolicy = fallbackPolicy;
+	}
+
+	@Override
+	public int chooseOption(Character character, Place place, int[] idPlacesToGo, SplittableRandom random) {
+		Integer idScriptedPlace = this.idPlacesToGo.get(place.getId());
+		if(idScriptedPlace != null) {
+			for(int option = 0; option < idPlacesToGo.length; option++) {
+				if(idPlacesToGo[option] == idScriptedPlace) {
+					return option;
+				}
+			}
+		}
+		return fallbackPolicy.chooseOption(character, place, idPlacesToGo, random);
+	}
+
+	@Override
+	public boolean runAwayBeforeCombat(Character character, CombatPlace combatPlace, SplittableRandom random) {
+		Integer idScriptedPlace = idPlacesToGo.get(combatPlace.getId());
+		if(idScriptedPlace != null) {
+			return combatPlace.canRunAway() && idScriptedPlace.equals(combatPlace.getIdPlaceToGoIfRunAway());
+		}
+		return fallbackPolicy.runAwayBeforeCombat(character, combatPlace, random);
+	}
+
+	@Override
+	public CombatAction chooseCombatAction(Character character, Combat combat, CombatPlace combatPlace, SplittableRandom random) {
+		return fallbackPolicy.chooseCombatAction(character, combat, combatPlace, random);
+	}
+
+	@Override
+	public int chooseLuckPoints(Character character, int baseValue, Difficulty difficulty, SplittableRandom random) {
+		return fallbackPolicy.chooseLuckPoints(character, baseValue, difficulty, random);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+//Aggregated statistics of a set of playthroughs, indexed by place id. Partial results of every simulation task
+//are merged into one
+public class SimulationResult {
+	private long playthroughs;
+	private long survivedPlaythroughs;
+	private long deadPlaythroughs;
+	private long abandonedPlaythroughs;
+	private long totalSteps;
+	private final long[] placeVisits;
+	private final long[] placeDeaths;
+	private final long[] endings;
+
+	public SimulationResult(int placesLength) {
+		placeVisits = new long[placesLength];
+		placeDeaths = new long[placesLength];
+		endings = new long[placesLength];
+	}
+
+	void addVisit(int idPlace) {
+		placeVisits[idPlace]++;
+		totalSteps++;
+	}
+
+	void addDeath(int idPlace) {
+		placeDeaths[idPlace]++;
+	}
+
+	void addEnding(int idPlace, boolean playerDead) {
+		playthroughs++;
+		endings[idPlace]++;
+		if(playerDead) {
+			deadPlaythroughs++;
+		} else {
+			survivedPlaythroughs++;
+		}
+	}
+
+	void addAbandoned() {
+		playthroughs++;
+		abandonedPlaythroughs++;
+	}
+
+	void merge(SimulationResult result) {
+		playthroughs += result.playthroughs;
+		survivedPlaythroughs += result.survivedPlaythroughs;
+		deadPlaythroughs += result.deadPlaythroughs;
+		abandonedPlaythroughs += result.abandonedPlaythroughs;
+		totalSteps += result.totalSteps;
+		for(int idPlace = 0; idPlace < placeVisits.length; idPlace++) {
+			placeVisits[idPlace] += result.placeVisits[idPlace];
+			placeDeaths[idPlace] += result.placeDeaths[idPlace];
+			endings[idPlace] += result.endings[idPlace];
+		}
+	}
+
+	public long getPlaythroughs() {
+		return playthroughs;
+	}
+
+	public long getSurvivedPlaythroughs() {
+		return survivedPlaythroughs;
+	}
+
+	public long getDeadPlaythroughs() {
+		return deadPlaythroughs;
+	}
+
+	//Playthroughs stopped after too many steps, usually policies walking in circles
+	public long getAbandonedPlaythroughs() {
+		return abandonedPlaythroughs;
+	}
+
+	public float getSurvivalRate() {
+		return playthroughs > 0 ? (float) survivedPlaythroughs / playthroughs : 0f;
+	}
+
+	public float getAverageSteps() {
+		return playthroughs > 0 ? (float) totalSteps / playthroughs : 0f;
+	}
+
+	public int getPlacesLength() {
+		return placeVisits.length;
+	}
+
+	public long getPlaceVisits(int idPlace) {
+		return placeVisits[idPlace];
+	}
+
+	public long getPlaceDeaths(int idPlace) {
+		return placeDeaths[idPlace];
+	}
+
+	public long getEndings(int idPlace) {
+		return endings[idPlace];
+	}
+
+	public float getEndingRate(int idPlace) {
+		return playthroughs > 0 ? (float) endings[idPlace] / playthroughs : 0f;
+	}
+}
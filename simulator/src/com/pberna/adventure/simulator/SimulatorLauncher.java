@@ -0,0 +1,94 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.pberna.adventure.TestingHelper;
+import com.pberna.adventure.adventure.AdventureCompiler;
+import com.pberna.adventure.adventure.PlaceStore;
+import com.pberna.adventure.items.manager.ItemDefinitionReader;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.EnemyTemplateReader;
+
+//Usage: SimulatorLauncher [playthroughs] [seed] [random|greedy] [adventure source]
+//Runs from the assets folder, like the desktop launcher
+public class SimulatorLauncher {
+	private static final int DefaultPlaythroughs = 100000;
+	private static final long DefaultSeed = 1L;
+	private static final String DefaultAdventureSource = "data/adventures/adventure1.xml";
+	private static final String ItemsSource = "data/items.xml";
+	private static final String EnemiesSource = "data/enemies.xml";
+
+	public static void main(String[] args) throws IOException {
+		int playthroughs = args.length > 0 ? Integer.parseInt(args[0]) : DefaultPlaythroughs;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : DefaultSeed;
+		String policyName = args.length > 2 ? args[2] : "greedy";
+		String adventureSource = args.length > 3 ? args[3] : DefaultAdventureSource;
+
+		ItemDefinitionReader.load(new FileHandle(new File(ItemsSource)));
+		EnemyTemplateReader.load(new FileHandle(new File(EnemiesSource)));
+		PlaceStore placeStore = new PlaceStore(ByteBuffer.wrap(
+				AdventureCompiler.compile(new FileHandle(new File(adventureSource)))));
+		AdventureSimulator simulator = new AdventureSimulator(placeStore);
+		IPlaythroughPolicy policy = "random".equals(policyName)
+				? new RandomPolicy() : new GreedyPolicy(simulator.getAdventureGraph());
+
+		long startTime = System.nanoTime();
+		SimulationResult result = simulator.simulate(new ICharacterFactory() {
+			@Override
+			public Character createCharacter() {
+				return TestingHelper.createTestingCharacter();
+			}
+		}, policy, playthroughs, seed);
+		long elapsedMillis = Math.max(1L, (System.nanoTime() - startTime) / 1000000L);
+
+		printResult(result, policyName, seed);
+		System.out.println(String.format("%d playthroughs in %d ms (%.0f playthroughs/s)",
+				result.getPlaythroughs(), elapsedMillis, result.getPlaythroughs() * 1000f / elapsedMillis));
+	}
+
+	private static void printResult(SimulationResult result, String policyName, long seed) {
+		System.out.println(String.format("Policy %s, seed %d", policyName, seed));
+		System.out.println(String.format("Survived %d, dead %d, abandoned %d (survival rate %.2f%%, %.1f steps on average)",
+				result.getSurvivedPlaythroughs(), result.getDeadPlaythroughs(), result.getAbandonedPlaythroughs(),
+				result.getSurvivalRate() * 100f, result.getAverageSteps()));
+
+		System.out.println("Endings:");
+		for(int idPlace = 0; idPlace < result.getPlacesLength(); idPlace++) {
+			if(result.getEndings(idPlace) > 0) {
+				System.out.println(String.format("  place %d: %d (%.2f%%)", idPlace, result.getEndings(idPlace),
+						result.getEndingRate(idPlace) * 100f));
+			}
+		}
+
+		System.out.println("Places where the character dies:");
+		for(int idPlace = 0; idPlace < result.getPlacesLength(); idPlace++) {
+			if(result.getPlaceDeaths(idPlace) > 0) {
+				System.out.println(String.format("  place %d: %d deaths of %d visits", idPlace,
+						result.getPlaceDeaths(idPlace), result.getPlaceVisits(idPlace)));
+			}
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.pberna.adventure.simulator;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.pberna.adventure.TestingHelper;
+import com.pberna.adventure.adventure.AdventureCompiler;
+import com.pberna.adventure.adventure.PlaceStore;
+import com.pberna.adventure.items.manager.ItemDefinitionReader;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.EnemyTemplateReader;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+public class AdventureSimulatorTests {
+
+    private static final String AdventureSource = "../android/assets/data/adventures/adventure1.xml";
+    private static final String ItemsSource = "../android/assets/data/items.xml";
+    private static final String EnemiesSource = "../android/assets/data/enemies.xml";
+
+    private AdventureSimulator simulator;
+
+    @Before
+    public void setUp() throws IOException {
+        ItemDefinitionReader.load(new FileHandle(new File(ItemsSource)));
+        EnemyTemplateReader.load(new FileHandle(new File(EnemiesSource)));
+        simulator = new AdventureSimulator(new PlaceStore(ByteBuffer.wrap(
+                AdventureCompiler.compile(new FileHandle(new File(AdventureSource))))));
+    }
+
+    @Test
+    public void simulate_SameSeedDifferentThreads_SameResult() {
+        //Arrange
+        RandomPolicy policy = new RandomPolicy();
+
+        //Act
+        SimulationResult oneThread = simulator.simulate(createCharacterFactory(), policy, 10000, 42L,
+                new ForkJoinPool(1));
+        SimulationResult fourThreads = simulator.simulate(createCharacterFactory(), policy, 10000, 42L,
+                new ForkJoinPool(4));
+
+        //Assert
+        Assert.assertEquals(oneThread.getSurvivedPlaythroughs(), fourThreads.getSurvivedPlaythroughs());
+        Assert.assertEquals(oneThread.getDeadPlaythroughs(), fourThreads.getDeadPlaythroughs());
+        for(int idPlace = 0; idPlace < oneThread.getPlacesLength(); idPlace++) {
+            Assert.assertEquals(oneThread.getPlaceVisits(idPlace), fourThreads.getPlaceVisits(idPlace));
+            Assert.assertEquals(oneThread.getEndings(idPlace), fourThreads.getEndings(idPlace));
+        }
+    }
+
+    @Test
+    public void simulate_GreedyPolicy_EveryPlaythroughIsCounted() {
+        //Arrange
+        GreedyPolicy policy = new GreedyPolicy(simulator.getAdventureGraph());
+
+        //Act
+        SimulationResult result = simulator.simulate(createCharacterFactory(), policy, 5000, 7L);
+
+        //Assert
+        long endings = 0;
+        for(int idPlace = 0; idPlace < result.getPlacesLength(); idPlace++) {
+            endings += result.getEndings(idPlace);
+        }
+        Assert.assertEquals(5000, result.getPlaythroughs());
+        Assert.assertEquals(result.getPlaythroughs(), endings + result.getAbandonedPlaythroughs());
+        Assert.assertEquals(result.getPlaythroughs(),
+                result.getSurvivedPlaythroughs() + result.getDeadPlaythroughs() + result.getAbandonedPlaythroughs());
+        Assert.assertEquals(1f, result.getSurvivalRate() + (float) result.getDeadPlaythroughs() / result.getPlaythroughs()
+                + (float) result.getAbandonedPlaythroughs() / result.getPlaythroughs(), 0.001f);
+    }
+
+    private static ICharacterFactory createCharacterFactory() {
+        return new ICharacterFactory() {
+            @Override
+            public Character createCharacter() {
+                return TestingHelper.createTestingCharacter();
+            }
+        };
+    }
+}
@@ -26,10 +26,14 @@ import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.pberna.adventure.dependencies.DependenciesContainer;
 import com.pberna.adventure.desktop.persistence.DatabaseDesktop;
 import com.pberna.engine.logging.Logger;
+import com.tests.integration.AdventureGraphIntegrationTests;
 import com.tests.integration.AttributeIntegrationTests;
 import com.tests.integration.Constants;
+import com.tests.integration.DatabaseIntegrationTests;
 import com.tests.integration.EnemyManagerIntegrationTests;
 import com.tests.integration.ItemManagerIntegrationTests;
+import com.tests.integration.PersistenceExecutorIntegrationTests;
+import com.tests.integration.PlaceStoreIntegrationTests;
 import com.tests.integration.SkillIntegrationTests;
 import com.tests.integration.SpellIntegrationTests;
 import com.tests.integration.TranslationIntegrationTests;
@@ -49,11 +53,15 @@ public class DesktopEnvironmentIntegrationTests {
 
     private static Class [] listTestClasses = {
             TranslationIntegrationTests.class,
+            PlaceStoreIntegrationTests.class,
+            AdventureGraphIntegrationTests.class,
             EnemyManagerIntegrationTests.class,
             ItemManagerIntegrationTests.class,
             AttributeIntegrationTests.class,
             SkillIntegrationTests.class,
             SpellIntegrationTests.class,
+            DatabaseIntegrationTests.class,
+            PersistenceExecutorIntegrationTests.class,
             PlayerActionTests.class,
             AchievementActionTests.class,
             AchievementTests.class };
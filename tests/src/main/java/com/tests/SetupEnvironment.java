@@ -22,15 +22,21 @@ package com.tests;
 
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Disposable;
 import com.pberna.adventure.dependencies.DependenciesContainer;
 import com.pberna.adventure.dependencies.Settings;
+import com.pberna.adventure.items.manager.ItemDefinitionReader;
+import com.pberna.adventure.pj.EnemyTemplateReader;
 import com.pberna.engine.assets.AssetRepository;
 import com.pberna.engine.audio.AudioManager;
 import com.pberna.engine.localization.Localization;
 import com.pberna.engine.persistence.Database;
+import com.pberna.engine.persistence.PersistenceExecutor;
 import com.pberna.engine.utils2D.graphics.PixmapHelper;
 
+import java.io.IOException;
+
 public class SetupEnvironment extends Game {
 
     public SetupEnvironment(DependenciesContainer dependenciesContainer) {
@@ -51,6 +57,13 @@ public class SetupEnvironment extends Game {
         Localization.getInstance().readLocalizationDefinitionFromXml("data/i18N.xml");
         Localization.getInstance().loadAllBundles();
 
+        try {
+            ItemDefinitionReader.load(Gdx.files.internal("data/items.xml"));
+            EnemyTemplateReader.load(Gdx.files.internal("data/enemies.xml"));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
         AssetRepository.getInstance().readAssetsDefinitionFromXml("data/assets.xml");
         AssetRepository.getInstance().loadAssetsSynchronized();
     }
@@ -62,6 +75,7 @@ public class SetupEnvironment extends Game {
         disposeIfNotNull(AssetRepository.getInstance());
         disposeIfNotNull(Localization.getInstance());
         disposeIfNotNull(PixmapHelper.getInstance());
+        disposeIfNotNull(PersistenceExecutor.getCreatedInstance());
         disposeIfNotNull(Database.getInstance());
     }
 
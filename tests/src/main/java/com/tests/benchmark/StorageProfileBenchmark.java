@@ -0,0 +1,182 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.tests.benchmark;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl.LwjglFiles;
+import com.pberna.adventure.desktop.persistence.DatabaseDesktop;
+import com.pberna.adventure.games.CharacterJsonSerializer;
+import com.pberna.adventure.games.StoredGame;
+import com.pberna.adventure.items.Ring;
+import com.pberna.adventure.persistence.StoredGameRepository;
+import com.pberna.adventure.pj.Attribute;
+import com.pberna.adventure.pj.Character;
+import com.pberna.adventure.pj.CharacterBinarySerializer;
+import com.pberna.adventure.pj.Skill;
+import com.pberna.adventure.pj.race.Human;
+import com.pberna.adventure.spells.Spell;
+import com.pberna.engine.persistence.Database;
+import com.pberna.engine.persistence.StorageProfile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Random;
+
+//Times saving and loading games with every storage profile on a new database. It has to be run from the assets
+//folder, like the integration tests, so the sql scripts are found
+public class StorageProfileBenchmark {
+    private static final String DatabaseNamePrefix = "benchmark_";
+    private static final int WarmUpGames = 20;
+    private static final int SavedGames = 200;
+    private static final int LoadedGames = 200;
+    private static final int GameListLoads = 20;
+
+    public static void main(String[] arg) {
+        Gdx.files = new LwjglFiles();
+
+        System.out.println("Saved character: " + buildCharacterJson().length() + " characters");
+        System.out.println(String.format("%-10s %14s %14s %14s %14s %16s", "Profile", "save median", "save p95",
+                "load median", "load p95", "list of " + SavedGames));
+        for (StorageProfile storageProfile : StorageProfile.values()) {
+            run(storageProfile);
+        }
+    }
+
+    private static void run(StorageProfile storageProfile) {
+        String databaseName = DatabaseNamePrefix + storageProfile.name().toLowerCase();
+        deleteDatabaseFiles(databaseName);
+
+        DatabaseDesktop database = new DatabaseDesktop(databaseName, storageProfile);
+        Database.setInstance(database);
+        database.onCreate();
+        database.onUpgrade();
+
+        StoredGameRepository repository = new StoredGameRepository();
+        String characterJson = buildCharacterJson();
+        for (int i = 0; i < WarmUpGames; i++) {
+            repository.add(buildStoredGame(i, characterJson));
+        }
+
+        long[] saveTimes = new long[SavedGames];
+        ArrayList<Integer> ids = new ArrayList<Integer>(SavedGames);
+        for (int i = 0; i < SavedGames; i++) {
+            StoredGame storedGame = buildStoredGame(i, characterJson);
+            long start = System.nanoTime();
+            repository.add(storedGame);
+            saveTimes[i] = System.nanoTime() - start;
+            ids.add(storedGame.getId());
+        }
+
+        Random random = new Random(1);
+        long[] loadTimes = new long[LoadedGames];
+        for (int i = 0; i < LoadedGames; i++) {
+            int id = ids.get(random.nextInt(ids.size()));
+            long start = System.nanoTime();
+            repository.findById(id);
+            loadTimes[i] = System.nanoTime() - start;
+        }
+
+        long[] listTimes = new long[GameListLoads];
+        for (int i = 0; i < GameListLoads; i++) {
+            long start = System.nanoTime();
+            Collection<StoredGame> storedGames = repository.findAll();
+            listTimes[i] = System.nanoTime() - start;
+            if (storedGames.size() != WarmUpGames + SavedGames) {
+                System.out.println("Unexpected number of games: " + storedGames.size());
+            }
+        }
+
+        database.dispose();
+        deleteDatabaseFiles(databaseName);
+
+        System.out.println(String.format("%-10s %11.3f ms %11.3f ms %11.3f ms %11.3f ms %13.3f ms", storageProfile.name(),
+                toMilliseconds(percentile(saveTimes, 50)), toMilliseconds(percentile(saveTimes, 95)),
+                toMilliseconds(percentile(loadTimes, 50)), toMilliseconds(percentile(loadTimes, 95)),
+                toMilliseconds(percentile(listTimes, 50))));
+    }
+
+    private static StoredGame buildStoredGame(int index, String characterJson) {
+        StoredGame storedGame = new StoredGame();
+        storedGame.setPlaceId(index);
+        storedGame.setCharacterJson(characterJson);
+        storedGame.setCreationDate(new Date());
+        storedGame.setProgressPercentage(index % 100);
+        storedGame.setCharacterName("Benchmark");
+        storedGame.setCurrentLifePoints(10);
+        storedGame.setMaximumLifePoints(20);
+        storedGame.setCurrentPowerPoints(5);
+        storedGame.setMaximumPowerPoints(10);
+        storedGame.setCharacterPortrait("portrait");
+        storedGame.setAdventureTitleTranslated("Benchmark");
+        storedGame.setCurrentLuckPoints(3);
+        storedGame.setMaximumLuckPoints(6);
+        storedGame.setScore(index);
+        return storedGame;
+    }
+
+    //A character in the middle of an adventure, saved the way the game saves it
+    private static String buildCharacterJson() {
+        Character character = new Character();
+        character.setName("Benchmark");
+        character.setPortraitImageName("portrait");
+        character.setRace(new Human());
+        for (Attribute attribute : character.getAttributes()) {
+            attribute.setValue(Attribute.TotalAttributePointsPerPj / character.getAttributes().size());
+        }
+        for (Skill skill : character.getSkills()) {
+            skill.setValue(Skill.TotalSkillPointsPerPj / character.getSkills().size());
+        }
+        character.learnSpell(Spell.getSpell(Spell.IdElectricDischarge));
+        character.learnSpell(Spell.getSpell(Spell.IdHeal));
+        for (int id = 1; id <= 4; id++) {
+            Ring ring = new Ring();
+            ring.setId(id);
+            character.getBackpack().addItem(ring);
+        }
+        character.setCurrentLifePoints(character.getMaximumLifePoints() / 2);
+
+        return new CharacterBinarySerializer(new CharacterJsonSerializer()).serialize(character);
+    }
+
+    private static long percentile(long[] times, int percentile) {
+        long[] sortedTimes = Arrays.copyOf(times, times.length);
+        Arrays.sort(sortedTimes);
+        int index = Math.min(sortedTimes.length - 1, (sortedTimes.length * percentile) / 100);
+        return sortedTimes[index];
+    }
+
+    private static double toMilliseconds(long nanoseconds) {
+        return nanoseconds / 1000000.0;
+    }
+
+    private static void deleteDatabaseFiles(String databaseName) {
+        String[] suffixes = { ".db", ".db-wal", ".db-shm", ".db-journal" };
+        for (String suffix : suffixes) {
+            File file = new File(databaseName + suffix);
+            if (file.exists() && !file.delete()) {
+                System.out.println("Cannot delete " + file.getPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.tests.integration;
+
+import com.pberna.adventure.adventure.AdventureGraph;
+import com.pberna.adventure.adventure.AdventureManager;
+import com.pberna.adventure.adventure.PlaceStore;
+import com.pberna.adventure.places.EndAdventurePlace;
+import com.pberna.adventure.places.Place;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdventureGraphIntegrationTests {
+
+    private static final int IdAdventure = 1;
+
+    private PlaceStore _placeStore;
+    private AdventureGraph _adventureGraph;
+
+    public AdventureGraphIntegrationTests() {
+
+        //System under test
+        _placeStore = AdventureManager.getInstance().getPlaceStore(IdAdventure);
+        _adventureGraph = AdventureManager.getInstance().getAdventureGraph(IdAdventure);
+    }
+
+    @Test
+    public void getProgressPercentage_StartAndEndings_AreBounds() {
+        //Arrange
+        int idStartPlace = _placeStore.getIdStartPlace();
+        int idVictoryPlace = _placeStore.getIdDefaultPlace();
+
+        //Act
+        float startProgress = _adventureGraph.getProgressPercentage(idStartPlace);
+        float victoryProgress = _adventureGraph.getProgressPercentage(idVictoryPlace);
+
+        //Assert
+        Assert.assertEquals(0f, startProgress, 0f);
+        Assert.assertEquals(100f, victoryProgress, 0f);
+        Assert.assertEquals(0, _adventureGraph.getDistanceToEnding(idVictoryPlace));
+        Assert.assertTrue(_adventureGraph.getDistanceToEnding(idStartPlace) > 0);
+    }
+
+    @Test
+    public void getPlacesToGo_AllReachablePlaces_FollowTheGraph() {
+        for(int idPlace = 0; idPlace <= _placeStore.getMaximumIdPlace(); idPlace++) {
+            if(!_adventureGraph.isReachable(idPlace)) {
+                continue;
+            }
+            Place place = _placeStore.getPlace(idPlace);
+            float progress = _adventureGraph.getProgressPercentage(idPlace);
+
+            //Assert
+            Assert.assertTrue(progress >= 0f && progress <= 100f);
+            if(!(place instanceof EndAdventurePlace)) {
+                Assert.assertTrue(_adventureGraph.getPlacesToGo(idPlace).length > 0);
+            }
+            for(int idPlaceToGo: _adventureGraph.getPlacesToGo(idPlace)) {
+                Assert.assertTrue(_adventureGraph.isReachable(idPlaceToGo));
+                Assert.assertTrue(_adventureGraph.getDistanceFromStart(idPlaceToGo) <=
+                        _adventureGraph.getDistanceFromStart(idPlace) + 1);
+                if(_adventureGraph.getDistanceToEnding(idPlace) > 0) {
+                    Assert.assertTrue(_adventureGraph.getDistanceToEnding(idPlaceToGo) == AdventureGraph.Unreachable ||
+                            _adventureGraph.getDistanceToEnding(idPlaceToGo) >= _adventureGraph.getDistanceToEnding(idPlace) - 1);
+                }
+            }
+        }
+    }
+}
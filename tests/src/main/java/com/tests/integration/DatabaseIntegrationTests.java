@@ -0,0 +1,349 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.tests.integration;
+
+import com.pberna.engine.achievements.playerAction.PlayerAction;
+import com.pberna.engine.persistence.Database;
+import com.pberna.engine.persistence.PersistenceHelper;
+import com.pberna.engine.persistence.Result;
+import com.pberna.engine.persistence.SqlStatement;
+import com.tests.util.DatabaseHelper;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+public class DatabaseIntegrationTests {
+
+    private static final String FindActionSql = "SELECT * FROM '" + PlayerAction.TableName + "' WHERE " +
+            PlayerAction.ActionIdColumnName + " = ?";
+
+    @Test
+    public void prepare_SameSql_ReturnsTheCachedStatement() {
+        //Act
+        SqlStatement firstStatement = Database.getInstance().prepare(FindActionSql);
+        SqlStatement secondStatement = Database.getInstance().prepare(FindActionSql);
+
+        //Assert
+        Assert.assertNotNull(firstStatement);
+        Assert.assertSame(firstStatement, secondStatement);
+    }
+
+    @Test
+    public void insert_ValueWithQuotes_FoundByBoundParameter() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        PlayerAction playerAction = new PlayerAction();
+        playerAction.setActionId("Test'Action");
+        playerAction.setCreationDate(new Date(1000L));
+
+        //Act
+        long id = PersistenceHelper.insert(playerAction, PlayerAction.class);
+        Result result = Database.getInstance().prepare(FindActionSql).bindString(1, "Test'Action").query();
+        ArrayList<PlayerAction> playerActions = PersistenceHelper.fillEntitiesList(result, PlayerAction.class);
+
+        //Assert
+        Assert.assertTrue(id > 0);
+        Assert.assertEquals(1, playerActions.size());
+        Assert.assertEquals((int) id, playerActions.get(0).getId());
+        Assert.assertEquals(1000L, playerActions.get(0).getCreationDate().getTime());
+    }
+
+    @Test
+    public void fillEntitiesList_SeveralRows_MapsEveryRow() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        for(int i = 0; i < 3; i++) {
+            PlayerAction playerAction = new PlayerAction();
+            playerAction.setActionId("Action" + i);
+            playerAction.setCreationDate(new Date(i * 1000L));
+            PersistenceHelper.insert(playerAction, PlayerAction.class);
+        }
+
+        //Act
+        Result result = Database.getInstance().prepare("SELECT * FROM '" + PlayerAction.TableName + "' ORDER BY " +
+                PlayerAction.IdColumnName).query();
+        ArrayList<PlayerAction> playerActions = PersistenceHelper.fillEntitiesList(result, PlayerAction.class);
+
+        //Assert
+        Assert.assertEquals(3, playerActions.size());
+        for(int i = 0; i < 3; i++) {
+            Assert.assertEquals("Action" + i, playerActions.get(i).getActionId());
+            Assert.assertEquals(i * 1000L, playerActions.get(i).getCreationDate().getTime());
+        }
+    }
+
+    @Test
+    public void runInTransaction_WorkThrows_RollsBackItsWrites() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        final PlayerAction playerAction = new PlayerAction();
+        playerAction.setActionId("RolledBackAction");
+        playerAction.setCreationDate(new Date(1000L));
+
+        //Act
+        try {
+            Database.getInstance().runInTransaction(new Runnable() {
+                @Override
+                public void run() {
+                    PersistenceHelper.insert(playerAction, PlayerAction.class);
+                    throw new IllegalStateException();
+                }
+            });
+            Assert.fail();
+        } catch (IllegalStateException e) {
+        }
+        Result result = Database.getInstance().prepare(FindActionSql).bindString(1, "RolledBackAction").query();
+
+        //Assert
+        Assert.assertFalse(Database.getInstance().isInTransaction());
+        Assert.assertEquals(0, PersistenceHelper.fillEntitiesList(result, PlayerAction.class).size());
+    }
+
+    @Test
+    public void runInTransaction_NestedWorkThrows_KeepsOuterWrites() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        final ArrayList<PlayerAction> playerActions = new ArrayList<PlayerAction>();
+        for(int i = 0; i < 2; i++) {
+            PlayerAction playerAction = new PlayerAction();
+            playerAction.setActionId("NestedAction");
+            playerAction.setCreationDate(new Date(i * 1000L));
+            playerActions.add(playerAction);
+        }
+
+        //Act
+        Database.getInstance().runInTransaction(new Runnable() {
+            @Override
+            public void run() {
+                PersistenceHelper.insert(playerActions.get(0), PlayerAction.class);
+                try {
+                    Database.getInstance().runInTransaction(new Runnable() {
+                        @Override
+                        public void run() {
+                            PersistenceHelper.insert(playerActions.get(1), PlayerAction.class);
+                            throw new IllegalStateException();
+                        }
+                    });
+                } catch (IllegalStateException e) {
+                }
+            }
+        });
+        Result result = Database.getInstance().prepare(FindActionSql).bindString(1, "NestedAction").query();
+        ArrayList<PlayerAction> storedActions = PersistenceHelper.fillEntitiesList(result, PlayerAction.class);
+
+        //Assert
+        Assert.assertEquals(1, storedActions.size());
+        Assert.assertEquals(0L, storedActions.get(0).getCreationDate().getTime());
+    }
+
+    @Test
+    public void insertAll_SeveralEntities_ReturnsTheIdsInOrder() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        ArrayList<PlayerAction> playerActions = new ArrayList<PlayerAction>();
+        for(int i = 0; i < 3; i++) {
+            PlayerAction playerAction = new PlayerAction();
+            playerAction.setActionId("BatchAction" + i);
+            playerAction.setCreationDate(new Date(i * 1000L));
+            playerActions.add(playerAction);
+        }
+
+        //Act
+        long[] ids = PersistenceHelper.insertAll(playerActions, PlayerAction.class);
+
+        //Assert
+        Assert.assertEquals(3, ids.length);
+        for(int i = 1; i < ids.length; i++) {
+            Assert.assertTrue(ids[i] > ids[i - 1]);
+        }
+        Result result = Database.getInstance().prepare(FindActionSql).bindString(1, "BatchAction2").query();
+        Assert.assertEquals((int) ids[2], PersistenceHelper.fillEntitiesList(result, PlayerAction.class).get(0).getId());
+    }
+
+    @Test
+    public void query_TwoResultsOpen_BothCanBeRead() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        PlayerAction playerAction = new PlayerAction();
+        playerAction.setActionId("OpenResultsAction");
+        playerAction.setCreationDate(new Date(1000L));
+        PersistenceHelper.insert(playerAction, PlayerAction.class);
+        String sql = "SELECT * FROM '" + PlayerAction.TableName + "'";
+
+        //Act
+        Result firstResult = Database.getInstance().query(sql);
+        Result secondResult = Database.getInstance().query(sql);
+        ArrayList<PlayerAction> secondPlayerActions = PersistenceHelper.fillEntitiesList(secondResult, PlayerAction.class);
+        ArrayList<PlayerAction> firstPlayerActions = PersistenceHelper.fillEntitiesList(firstResult, PlayerAction.class);
+
+        //Assert
+        Assert.assertEquals(1, firstPlayerActions.size());
+        Assert.assertEquals(1, secondPlayerActions.size());
+    }
+
+    @Test
+    public void runInTransaction_FailingSqlInside_RollsBackAndRestoresAutocommit() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        final PlayerAction playerAction = new PlayerAction();
+        playerAction.setActionId("FailingSqlAction");
+        playerAction.setCreationDate(new Date(1000L));
+
+        //Act
+        boolean thrown = false;
+        try {
+            Database.getInstance().runInTransaction(new Runnable() {
+                @Override
+                public void run() {
+                    PersistenceHelper.insert(playerAction, PlayerAction.class);
+                    Database.getInstance().execute("INSERT INTO 'MissingTable' VALUES (1)");
+                }
+            });
+        } catch (RuntimeException e) {
+            thrown = true;
+        }
+        Result result = Database.getInstance().prepare(FindActionSql).bindString(1, "FailingSqlAction").query();
+        int actionsAfterRollback = PersistenceHelper.fillEntitiesList(result, PlayerAction.class).size();
+        PersistenceHelper.insert(playerAction, PlayerAction.class);
+        result = Database.getInstance().prepare(FindActionSql).bindString(1, "FailingSqlAction").query();
+
+        //Assert
+        Assert.assertTrue(thrown);
+        Assert.assertEquals(0, actionsAfterRollback);
+        Assert.assertEquals(1, PersistenceHelper.fillEntitiesList(result, PlayerAction.class).size());
+    }
+
+    @Test
+    public void runInTransaction_NestedWorkThrowsWithoutSavepoints_RollsBackTheOuterTransaction() {
+        //Arrange
+        final TransactionLogDatabase database = new TransactionLogDatabase();
+
+        //Act
+        boolean thrown = false;
+        try {
+            database.runInTransaction(new Runnable() {
+                @Override
+                public void run() {
+                    database.execute("INSERT 1");
+                    try {
+                        database.runInTransaction(new Runnable() {
+                            @Override
+                            public void run() {
+                                database.execute("INSERT 2");
+                                throw new IllegalArgumentException();
+                            }
+                        });
+                    } catch (IllegalArgumentException e) {
+                    }
+                }
+            });
+        } catch (IllegalStateException e) {
+            thrown = true;
+        }
+
+        //Assert
+        Assert.assertTrue(thrown);
+        Assert.assertFalse(database.isInTransaction());
+        Assert.assertEquals("BEGIN,INSERT 1,INSERT 2,ROLLBACK", database.getLog());
+    }
+
+    @Test
+    public void runInTransaction_NestedWorkSucceedsWithoutSavepoints_CommitsOnce() {
+        //Arrange
+        final TransactionLogDatabase database = new TransactionLogDatabase();
+
+        //Act
+        database.runInTransaction(new Runnable() {
+            @Override
+            public void run() {
+                database.runInTransaction(new Runnable() {
+                    @Override
+                    public void run() {
+                        database.execute("INSERT 1");
+                    }
+                });
+            }
+        });
+
+        //Assert
+        Assert.assertEquals("BEGIN,INSERT 1,COMMIT", database.getLog());
+    }
+
+    //Database with the transactions of Android: nested transactions cannot use savepoints
+    private static class TransactionLogDatabase extends Database {
+        private final StringBuilder log = new StringBuilder();
+
+        private String getLog() {
+            return log.toString();
+        }
+
+        private void addToLog(String entry) {
+            if(log.length() > 0) {
+                log.append(",");
+            }
+            log.append(entry);
+        }
+
+        @Override
+        public void execute(String sql) {
+            addToLog(sql);
+        }
+
+        @Override
+        public int executeUpdate(String sql) {
+            addToLog(sql);
+            return 0;
+        }
+
+        @Override
+        public Result query(String sql) {
+            return null;
+        }
+
+        @Override
+        protected SqlStatement compileStatement(String sql) {
+            return null;
+        }
+
+        @Override
+        protected void beginTransaction() {
+            addToLog("BEGIN");
+        }
+
+        @Override
+        protected void commitTransaction() {
+            addToLog("COMMIT");
+        }
+
+        @Override
+        protected void rollbackTransaction() {
+            addToLog("ROLLBACK");
+        }
+
+        @Override
+        protected boolean supportsSavepoints() {
+            return false;
+        }
+    }
+}
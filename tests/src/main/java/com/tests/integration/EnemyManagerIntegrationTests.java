@@ -21,8 +21,8 @@
 package com.tests.integration;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.pberna.adventure.pj.Enemy;
 import com.pberna.adventure.pj.EnemyManager;
+import com.pberna.adventure.pj.EnemyTemplate;
 import com.pberna.adventure.pj.IEnemyManager;
 import com.pberna.engine.assets.AssetRepository;
 
@@ -49,11 +49,11 @@ public class EnemyManagerIntegrationTests {
     public void getById_AllEnemies_AreWellformed () {
 
         //Arrange
-        ArrayList<Enemy> listEnemies = new ArrayList<>(InitialNumberOfEnemies);
+        ArrayList<EnemyTemplate> listEnemies = new ArrayList<>(InitialNumberOfEnemies);
 
         //Act
         for(int i = 1;; i++) {
-            Enemy enemy = _enemyManager.getById(i);
+            EnemyTemplate enemy = _enemyManager.getById(i);
             if(enemy != null) {
                 listEnemies.add(enemy);
             } else {
@@ -62,7 +62,7 @@ public class EnemyManagerIntegrationTests {
         }
 
         //Assert
-        for(Enemy enemy: listEnemies) {
+        for(EnemyTemplate enemy: listEnemies) {
             Assert.assertNotNull(enemy);
             Assert.assertNotNull(enemy.getName());
             Assert.assertNotEquals(Constants.NoText, enemy.getName());
@@ -0,0 +1,112 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.tests.integration;
+
+import com.pberna.engine.achievements.playerAction.PlayerAction;
+import com.pberna.engine.persistence.Database;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceHelper;
+import com.pberna.engine.persistence.PersistenceTask;
+import com.pberna.engine.persistence.Result;
+import com.tests.util.DatabaseHelper;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+public class PersistenceExecutorIntegrationTests {
+
+    private static final String FindActionsSql = "SELECT * FROM '" + PlayerAction.TableName + "' ORDER BY " +
+            PlayerAction.IdColumnName;
+
+    @Test
+    public void execute_AfterQueuedWrites_SeesThemInOrder() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+
+        //Act
+        for(int i = 0; i < 5; i++) {
+            PersistenceExecutor.getInstance().write(new InsertActionTask("QueuedAction" + i));
+        }
+        ArrayList<PlayerAction> playerActions = findAllActions();
+
+        //Assert
+        Assert.assertEquals(5, playerActions.size());
+        for(int i = 0; i < 5; i++) {
+            Assert.assertEquals("QueuedAction" + i, playerActions.get(i).getActionId());
+        }
+    }
+
+    @Test
+    public void endGroup_GroupedWrites_AreQueuedWhenTheOuterGroupCloses() {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        PersistenceExecutor persistenceExecutor = PersistenceExecutor.getInstance();
+
+        //Act
+        persistenceExecutor.beginGroup();
+        persistenceExecutor.beginGroup();
+        persistenceExecutor.write(new InsertActionTask("GroupedAction1"));
+        persistenceExecutor.write(new InsertActionTask("GroupedAction2"));
+        persistenceExecutor.endGroup();
+        int actionsCountInOuterGroup = countAllActionsInDatabase();
+        persistenceExecutor.endGroup();
+        persistenceExecutor.flush();
+
+        //Assert
+        Assert.assertEquals(0, actionsCountInOuterGroup);
+        Assert.assertEquals(2, countAllActionsInDatabase());
+    }
+
+    private static ArrayList<PlayerAction> findAllActions() {
+        return PersistenceExecutor.getInstance().execute(new PersistenceTask<ArrayList<PlayerAction>>() {
+            @Override
+            public ArrayList<PlayerAction> run() {
+                Result result = Database.getInstance().prepare(FindActionsSql).query();
+                return PersistenceHelper.fillEntitiesList(result, PlayerAction.class);
+            }
+        });
+    }
+
+    //read in this thread, only when no write is running
+    private static int countAllActionsInDatabase() {
+        Result result = Database.getInstance().prepare(FindActionsSql).query();
+        return PersistenceHelper.fillEntitiesList(result, PlayerAction.class).size();
+    }
+
+    private static class InsertActionTask implements PersistenceTask<Long> {
+        private final String actionId;
+
+        private InsertActionTask(String actionId) {
+            this.actionId = actionId;
+        }
+
+        @Override
+        public Long run() {
+            PlayerAction playerAction = new PlayerAction();
+            playerAction.setActionId(actionId);
+            playerAction.setCreationDate(new Date(0L));
+            return PersistenceHelper.insert(playerAction, PlayerAction.class);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *   Adventure Game, a digital gamebook written in java with Libgdx.
+ *   Copyright (C) 2018 Pedro Berná
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *   Email contact: lomodastudios@gmail.com
+ */
+
+package com.tests.integration;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.pberna.adventure.adventure.AdventureCompiler;
+import com.pberna.adventure.adventure.AdventureManager;
+import com.pberna.adventure.adventure.PlaceStore;
+import com.pberna.adventure.places.OptionChoosePlace;
+import com.pberna.adventure.places.Place;
+import com.pberna.engine.localization.Localization;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+public class PlaceStoreIntegrationTests {
+
+    private static final int IdAdventure = 1;
+    private static final String AdventureSourcePath = "data/adventures/adventure1.xml";
+
+    private PlaceStore _placeStore;
+
+    public PlaceStoreIntegrationTests() {
+
+        //System under test
+        _placeStore = AdventureManager.getInstance().getPlaceStore(IdAdventure);
+    }
+
+    @Test
+    public void getPlace_AllPlacesInStore_AreWellformed() {
+        //Arrange
+        int countPlaces = 0;
+
+        //Act
+        for(int idPlace = 0; idPlace <= _placeStore.getMaximumIdPlace(); idPlace++) {
+            Place place = _placeStore.getPlace(idPlace);
+            if(place == null) {
+                Assert.assertFalse(_placeStore.containsPlace(idPlace));
+                continue;
+            }
+            countPlaces++;
+
+            //Assert
+            Assert.assertEquals(idPlace, place.getId());
+            Assert.assertNotNull(place.getPlaceType());
+            Assert.assertNotNull(place.getText());
+        }
+        Assert.assertTrue(countPlaces > 0);
+        Assert.assertTrue(_placeStore.containsPlace(_placeStore.getIdStartPlace()));
+        Assert.assertTrue(_placeStore.containsPlace(_placeStore.getIdDefaultPlace()));
+    }
+
+    @Test
+    public void compile_SameSource_ProducesSameStore() throws IOException {
+        //Arrange
+        FileHandle source = Gdx.files.internal(AdventureSourcePath);
+
+        //Act
+        byte[] firstCompilation = AdventureCompiler.compile(source);
+        byte[] secondCompilation = AdventureCompiler.compile(source);
+        PlaceStore placeStore = new PlaceStore(ByteBuffer.wrap(firstCompilation));
+
+        //Assert
+        Assert.assertTrue(Arrays.equals(firstCompilation, secondCompilation));
+        Assert.assertEquals(_placeStore.getSourceChecksum(), placeStore.getSourceChecksum());
+        Assert.assertEquals(_placeStore.getMaximumIdPlace(), placeStore.getMaximumIdPlace());
+    }
+
+    @Test
+    public void getPlace_SamePlaceAndLocale_ReturnsCachedPlace() {
+        //Arrange
+        AdventureManager adventureManager = AdventureManager.getInstance();
+        int idPlace = _placeStore.getIdStartPlace();
+
+        //Act
+        Place firstPlace = adventureManager.getPlace(IdAdventure, idPlace);
+        Place secondPlace = adventureManager.getPlace(IdAdventure, idPlace);
+
+        //Assert
+        Assert.assertSame(firstPlace, secondPlace);
+    }
+
+    @Test
+    public void getPlace_LocaleChanged_ReturnsNewPlace() {
+        //Arrange
+        AdventureManager adventureManager = AdventureManager.getInstance();
+        Locale previousLocale = Localization.getInstance().getLocale();
+        int idPlace = _placeStore.getIdStartPlace();
+        Place firstPlace = adventureManager.getPlace(IdAdventure, idPlace);
+
+        //Act
+        Localization.getInstance().setLocale(previousLocale.getLanguage().equals("es") ? new Locale("en") : new Locale("es"));
+        Place secondPlace = adventureManager.getPlace(IdAdventure, idPlace);
+        Localization.getInstance().setLocale(previousLocale);
+
+        //Assert
+        Assert.assertNotSame(firstPlace, secondPlace);
+        Assert.assertEquals(firstPlace.getId(), secondPlace.getId());
+    }
+
+    @Test
+    public void getPlace_UnknownAdventure_ReturnsNull() {
+        //Act
+        Place place = AdventureManager.getInstance().getPlace(-1, 1);
+
+        //Assert
+        Assert.assertNull(place);
+    }
+
+    @Test
+    public void getTranslatedText_OnlyActiveLanguage_IsResident() throws IOException {
+        //Arrange
+        PlaceStore placeStore = new PlaceStore(ByteBuffer.wrap(AdventureCompiler.compile(Gdx.files.internal(AdventureSourcePath))));
+        Place place = placeStore.getPlace(placeStore.getIdStartPlace());
+        Locale previousLocale = Localization.getInstance().getLocale();
+
+        //Act
+        Localization.getInstance().setLocale(new Locale("es"));
+        String spanishText = place.getTranslatedText();
+        int residentTextsAfterRead = placeStore.getResidentTextsCount();
+        Localization.getInstance().setLocale(new Locale("en"));
+        String englishText = place.getTranslatedText();
+        int residentTextsAfterLanguageChange = placeStore.getResidentTextsCount();
+        place.releaseTexts();
+        Localization.getInstance().setLocale(previousLocale);
+
+        //Assert
+        Assert.assertEquals(place.getText(), englishText);
+        Assert.assertNotEquals(englishText, spanishText);
+        Assert.assertEquals(1, residentTextsAfterRead);
+        Assert.assertEquals(1, residentTextsAfterLanguageChange);
+        Assert.assertEquals(0, placeStore.getResidentTextsCount());
+    }
+
+    @Test
+    public void getPlace_MoreThan127Actions_ReadsAllActions() throws IOException {
+        //Arrange
+        PlaceStore placeStore = new PlaceStore(ByteBuffer.wrap(AdventureCompiler.compile(createAdventureSource(200, 1))));
+
+        //Act
+        Place place = placeStore.getPlace(1);
+
+        //Assert
+        Assert.assertEquals(200, place.getPlayerActions().size());
+        Assert.assertEquals("action.199", place.getPlayerActions().get(199));
+    }
+
+    @Test(expected = IOException.class)
+    public void compile_MoreThan255Actions_Throws() throws IOException {
+        //Act
+        AdventureCompiler.compile(createAdventureSource(256, 1));
+    }
+
+    @Test
+    public void getPlace_MoreThan32767Options_ReadsAllOptions() throws IOException {
+        //Arrange
+        PlaceStore placeStore = new PlaceStore(ByteBuffer.wrap(AdventureCompiler.compile(createAdventureSource(0, 40000))));
+
+        //Act
+        Place place = placeStore.getPlace(1);
+
+        //Assert
+        Assert.assertEquals(40000, ((OptionChoosePlace) place).getPlacesToGo().size());
+    }
+
+    @Test(expected = IOException.class)
+    public void compile_MoreThan65535Options_Throws() throws IOException {
+        //Act
+        AdventureCompiler.compile(createAdventureSource(0, 65536));
+    }
+
+    private static FileHandle createAdventureSource(int countActions, int countOptions) throws IOException {
+        StringBuilder source = new StringBuilder();
+        source.append("<adventure id=\"1\" startPlace=\"1\">");
+        source.append("<place id=\"1\" type=\"OptionChoosePlace\"><text>Text</text>");
+        for (int i = 0; i < countActions; i++) {
+            source.append("<action>action.").append(i).append("</action>");
+        }
+        for (int i = 0; i < countOptions; i++) {
+            source.append("<option place=\"1\"><text>Option</text></option>");
+        }
+        source.append("</place></adventure>");
+
+        File file = File.createTempFile("adventure", ".xml");
+        file.deleteOnExit();
+        FileHandle fileHandle = Gdx.files.absolute(file.getAbsolutePath());
+        fileHandle.writeString(source.toString(), false, "UTF-8");
+        return fileHandle;
+    }
+}
@@ -44,7 +44,7 @@ public class AchievementActionTests {
     public void getAchievementActions_getOnlyActionOfTheAchievement() {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.AchievementActionTableName);
-        _achievementActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_achievementActionManager::refreshCache);
         _achievementActionManager.add(new AchievementAction("AchievementAction1", 1));
         _achievementActionManager.add(new AchievementAction("AchievementAction2", 1));
         _achievementActionManager.add(new AchievementAction("AchievementAction3", 2));
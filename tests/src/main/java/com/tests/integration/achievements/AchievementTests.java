@@ -61,9 +61,9 @@ public class AchievementTests {
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementTableName);
-        achievementManager.refreshCache();
-        achievementActionManager.refreshCache();
-        playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(achievementManager::refreshCache);
+        DatabaseHelper.RefreshCache(achievementActionManager::refreshCache);
+        DatabaseHelper.RefreshCache(playerActionManager::refreshCache);
 
         Achievement achievement = createIncrementalAchievement(numActions, adventureId);
         achievementAreUnlocked = null;
@@ -119,9 +119,9 @@ public class AchievementTests {
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementTableName);
-        achievementManager.refreshCache();
-        achievementActionManager.refreshCache();
-        playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(achievementManager::refreshCache);
+        DatabaseHelper.RefreshCache(achievementActionManager::refreshCache);
+        DatabaseHelper.RefreshCache(playerActionManager::refreshCache);
 
         createIncrementalAchievement(numActions, adventureId);
         achievementAreUnlocked = null;
@@ -146,9 +146,9 @@ public class AchievementTests {
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementTableName);
-        achievementManager.refreshCache();
-        achievementActionManager.refreshCache();
-        playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(achievementManager::refreshCache);
+        DatabaseHelper.RefreshCache(achievementActionManager::refreshCache);
+        DatabaseHelper.RefreshCache(playerActionManager::refreshCache);
 
         Achievement achievement = createNotIncrementalAchievement(numActions, adventureId);
         achievementAreUnlocked = null;
@@ -173,9 +173,9 @@ public class AchievementTests {
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementActionTableName);
         DatabaseHelper.TruncateTable(Constants.AchievementTableName);
-        achievementManager.refreshCache();
-        achievementActionManager.refreshCache();
-        playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(achievementManager::refreshCache);
+        DatabaseHelper.RefreshCache(achievementActionManager::refreshCache);
+        DatabaseHelper.RefreshCache(playerActionManager::refreshCache);
 
         createNotIncrementalAchievement(numActions, adventureId);
         achievementAreUnlocked = null;
@@ -44,7 +44,7 @@ public class PlayerActionTests {
     public void registerAction_registerActionsFirstTime_ReturnsTrue () {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
-        _playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
         String actionId ="TestAction1";
 
         //Act
@@ -58,7 +58,7 @@ public class PlayerActionTests {
     public void registerAction_registerActionsSecondTime_ReturnsFalse () {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
-        _playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
         String actionId ="TestAction1";
 
         //Act
@@ -70,11 +70,32 @@ public class PlayerActionTests {
         Assert.assertEquals(false, isRegisteredSecond);
     }
 
+    @Test
+    public void registerActions_RepeatedAndAlreadyRegisteredActions_RegistersOnlyNewOnes () {
+        //Arrange
+        DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
+        _playerActionManager.registerAction("TestAction1");
+        ArrayList<String> actionIds = new ArrayList<String>();
+        actionIds.add("TestAction1");
+        actionIds.add("TestAction2");
+        actionIds.add("TestAction2");
+        actionIds.add("TestAction3");
+
+        //Act
+        int registeredCount = _playerActionManager.registerActions(actionIds);
+
+        //Assert
+        Assert.assertEquals(2, registeredCount);
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
+        Assert.assertEquals(false, _playerActionManager.registerAction("TestAction3"));
+    }
+
     @Test
     public void areAllActionsRegistered_WhenAllActionAreRegistered_Returns_True () {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
-        _playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
         _playerActionManager.registerAction("TestAction1");
         _playerActionManager.registerAction("TestAction2");
 
@@ -93,7 +114,7 @@ public class PlayerActionTests {
     public void areAllActionsRegistered_WhenNptAllActionAreRegistered_Returns_False () {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
-        _playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
         _playerActionManager.registerAction("TestAction1");
         _playerActionManager.registerAction("TestAction2");
 
@@ -113,7 +134,7 @@ public class PlayerActionTests {
     public void isAnyActionRegistered_WhenAnyActionIsRegistered_Returns_True () {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
-        _playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
         _playerActionManager.registerAction("TestAction1");
 
         ArrayList<AchievementAction> listActions = new ArrayList<>();
@@ -131,7 +152,7 @@ public class PlayerActionTests {
     public void isAnyActionRegistered_WhenNotAnyActionIsRegistered_Returns_False () {
         //Arrange
         DatabaseHelper.TruncateTable(Constants.PlayerActionTableName);
-        _playerActionManager.refreshCache();
+        DatabaseHelper.RefreshCache(_playerActionManager::refreshCache);
         _playerActionManager.registerAction("TestAction3");
 
         ArrayList<AchievementAction> listActions = new ArrayList<>();
@@ -22,13 +22,55 @@ package com.tests.util;
 
 import com.pberna.engine.logging.Logger;
 import com.pberna.engine.persistence.Database;
+import com.pberna.engine.persistence.PersistenceCallback;
+import com.pberna.engine.persistence.PersistenceExecutor;
+import com.pberna.engine.persistence.PersistenceTask;
 import com.tests.integration.Constants;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 public class DatabaseHelper {
 
     public static void TruncateTable(String tableName) {
-        String sql = "DELETE FROM '" + tableName +"'";
-        Database.getInstance().execute(sql);
+        final String sql = "DELETE FROM '" + tableName +"'";
+        //after the writes still queued by the previous tests
+        PersistenceExecutor.getInstance().execute(new PersistenceTask<Void>() {
+            @Override
+            public Void run() {
+                Database.getInstance().execute(sql);
+                return null;
+            }
+        });
         Logger.getInstance().addLogInfo(Constants.TagTests, sql);
     }
+
+    //The caches are filled in the render thread, the test waits until it is done
+    public static void RefreshCache(Consumer<PersistenceCallback<Void>> refreshCache) {
+        final CountDownLatch refreshed = new CountDownLatch(1);
+        final Exception[] failure = new Exception[1];
+        refreshCache.accept(new PersistenceCallback<Void>() {
+            @Override
+            public void completed(Void result) {
+                refreshed.countDown();
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                failure[0] = exception;
+                refreshed.countDown();
+            }
+        });
+        try {
+            if(!refreshed.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The cache was not refreshed");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        if(failure[0] != null) {
+            throw new IllegalStateException(failure[0]);
+        }
+    }
 }